@@ -127,6 +127,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String CONNECTION_TIMEOUT = "connection_timeout";
 
+	/**
+	 * Whether request bodies sent to Elasticsearch should be compressed using gzip.
+	 * <p>
+	 * When enabled, Hibernate Search also asks Elasticsearch to compress responses,
+	 * and decompresses them transparently.
+	 * This reduces network usage significantly, in particular for bulk indexing requests,
+	 * at the cost of some CPU usage on both the client and the server.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#REQUEST_COMPRESSION}.
+	 */
+	public static final String REQUEST_COMPRESSION = "request.compression";
+
 	/**
 	 * The maximum number of simultaneous connections to the Elasticsearch cluster,
 	 * all hosts taken together.
@@ -239,6 +254,37 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The amount of time Elasticsearch should keep the search context of a scroll alive
+	 * between two chunks of hits.
+	 * <p>
+	 * Processing a chunk of hits must take less than this amount of time,
+	 * otherwise Elasticsearch will discard the search context and retrieving the next chunk will fail.
+	 * <p>
+	 * Expects a strictly positive Integer value in seconds, such as {@code 60},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_TIMEOUT}.
+	 */
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
+	/**
+	 * Whether search hits should be extracted while the response is being read,
+	 * instead of after the whole response has been parsed into a JSON tree.
+	 * <p>
+	 * Enabling this reduces the memory used by queries returning many hits,
+	 * but the response body exposed through
+	 * {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult#getResponseBody()}
+	 * no longer includes the "hits.hits" array.
+	 * Queries using a request transformer never stream hits.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_HIT_STREAMING_ENABLED}.
+	 */
+	public static final String SEARCH_HIT_STREAMING_ENABLED = "search.hit_streaming.enabled";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -252,6 +298,7 @@ private Defaults() {
 		public static final int REQUEST_TIMEOUT = 60000;
 		public static final int READ_TIMEOUT = 60000;
 		public static final int CONNECTION_TIMEOUT = 3000;
+		public static final boolean REQUEST_COMPRESSION = false;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
@@ -260,5 +307,7 @@ private Defaults() {
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final int SCROLL_TIMEOUT = 60;
+		public static final boolean SEARCH_HIT_STREAMING_ENABLED = false;
 	}
 }
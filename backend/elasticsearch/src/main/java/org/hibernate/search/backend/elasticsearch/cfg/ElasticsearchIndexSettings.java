@@ -82,6 +82,102 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * A bulk request is sent as soon as adding another work to it would exceed this size,
+	 * even if it contains fewer works than {@link #INDEXING_MAX_BULK_SIZE}.
+	 * A single work larger than this size is sent in a bulk request of its own.
+	 * <p>
+	 * Useful to avoid exceeding the {@code http.max_content_length} setting of Elasticsearch nodes,
+	 * or memory pressure on Elasticsearch nodes, when some documents are very large.
+	 * Note that enforcing this limit requires computing the serialized size of each work,
+	 * which has a small CPU cost.
+	 * <p>
+	 * Expects a strictly positive long value in bytes,
+	 * or a string that can be parsed to such long value.
+	 * <p>
+	 * Defaults to no value, meaning bulk requests are only limited by {@link #INDEXING_MAX_BULK_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * Whether the maximum size of bulk requests should be adapted automatically
+	 * to the time Elasticsearch takes to execute previous bulk requests.
+	 * <p>
+	 * When enabled, the maximum number of works in a bulk request
+	 * is decreased when bulk requests take longer than {@link #INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY},
+	 * and increased back when they are executed comfortably faster,
+	 * without ever exceeding {@link #INDEXING_MAX_BULK_SIZE}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE;
+
+	/**
+	 * The target latency of bulk requests when {@link #INDEXING_ADAPTIVE_BULK_SIZE adaptive bulk size} is enabled,
+	 * in milliseconds.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 1000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY =
+			INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_TARGET_LATENCY;
+
+	/**
+	 * The maximum number of times bulked works rejected by Elasticsearch because it is overloaded
+	 * (HTTP status {@code 429 Too Many Requests}) will be retried.
+	 * <p>
+	 * Only rejected works are retried, in a new bulk request, after a delay
+	 * that grows exponentially with each retry.
+	 * Works that are still rejected after the last retry are reported as failed.
+	 * <p>
+	 * Expects a positive or zero integer value, such as {@code 3},
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_RETRIES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_RETRIES = INDEXING_PREFIX + IndexingRadicals.MAX_RETRIES;
+
+	/**
+	 * The delay before the first retry of rejected bulked works, in milliseconds.
+	 * <p>
+	 * The delay is doubled for each subsequent retry, up to {@link #INDEXING_RETRY_MAX_BACKOFF},
+	 * and a random jitter is applied so that queues do not all retry at the same time.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_INITIAL_BACKOFF}.
+	 */
+	public static final String INDEXING_RETRY_INITIAL_BACKOFF = INDEXING_PREFIX + IndexingRadicals.RETRY_INITIAL_BACKOFF;
+
+	/**
+	 * The maximum delay before a retry of rejected bulked works, in milliseconds.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 5000},
+	 * or a string that can be parsed to such integer value.
+	 * The value must be greater than or equal to {@link #INDEXING_RETRY_INITIAL_BACKOFF}.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_BACKOFF}.
+	 */
+	public static final String INDEXING_RETRY_MAX_BACKOFF = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_BACKOFF;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -93,6 +189,12 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String ADAPTIVE_BULK_SIZE = "adaptive_bulk_size";
+		public static final String ADAPTIVE_BULK_SIZE_TARGET_LATENCY = "adaptive_bulk_size_target_latency";
+		public static final String MAX_RETRIES = "max_retries";
+		public static final String RETRY_INITIAL_BACKOFF = "retry_initial_backoff";
+		public static final String RETRY_MAX_BACKOFF = "retry_max_backoff";
 	}
 
 	/**
@@ -108,6 +210,11 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final boolean INDEXING_ADAPTIVE_BULK_SIZE = false;
+		public static final int INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY = 1000;
+		public static final int INDEXING_MAX_RETRIES = 3;
+		public static final int INDEXING_RETRY_INITIAL_BACKOFF = 100;
+		public static final int INDEXING_RETRY_MAX_BACKOFF = 5000;
 	}
 
 }
@@ -24,6 +24,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -94,6 +95,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.CONNECTION_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REQUEST_COMPRESSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.REQUEST_COMPRESSION )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.REQUEST_COMPRESSION )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_TOTAL_CONNECTION =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_CONNECTIONS )
 					.asInteger()
@@ -118,6 +125,8 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_REFRESH_INTERVAL )
 					.build();
 
+	private static final String CLIENT_TAG = "client";
+
 	private final List<ElasticsearchHttpClientConfigurer> httpClientConfigurers;
 
 	ElasticsearchClientFactoryImpl(List<ElasticsearchHttpClientConfigurer> httpClientConfigurers) {
@@ -129,6 +138,16 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 			ThreadProvider threadProvider, String threadNamePrefix,
 			ScheduledExecutorService timeoutExecutorService,
 			GsonProvider gsonProvider) {
+		return create( propertySource, threadProvider, threadNamePrefix, timeoutExecutorService, gsonProvider,
+				MetricsRegistry.noOp() );
+	}
+
+	@Override
+	public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
+			ThreadProvider threadProvider, String threadNamePrefix,
+			ScheduledExecutorService timeoutExecutorService,
+			GsonProvider gsonProvider,
+			MetricsRegistry metricsRegistry) {
 		int requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 
 		ServerUris hosts = ServerUris.fromStrings( PROTOCOL.get( propertySource ), HOSTS.get( propertySource ) );
@@ -138,7 +157,10 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, timeoutExecutorService,
 				requestTimeoutMs, TimeUnit.MILLISECONDS,
-				gsonProvider.getGson(), gsonProvider.getLogHelper()
+				REQUEST_COMPRESSION.get( propertySource ),
+				gsonProvider.getGson(), gsonProvider.getLogHelper(),
+				metricsRegistry.timer( ElasticsearchClientImpl.REQUEST_METRIC, CLIENT_TAG, threadNamePrefix ),
+				metricsRegistry.counter( ElasticsearchClientImpl.REQUEST_FAILURE_METRIC, CLIENT_TAG, threadNamePrefix )
 		);
 	}
 
@@ -19,10 +19,13 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -32,15 +35,19 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 
 public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
@@ -49,6 +56,20 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String GZIP_CONTENT_ENCODING = "gzip";
+
+	/**
+	 * The name of the timer recording the latency of requests sent to the cluster,
+	 * from the submission of the request until the parsing of the response,
+	 * whether the request succeeds or fails.
+	 */
+	public static final String REQUEST_METRIC = "hibernate.search.elasticsearch.request";
+
+	/**
+	 * The name of the counter of requests that did not get any response: I/O errors, timeouts, ...
+	 */
+	public static final String REQUEST_FAILURE_METRIC = "hibernate.search.elasticsearch.request.failures";
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -58,28 +79,58 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int globalTimeoutValue;
 	private final TimeUnit globalTimeoutUnit;
 
+	private final boolean requestCompression;
+	private final RequestOptions requestOptions;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
+	private final Timer requestTimer;
+	private final Counter requestFailureCounter;
+
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
 			int globalTimeoutValue, TimeUnit globalTimeoutUnit,
-			Gson gson, JsonLogHelper jsonLogHelper) {
+			boolean requestCompression,
+			Gson gson, JsonLogHelper jsonLogHelper,
+			Timer requestTimer, Counter requestFailureCounter) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.globalTimeoutValue = globalTimeoutValue;
 		this.globalTimeoutUnit = globalTimeoutUnit;
+		this.requestCompression = requestCompression;
+		if ( requestCompression ) {
+			this.requestOptions = RequestOptions.DEFAULT.toBuilder()
+					.addHeader( HttpHeaders.ACCEPT_ENCODING, GZIP_CONTENT_ENCODING )
+					.build();
+		}
+		else {
+			this.requestOptions = RequestOptions.DEFAULT;
+		}
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
+		this.requestTimer = requestTimer;
+		this.requestFailureCounter = requestFailureCounter;
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		return submit( request, null );
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyParser successBodyParser) {
+		long startTime = System.nanoTime();
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( response, successBodyParser ) );
+		if ( requestTimer != Timer.noOp() ) {
+			// Avoid an extra stage (and a capturing lambda) for each request when metrics are disabled
+			result = result.whenComplete( (response, throwable) ->
+					requestTimer.record( System.nanoTime() - startTime, TimeUnit.NANOSECONDS ) );
+		}
 		if ( requestLog.isDebugEnabled() ) {
-			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
 		}
 		return result;
@@ -99,7 +150,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, requestCompression );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -125,6 +176,7 @@ public void onFailure(Exception exception) {
 							completableFuture.complete( ( (ResponseException) exception ).getResponse() );
 						}
 						else {
+							requestFailureCounter.increment();
 							completableFuture.completeExceptionally( exception );
 						}
 					}
@@ -144,6 +196,7 @@ public void onFailure(Exception exception) {
 		ScheduledFuture<?> timeout = timeoutExecutorService.schedule(
 				() -> {
 					if ( !completableFuture.isDone() ) {
+						requestFailureCounter.increment();
 						completableFuture.completeExceptionally( log.timedOut(
 								Duration.ofNanos( currentTimeoutUnit.toNanos( currentTimeoutValue ) ),
 								elasticsearchRequest
@@ -157,7 +210,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
@@ -165,13 +218,14 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 		}
 
 		request.setEntity( entity );
+		request.setOptions( requestOptions );
 
 		return request;
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(Response response, ElasticsearchResponseBodyParser successBodyParser) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( response, successBodyParser );
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
@@ -185,17 +239,40 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(Response response, ElasticsearchResponseBodyParser successBodyParser)
+			throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
 		}
 
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = getContent( response, entity );
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+			if ( successBodyParser != null && isSuccess( response ) && !requestLog.isTraceEnabled() ) {
+				// Let the caller extract what it needs while reading, without building the whole JSON tree.
+				// We don't do that when tracing, because we want to log the full response.
+				return successBodyParser.parse( gson, new JsonReader( reader ) );
+			}
+			else {
+				return gson.fromJson( reader, JsonObject.class );
+			}
+		}
+	}
+
+	private static boolean isSuccess(Response response) {
+		int statusCode = response.getStatusLine().getStatusCode();
+		return 200 <= statusCode && statusCode < 300;
+	}
+
+	private static InputStream getContent(Response response, HttpEntity entity) throws IOException {
+		InputStream inputStream = entity.getContent();
+		String contentEncoding = response.getHeader( HttpHeaders.CONTENT_ENCODING );
+		if ( GZIP_CONTENT_ENCODING.equalsIgnoreCase( contentEncoding ) ) {
+			// The response was compressed, because we asked for it: decompress it on the fly.
+			return new GZIPInputStream( inputStream );
 		}
+		return inputStream;
 	}
 
 	private static Charset getCharset(HttpEntity entity) {
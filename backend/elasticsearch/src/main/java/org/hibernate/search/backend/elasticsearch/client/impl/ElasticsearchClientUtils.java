@@ -41,13 +41,33 @@ public static boolean isSuccessCode(int code) {
 	}
 
 	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+		return toEntity( gson, request, false );
+	}
+
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip) throws IOException {
 		final List<JsonObject> bodyParts = request.getBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
+		if ( gzip ) {
+			return new GzipGsonHttpEntity( gson, bodyParts );
+		}
 		return new GsonHttpEntity( gson, bodyParts );
 	}
 
+	/**
+	 * @param gson The Gson instance used to serialize requests.
+	 * @param bodyPart A request body part.
+	 * @return The size of the given body part in the entity returned by {@link #toEntity(Gson, ElasticsearchRequest)},
+	 * in bytes, including the separator between body parts, before any compression.
+	 */
+	public static long computeBodyPartSize(Gson gson, JsonObject bodyPart) {
+		Utf8CountingWriter writer = new Utf8CountingWriter();
+		gson.toJson( bodyPart, writer );
+		// Body parts are followed by a new line, see GsonHttpEntity
+		return writer.getBytesWritten() + 1;
+	}
+
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
 		try {
 			return tryGetElasticsearchVersion( client );
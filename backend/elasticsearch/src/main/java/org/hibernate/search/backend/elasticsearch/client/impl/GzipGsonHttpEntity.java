@@ -0,0 +1,285 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.apache.http.protocol.HTTP;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * A variant of {@link GsonHttpEntity} that compresses the content using gzip.
+ * <p>
+ * Compression happens on the fly: JSON objects are serialized into a gzip stream,
+ * which writes compressed bytes to a {@link ProgressiveByteBufferOutputStream}.
+ * Just like in {@link GsonHttpEntity}, we stop serializing JSON objects
+ * as soon as flow control pushes back, and resume when the HTTP client asks for more content,
+ * so that we never need to hold the whole (compressed or uncompressed) content in memory.
+ * <p>
+ * Small content is encoded (and compressed) entirely upfront,
+ * so that we can report the content length and avoid chunked encoding.
+ */
+final class GzipGsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
+
+	private static final BasicHeader CONTENT_ENCODING = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
+	/**
+	 * The size of byte buffer pages in {@link ProgressiveByteBufferOutputStream},
+	 * and of the buffer of the gzip stream.
+	 * See {@link GsonHttpEntity} for the rationale.
+	 */
+	private static final int BYTE_BUFFER_PAGE_SIZE = 1024;
+
+	private final Gson gson;
+	private final List<JsonObject> bodyParts;
+
+	/**
+	 * See {@link GsonHttpEntity}.
+	 */
+	private long contentLength;
+
+	/**
+	 * See {@link GsonHttpEntity}.
+	 */
+	private boolean contentlengthWasProvided = false;
+
+	/**
+	 * See {@link GsonHttpEntity}.
+	 */
+	private int nextBodyToEncodeIndex = 0;
+
+	/**
+	 * Holds compressed content while flow control refuses to accept more bytes.
+	 */
+	private ProgressiveByteBufferOutputStream compressedOutput;
+
+	/**
+	 * The writer to the gzip stream, or null if the next write should start a new gzip stream.
+	 * Closing this writer writes the gzip trailer to {@link #compressedOutput}
+	 * and releases the resources held by the compressor.
+	 */
+	private Writer writer;
+
+	public GzipGsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		Contracts.assertNotNull( gson, "gson" );
+		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		this.gson = gson;
+		this.bodyParts = bodyParts;
+		this.contentLength = -1;
+		attemptOnePassEncoding();
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public boolean isChunked() {
+		return false;
+	}
+
+	@Override
+	public long getContentLength() {
+		this.contentlengthWasProvided = true;
+		return this.contentLength;
+	}
+
+	@Override
+	public Header getContentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public Header getContentEncoding() {
+		return CONTENT_ENCODING;
+	}
+
+	@Override
+	public InputStream getContent() {
+		//This could be implemented but would be sub-optimal compared to using produceContent().
+		//We therefore prefer throwing the exception so that we can easily spot unintended usage via tests.
+		throw new UnsupportedOperationException( "Not implemented! Expected to produce content only over produceContent(),"
+				+ " or writeTo(OutputStream) if blocking calls are acceptable for your use case." );
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		/*
+		 * For this method we use no pagination, so ignore the mutable fields.
+		 *
+		 * Note we don't close the gzip stream or the writer,
+		 * because we must not close the output stream that was passed as a parameter.
+		 */
+		CountingOutputStream countingStream = new CountingOutputStream( out );
+		GZIPOutputStream gzipStream = new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE );
+		Writer writer = new OutputStreamWriter( gzipStream, CHARSET );
+		for ( JsonObject bodyPart : bodyParts ) {
+			gson.toJson( bodyPart, writer );
+			writer.append( '\n' );
+		}
+		writer.flush();
+		gzipStream.finish();
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	public void consumeContent() {
+		//not used (and deprecated)
+	}
+
+	@Override
+	public void close() throws IOException {
+		//Make sure we re-wind the stream
+		//so that we can start from the beginning if needed
+		this.nextBodyToEncodeIndex = 0;
+		//Discard previous buffers as they might contain in-process content,
+		//but release the compressor first.
+		if ( writer != null ) {
+			writer.close();
+			writer = null;
+		}
+		compressedOutput = null;
+	}
+
+	/**
+	 * Let's see if we can fully encode and compress the content without writing to the output.
+	 * This will allow us to keep the memory consumption reasonable
+	 * while also being able to hint the client about the {@link #getContentLength()}.
+	 *
+	 * @throws IOException This is unlikely to be caused by a real IO operation as there's no output buffer yet,
+	 * but it could also be triggered by the UTF8 encoding or compression operations.
+	 */
+	private void attemptOnePassEncoding() throws IOException {
+		ensureStreams();
+		triggerFullWrite();
+		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
+			finishCompression();
+			// The buffer's current content size is the final content size,
+			// as we know the entire content has been encoded and compressed already,
+			// and we also know no content was consumed from the buffer yet.
+			hintContentLength( compressedOutput.byteBufferContentSize() );
+		}
+	}
+
+	/**
+	 * Higher level write loop. It will start writing the JSON objects
+	 * from either the  beginning or the next object which wasn't written yet
+	 * but simply stop and return as soon as the sink can't accept more data.
+	 * Checking state of compressedOutput.flowControlPushingBack will reveal if everything
+	 * was written.
+	 * @throws IOException If writing fails.
+	 */
+	private void triggerFullWrite() throws IOException {
+		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
+			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			gson.toJson( bodyPart, writer );
+			writer.append( '\n' );
+			// Flush the chars to the gzip stream, which will only output compressed bytes when its buffer is full.
+			writer.flush();
+			if ( compressedOutput.isFlowControlPushingBack() ) {
+				//Just quit: return control to the caller and trust we'll be called again.
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Start a new gzip stream if we're starting the rendering from the beginning.
+	 */
+	private void ensureStreams() throws IOException {
+		if ( compressedOutput == null ) {
+			compressedOutput = new ProgressiveByteBufferOutputStream( BYTE_BUFFER_PAGE_SIZE );
+			writer = new OutputStreamWriter(
+					new GZIPOutputStream( compressedOutput, BYTE_BUFFER_PAGE_SIZE ), CHARSET
+			);
+		}
+	}
+
+	private void finishCompression() throws IOException {
+		if ( writer != null ) {
+			// Writes the remaining compressed bytes and the gzip trailer to compressedOutput.
+			writer.close();
+			writer = null;
+		}
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		Contracts.assertNotNull( encoder, "encoder" );
+		// Warning: this method is possibly invoked multiple times, depending on the output buffers
+		// to have available space !
+		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
+
+		ensureStreams();
+
+		//Re-set the encoder as it might be a different one than a previously used instance:
+		compressedOutput.setOutput( encoder );
+
+		//First write unfinished business from previous attempts
+		compressedOutput.resumePendingWrites();
+		if ( compressedOutput.isFlowControlPushingBack() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
+
+		triggerFullWrite();
+
+		if ( compressedOutput.isFlowControlPushingBack() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
+		finishCompression();
+		compressedOutput.flushToOutput();
+		if ( compressedOutput.isFlowControlPushingBack() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
+		// If we haven't aborted yet, we finished!
+		encoder.complete();
+
+		//Allow to repeat the content rendering from the beginning:
+		this.nextBodyToEncodeIndex = 0;
+		this.compressedOutput = null;
+	}
+
+	private void hintContentLength(long contentLength) {
+		if ( !contentlengthWasProvided ) {
+			this.contentLength = contentLength;
+		}
+	}
+
+}
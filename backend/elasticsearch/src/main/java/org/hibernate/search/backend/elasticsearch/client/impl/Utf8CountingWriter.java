@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.Writer;
+
+/**
+ * A writer that discards its input,
+ * only counting how many bytes it would take once encoded in UTF-8.
+ * <p>
+ * Used to compute the size of JSON body parts without allocating memory for their serialized form.
+ */
+final class Utf8CountingWriter extends Writer {
+
+	private long bytesWritten = 0L;
+
+	@Override
+	public void write(int c) {
+		bytesWritten += utf8Length( (char) c );
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) {
+		for ( int i = off; i < off + len; i++ ) {
+			bytesWritten += utf8Length( cbuf[i] );
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) {
+		for ( int i = off; i < off + len; i++ ) {
+			bytesWritten += utf8Length( str.charAt( i ) );
+		}
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to do
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
+	public long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	private static int utf8Length(char c) {
+		if ( c < 0x80 ) {
+			return 1;
+		}
+		else if ( c < 0x800 ) {
+			return 2;
+		}
+		else if ( Character.isSurrogate( c ) ) {
+			// A surrogate pair is encoded on 4 bytes: count 2 for each char of the pair
+			return 2;
+		}
+		else {
+			return 3;
+		}
+	}
+}
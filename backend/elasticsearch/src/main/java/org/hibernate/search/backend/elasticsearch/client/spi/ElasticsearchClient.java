@@ -23,6 +23,21 @@ public interface ElasticsearchClient {
 	 */
 	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request);
 
+	/**
+	 * @param request A request to execute asynchronously
+	 * @param successBodyParser A parser for the body of the response, to be used if the response is successful
+	 * (HTTP status code 2xx), or {@code null} to always parse the whole body as a JSON tree.
+	 * Clients are free to ignore the parser and parse the whole body as a JSON tree anyway,
+	 * for example to log the full response:
+	 * callers must not expect the parser to be called.
+	 * @return The future that will ultimately hold the response
+	 * (or throw an exception if an error occurred or if the request timed out).
+	 */
+	default CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyParser successBodyParser) {
+		return submit( request );
+	}
+
 	/**
 	 * Unwrap the client to some implementation-specific type.
 	 *
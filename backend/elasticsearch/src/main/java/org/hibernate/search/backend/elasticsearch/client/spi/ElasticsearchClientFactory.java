@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 
 /**
@@ -23,4 +24,17 @@ ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource
 			ScheduledExecutorService timeoutExecutorService,
 			GsonProvider gsonProvider);
 
+	/**
+	 * Creates a client reporting metrics to the given registry.
+	 * <p>
+	 * The default implementation ignores the registry, for backward compatibility with existing factories.
+	 */
+	default ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
+			ThreadProvider threadProvider, String threadNamePrefix,
+			ScheduledExecutorService timeoutExecutorService,
+			GsonProvider gsonProvider,
+			MetricsRegistry metricsRegistry) {
+		return create( propertySource, threadProvider, threadNamePrefix, timeoutExecutorService, gsonProvider );
+	}
+
 }
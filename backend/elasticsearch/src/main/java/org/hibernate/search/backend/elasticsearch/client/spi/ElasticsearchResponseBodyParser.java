@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A parser for the body of successful responses,
+ * reading the JSON content in a streaming fashion.
+ * <p>
+ * Parsers allow to extract data as the response is being read,
+ * and to skip or discard the parts of the response that are not needed,
+ * instead of building the whole tree of JSON elements in memory.
+ *
+ * @see ElasticsearchClient#submit(ElasticsearchRequest, ElasticsearchResponseBodyParser)
+ */
+public interface ElasticsearchResponseBodyParser {
+
+	/**
+	 * @param gson A Gson instance, to parse the parts of the response that must be kept as JSON elements.
+	 * @param reader A JSON reader positioned at the very start of the response body.
+	 * When this method returns, the reader must have consumed the whole response body.
+	 * @return The response body as a JSON object, to be exposed through {@link ElasticsearchResponse#getBody()}.
+	 * Parts of the body that were consumed by the parser (or skipped) may be omitted.
+	 * @throws IOException If reading the response body fails.
+	 */
+	JsonObject parse(Gson gson, JsonReader reader) throws IOException;
+
+}
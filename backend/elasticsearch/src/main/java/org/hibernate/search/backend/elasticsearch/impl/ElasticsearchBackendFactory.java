@@ -100,6 +100,18 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( BeanReference.of( DefaultIndexLayoutStrategy.class ) )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> SEARCH_HIT_STREAMING_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_HIT_STREAMING_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SEARCH_HIT_STREAMING_ENABLED )
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
@@ -126,7 +138,8 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
 			link = new ElasticsearchLinkImpl(
 					clientFactoryHolder, threads, defaultGsonProvider, logPrettyPrinting,
-					dialectFactory, configuredVersion, versionCheckEnabled
+					dialectFactory, configuredVersion, versionCheckEnabled,
+					buildContext.getMetricsRegistry()
 			);
 
 			ElasticsearchModelDialect dialect;
@@ -163,7 +176,10 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 					getMultiTenancyStrategy( name, propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( name, propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.getFailureHandler()
+					SCROLL_TIMEOUT.get( propertySource ),
+					SEARCH_HIT_STREAMING_ENABLED.get( propertySource ),
+					buildContext.getFailureHandler(),
+					buildContext.getMetricsRegistry()
 			);
 		}
 		catch (RuntimeException e) {
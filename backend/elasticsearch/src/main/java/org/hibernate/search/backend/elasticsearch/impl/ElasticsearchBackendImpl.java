@@ -34,6 +34,7 @@
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
@@ -76,7 +77,10 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler) {
+			int scrollTimeout,
+			boolean searchHitStreamingEnabled,
+			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
 		this.name = name;
 		this.threads = threads;
 		this.link = link;
@@ -98,7 +102,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				multiTenancyStrategy,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
-				failureHandler,
+				scrollTimeout,
+				searchHitStreamingEnabled,
+				failureHandler, metricsRegistry,
 				generalPurposeOrchestrator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
@@ -24,6 +24,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -42,6 +43,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private final ElasticsearchDialectFactory dialectFactory;
 	private final Optional<ElasticsearchVersion> configuredVersionOptional;
 	private final boolean versionCheckEnabled;
+	private final MetricsRegistry metricsRegistry;
 
 	private ElasticsearchClientImplementor clientImplementor;
 	private ElasticsearchVersion elasticsearchVersion;
@@ -55,7 +57,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
 			ElasticsearchDialectFactory dialectFactory,
 			Optional<ElasticsearchVersion> configuredVersionOptional,
-			boolean versionCheckEnabled) {
+			boolean versionCheckEnabled,
+			MetricsRegistry metricsRegistry) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.threads = threads;
 		this.defaultGsonProvider = defaultGsonProvider;
@@ -63,6 +66,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 		this.dialectFactory = dialectFactory;
 		this.configuredVersionOptional = configuredVersionOptional;
 		this.versionCheckEnabled = versionCheckEnabled;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	@Override
@@ -110,7 +114,8 @@ void onStart(ConfigurationPropertySource propertySource) {
 		if ( clientImplementor == null ) {
 			clientImplementor = clientFactoryHolder.get().create(
 					propertySource, threads.getThreadProvider(), threads.getPrefix(),
-					threads.getWorkExecutor(), defaultGsonProvider
+					threads.getWorkExecutor(), defaultGsonProvider,
+					metricsRegistry
 			);
 			clientFactoryHolder.close(); // We won't need it anymore
 
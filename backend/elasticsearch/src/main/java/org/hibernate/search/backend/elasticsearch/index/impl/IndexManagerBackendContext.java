@@ -38,6 +38,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -52,7 +53,10 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final Gson userFacingGson;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final IndexLayoutStrategy indexLayoutStrategy;
+	private final int scrollTimeout;
+	private final boolean searchHitStreamingEnabled;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
@@ -62,7 +66,10 @@ public IndexManagerBackendContext(EventContext eventContext,
 			MultiTenancyStrategy multiTenancyStrategy,
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
+			int scrollTimeout,
+			boolean searchHitStreamingEnabled,
 			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator) {
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -70,7 +77,10 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.userFacingGson = userFacingGson;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.indexLayoutStrategy = indexLayoutStrategy;
+		this.scrollTimeout = scrollTimeout;
+		this.searchHitStreamingEnabled = searchHitStreamingEnabled;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
@@ -149,7 +159,8 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
-				searchContext, sessionContext, loadingContextBuilder, rootProjection
+				searchContext, sessionContext, loadingContextBuilder, rootProjection,
+				scrollTimeout, searchHitStreamingEnabled
 		);
 	}
 
@@ -176,7 +187,7 @@ ElasticsearchBatchingWorkOrchestrator createIndexingOrchestrator(String indexNam
 		return new ElasticsearchBatchingWorkOrchestrator(
 				"Elasticsearch indexing orchestrator for index " + indexName,
 				threads, link,
-				failureHandler
+				failureHandler, metricsRegistry
 		);
 	}
 
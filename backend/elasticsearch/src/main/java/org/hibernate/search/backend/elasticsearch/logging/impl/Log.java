@@ -667,4 +667,19 @@ SearchException elasticsearchIndexNameAndAliasesMatchMultipleIndexes(URLEncodedS
 			value = "Field '%1$s' is not contained in a nested object."
 					+ " Aggregation filters are only available if the field to aggregate on is contained in a nested object.")
 	SearchException cannotFilterAggregationOnRootDocumentField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 107,
+			value = "Cannot retrieve the next chunk of hits: the scroll was closed.")
+	SearchException cannotUseClosedScroll();
+
+	@Message(id = ID_OFFSET_3 + 108,
+			value = "Invalid value: '%1$s'. The value must be greater than or equal to %2$s.")
+	SearchException invalidSettingValue(long value, long minValue);
+
+	@Message(id = ID_OFFSET_3 + 109,
+			value = "Invalid retry settings: the maximum backoff (%1$s) must be greater than"
+					+ " or equal to the initial backoff (%2$s)."
+					+ " Set the configuration properties '%3$s' and '%4$s' to consistent values.")
+	SearchException invalidRetryBackoffSettings(int maxBackoff, int initialBackoff,
+			String maxBackoffPropertyKey, String initialBackoffPropertyKey);
 }
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+
+/**
+ * Adapts the maximum number of works in bulks to the latency of previously executed bulks,
+ * following an additive-increase/multiplicative-decrease scheme:
+ * <ul>
+ *     <li>when a bulk takes longer than the target latency,
+ *     the maximum bulk size is halved, so that the cluster gets some slack quickly;</li>
+ *     <li>when a full bulk is executed in less than half the target latency,
+ *     both in terms of round trip and of processing time reported by Elasticsearch ("took"),
+ *     the maximum bulk size is increased by a fixed step,
+ *     so that the bulk size slowly converges toward the largest size the cluster can handle comfortably.</li>
+ * </ul>
+ * <p>
+ * This class is thread-safe: bulks are built in the orchestrator's threads,
+ * but their results are processed in the HTTP client's threads.
+ */
+final class ElasticsearchAdaptiveBulkSize {
+
+	private static final int MIN_BULK_SIZE = 1;
+	private static final int INCREASE_STEP_DIVISOR = 10;
+
+	private final int maxBulkSize;
+	private final long targetLatencyMillis;
+	private final int increaseStep;
+
+	private volatile int currentMaxBulkSize;
+
+	/**
+	 * @param maxBulkSize The maximum number of works in a bulk; the bulk size will never exceed this value.
+	 * @param targetLatencyMillis The latency above which bulks are considered too large.
+	 */
+	ElasticsearchAdaptiveBulkSize(int maxBulkSize, long targetLatencyMillis) {
+		this.maxBulkSize = maxBulkSize;
+		this.targetLatencyMillis = targetLatencyMillis;
+		this.increaseStep = Math.max( 1, maxBulkSize / INCREASE_STEP_DIVISOR );
+		this.currentMaxBulkSize = maxBulkSize;
+	}
+
+	int getCurrentMaxBulkSize() {
+		return currentMaxBulkSize;
+	}
+
+	/**
+	 * @param bulkSize The number of works in the bulk that was executed.
+	 * @param result The result of the bulk.
+	 */
+	synchronized void onBulkExecuted(int bulkSize, BulkResult result) {
+		long latencyMillis = Math.max( result.getRoundTripMillis(), result.getTookMillis() );
+		if ( latencyMillis > targetLatencyMillis ) {
+			currentMaxBulkSize = Math.max( MIN_BULK_SIZE, currentMaxBulkSize / 2 );
+		}
+		else if ( bulkSize >= currentMaxBulkSize && latencyMillis * 2 <= targetLatencyMillis ) {
+			// Only increase the size if this bulk was full: smaller bulks don't tell us much about larger ones.
+			currentMaxBulkSize = Math.min( maxBulkSize, currentMaxBulkSize + increaseStep );
+		}
+	}
+}
@@ -6,19 +6,27 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
 
 /**
  * An orchestrator sending works to a queue which is processed periodically
@@ -33,6 +41,8 @@
 		extends AbstractElasticsearchWorkOrchestrator<ElasticsearchBatchedWork<?>>
 		implements ElasticsearchSerialWorkOrchestrator {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<Integer> QUEUE_COUNT =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_COUNT )
 					.asInteger()
@@ -51,8 +61,44 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Long> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ADAPTIVE_BULK_SIZE_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_INITIAL_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_INITIAL_BACKOFF )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_INITIAL_BACKOFF )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_BACKOFF )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_BACKOFF )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 
 	private BatchingExecutor<ElasticsearchBatchedWorkProcessor>[] executors;
 
@@ -61,13 +107,15 @@
 	 * @param threads The threads for this backend.
 	 * @param link The Elasticsearch link for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry A metrics registry to report the state of the background thread.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
 			String name, BackendThreads threads, ElasticsearchLink link,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
 		super( name, link );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	@Override
@@ -82,19 +130,50 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkBytes = MAX_BULK_BYTES.getAndMap( propertySource, atLeast( 1L ) )
+				.orElse( ElasticsearchDefaultWorkBulker.NO_MAX_BULK_BYTES );
+		// Shared by all queues, since they all send bulks to the same cluster.
+		ElasticsearchAdaptiveBulkSize adaptiveBulkSize = null;
+		if ( ADAPTIVE_BULK_SIZE.get( propertySource ) ) {
+			adaptiveBulkSize = new ElasticsearchAdaptiveBulkSize(
+					maxBulkSize, ADAPTIVE_BULK_SIZE_TARGET_LATENCY.get( propertySource )
+			);
+		}
+
+		int retryInitialBackoff = RETRY_INITIAL_BACKOFF.getAndTransform( propertySource, atLeast( 1 ) );
+		int retryMaxBackoff = RETRY_MAX_BACKOFF.getAndTransform( propertySource, atLeast( 1 ) );
+		if ( retryMaxBackoff < retryInitialBackoff ) {
+			throw log.invalidRetryBackoffSettings(
+					retryMaxBackoff, retryInitialBackoff,
+					RETRY_MAX_BACKOFF.resolveOrRaw( propertySource ),
+					RETRY_INITIAL_BACKOFF.resolveOrRaw( propertySource )
+			);
+		}
+
+		ElasticsearchBulkRetrier bulkRetrier = new ElasticsearchBulkRetrier(
+				(worksToBulk, refreshStrategy) ->
+						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
+				threads.getWorkExecutor(),
+				MAX_RETRIES.get( propertySource ),
+				retryInitialBackoff,
+				retryMaxBackoff
+		);
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor(
+					executionContext, bulkRetrier, maxBulkSize, maxBulkBytes, adaptiveBulkSize
+			);
 			executors[i] = new BatchingExecutor<>(
 					getName() + " - " + i,
 					processor,
 					queueSize,
 					true,
-					failureHandler
+					failureHandler,
+					metricsRegistry
 			);
 		}
 
@@ -125,14 +204,35 @@ protected void doStop() {
 		}
 	}
 
+	private static Function<Integer, Integer> atLeast(int minValue) {
+		return value -> {
+			if ( value < minValue ) {
+				throw log.invalidSettingValue( value, minValue );
+			}
+			return value;
+		};
+	}
+
+	private static Function<Long, Long> atLeast(long minValue) {
+		return value -> {
+			if ( value < minValue ) {
+				throw log.invalidSettingValue( value, minValue );
+			}
+			return value;
+		};
+	}
+
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			ElasticsearchBulkRetrier bulkRetrier, int maxBulkSize, long maxBulkBytes,
+			ElasticsearchAdaptiveBulkSize adaptiveBulkSize) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		Gson gson = link.getGsonProvider().getGson();
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) ->
-						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				bulkRetrier::createBulkWork,
+				maxBulkSize, maxBulkBytes,
+				work -> work.getBulkableActionSize( gson ),
+				adaptiveBulkSize
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Creates bulk works that retry bulked works rejected by Elasticsearch because it is overloaded
+ * (HTTP status {@code 429 Too Many Requests}, typically caused by {@code es_rejected_execution_exception}).
+ * <p>
+ * Only rejected works are retried, in a new bulk, after a delay that grows exponentially with each retry
+ * (up to a maximum), with a random jitter so that queues do not all retry at the same time.
+ * Works that are still rejected after the last retry are reported as failed,
+ * just like they would be without retries.
+ * <p>
+ * The future returned when executing a retrying bulk work only completes after the last retry,
+ * and batching executors do not process the next batch before the current one is complete:
+ * thus, while retries are pending, works accumulate in the executor's queue
+ * and, when that queue is full, threads submitting works block.
+ * This gives Elasticsearch some slack, instead of piling up more requests on an overloaded cluster.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ElasticsearchBulkRetrier {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
+	private final ScheduledExecutorService delayExecutor;
+	private final int maxRetries;
+	private final long initialBackoffMillis;
+	private final long maxBackoffMillis;
+
+	/**
+	 * @param bulkWorkFactory The factory for (non-retrying) bulk works.
+	 * @param delayExecutor The executor used to wait before retrying.
+	 * @param maxRetries The maximum number of retries for a single bulked work. {@code 0} disables retries.
+	 * @param initialBackoffMillis The delay before the first retry, in milliseconds.
+	 * @param maxBackoffMillis The maximum delay before a retry, in milliseconds.
+	 */
+	ElasticsearchBulkRetrier(
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			ScheduledExecutorService delayExecutor,
+			int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.delayExecutor = delayExecutor;
+		this.maxRetries = maxRetries;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.maxBackoffMillis = Math.max( initialBackoffMillis, maxBackoffMillis );
+	}
+
+	NonBulkableWork<BulkResult> createBulkWork(List<? extends BulkableWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy) {
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( works, refreshStrategy );
+		if ( maxRetries <= 0 ) {
+			return bulkWork;
+		}
+		// Copy the list, because the caller may reuse it for other bulks.
+		return new RetryingBulkWork( bulkWork, new ArrayList<>( works ), refreshStrategy );
+	}
+
+	/**
+	 * @param retry The number of the retry, starting at 1.
+	 * @return The delay before the given retry, in milliseconds:
+	 * the exponential backoff, minus a random jitter of up to half the backoff.
+	 */
+	long computeBackoffMillis(int retry) {
+		// Avoid overflows: beyond 2^30 times the initial backoff, we're above the maximum anyway.
+		long backoff = initialBackoffMillis << Math.min( retry - 1, 30 );
+		if ( backoff <= 0 || backoff > maxBackoffMillis ) {
+			backoff = maxBackoffMillis;
+		}
+		long fixedPart = backoff / 2;
+		return fixedPart + ThreadLocalRandom.current().nextLong( backoff - fixedPart + 1 );
+	}
+
+	private CompletableFuture<?> delay(long delayMillis) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		try {
+			delayExecutor.schedule( () -> future.complete( null ), delayMillis, TimeUnit.MILLISECONDS );
+		}
+		catch (RejectedExecutionException e) {
+			// Shutting down: give up retrying.
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
+	private final class RetryingBulkWork implements NonBulkableWork<BulkResult> {
+
+		private final NonBulkableWork<BulkResult> initialBulkWork;
+		private final List<BulkableWork<?>> works;
+		private final DocumentRefreshStrategy refreshStrategy;
+
+		private RetryingBulkWork(NonBulkableWork<BulkResult> initialBulkWork, List<BulkableWork<?>> works,
+				DocumentRefreshStrategy refreshStrategy) {
+			this.initialBulkWork = initialBulkWork;
+			this.works = works;
+			this.refreshStrategy = refreshStrategy;
+		}
+
+		@Override
+		public String toString() {
+			return new StringBuilder()
+					.append( getClass().getSimpleName() )
+					.append( "[" )
+					.append( "initialBulkWork = " ).append( initialBulkWork )
+					.append( ", maxRetries = " ).append( maxRetries )
+					.append( "]" )
+					.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			return initialBulkWork.execute( context )
+					.thenCompose( initialResult -> retryRejected(
+							context, new RetriedBulkResult( initialResult, works.size() ), 1
+					) );
+		}
+
+		private CompletableFuture<BulkResult> retryRejected(ElasticsearchWorkExecutionContext context,
+				RetriedBulkResult result, int retry) {
+			List<Integer> rejectedIndexes = result.getRejectedIndexes();
+			if ( rejectedIndexes.isEmpty() || retry > maxRetries ) {
+				return CompletableFuture.completedFuture( result );
+			}
+
+			List<BulkableWork<?>> rejectedWorks = new ArrayList<>( rejectedIndexes.size() );
+			for ( Integer index : rejectedIndexes ) {
+				rejectedWorks.add( works.get( index ) );
+			}
+			long backoffMillis = computeBackoffMillis( retry );
+			log.debugf( "%d bulked works out of %d were rejected by Elasticsearch; retry %d out of %d in %d ms",
+					rejectedWorks.size(), works.size(), retry, maxRetries, backoffMillis );
+
+			return delay( backoffMillis )
+					.thenCompose( ignored -> bulkWorkFactory.apply( rejectedWorks, refreshStrategy ).execute( context ) )
+					.handle( (retryResult, throwable) -> {
+						if ( throwable != null ) {
+							// The retry failed as a whole: stop retrying,
+							// rejected works will be reported as failed based on their last result.
+							log.debugf( throwable, "Retry %d of rejected bulked works failed", retry );
+							return CompletableFuture.<BulkResult>completedFuture( result );
+						}
+						result.update( rejectedIndexes, retryResult );
+						return retryRejected( context, result, retry + 1 );
+					} )
+					.thenCompose( Function.identity() );
+		}
+	}
+
+	/**
+	 * A bulk result aggregating the results of the initial bulk and of retries.
+	 * <p>
+	 * Latency information is that of the initial bulk.
+	 */
+	private static final class RetriedBulkResult implements BulkResult {
+
+		private final BulkResult initialResult;
+		// For each bulked work, the last result including that work, and the index of the work in that result.
+		private final BulkResult[] itemResults;
+		private final int[] itemIndexes;
+
+		private RetriedBulkResult(BulkResult initialResult, int size) {
+			this.initialResult = initialResult;
+			this.itemResults = new BulkResult[size];
+			Arrays.fill( itemResults, initialResult );
+			this.itemIndexes = new int[size];
+			for ( int i = 0; i < size; i++ ) {
+				itemIndexes[i] = i;
+			}
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			return itemResults[index].extract( context, work, itemIndexes[index] );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return itemResults[index].isRejected( itemIndexes[index] );
+		}
+
+		@Override
+		public long getTookMillis() {
+			return initialResult.getTookMillis();
+		}
+
+		@Override
+		public long getRoundTripMillis() {
+			return initialResult.getRoundTripMillis();
+		}
+
+		List<Integer> getRejectedIndexes() {
+			List<Integer> rejectedIndexes = new ArrayList<>();
+			for ( int i = 0; i < itemResults.length; i++ ) {
+				if ( isRejected( i ) ) {
+					rejectedIndexes.add( i );
+				}
+			}
+			return rejectedIndexes;
+		}
+
+		void update(List<Integer> retriedIndexes, BulkResult retryResult) {
+			for ( int i = 0; i < retriedIndexes.size(); i++ ) {
+				int index = retriedIndexes.get( i );
+				itemResults[index] = retryResult;
+				itemIndexes[index] = i;
+			}
+		}
+	}
+}
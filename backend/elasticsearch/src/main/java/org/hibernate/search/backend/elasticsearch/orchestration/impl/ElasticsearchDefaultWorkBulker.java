@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
@@ -18,11 +19,18 @@
 
 class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 
+	static final long NO_MAX_BULK_BYTES = -1L;
+
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkBytes;
+	private final ToLongFunction<BulkableWork<?>> workSizeCalculator;
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private int currentBulkMaxSize;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,9 +45,33 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, NO_MAX_BULK_BYTES, null, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkBytes Maximum size of a single bulk in bytes, or {@link #NO_MAX_BULK_BYTES}.
+	 * If adding a work to a bulk would make it exceed this size, the bulk will be automatically
+	 * {@link #finalizeBulkWork() finalized} before the work is added to a new bulk.
+	 * @param workSizeCalculator A function computing the size of a work in a bulk request, in bytes.
+	 * Ignored if {@code maxBulkBytes} is {@link #NO_MAX_BULK_BYTES}.
+	 * @param adaptiveBulkSize An object adapting the maximum number of works in a single bulk
+	 * to the latency of previous bulks, or {@code null} to always use {@code maxBulkSize}.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, long maxBulkBytes, ToLongFunction<BulkableWork<?>> workSizeCalculator,
+			ElasticsearchAdaptiveBulkSize adaptiveBulkSize) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.workSizeCalculator = workSizeCalculator;
+		this.adaptiveBulkSize = adaptiveBulkSize;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -58,19 +90,32 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = 0L;
+		if ( maxBulkBytes != NO_MAX_BULK_BYTES ) {
+			workBytes = workSizeCalculator.applyAsLong( work );
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the current bulk too large; send the current bulk as is.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
+			currentBulkMaxSize = adaptiveBulkSize == null ? maxBulkSize : adaptiveBulkSize.getCurrentMaxBulkSize();
 		}
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= currentBulkMaxSize
+				|| maxBulkBytes != NO_MAX_BULK_BYTES && currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -86,12 +131,17 @@ public void finalizeBulkWork() {
 
 		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems, currentBulkRefreshStrategy );
 		currentBulkWorkFuture.complete( bulkWork );
+		if ( adaptiveBulkSize != null ) {
+			int bulkSize = currentBulkItems.size();
+			currentBulkResultFuture.thenAccept( result -> adaptiveBulkSize.onBulkExecuted( bulkSize, result ) );
+		}
 		reset();
 	}
 
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
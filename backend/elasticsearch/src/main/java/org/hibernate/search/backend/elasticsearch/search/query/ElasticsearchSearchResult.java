@@ -17,6 +17,11 @@
 	 * @return The body of the response to the search request as a {@link JsonObject}.
 	 * The returned object must not be modified; use {@link JsonObject#deepCopy()} if necessary.
 	 * <p>
+	 * If {@link org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings#SEARCH_HIT_STREAMING_ENABLED hit streaming}
+	 * is enabled and no request transformer was set on the query,
+	 * hits are extracted while the response is being read
+	 * and are omitted from the returned object ({@code hits.hits} is missing).
+	 * <p>
 	 * <strong>WARNING:</strong> The content of the response may change depending on
 	 * the version of Elasticsearch, depending on which Hibernate Search features are used,
 	 * and even depending on how Hibernate Search features are implemented.
@@ -12,6 +12,8 @@
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
 import com.google.gson.JsonObject;
 
@@ -20,7 +22,8 @@
  * <p>
  * Compared to ES7:
  * <ul>
- *     <li>The total hit count is retrieved from hits.total instead of hits.total.value</li>
+ *     <li>The total hit count is retrieved from hits.total instead of hits.total.value,
+ *     and is always exact</li>
  * </ul>
  */
 class Elasticsearch56SearchResultExtractor<H> extends Elasticsearch7SearchResultExtractor<H> {
@@ -31,13 +34,15 @@
 	Elasticsearch56SearchResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
-		super( requestContext, rootProjection, aggregations );
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			boolean streamingHits) {
+		super( requestContext, rootProjection, aggregations, streamingHits );
 	}
 
 	@Override
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	protected SearchResultTotal extractTotal(JsonObject responseBody) {
+		// Total hits are always tracked exactly in ES6 and below
+		return SimpleSearchResultTotal.exact( HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L ) );
 	}
 
 }
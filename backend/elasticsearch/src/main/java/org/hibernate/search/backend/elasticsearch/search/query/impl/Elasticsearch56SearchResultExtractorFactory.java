@@ -21,10 +21,12 @@ public class Elasticsearch56SearchResultExtractorFactory implements Elasticsearc
 	public <H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> createResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			boolean streamingHits) {
 		return new Elasticsearch56SearchResultExtractor<>(
 				requestContext,
-				rootProjection, aggregations
+				rootProjection, aggregations,
+				streamingHits
 		);
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -18,23 +19,37 @@
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultStreamingParser;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 class Elasticsearch7SearchResultExtractor<H> implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
 
+	private static final String HITS_PROPERTY = "hits";
+
 	protected static final JsonObjectAccessor HITS_ACCESSOR =
 			JsonAccessor.root().property( "hits" ).asObject();
 
 	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
 			HITS_ACCESSOR.property( "hits" ).asArray();
 
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
+	private static final JsonObjectAccessor HITS_TOTAL_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).asObject();
+
+	private static final JsonAccessor<Long> HITS_TOTAL_VALUE_ACCESSOR =
+			HITS_TOTAL_ACCESSOR.property( "value" ).asLong();
+
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_TOTAL_ACCESSOR.property( "relation" ).asString();
 
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
@@ -50,13 +65,17 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
 
+	private final boolean streamingHits;
+
 	Elasticsearch7SearchResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			boolean streamingHits) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
+		this.streamingHits = streamingHits;
 	}
 
 	@Override
@@ -65,10 +84,29 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 				responseBody
 		);
 
-		long hitCount = extractHitCount( responseBody );
+		SearchResultTotal total = extractTotal( responseBody );
+
+		// The total hit count may be a lower bound, even zero with track_total_hits=0: always extract hits
+		final List<Object> extractedHits = extractHits( extractContext );
+
+		return createResult( extractContext, total, extractedHits );
+	}
+
+	@Override
+	public ElasticsearchSearchResultStreamingParser<ElasticsearchLoadableSearchResult<H>> createStreamingParser() {
+		return streamingHits ? new HitStreamingParser() : null;
+	}
 
-		final List<Object> extractedHits = hitCount > 0 ?
-				extractHits( extractContext ) : Collections.emptyList();
+	protected SearchResultTotal extractTotal(JsonObject responseBody) {
+		long hitCount = HITS_TOTAL_VALUE_ACCESSOR.get( responseBody ).orElse( 0L );
+		// "gte" when the "track_total_hits" threshold was reached
+		boolean exact = !"gte".equals( HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).orElse( "eq" ) );
+		return SimpleSearchResultTotal.of( hitCount, exact );
+	}
+
+	private ElasticsearchLoadableSearchResult<H> createResult(ElasticsearchSearchQueryExtractContext extractContext,
+			SearchResultTotal total, List<Object> extractedHits) {
+		JsonObject responseBody = extractContext.getResponseBody();
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
@@ -79,17 +117,13 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				total,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut
 		);
 	}
 
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
-	}
-
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
 		JsonObject responseBody = extractContext.getResponseBody();
 		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
@@ -126,4 +160,81 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 
 		return extractedMap;
 	}
+
+	/**
+	 * Extracts hits as they are read from the response,
+	 * so that the JSON tree of each hit can be discarded as soon as the hit has been extracted.
+	 * <p>
+	 * The "hits.hits" array is omitted from the resulting response body.
+	 */
+	private class HitStreamingParser
+			implements ElasticsearchSearchResultStreamingParser<ElasticsearchLoadableSearchResult<H>> {
+
+		private final ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext( null );
+		private final List<Object> extractedHits = new ArrayList<>();
+
+		private boolean used = false;
+
+		@Override
+		public JsonObject parse(Gson gson, JsonReader reader) throws IOException {
+			used = true;
+			JsonObject responseBody = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( HITS_PROPERTY.equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+					responseBody.add( name, parseHits( gson, reader ) );
+				}
+				else {
+					responseBody.add( name, gson.fromJson( reader, JsonElement.class ) );
+				}
+			}
+			reader.endObject();
+			return responseBody;
+		}
+
+		@Override
+		public boolean isUsed() {
+			return used;
+		}
+
+		@Override
+		public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
+			extractContext.setResponseBody( responseBody );
+			SearchResultTotal total = extractTotal( responseBody );
+			return createResult( extractContext, total, extractedHits );
+		}
+
+		private JsonObject parseHits(Gson gson, JsonReader reader) throws IOException {
+			JsonObject hits = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( HITS_PROPERTY.equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+					extractHits( gson, reader );
+				}
+				else {
+					hits.add( name, gson.fromJson( reader, JsonElement.class ) );
+				}
+			}
+			reader.endObject();
+			return hits;
+		}
+
+		private void extractHits(Gson gson, JsonReader reader) throws IOException {
+			ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
+			SearchProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
+
+			reader.beginArray();
+			while ( reader.hasNext() ) {
+				JsonObject hitObject = gson.fromJson( reader, JsonObject.class );
+
+				extractedHits.add( rootProjection.extract(
+						hitMapper, hitObject,
+						projectionExtractContext
+				) );
+			}
+			reader.endArray();
+		}
+	}
 }
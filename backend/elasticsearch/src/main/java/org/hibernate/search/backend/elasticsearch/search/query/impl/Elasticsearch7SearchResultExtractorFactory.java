@@ -21,10 +21,12 @@ public class Elasticsearch7SearchResultExtractorFactory implements Elasticsearch
 	public <H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> createResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			boolean streamingHits) {
 		return new Elasticsearch7SearchResultExtractor<>(
 				requestContext,
-				rootProjection, aggregations
+				rootProjection, aggregations,
+				streamingHits
 		);
 	}
 }
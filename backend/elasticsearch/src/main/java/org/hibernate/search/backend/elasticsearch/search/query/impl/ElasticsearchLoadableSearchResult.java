@@ -11,17 +11,20 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
- * Allows to run loading in the user thread, and not in the backend HTTP request threads.
+ * Allows to run loading in the user thread, and not in the backend HTTP request threads,
+ * unless loading is explicitly requested to happen asynchronously.
  * <p>
  * <strong>WARNING:</strong> loading should only be triggered once.
  * <p>
@@ -33,7 +36,7 @@
 	private final ElasticsearchSearchQueryExtractContext extractContext;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
-	private final long hitCount;
+	private final SearchResultTotal total;
 	private List<Object> extractedHits;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
@@ -41,23 +44,38 @@
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount,
+			SearchResultTotal total,
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Integer took, Boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
-		this.hitCount = hitCount;
+		this.total = total;
 		this.extractedHits = extractedHits;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
 	}
 
+	boolean hasExtractedHits() {
+		return !extractedHits.isEmpty();
+	}
+
 	ElasticsearchSearchResult<H> loadBlocking() {
-		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
+		return transform( extractContext.getProjectionHitMapper().loadBlocking() );
+	}
 
-		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
+	/**
+	 * @return A future that will be completed with the loaded result.
+	 * Loading is delegated to the mapper, which may or may not support it:
+	 * see {@link org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper#loadAsync()}.
+	 */
+	CompletionStage<ElasticsearchSearchResult<H>> loadAsync() {
+		return extractContext.getProjectionHitMapper().loadAsync().thenApply( this::transform );
+	}
+
+	private ElasticsearchSearchResult<H> transform(LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -90,7 +108,8 @@ ElasticsearchSearchResult<H> loadBlocking() {
 
 		return new ElasticsearchSearchResultImpl<>(
 				extractContext.getResponseBody(),
-				hitCount, loadedHits, extractedAggregations
-		, took, timedOut );
+				total, loadedHits, extractedAggregations,
+				took, timedOut
+		);
 	}
 }
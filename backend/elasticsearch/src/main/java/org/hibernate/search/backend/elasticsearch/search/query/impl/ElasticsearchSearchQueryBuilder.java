@@ -61,6 +61,8 @@
 	private final ElasticsearchSearchPredicateContext rootPredicateContext;
 	private final LoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
+	private final int scrollTimeout;
+	private final boolean hitStreamingEnabled;
 
 	private final Set<String> routingKeys;
 	private JsonObject jsonPredicate;
@@ -70,6 +72,7 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
 
 	public ElasticsearchSearchQueryBuilder(
@@ -79,7 +82,9 @@ public ElasticsearchSearchQueryBuilder(
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
-			ElasticsearchSearchProjection<?, H> rootProjection) {
+			ElasticsearchSearchProjection<?, H> rootProjection,
+			int scrollTimeout,
+			boolean hitStreamingEnabled) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -91,6 +96,8 @@ public ElasticsearchSearchQueryBuilder(
 		this.rootPredicateContext = new ElasticsearchSearchPredicateContext( sessionContext );
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.scrollTimeout = scrollTimeout;
+		this.hitStreamingEnabled = hitStreamingEnabled;
 	}
 
 	@Override
@@ -119,6 +126,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public ElasticsearchSearchPredicateContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -213,7 +225,12 @@ public ElasticsearchSearchQuery<H> build() {
 				searchResultExtractorFactory.createResultExtractor(
 						requestContext,
 						rootProjection,
-						aggregations == null ? Collections.emptyMap() : aggregations
+						aggregations == null ? Collections.emptyMap() : aggregations,
+						// Hits extracted while reading the response are not included in the response body,
+						// so hit streaming must be enabled explicitly.
+						// Users transforming the request most likely want to inspect the response body,
+						// so we never stream hits if there is a request transformer.
+						hitStreamingEnabled && requestTransformer == null
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
@@ -221,7 +238,9 @@ public ElasticsearchSearchQuery<H> build() {
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold,
+				scrollTimeout
 		);
 	}
 }
@@ -26,7 +26,7 @@ class ElasticsearchSearchQueryExtractContext implements AggregationExtractContex
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final FromDocumentFieldValueConvertContext convertContext;
 
-	private final JsonObject responseBody;
+	private JsonObject responseBody;
 
 	ElasticsearchSearchQueryExtractContext(ElasticsearchSearchQueryRequestContext requestContext,
 			BackendSessionContext sessionContext,
@@ -47,6 +47,14 @@ JsonObject getResponseBody() {
 		return responseBody;
 	}
 
+	/*
+	 * Used when extracting hits while the response is being read:
+	 * the response body is only available once all hits have been extracted.
+	 */
+	void setResponseBody(JsonObject responseBody) {
+		this.responseBody = responseBody;
+	}
+
 	ProjectionHitMapper<?, ?> getProjectionHitMapper() {
 		return projectionHitMapper;
 	}
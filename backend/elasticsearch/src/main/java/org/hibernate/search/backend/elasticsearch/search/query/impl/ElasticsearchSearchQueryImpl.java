@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
@@ -29,6 +30,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -61,6 +63,8 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private final Long totalHitCountThreshold;
+	private final int scrollTimeout;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
@@ -71,7 +75,9 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long totalHitCountThreshold,
+			int scrollTimeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchContext = searchContext;
@@ -84,6 +90,8 @@
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.scrollTimeout = scrollTimeout;
 	}
 
 	@Override
@@ -105,45 +113,53 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createSearchWork( offset, limit ) ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * See fetchAsync for loading in a non-blocking way.
 				 */
 				.loadBlocking();
 	}
 
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> queryOrchestrator.submit( createSearchWork( offset, limit ) ) )
+				/*
+				 * Loading will run in whatever thread completes the future, usually a backend HTTP request thread.
+				 * This is fine since the mapper is expected to either avoid blocking in loadAsync,
+				 * or to reject asynchronous loading altogether.
+				 */
+				.thenCompose( ElasticsearchLoadableSearchResult::loadAsync );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+
+		String scrollTimeoutString = scrollTimeout + "s";
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> firstChunkWork =
+				workFactory.search( payload, searchResultExtractor )
+						.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+						.scrolling( chunkSize, scrollTimeoutString )
+						.routingKeys( routingKeys )
+						.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+						.requestTransformer(
+								ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+						)
+						.build();
+
+		return new ElasticsearchSearchScroll<>( workFactory, queryOrchestrator, searchResultExtractor,
+				scrollTimeoutString, firstChunkWork );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
-		}
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createCountWork() ) );
+	}
 
-		NonBulkableWork<Long> work = workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.query( filteredPayload )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> queryOrchestrator.submit( createCountWork() ) );
 	}
 
 	@Override
@@ -218,4 +234,34 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		timeoutUnit = timeUnit;
 		exceptionOnTimeout = true;
 	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private NonBulkableWork<Long> createCountWork() {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		return workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.query( filteredPayload )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
 }
@@ -18,6 +18,7 @@ public interface ElasticsearchSearchResultExtractorFactory {
 	<H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> createResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations);
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			boolean streamingHits);
 
 }
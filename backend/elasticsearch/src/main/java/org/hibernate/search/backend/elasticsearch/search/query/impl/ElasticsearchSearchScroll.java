@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A scroll relying on the Elasticsearch scroll API:
+ * the first chunk is retrieved with a search request that opens a search context on the cluster,
+ * and subsequent chunks are retrieved from that search context using the scroll ID.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe.
+ *
+ * @param <H> The type of hits.
+ */
+class ElasticsearchSearchScroll<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final String scrollTimeout;
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> firstChunkWork;
+	private String scrollId;
+	private boolean closed = false;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			String scrollTimeout,
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> firstChunkWork) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.firstChunkWork = firstChunkWork;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		if ( scrollId != null ) {
+			// Release the search context on the cluster right away, instead of waiting for the scroll timeout.
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( workFactory.clearScroll( scrollId ).build() ) );
+		}
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.cannotUseClosedScroll();
+		}
+
+		boolean hadHits;
+		ElasticsearchSearchResult<H> result;
+		do {
+			ElasticsearchLoadableSearchResult<H> loadableResult =
+					Futures.unwrappedExceptionJoin( queryOrchestrator.submit( nextChunkWork() ) );
+			hadHits = loadableResult.hasExtractedHits();
+			result = loadableResult.loadBlocking();
+			scrollId = SCROLL_ID_ACCESSOR.get( result.getResponseBody() ).orElse( scrollId );
+		}
+		// If none of the hits in this chunk could be loaded (e.g. deleted entities),
+		// move on to the next chunk instead of signaling the end of the scroll.
+		while ( result.getHits().isEmpty() && hadHits );
+
+		return new SimpleSearchScrollResult<>( result.getTotal(), result.getHits(),
+				result.getTook(), result.isTimedOut() );
+	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> nextChunkWork() {
+		if ( firstChunkWork != null ) {
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = firstChunkWork;
+			firstChunkWork = null;
+			return work;
+		}
+		return workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor ).build();
+	}
+}
@@ -52,4 +52,11 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
 				.build();
 		return orchestrator.submit( work );
 	}
+
+	@Override
+	public CompletableFuture<?> addOrUpdate(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor) {
+		// Elasticsearch's "index" operation replaces any existing document with the same ID
+		return add( referenceProvider, documentContributor );
+	}
 }
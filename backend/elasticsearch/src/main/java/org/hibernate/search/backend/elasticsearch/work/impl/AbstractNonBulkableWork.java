@@ -13,6 +13,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.Futures;
@@ -48,8 +49,9 @@ public String toString() {
 
 	@Override
 	public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext executionContext) {
+		ElasticsearchResponseBodyParser successBodyParser = createSuccessBodyParser();
 		return Futures.create( () -> beforeExecute( executionContext, request ) )
-				.thenCompose( ignored -> executionContext.getClient().submit( request ) )
+				.thenCompose( ignored -> executionContext.getClient().submit( request, successBodyParser ) )
 				.exceptionally( Futures.handler( throwable -> {
 					// if we already have a SearchExececption, throw that,
 					// since it will be more specific
@@ -72,6 +74,18 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 		return SUCCESSFUL_FUTURE;
 	}
 
+	/**
+	 * @return A parser for the body of successful responses, allowing to extract data while reading the response
+	 * instead of building the whole JSON tree in memory, or {@code null} to always parse the whole JSON tree.
+	 * Called once per execution.
+	 * The client may ignore the parser: {@link #generateResult(ElasticsearchWorkExecutionContext, ElasticsearchResponse)}
+	 * must handle both cases.
+	 */
+	protected ElasticsearchResponseBodyParser createSuccessBodyParser() {
+		// Parse the whole JSON tree by default
+		return null;
+	}
+
 	protected abstract R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response);
 
 	private R handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
@@ -8,10 +8,12 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -30,6 +32,9 @@
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
+	// Measuring requires serializing the JSON: only do it once
+	private long bulkableActionSize = -1L;
+
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
 		this.bulkableActionBody = builder.buildBulkableActionBody();
@@ -70,6 +75,18 @@ public JsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
+	@Override
+	public long getBulkableActionSize(Gson gson) {
+		if ( bulkableActionSize < 0L ) {
+			long size = ElasticsearchClientUtils.computeBodyPartSize( gson, bulkableActionMetadata );
+			if ( bulkableActionBody != null ) {
+				size += ElasticsearchClientUtils.computeBodyPartSize( gson, bulkableActionBody );
+			}
+			bulkableActionSize = size;
+		}
+		return bulkableActionSize;
+	}
+
 	@Override
 	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		try {
@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A parser for the body of bulk responses that only retains, for each item,
+ * the properties needed to assess success and to report failures.
+ * <p>
+ * Items have the following format: { "actionName" : { "status" : 201, ... } }.
+ * Properties such as "_shards", "_version" or "_seq_no" are skipped
+ * without ever being turned into JSON elements.
+ */
+final class BulkResponseBodyParser implements ElasticsearchResponseBodyParser {
+
+	static final BulkResponseBodyParser INSTANCE = new BulkResponseBodyParser();
+
+	private static final String ITEMS_PROPERTY = "items";
+
+	private static final Set<String> RETAINED_ITEM_PROPERTIES = Collections.unmodifiableSet( new HashSet<>( Arrays.asList(
+			"_index", "_id", "status", "result", "error"
+	) ) );
+
+	private BulkResponseBodyParser() {
+	}
+
+	@Override
+	public JsonObject parse(Gson gson, JsonReader reader) throws IOException {
+		JsonObject body = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( ITEMS_PROPERTY.equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+				body.add( name, parseItems( gson, reader ) );
+			}
+			else {
+				body.add( name, gson.fromJson( reader, JsonElement.class ) );
+			}
+		}
+		reader.endObject();
+		return body;
+	}
+
+	private JsonArray parseItems(Gson gson, JsonReader reader) throws IOException {
+		JsonArray items = new JsonArray();
+		reader.beginArray();
+		while ( reader.hasNext() ) {
+			if ( reader.peek() == JsonToken.BEGIN_OBJECT ) {
+				items.add( parseItem( gson, reader ) );
+			}
+			else {
+				// Unexpected format: keep the item as is
+				JsonElement item = gson.fromJson( reader, JsonElement.class );
+				items.add( item );
+			}
+		}
+		reader.endArray();
+		return items;
+	}
+
+	private JsonObject parseItem(Gson gson, JsonReader reader) throws IOException {
+		JsonObject item = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String actionName = reader.nextName();
+			if ( reader.peek() == JsonToken.BEGIN_OBJECT ) {
+				item.add( actionName, parseActionResult( gson, reader ) );
+			}
+			else {
+				// Unexpected format: keep the action result as is
+				item.add( actionName, gson.fromJson( reader, JsonElement.class ) );
+			}
+		}
+		reader.endObject();
+		return item;
+	}
+
+	private JsonObject parseActionResult(Gson gson, JsonReader reader) throws IOException {
+		JsonObject actionResult = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( RETAINED_ITEM_PROPERTIES.contains( name ) ) {
+				actionResult.add( name, gson.fromJson( reader, JsonElement.class ) );
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return actionResult;
+	}
+
+}
@@ -7,10 +7,13 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
@@ -24,15 +27,38 @@ public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
 
+	private static final JsonAccessor<Long> TOOK = JsonAccessor.root().property( "took" ).asLong();
+
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
+	private long submitTimeNanos;
+
 	protected BulkWork(Builder builder) {
 		super( builder );
 	}
 
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		submitTimeNanos = System.nanoTime();
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected ElasticsearchResponseBodyParser createSuccessBodyParser() {
+		// Bulk responses can be large, but we only need the status and error of each item
+		return BulkResponseBodyParser.INSTANCE;
+	}
+
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		long roundTripMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - submitTimeNanos );
 		JsonObject parsedResponseBody = response.getBody();
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultImpl( resultItems );
+		long tookMillis = TOOK.get( parsedResponseBody ).orElse( roundTripMillis );
+		return new BulkResultImpl( resultItems, tookMillis, roundTripMillis );
 	}
 
 	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder>
@@ -84,10 +110,14 @@ public BulkWork build() {
 
 	private static class BulkResultImpl implements BulkResult {
 		private final JsonArray results;
+		private final long tookMillis;
+		private final long roundTripMillis;
 
-		public BulkResultImpl(JsonArray results) {
+		public BulkResultImpl(JsonArray results, long tookMillis, long roundTripMillis) {
 			super();
 			this.results = results;
+			this.tookMillis = tookMillis;
+			this.roundTripMillis = roundTripMillis;
 		}
 
 		@Override
@@ -95,6 +125,26 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
+			JsonObject actionResponse = bulkItemResponse.entrySet().iterator().next().getValue().getAsJsonObject();
+			return BULK_ITEM_STATUS_CODE.get( actionResponse )
+					.map( statusCode -> statusCode == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+					.orElse( false );
+		}
+
+		@Override
+		public long getTookMillis() {
+			return tookMillis;
+		}
+
+		@Override
+		public long getRoundTripMillis() {
+			return roundTripMillis;
+		}
 	}
 
 }
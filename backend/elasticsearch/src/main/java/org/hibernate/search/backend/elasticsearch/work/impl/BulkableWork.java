@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -19,6 +20,13 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @param gson The Gson instance used to serialize bulk requests.
+	 * @return The size of the metadata and body of this work in a bulk request, in bytes, before any compression.
+	 * Only computed once: subsequent calls return the same value.
+	 */
+	long getBulkableActionSize(Gson gson);
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
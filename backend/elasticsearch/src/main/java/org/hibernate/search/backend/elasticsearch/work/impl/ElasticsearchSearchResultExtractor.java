@@ -12,4 +12,13 @@
 
 	R extract(JsonObject responseBody);
 
+	/**
+	 * @return A parser extracting the result while the response body is being read,
+	 * to be used for a single response,
+	 * or {@code null} if the result can only be extracted from the whole JSON tree.
+	 */
+	default ElasticsearchSearchResultStreamingParser<R> createStreamingParser() {
+		return null;
+	}
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A parser extracting a search result while the response body is being read.
+ * <p>
+ * The client may ignore the parser and parse the whole JSON tree instead,
+ * in which case {@link #isUsed()} will return {@code false}
+ * and the result must be extracted with {@link ElasticsearchSearchResultExtractor#extract(JsonObject)}.
+ *
+ * @param <R> The type of extracted results.
+ */
+public interface ElasticsearchSearchResultStreamingParser<R> extends ElasticsearchResponseBodyParser {
+
+	/**
+	 * @return {@code true} if this parser was used to parse the response body, {@code false} otherwise.
+	 */
+	boolean isUsed();
+
+	/**
+	 * @param responseBody The response body, as returned by this parser.
+	 * @return The extracted result, including data extracted while parsing.
+	 */
+	R extract(JsonObject responseBody);
+
+}
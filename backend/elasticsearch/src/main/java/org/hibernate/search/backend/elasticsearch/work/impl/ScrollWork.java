@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
 
@@ -18,15 +19,28 @@
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 
+	private ElasticsearchSearchResultStreamingParser<R> streamingParser;
+
 	protected ScrollWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
 	}
 
+	@Override
+	protected ElasticsearchResponseBodyParser createSuccessBodyParser() {
+		streamingParser = resultExtractor.createStreamingParser();
+		return streamingParser;
+	}
+
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		if ( streamingParser != null && streamingParser.isUsed() ) {
+			return streamingParser.extract( body );
+		}
+		else {
+			return resultExtractor.extract( body );
+		}
 	}
 
 	public static class Builder<R>
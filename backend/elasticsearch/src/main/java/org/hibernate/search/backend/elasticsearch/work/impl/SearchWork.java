@@ -14,6 +14,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -30,6 +31,8 @@
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 
+	private ElasticsearchSearchResultStreamingParser<R> streamingParser;
+
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
@@ -45,10 +48,21 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 		return super.beforeExecute( executionContext, request );
 	}
 
+	@Override
+	protected ElasticsearchResponseBodyParser createSuccessBodyParser() {
+		streamingParser = resultExtractor.createStreamingParser();
+		return streamingParser;
+	}
+
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		if ( streamingParser != null && streamingParser.isUsed() ) {
+			return streamingParser.extract( body );
+		}
+		else {
+			return resultExtractor.extract( body );
+		}
 	}
 
 	public static class Builder<R>
@@ -59,22 +73,21 @@ public static <T> Builder<T> forElasticsearch62AndBelow(JsonObject payload, Elas
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// No "allow_partial_search_results": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// See https://github.com/elastic/elasticsearch/pull/27906
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
 		private final JsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
-		private final Boolean trackTotalHits;
+		private final boolean trackTotalHitsSupported;
 		private final boolean allowPartialSearchResultsSupported;
 		private final Set<URLEncodedString> indexes = new HashSet<>();
 
@@ -86,13 +99,15 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
 
-		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
+		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor,
+				boolean trackTotalHitsSupported,
 				boolean allowPartialSearchResultsSupported) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
 			this.resultExtractor = resultExtractor;
-			this.trackTotalHits = trackTotalHits;
+			this.trackTotalHitsSupported = trackTotalHitsSupported;
 			this.allowPartialSearchResultsSupported = allowPartialSearchResultsSupported;
 		}
 
@@ -130,6 +145,12 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -155,8 +176,15 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
-			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold != null && totalHitCountThreshold < Integer.MAX_VALUE ) {
+					// Elasticsearch will stop counting hits once the threshold is reached,
+					// and will report the total hit count as a lower bound ("relation": "gte").
+					builder.param( "track_total_hits", Math.max( 0L, totalHitCountThreshold ) );
+				}
+				else {
+					builder.param( "track_total_hits", true );
+				}
 			}
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
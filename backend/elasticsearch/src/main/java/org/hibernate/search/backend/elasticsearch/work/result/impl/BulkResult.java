@@ -14,4 +14,23 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a bulked work.
+	 * @return {@code true} if Elasticsearch rejected this bulked work because it was overloaded
+	 * (HTTP status {@code 429 Too Many Requests}), meaning the work can be retried later.
+	 */
+	boolean isRejected(int index);
+
+	/**
+	 * @return The time Elasticsearch took to execute the bulk request, in milliseconds,
+	 * as reported in the response.
+	 */
+	long getTookMillis();
+
+	/**
+	 * @return The time between the submission of the bulk request and the reception of the response,
+	 * in milliseconds.
+	 */
+	long getRoundTripMillis();
+
 }
@@ -0,0 +1,204 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+
+public class GzipGsonHttpEntityTest {
+
+	private static final Gson gson = new Gson();
+
+	@Test
+	public void small() throws IOException {
+		List<JsonObject> bodyParts = Arrays.asList( versionJson(), new JsonObject(), versionJson() );
+		try ( GzipGsonHttpEntity entity = new GzipGsonHttpEntity( gson, bodyParts ) ) {
+			assertThat( entity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+			byte[] compressed = produceContent( entity );
+			// Small content is compressed upfront, so the length is known
+			assertThat( entity.getContentLength() ).isEqualTo( compressed.length );
+			assertThat( decompress( compressed ) ).isEqualTo( uncompressedEncoding( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void large() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		try ( GzipGsonHttpEntity entity = new GzipGsonHttpEntity( gson, bodyParts ) ) {
+			// Large content is not entirely compressed upfront, so the length is not known
+			assertThat( entity.getContentLength() ).isEqualTo( -1L );
+			byte[] compressed = produceContent( entity );
+			assertThat( decompress( compressed ) ).isEqualTo( uncompressedEncoding( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void repeatable() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		try ( GzipGsonHttpEntity entity = new GzipGsonHttpEntity( gson, bodyParts ) ) {
+			byte[] firstRun = produceContent( entity );
+			byte[] secondRun = produceContent( entity );
+			entity.close();
+			byte[] thirdRun = produceContent( entity );
+			assertThat( secondRun ).isEqualTo( firstRun );
+			assertThat( thirdRun ).isEqualTo( firstRun );
+		}
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		try ( GzipGsonHttpEntity entity = new GzipGsonHttpEntity( gson, bodyParts ) ) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			entity.writeTo( outputStream );
+			byte[] compressed = outputStream.toByteArray();
+			assertThat( entity.getContentLength() ).isEqualTo( compressed.length );
+			assertThat( decompress( compressed ) ).isEqualTo( uncompressedEncoding( bodyParts ) );
+			assertThat( produceContent( entity ) ).isEqualTo( compressed );
+		}
+	}
+
+	private byte[] produceContent(GzipGsonHttpEntity entity) throws IOException {
+		HeapContentEncoder sink = new HeapContentEncoder();
+		int loopCounter = 0;
+		while ( !sink.isCompleted() ) {
+			entity.produceContent( sink, FailingIOControl.INSTANCE );
+			// Be aggressive on the need to manage small write windows the right way.
+			sink.setNextAcceptedBytesSize( ( loopCounter++ % 3 ) * 100 );
+		}
+		return sink.toByteArray();
+	}
+
+	private static byte[] decompress(byte[] compressed) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static byte[] uncompressedEncoding(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			gson.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static List<JsonObject> largeBulk() {
+		// Use random content so that the compressed content spans multiple buffer pages
+		Random random = new Random( 42L );
+		List<JsonObject> list = new ArrayList<>();
+		for ( int i = 0; i < 5000; i++ ) {
+			JsonObject object = versionJson();
+			object.addProperty( "random", Long.toHexString( random.nextLong() ) );
+			object.addProperty( "unicode", "𐤄" + i );
+			list.add( object );
+		}
+		return Collections.unmodifiableList( list );
+	}
+
+	private static JsonObject versionJson() {
+		JsonObject version = new JsonObject();
+		version.addProperty( "number", "7.6.1" );
+		JsonObject object = new JsonObject();
+		object.add( "version", version );
+		return object;
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private boolean contentComplete = false;
+		private int nextWriteAcceptLimit = 0;
+		private boolean lastWriteWasZeroLength = false;
+
+		@Override
+		public int write(ByteBuffer byteBuffer) {
+			assertThat( contentComplete ).isFalse();
+			lastWriteWasZeroLength = !byteBuffer.hasRemaining();
+			int toRead = Math.min( byteBuffer.remaining(), nextWriteAcceptLimit );
+			byte[] currentRead = new byte[toRead];
+			byteBuffer.get( currentRead );
+			content.write( currentRead, 0, toRead );
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( lastWriteWasZeroLength ).as( "Zero-length write before completion" ).isFalse();
+			assertThat( contentComplete ).as( "Completed multiple times" ).isFalse();
+			contentComplete = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return contentComplete;
+		}
+
+		void setNextAcceptedBytesSize(int size) {
+			this.nextWriteAcceptLimit = size;
+		}
+
+		byte[] toByteArray() {
+			return content.toByteArray();
+		}
+	}
+
+	private static final class FailingIOControl implements IOControl {
+		static final FailingIOControl INSTANCE = new FailingIOControl();
+
+		@Override
+		public void requestInput() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void suspendInput() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void requestOutput() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void suspendOutput() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void shutdown() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
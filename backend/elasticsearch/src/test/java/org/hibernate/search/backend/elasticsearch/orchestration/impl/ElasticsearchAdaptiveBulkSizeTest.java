@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+
+import org.junit.Test;
+
+public class ElasticsearchAdaptiveBulkSizeTest {
+
+	private static final int MAX_BULK_SIZE = 100;
+	private static final long TARGET_LATENCY = 1000L;
+
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize =
+			new ElasticsearchAdaptiveBulkSize( MAX_BULK_SIZE, TARGET_LATENCY );
+
+	@Test
+	public void initial() {
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( MAX_BULK_SIZE );
+	}
+
+	@Test
+	public void decrease() {
+		adaptiveBulkSize.onBulkExecuted( 100, result( 900L, 1200L ) );
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 50 );
+
+		adaptiveBulkSize.onBulkExecuted( 50, result( 1100L, 1200L ) );
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 25 );
+
+		for ( int i = 0; i < 10; i++ ) {
+			adaptiveBulkSize.onBulkExecuted( 1, result( 5000L, 5000L ) );
+		}
+		// Never go below 1
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void increase() {
+		adaptiveBulkSize.onBulkExecuted( 100, result( 2000L, 2000L ) );
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 50 );
+
+		// Fast, full bulk: increase
+		adaptiveBulkSize.onBulkExecuted( 50, result( 100L, 200L ) );
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 60 );
+
+		// Fast, but not full bulk: no change
+		adaptiveBulkSize.onBulkExecuted( 10, result( 100L, 200L ) );
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 60 );
+
+		// Full bulk, acceptable but not fast: no change
+		adaptiveBulkSize.onBulkExecuted( 60, result( 400L, 800L ) );
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( 60 );
+
+		for ( int i = 0; i < 10; i++ ) {
+			adaptiveBulkSize.onBulkExecuted( adaptiveBulkSize.getCurrentMaxBulkSize(), result( 100L, 200L ) );
+		}
+		// Never go above the maximum
+		assertThat( adaptiveBulkSize.getCurrentMaxBulkSize() ).isEqualTo( MAX_BULK_SIZE );
+	}
+
+	private static BulkResult result(long tookMillis, long roundTripMillis) {
+		return new BulkResult() {
+			@Override
+			public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public boolean isRejected(int index) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public long getTookMillis() {
+				return tookMillis;
+			}
+
+			@Override
+			public long getRoundTripMillis() {
+				return roundTripMillis;
+			}
+		};
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchBulkRetrierTest extends EasyMockSupport {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	private ScheduledExecutorService delayExecutor;
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	private final List<List<? extends BulkableWork<?>>> executedBulks = new ArrayList<>();
+	private final List<BulkResult> bulkResults = new ArrayList<>();
+
+	@Before
+	public void setup() {
+		delayExecutor = Executors.newSingleThreadScheduledExecutor();
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+	}
+
+	@After
+	public void cleanup() {
+		delayExecutor.shutdownNow();
+	}
+
+	@Test
+	public void noRejection() {
+		List<BulkableWork<Object>> works = bulkableWorks( 3 );
+		bulkResults.add( new StubBulkResult( "initial", false, false, false ) );
+
+		BulkResult result = execute( retrier( 3 ), works );
+
+		assertThat( executedBulks ).containsExactly( works );
+		assertThat( extractAll( result, works ) )
+				.containsExactly( "initial-0", "initial-1", "initial-2" );
+	}
+
+	@Test
+	public void partialRejection() {
+		List<BulkableWork<Object>> works = bulkableWorks( 4 );
+		bulkResults.add( new StubBulkResult( "initial", false, true, false, true ) );
+		bulkResults.add( new StubBulkResult( "retry1", false, true ) );
+		bulkResults.add( new StubBulkResult( "retry2", false ) );
+
+		BulkResult result = execute( retrier( 3 ), works );
+
+		assertThat( executedBulks ).containsExactly(
+				works,
+				Arrays.asList( works.get( 1 ), works.get( 3 ) ),
+				Arrays.asList( works.get( 3 ) )
+		);
+		assertThat( extractAll( result, works ) )
+				.containsExactly( "initial-0", "retry1-0", "initial-2", "retry2-0" );
+		for ( int i = 0; i < works.size(); i++ ) {
+			assertThat( result.isRejected( i ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void maxRetriesReached() {
+		List<BulkableWork<Object>> works = bulkableWorks( 2 );
+		bulkResults.add( new StubBulkResult( "initial", true, false ) );
+		bulkResults.add( new StubBulkResult( "retry1", true ) );
+		bulkResults.add( new StubBulkResult( "retry2", true ) );
+
+		BulkResult result = execute( retrier( 2 ), works );
+
+		assertThat( executedBulks ).hasSize( 3 );
+		assertThat( extractAll( result, works ) )
+				.containsExactly( "retry2-0", "initial-1" );
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		assertThat( result.isRejected( 1 ) ).isFalse();
+	}
+
+	@Test
+	public void retryFailure() {
+		List<BulkableWork<Object>> works = bulkableWorks( 2 );
+		bulkResults.add( new StubBulkResult( "initial", true, false ) );
+		// No result for the retry: it will fail
+
+		BulkResult result = execute( retrier( 3 ), works );
+
+		assertThat( executedBulks ).hasSize( 2 );
+		// Works are reported based on the last successful bulk
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		assertThat( extractAll( result, works ) )
+				.containsExactly( "initial-0", "initial-1" );
+	}
+
+	@Test
+	public void retriesDisabled() {
+		List<BulkableWork<Object>> works = bulkableWorks( 2 );
+		bulkResults.add( new StubBulkResult( "initial", true, false ) );
+
+		BulkResult result = execute( retrier( 0 ), works );
+
+		assertThat( executedBulks ).hasSize( 1 );
+		assertThat( result.isRejected( 0 ) ).isTrue();
+	}
+
+	@Test
+	public void backoff() {
+		ElasticsearchBulkRetrier retrier = new ElasticsearchBulkRetrier(
+				this::createBulkWork, delayExecutor, 10, 100L, 1000L
+		);
+		for ( int i = 0; i < 20; i++ ) {
+			assertThat( retrier.computeBackoffMillis( 1 ) ).isBetween( 50L, 100L );
+			assertThat( retrier.computeBackoffMillis( 2 ) ).isBetween( 100L, 200L );
+			assertThat( retrier.computeBackoffMillis( 3 ) ).isBetween( 200L, 400L );
+			assertThat( retrier.computeBackoffMillis( 5 ) ).isBetween( 500L, 1000L );
+			assertThat( retrier.computeBackoffMillis( 100 ) ).isBetween( 500L, 1000L );
+		}
+	}
+
+	private ElasticsearchBulkRetrier retrier(int maxRetries) {
+		return new ElasticsearchBulkRetrier( this::createBulkWork, delayExecutor, maxRetries, 1L, 10L );
+	}
+
+	private BulkResult execute(ElasticsearchBulkRetrier retrier, List<? extends BulkableWork<?>> works) {
+		replayAll();
+		// Pass a mutable copy that is cleared after the call, like the bulker does
+		List<BulkableWork<?>> bulkItems = new ArrayList<>( works );
+		NonBulkableWork<BulkResult> bulkWork = retrier.createBulkWork( bulkItems, DEFAULT_REFRESH );
+		bulkItems.clear();
+		try {
+			return bulkWork.execute( contextMock ).get( 10, TimeUnit.SECONDS );
+		}
+		catch (Exception e) {
+			throw new IllegalStateException( e );
+		}
+		finally {
+			verifyAll();
+		}
+	}
+
+	private NonBulkableWork<BulkResult> createBulkWork(List<? extends BulkableWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy) {
+		List<? extends BulkableWork<?>> worksCopy = new ArrayList<>( works );
+		return context -> {
+			int bulkIndex = executedBulks.size();
+			executedBulks.add( worksCopy );
+			CompletableFuture<BulkResult> future = new CompletableFuture<>();
+			if ( bulkIndex < bulkResults.size() ) {
+				future.complete( bulkResults.get( bulkIndex ) );
+			}
+			else {
+				future.completeExceptionally( new IllegalStateException( "Simulated failure" ) );
+			}
+			return future;
+		};
+	}
+
+	private List<BulkableWork<Object>> bulkableWorks(int count) {
+		List<BulkableWork<Object>> result = new ArrayList<>();
+		for ( int i = 0; i < count; i++ ) {
+			result.add( createMock( "bulkableWork" + i, BulkableWork.class ) );
+		}
+		return result;
+	}
+
+	private List<Object> extractAll(BulkResult result, List<BulkableWork<Object>> works) {
+		List<Object> extracted = new ArrayList<>();
+		for ( int i = 0; i < works.size(); i++ ) {
+			extracted.add( result.extract( contextMock, works.get( i ), i ) );
+		}
+		return extracted;
+	}
+
+	private static class StubBulkResult implements BulkResult {
+		private final String name;
+		private final boolean[] rejected;
+
+		StubBulkResult(String name, boolean... rejected) {
+			this.name = name;
+			this.rejected = rejected;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			return (T) ( name + "-" + index );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return rejected[index];
+		}
+
+		@Override
+		public long getTookMillis() {
+			return 0L;
+		}
+
+		@Override
+		public long getRoundTripMillis() {
+			return 0L;
+		}
+	}
+}
@@ -13,7 +13,9 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
@@ -293,6 +295,139 @@ public void newBulkOnDifferentRefresh() {
 		verifyAll();
 	}
 
+	@Test
+	public void newBulkOnTooManyBytes() {
+		BulkableWork<Void> work1 = bulkableWork( 1 );
+		BulkableWork<Void> work2 = bulkableWork( 2 );
+		BulkableWork<Void> work3 = bulkableWork( 3 );
+		BulkableWork<Void> work4 = bulkableWork( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = work( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = work( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = work( 7 );
+
+		Map<BulkableWork<?>, Long> workSizes = new HashMap<>();
+		workSizes.put( work1, 400L );
+		workSizes.put( work2, 500L );
+		// Adding this work to the first bulk would exceed the limit
+		workSizes.put( work3, 200L );
+		// This work is too large for a single bulk: it should be sent on its own
+		workSizes.put( work4, 2000L );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureCapture = newCapture();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureCapture = newCapture();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureCapture = newCapture();
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
+				sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE,
+				1000L, workSizes::get, null
+		);
+		verifyAll();
+
+		resetAll();
+		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.andReturn( new CompletableFuture<>() );
+		replayAll();
+		bulker.add( work1 );
+		bulker.add( work2 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isPending();
+
+		resetAll();
+		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).andReturn( bulkWork1 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		replayAll();
+		bulker.add( work3 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isSuccessful( bulkWork1 );
+		assertThat( bulkWork2FutureCapture.getValue() ).isPending();
+
+		resetAll();
+		expect( work4.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).andReturn( bulkWork2 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork3FutureCapture ) ) ).andReturn( bulkWork3ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).andReturn( bulkWork3 );
+		replayAll();
+		bulker.add( work4 );
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
+		assertThat( bulkWork3FutureCapture.getValue() ).isSuccessful( bulkWork3 );
+	}
+
+	@Test
+	public void adaptiveBulkSize() {
+		List<BulkableWork<Void>> works = new ArrayList<>();
+		for ( int i = 0 ; i < 3 ; ++i ) {
+			works.add( bulkableWork( i ) );
+		}
+		NonBulkableWork<BulkResult> bulkWork1 = work( 3 );
+		NonBulkableWork<BulkResult> bulkWork2 = work( 4 );
+		BulkResult bulkResultMock = createStrictMock( BulkResult.class );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureCapture = newCapture();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureCapture = newCapture();
+
+		ElasticsearchAdaptiveBulkSize adaptiveBulkSize = new ElasticsearchAdaptiveBulkSize( 4, 1000L );
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
+				sequenceBuilderMock, bulkWorkFactoryMock, 4,
+				ElasticsearchDefaultWorkBulker.NO_MAX_BULK_BYTES, null, adaptiveBulkSize
+		);
+		verifyAll();
+
+		resetAll();
+		expect( works.get( 0 ).getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, works.get( 0 ), 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( works.get( 0 ) ), DEFAULT_REFRESH ) ).andReturn( bulkWork1 );
+		replayAll();
+		bulker.add( works.get( 0 ) );
+		bulker.finalizeBulkWork();
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isSuccessful( bulkWork1 );
+
+		// The first bulk was too slow: the maximum bulk size should be halved
+		resetAll();
+		expect( bulkResultMock.getRoundTripMillis() ).andReturn( 2000L );
+		expect( bulkResultMock.getTookMillis() ).andReturn( 1500L );
+		replayAll();
+		bulkWork1ResultFuture.complete( bulkResultMock );
+		verifyAll();
+
+		resetAll();
+		expect( works.get( 1 ).getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, works.get( 1 ), 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( works.get( 2 ).getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, works.get( 2 ), 1 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( works.get( 1 ), works.get( 2 ) ), DEFAULT_REFRESH ) )
+				.andReturn( bulkWork2 );
+		replayAll();
+		bulker.add( works.get( 1 ) );
+		bulker.add( works.get( 2 ) );
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
+	}
+
 	private <T> NonBulkableWork<T> work(int index) {
 		return createStrictMock( "work" + index, NonBulkableWork.class );
 	}
@@ -0,0 +1,249 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationRequestContext;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionRequestContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultStreamingParser;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+/**
+ * Checks that extracting a search result while the response is being read
+ * gives the same result as extracting it from the whole JSON tree.
+ */
+public class Elasticsearch7SearchResultExtractorTest extends EasyMockSupport {
+
+	private static final Set<String> INDEX_NAMES = Collections.singleton( "myIndexName" );
+	private static final AggregationKey<JsonObject> AGGREGATION_KEY = AggregationKey.of( "myAggregation" );
+
+	private final Gson gson = new Gson();
+
+	private final BackendSessionContext sessionContext = createMock( BackendSessionContext.class );
+	private final LoadingContext<?, ?> loadingContext = createMock( LoadingContext.class );
+	private final ProjectionHitMapper<?, ?> projectionHitMapper = createMock( ProjectionHitMapper.class );
+	private final LoadingResult<?> loadingResult = createMock( LoadingResult.class );
+
+	@Test
+	public void fullResponse() throws IOException {
+		String responseBody = "{"
+				+ "'_scroll_id': 'someScrollId',"
+				+ "'took': 12,"
+				+ "'timed_out': false,"
+				+ "'_shards': {'total': 2, 'successful': 2, 'skipped': 0, 'failed': 0},"
+				+ "'hits': {"
+				+ "  'total': {'value': 42, 'relation': 'eq'},"
+				+ "  'max_score': 1.5,"
+				+ "  'hits': ["
+				+ "    {'_index': 'myIndexName', '_id': '1', '_score': 1.5, '_source': {'field': 'value1'}},"
+				+ "    {'_index': 'myIndexName', '_id': '2', '_score': 1.0, '_source': {'field': 'value2'},"
+				+ "      'fields': {'someArray': [1, 2, 3]}}"
+				+ "  ],"
+				+ "  'someUnknownHitsProperty': {'foo': ['bar']}"
+				+ "},"
+				+ "'aggregations': {"
+				+ "  'myAggregation': {'buckets': [{'key': 'value1', 'doc_count': 1}]}"
+				+ "},"
+				+ "'someUnknownProperty': [{'foo': 'bar'}, null, 4]"
+				+ "}";
+
+		ElasticsearchSearchResult<JsonObject> treeResult = extractFromTree( responseBody );
+		ElasticsearchSearchResult<JsonObject> streamedResult = extractWhileParsing( responseBody );
+
+		assertThat( treeResult.getHits() ).hasSize( 2 );
+		assertThat( streamedResult.getHits() ).isEqualTo( treeResult.getHits() );
+		assertThat( streamedResult.getTotal().isHitCountExact() ).isTrue();
+		assertThat( streamedResult.getTotal().getHitCount() ).isEqualTo( treeResult.getTotal().getHitCount() )
+				.isEqualTo( 42L );
+		assertThat( streamedResult.getAggregation( AGGREGATION_KEY ) )
+				.isEqualTo( treeResult.getAggregation( AGGREGATION_KEY ) )
+				.isEqualTo( json( "{'buckets': [{'key': 'value1', 'doc_count': 1}]}" ) );
+		assertThat( streamedResult.getTook() ).isEqualTo( treeResult.getTook() );
+		assertThat( streamedResult.isTimedOut() ).isEqualTo( treeResult.isTimedOut() ).isFalse();
+
+		// Everything but the hits themselves must be preserved, including unknown properties
+		assertThat( streamedResult.getResponseBody() ).isEqualTo( withoutHitsArray( treeResult.getResponseBody() ) );
+		assertThat( streamedResult.getResponseBody().get( "_scroll_id" ).getAsString() ).isEqualTo( "someScrollId" );
+		assertThat( streamedResult.getResponseBody().get( "_shards" ) ).isEqualTo( json( responseBody ).get( "_shards" ) );
+	}
+
+	@Test
+	public void lowerBoundTotal_hitsBeforeOtherProperties() throws IOException {
+		String responseBody = "{"
+				+ "'hits': {"
+				+ "  'hits': ["
+				+ "    {'_index': 'myIndexName', '_id': '1', '_score': 1.0}"
+				+ "  ],"
+				+ "  'total': {'value': 0, 'relation': 'gte'}"
+				+ "},"
+				+ "'aggregations': {'myAggregation': {'value': 3.0}},"
+				+ "'took': 3,"
+				+ "'timed_out': true"
+				+ "}";
+
+		ElasticsearchSearchResult<JsonObject> treeResult = extractFromTree( responseBody );
+		ElasticsearchSearchResult<JsonObject> streamedResult = extractWhileParsing( responseBody );
+
+		assertThat( treeResult.getHits() ).hasSize( 1 );
+		assertThat( streamedResult.getHits() ).isEqualTo( treeResult.getHits() );
+		assertThat( streamedResult.getTotal().isHitCountLowerBound() ).isTrue();
+		assertThat( streamedResult.getTotal().getHitCountLowerBound() )
+				.isEqualTo( treeResult.getTotal().getHitCountLowerBound() )
+				.isEqualTo( 0L );
+		assertThat( streamedResult.getAggregation( AGGREGATION_KEY ) )
+				.isEqualTo( treeResult.getAggregation( AGGREGATION_KEY ) );
+		assertThat( streamedResult.getTook() ).isEqualTo( treeResult.getTook() );
+		assertThat( streamedResult.isTimedOut() ).isEqualTo( treeResult.isTimedOut() ).isTrue();
+		assertThat( streamedResult.getResponseBody() ).isEqualTo( withoutHitsArray( treeResult.getResponseBody() ) );
+	}
+
+	@Test
+	public void noHits() throws IOException {
+		String responseBody = "{"
+				+ "'took': 1,"
+				+ "'timed_out': false,"
+				+ "'hits': {'total': {'value': 0, 'relation': 'eq'}, 'max_score': null, 'hits': []},"
+				+ "'aggregations': {'myAggregation': {'buckets': []}}"
+				+ "}";
+
+		ElasticsearchSearchResult<JsonObject> treeResult = extractFromTree( responseBody );
+		ElasticsearchSearchResult<JsonObject> streamedResult = extractWhileParsing( responseBody );
+
+		assertThat( treeResult.getHits() ).isEmpty();
+		assertThat( streamedResult.getHits() ).isEmpty();
+		assertThat( streamedResult.getTotal().getHitCount() ).isEqualTo( 0L );
+		assertThat( streamedResult.getAggregation( AGGREGATION_KEY ) )
+				.isEqualTo( treeResult.getAggregation( AGGREGATION_KEY ) );
+		assertThat( streamedResult.getResponseBody() ).isEqualTo( withoutHitsArray( treeResult.getResponseBody() ) );
+	}
+
+	private ElasticsearchSearchResult<JsonObject> extractFromTree(String responseBody) {
+		Elasticsearch7SearchResultExtractor<JsonObject> extractor = createExtractor();
+
+		resetAll();
+		expectLoading();
+		replayAll();
+		ElasticsearchSearchResult<JsonObject> result = extractor.extract( json( responseBody ) ).loadBlocking();
+		verifyAll();
+
+		return result;
+	}
+
+	private ElasticsearchSearchResult<JsonObject> extractWhileParsing(String responseBody) throws IOException {
+		Elasticsearch7SearchResultExtractor<JsonObject> extractor = createExtractor();
+
+		resetAll();
+		expectLoading();
+		replayAll();
+		ElasticsearchSearchResultStreamingParser<ElasticsearchLoadableSearchResult<JsonObject>> parser =
+				extractor.createStreamingParser();
+		JsonObject parsedBody;
+		try ( JsonReader reader = new JsonReader( new StringReader( responseBody.replace( '\'', '"' ) ) ) ) {
+			parsedBody = parser.parse( gson, reader );
+		}
+		assertThat( parser.isUsed() ).isTrue();
+		ElasticsearchSearchResult<JsonObject> result = parser.extract( parsedBody ).loadBlocking();
+		verifyAll();
+
+		return result;
+	}
+
+	private Elasticsearch7SearchResultExtractor<JsonObject> createExtractor() {
+		ElasticsearchSearchQueryRequestContext requestContext = new ElasticsearchSearchQueryRequestContext(
+				null, sessionContext, loadingContext, null, null
+		);
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = new LinkedHashMap<>();
+		aggregations.put( AGGREGATION_KEY, new JsonAggregation() );
+		return new Elasticsearch7SearchResultExtractor<>( requestContext, new JsonHitProjection(), aggregations, true );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Raw types are required to mock generic methods
+	private void expectLoading() {
+		EasyMock.expect( loadingContext.getProjectionHitMapper() )
+				.andStubReturn( (ProjectionHitMapper) projectionHitMapper );
+		EasyMock.expect( projectionHitMapper.loadBlocking() )
+				.andStubReturn( (LoadingResult) loadingResult );
+	}
+
+	private static JsonObject withoutHitsArray(JsonObject responseBody) {
+		JsonObject copy = responseBody.deepCopy();
+		copy.getAsJsonObject( "hits" ).remove( "hits" );
+		return copy;
+	}
+
+	private static JsonObject json(String string) {
+		return new JsonParser().parse( string.replace( '\'', '"' ) ).getAsJsonObject();
+	}
+
+	private static class JsonHitProjection implements ElasticsearchSearchProjection<JsonObject, JsonObject> {
+		@Override
+		public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
+			// No-op
+		}
+
+		@Override
+		public JsonObject extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
+				SearchProjectionExtractContext context) {
+			return hit;
+		}
+
+		@Override
+		public JsonObject transform(LoadingResult<?> loadingResult, JsonObject extractedData,
+				SearchProjectionTransformContext context) {
+			return extractedData;
+		}
+
+		@Override
+		public Set<String> getIndexNames() {
+			return INDEX_NAMES;
+		}
+	}
+
+	private static class JsonAggregation implements ElasticsearchSearchAggregation<JsonObject> {
+		@Override
+		public JsonObject request(AggregationRequestContext context) {
+			return new JsonObject();
+		}
+
+		@Override
+		public JsonObject extract(JsonObject aggregationResult, AggregationExtractContext context) {
+			return aggregationResult;
+		}
+
+		@Override
+		public Set<String> getIndexNames() {
+			return INDEX_NAMES;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+public class BulkResponseBodyParserTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void parse() throws IOException {
+		String responseBody = "{"
+				+ "'took': 30,"
+				+ "'errors': true,"
+				+ "'items': ["
+				+ "  {'index': {'_index': 'index1', '_type': '_doc', '_id': '1', '_version': 1, 'result': 'created',"
+				+ "    '_shards': {'total': 2, 'successful': 1, 'failed': 0}, '_seq_no': 0, '_primary_term': 1,"
+				+ "    'status': 201}},"
+				+ "  {'delete': {'_index': 'index1', '_type': '_doc', '_id': '2', '_version': 1, 'result': 'not_found',"
+				+ "    '_shards': {'total': 2, 'successful': 1, 'failed': 0}, '_seq_no': 1, '_primary_term': 2,"
+				+ "    'status': 404}},"
+				+ "  {'index': {'_index': 'index1', '_type': '_doc', '_id': '3', 'status': 429,"
+				+ "    'error': {'type': 'es_rejected_execution_exception', 'reason': 'rejected execution'}}}"
+				+ "]"
+				+ "}";
+
+		JsonObject parsed = parse( responseBody );
+
+		assertThat( parsed ).isEqualTo( json( "{"
+				+ "'took': 30,"
+				+ "'errors': true,"
+				+ "'items': ["
+				+ "  {'index': {'_index': 'index1', '_id': '1', 'result': 'created', 'status': 201}},"
+				+ "  {'delete': {'_index': 'index1', '_id': '2', 'result': 'not_found', 'status': 404}},"
+				+ "  {'index': {'_index': 'index1', '_id': '3', 'status': 429,"
+				+ "    'error': {'type': 'es_rejected_execution_exception', 'reason': 'rejected execution'}}}"
+				+ "]"
+				+ "}" ) );
+	}
+
+	@Test
+	public void parse_unexpectedFormat() throws IOException {
+		String responseBody = "{"
+				+ "'items': ["
+				+ "  'unexpected',"
+				+ "  {'index': 'unexpected'}"
+				+ "],"
+				+ "'someObject': {'someProperty': 'someValue'}"
+				+ "}";
+
+		JsonObject parsed = parse( responseBody );
+
+		assertThat( parsed ).isEqualTo( json( responseBody ) );
+	}
+
+	private JsonObject parse(String responseBody) throws IOException {
+		try ( JsonReader reader = new JsonReader( new StringReader( responseBody.replace( '\'', '"' ) ) ) ) {
+			return BulkResponseBodyParser.INSTANCE.parse( gson, reader );
+		}
+	}
+
+	private static JsonObject json(String string) {
+		return new JsonParser().parse( string.replace( '\'', '"' ) ).getAsJsonObject();
+	}
+
+}
@@ -55,7 +55,8 @@ public void execute_success() {
 		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
 		resetAll();
 		expect( contextMock.getClient() ).andStubReturn( clientMock );
-		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( futureFromClient );
+		expect( clientMock.submit( capture( requestCapture ), same( BulkResponseBodyParser.INSTANCE ) ) )
+				.andReturn( futureFromClient );
 		replayAll();
 		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
 		verifyAll();
@@ -112,7 +113,8 @@ public void execute_http500() {
 		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
 		resetAll();
 		expect( contextMock.getClient() ).andStubReturn( clientMock );
-		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( futureFromClient );
+		expect( clientMock.submit( capture( requestCapture ), same( BulkResponseBodyParser.INSTANCE ) ) )
+				.andReturn( futureFromClient );
 		replayAll();
 		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
 		verifyAll();
@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.backend.lucene;
 
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 
 public interface LuceneBackend extends Backend {
 
-	// No Lucene-specific backend APIs yet
+	/**
+	 * @return Statistics about the query cache of this backend.
+	 * The returned object is live: it always reflects the current state of the cache.
+	 */
+	LuceneQueryCacheStatistics getQueryCacheStatistics();
 
 }
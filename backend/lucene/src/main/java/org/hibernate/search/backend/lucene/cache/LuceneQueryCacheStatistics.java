@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+
+/**
+ * Statistics about the query cache of a Lucene backend,
+ * i.e. the cache of matching documents for filters,
+ * configured through {@link LuceneBackendSettings#QUERY_CACHE_MAX_QUERIES}
+ * and {@link LuceneBackendSettings#QUERY_CACHE_MAX_SIZE}.
+ * <p>
+ * Entries in the query cache are per filter <em>and per index segment</em>:
+ * a single filter applied to an index with ten segments may result in ten entries.
+ * <p>
+ * All counts are cumulative since the backend started,
+ * and are all zero if the query cache is disabled.
+ */
+public interface LuceneQueryCacheStatistics {
+
+	/**
+	 * @return The number of times a filter was applied to a segment
+	 * and its matching documents were found in the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of times a filter was applied to a segment
+	 * and its matching documents were not found in the cache.
+	 * This includes filters that the caching policy decided not to cache.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 */
+	long getCacheSize();
+
+	/**
+	 * @return The number of entries that were ever added to the cache.
+	 */
+	long getCacheCount();
+
+	/**
+	 * @return The number of entries that were evicted from the cache,
+	 * either because the cache was full or because the corresponding segment was closed.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return An estimate of the heap memory currently used by the cache, in bytes.
+	 */
+	long getRamBytesUsed();
+
+}
@@ -127,6 +127,67 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool assigned to the backend for the parallel execution of searches.
+	 * <p>
+	 * When set to a strictly positive value, each search will be split into slices of index segments,
+	 * and these slices will be searched in parallel in this thread pool.
+	 * When set to zero, each search is executed entirely in the thread that submitted the search.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The prefix for query cache settings.
+	 */
+	public static final String QUERY_CACHE_PREFIX = "query_cache.";
+
+	/**
+	 * The maximum number of distinct filters whose matching documents are cached in the query cache of the backend.
+	 * <p>
+	 * The query cache is shared by all indexes of the backend.
+	 * Hibernate Search's own metadata filters (main documents, routing keys, tenant ID),
+	 * as well as user predicates marked as cached through the Lucene extension of the predicate DSL,
+	 * are always cached when used as filters;
+	 * other filters are only cached if they are used frequently.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * Setting this to zero disables the query cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MAX_QUERIES}.
+	 */
+	public static final String QUERY_CACHE_MAX_QUERIES = QUERY_CACHE_PREFIX + QueryCacheRadicals.MAX_QUERIES;
+
+	/**
+	 * The maximum amount of heap memory the query cache of the backend may use, in megabytes.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * Setting this to zero disables the query cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MAX_SIZE}.
+	 */
+	public static final String QUERY_CACHE_MAX_SIZE = QUERY_CACHE_PREFIX + QueryCacheRadicals.MAX_SIZE;
+
+	/**
+	 * The minimum number of documents an index segment must contain for filters to be cached on that segment.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * Setting this to zero allows caching on segments of any size.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MIN_SEGMENT_SIZE}.
+	 */
+	public static final String QUERY_CACHE_MIN_SEGMENT_SIZE = QUERY_CACHE_PREFIX + QueryCacheRadicals.MIN_SEGMENT_SIZE;
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -141,6 +202,19 @@ private DirectoryRadicals() {
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
 	}
 
+	/**
+	 * Configuration property keys for the query cache, without the {@link #QUERY_CACHE_PREFIX prefix}.
+	 */
+	public static final class QueryCacheRadicals {
+
+		private QueryCacheRadicals() {
+		}
+
+		public static final String MAX_QUERIES = "max_queries";
+		public static final String MAX_SIZE = "max_size";
+		public static final String MIN_SEGMENT_SIZE = "min_segment_size";
+	}
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -159,5 +233,13 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+
+		public static final int QUERY_CACHE_MAX_QUERIES = 1000;
+
+		public static final int QUERY_CACHE_MAX_SIZE = 32;
+
+		public static final int QUERY_CACHE_MIN_SEGMENT_SIZE = 0;
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.cfg;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.writer.MergePolicyName;
 
 /**
  * Configuration properties for Lucene indexes.
@@ -36,7 +37,7 @@ private LuceneIndexSettings() {
 	/**
 	 * How much time may pass after an index change until the change is committed.
 	 * <p>
-	 * Only available for the "near-real-time" I/O strategy.
+	 * Only available for the "near-real-time" and "async-near-real-time" I/O strategies.
 	 * <p>
 	 * This effectively defines how long changes may be in an "unsafe" state,
 	 * where a crash or power loss will result in data loss. For example:
@@ -65,7 +66,10 @@ private LuceneIndexSettings() {
 	 * How much time may pass after an index write
 	 * until the index reader is considered stale and re-created.
 	 * <p>
-	 * Only available for the "near-real-time" I/O strategy.
+	 * Only available for the "near-real-time" and "async-near-real-time" I/O strategies.
+	 * <p>
+	 * With the "async-near-real-time" I/O strategy, this is the delay between two refreshes
+	 * performed by a background task, and it must be strictly positive.
 	 * <p>
 	 * This effectively defines how out-of-date search query results may be. For example:
 	 * <ul>
@@ -86,6 +90,186 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether global ordinals should be built eagerly every time an index reader is opened.
+	 * <p>
+	 * Global ordinals map the terms of each segment to a number that is unique across the whole index,
+	 * and are required by terms aggregations on String fields when the index has multiple segments.
+	 * They are cached for as long as the index reader stays open,
+	 * but building them can be expensive for fields with many distinct terms:
+	 * when this setting is {@code false}, the cost is paid by the first query executing such an aggregation
+	 * after each refresh; when it is {@code true}, the cost is paid by the refresh itself.
+	 * <p>
+	 * Only available for the "near-real-time" and "async-near-real-time" I/O strategies.
+	 * Only useful for indexes targeted on their own by search queries:
+	 * global ordinals for queries targeting multiple indexes (or shards) are always built lazily.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_READER_EAGER_GLOBAL_ORDINALS}.
+	 */
+	public static final String IO_READER_EAGER_GLOBAL_ORDINALS = IO_PREFIX + IORadicals.READER_EAGER_GLOBAL_ORDINALS;
+
+	/**
+	 * Whether the parent filters used when querying nested documents should be computed eagerly,
+	 * when index readers are refreshed.
+	 * <p>
+	 * Nested predicates, as well as sorts and aggregations on fields of nested documents,
+	 * need a bitset identifying the parent documents in each segment.
+	 * These bitsets are cached for as long as the segment stays open,
+	 * so only new segments require computing them:
+	 * when this setting is {@code false}, the cost is paid by the first query involving nested documents
+	 * after each refresh; when it is {@code true}, the cost is paid by the refresh itself.
+	 * <p>
+	 * Only available for the "near-real-time" and "async-near-real-time" I/O strategies.
+	 * Only the filter for top-level documents is computed eagerly:
+	 * filters for nested documents that themselves contain nested documents are always computed lazily.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_READER_EAGER_PARENT_FILTERS}.
+	 */
+	public static final String IO_READER_EAGER_PARENT_FILTERS = IO_PREFIX + IORadicals.READER_EAGER_PARENT_FILTERS;
+
+	/**
+	 * The amount of memory the index writer may use to buffer added documents and deletions
+	 * before flushing them to the directory, in megabytes.
+	 * <p>
+	 * Large values will lead to more efficient indexing, in particular when mass indexing,
+	 * but will also consume more heap memory.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 256},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene's default (16 megabytes) will be used.
+	 */
+	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_PREFIX + IORadicals.WRITER_RAM_BUFFER_SIZE;
+
+	/**
+	 * The maximum number of documents the index writer may buffer in memory
+	 * before flushing them to the directory.
+	 * <p>
+	 * A flush occurs when either this limit or the {@link #IO_WRITER_RAM_BUFFER_SIZE RAM buffer size}
+	 * is reached, whichever comes first.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene's default will be used: only the RAM buffer size triggers flushes.
+	 */
+	public static final String IO_WRITER_MAX_BUFFERED_DOCS = IO_PREFIX + IORadicals.WRITER_MAX_BUFFERED_DOCS;
+
+	/**
+	 * Whether the index writer should pack the files of newly flushed segments into a single compound file.
+	 * <p>
+	 * Compound files reduce the number of open file descriptors, at the cost of slightly slower indexing.
+	 * When set to {@code false}, merged segments will not use compound files either.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene's default (compound files for flushed segments
+	 * and for small merged segments) will be used.
+	 */
+	public static final String IO_WRITER_USE_COMPOUND_FILE = IO_PREFIX + IORadicals.WRITER_USE_COMPOUND_FILE;
+
+	/**
+	 * The sort applied to documents within each segment when the index writer flushes or merges segments.
+	 * <p>
+	 * Search queries sorted on a prefix of the index sort, with the same order
+	 * and with default missing value handling and sort mode, can then stop collecting hits early,
+	 * provided they do not need an exact total hit count (see {@code totalHitCountThreshold} in the search DSL)
+	 * and do not compute aggregations.
+	 * Documents have to be sorted when segments are flushed or merged, so indexing will be slightly slower.
+	 * <p>
+	 * Only sortable fields of the root document, with a string, numeric or temporal type, can be used.
+	 * The index sort of an existing index cannot be changed: the index must be dropped and re-created,
+	 * then documents must be re-indexed.
+	 * <p>
+	 * Expects a comma-separated String of absolute field paths, each optionally followed by {@code :asc} or {@code :desc},
+	 * such as {@code "publicationDate:desc,title"}.
+	 * <p>
+	 * Defaults to no value, meaning documents are not sorted within segments.
+	 */
+	public static final String IO_WRITER_INDEX_SORT = IO_PREFIX + IORadicals.WRITER_INDEX_SORT;
+
+	/**
+	 * The merge policy, deciding which segments get merged together, and when.
+	 * <p>
+	 * Expects a {@link MergePolicyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_MERGE_POLICY}.
+	 */
+	public static final String IO_MERGE_POLICY = IO_PREFIX + IORadicals.MERGE_POLICY;
+
+	/**
+	 * The merge factor, i.e. how many segments of similar size may exist before they are merged together.
+	 * <p>
+	 * With the "tiered" merge policy, this sets both the number of segments allowed per tier
+	 * and the number of segments merged at once.
+	 * With the "log-byte-size" merge policy, this sets the merge factor.
+	 * <p>
+	 * Lower values mean fewer segments, thus faster search queries, but more merging during indexing.
+	 * <p>
+	 * Expects an Integer value greater than or equal to 2, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene's default (10) will be used.
+	 */
+	public static final String IO_MERGE_FACTOR = IO_PREFIX + IORadicals.MERGE_FACTOR;
+
+	/**
+	 * The size of segments, in megabytes, below which segments are considered to have that size when merging,
+	 * so that very small segments are aggressively merged together.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene's default will be used.
+	 */
+	public static final String IO_MERGE_MIN_SIZE = IO_PREFIX + IORadicals.MERGE_MIN_SIZE;
+
+	/**
+	 * The maximum size of segments produced by merges, in megabytes.
+	 * <p>
+	 * Segments larger than this will only be merged when forced (e.g. by a purge or an explicit "merge segments").
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 5120},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene's default will be used.
+	 */
+	public static final String IO_MERGE_MAX_SIZE = IO_PREFIX + IORadicals.MERGE_MAX_SIZE;
+
+	/**
+	 * The maximum number of threads used to execute merges concurrently.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene will detect an appropriate value automatically.
+	 * If only {@link #IO_MERGE_SCHEDULER_MAX_MERGE_COUNT} is set, this defaults to the lower of
+	 * that setting and Lucene's automatically detected value.
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_THREAD_COUNT = IO_PREFIX + IORadicals.MERGE_SCHEDULER_MAX_THREAD_COUNT;
+
+	/**
+	 * The maximum number of merges that can be pending before indexing threads are stalled
+	 * until merges complete.
+	 * <p>
+	 * Must be greater than or equal to {@link #IO_MERGE_SCHEDULER_MAX_THREAD_COUNT the maximum thread count}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 7},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning Lucene will detect an appropriate value automatically.
+	 * If only {@link #IO_MERGE_SCHEDULER_MAX_THREAD_COUNT} is set, this defaults to that setting plus 5,
+	 * similarly to Lucene's automatic detection.
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_MERGE_COUNT = IO_PREFIX + IORadicals.MERGE_SCHEDULER_MAX_MERGE_COUNT;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -169,6 +353,18 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String READER_EAGER_GLOBAL_ORDINALS = "reader.eager_global_ordinals";
+		public static final String READER_EAGER_PARENT_FILTERS = "reader.eager_parent_filters";
+		public static final String WRITER_RAM_BUFFER_SIZE = "writer.ram_buffer_size";
+		public static final String WRITER_MAX_BUFFERED_DOCS = "writer.max_buffered_docs";
+		public static final String WRITER_USE_COMPOUND_FILE = "writer.use_compound_file";
+		public static final String WRITER_INDEX_SORT = "writer.index_sort";
+		public static final String MERGE_POLICY = "merge.policy";
+		public static final String MERGE_FACTOR = "merge.factor";
+		public static final String MERGE_MIN_SIZE = "merge.min_size";
+		public static final String MERGE_MAX_SIZE = "merge.max_size";
+		public static final String MERGE_SCHEDULER_MAX_THREAD_COUNT = "merge.scheduler.max_thread_count";
+		public static final String MERGE_SCHEDULER_MAX_MERGE_COUNT = "merge.scheduler.max_merge_count";
 	}
 
 	/**
@@ -208,6 +404,9 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_READER_EAGER_GLOBAL_ORDINALS = false;
+		public static final boolean IO_READER_EAGER_PARENT_FILTERS = false;
+		public static final MergePolicyName IO_MERGE_POLICY = MergePolicyName.TIERED;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 	}
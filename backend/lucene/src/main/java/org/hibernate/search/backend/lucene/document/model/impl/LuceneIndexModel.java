@@ -9,6 +9,7 @@
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.analysis.impl.ScopedAnalyzer;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -27,6 +28,8 @@ public class LuceneIndexModel implements AutoCloseable {
 
 	private final Map<String, LuceneIndexSchemaFieldNode<?>> fieldNodes;
 
+	private final boolean hasNestedDocuments;
+
 	private final ScopedAnalyzer scopedAnalyzer;
 
 	public LuceneIndexModel(String indexName,
@@ -40,6 +43,8 @@ public LuceneIndexModel(String indexName,
 		this.idDslConverter = idDslConverter;
 		this.fieldNodes = CollectionHelper.toImmutableMap( fieldNodesBuilder );
 		this.objectNodes = CollectionHelper.toImmutableMap( objectNodesBuilder );
+		this.hasNestedDocuments = objectNodes.values().stream()
+				.anyMatch( node -> ObjectFieldStorage.NESTED.equals( node.getStorage() ) );
 		this.scopedAnalyzer = scopedAnalyzer;
 	}
 
@@ -72,6 +77,10 @@ public LuceneIndexSchemaObjectNode getObjectNode(String absolutePath) {
 		return objectNodes.get( absolutePath );
 	}
 
+	public boolean hasNestedDocuments() {
+		return hasNestedDocuments;
+	}
+
 	public ScopedAnalyzer getScopedAnalyzer() {
 		return scopedAnalyzer;
 	}
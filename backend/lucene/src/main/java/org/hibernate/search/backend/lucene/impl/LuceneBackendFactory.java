@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.resources.impl.BackendQueryCache;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.impl.DefaultTimingSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactoryImpl;
@@ -71,6 +72,8 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 
 		BackendThreads backendThreads = new BackendThreads( "Backend " + name );
 
+		BackendQueryCache queryCache = BackendQueryCache.create( propertySource );
+
 		Version luceneVersion = getLuceneVersion( backendContext, propertySource );
 
 		BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
@@ -85,12 +88,14 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 		return new LuceneBackendImpl(
 				name,
 				backendThreads,
+				queryCache,
 				directoryProviderHolder,
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
 				multiTenancyStrategy,
 				new DefaultTimingSource(),
-				buildContext.getFailureHandler()
+				buildContext.getFailureHandler(),
+				buildContext.getMetricsRegistry()
 		);
 	}
 
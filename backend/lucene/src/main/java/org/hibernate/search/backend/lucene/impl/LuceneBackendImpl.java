@@ -12,11 +12,13 @@
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendQueryCache;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -28,6 +30,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -42,6 +45,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	private final String name;
 
 	private final BackendThreads threads;
+	private final BackendQueryCache queryCache;
 	private final BeanHolder<? extends DirectoryProvider> directoryProviderHolder;
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
@@ -55,20 +59,23 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	LuceneBackendImpl(String name,
 			BackendThreads threads,
+			BackendQueryCache queryCache,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
 		this.name = name;
 		this.threads = threads;
+		this.queryCache = queryCache;
 		this.directoryProviderHolder = directoryProviderHolder;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name, threads, queryCache
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
@@ -78,7 +85,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				eventContext, threads, directoryProviderHolder.get(),
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
-				failureHandler,
+				failureHandler, metricsRegistry,
 				readOrchestrator
 		);
 	}
@@ -112,6 +119,7 @@ public void stop() {
 			closer.push( BeanHolder::close, directoryProviderHolder );
 			closer.push( TimingSource::stop, timingSource );
 			closer.push( BackendThreads::onStop, threads );
+			closer.push( BackendQueryCache::clear, queryCache );
 		}
 	}
 
@@ -131,6 +139,11 @@ public Backend toAPI() {
 		return this;
 	}
 
+	@Override
+	public LuceneQueryCacheStatistics getQueryCacheStatistics() {
+		return queryCache;
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String indexName, String mappedTypeName,
@@ -49,12 +49,15 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
+
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
@@ -72,6 +75,7 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
 
 	public IndexManagerBackendContext(EventContext eventContext,
@@ -82,6 +86,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry,
 			LuceneSyncWorkOrchestrator readOrchestrator) {
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -91,6 +96,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 		this.readOrchestrator = readOrchestrator;
 	}
 
@@ -180,12 +186,18 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName) {
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( directoryProvider, threads, failureHandler );
+				return DebugIOStrategy.create( propertySource, directoryProvider, threads, failureHandler,
+						metricsRegistry );
+			case ASYNC_NEAR_REAL_TIME:
+				return NearRealTimeIOStrategy.createAsync(
+						propertySource, directoryProvider,
+						timingSource, threads, failureHandler, metricsRegistry
+				);
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create(
 						propertySource, directoryProvider,
-						timingSource, threads, failureHandler
+						timingSource, threads, failureHandler, metricsRegistry
 				);
 		}
 	}
@@ -194,7 +206,7 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
 
-	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId) {
+	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Sort indexSort, Optional<String> shardId) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
@@ -204,7 +216,7 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 		try {
 			indexAccessor = ioStrategy.createIndexAccessor(
 					indexName, shardEventContext,
-					shardId, model.getScopedAnalyzer()
+					shardId, model.getScopedAnalyzer(), indexSort
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
 			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
@@ -241,7 +253,8 @@ private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext
 						eventContext, indexAccessor
 				),
 				threads,
-				failureHandler
+				failureHandler,
+				metricsRegistry
 		);
 	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Resolves the index sort, i.e. the sort applied to documents within each segment,
+ * from the index configuration and the index model.
+ */
+final class IndexSortSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
+	private static final char ORDER_SEPARATOR = ':';
+
+	private IndexSortSettings() {
+	}
+
+	static Sort extractOrNull(ConfigurationPropertySource propertySource, LuceneIndexModel model) {
+		return INDEX_SORT.getAndMap( propertySource, elements -> toSort( model, elements ) )
+				.orElse( null );
+	}
+
+	private static Sort toSort(LuceneIndexModel model, List<String> elements) {
+		if ( model.hasNestedDocuments() ) {
+			throw log.cannotIndexSortWithNestedDocuments( model.getEventContext() );
+		}
+		SortField[] sortFields = new SortField[elements.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			sortFields[i] = toSortField( model, elements.get( i ).trim() );
+		}
+		return new Sort( sortFields );
+	}
+
+	private static SortField toSortField(LuceneIndexModel model, String element) {
+		String absoluteFieldPath = element;
+		SortOrder order = SortOrder.ASC;
+		int separatorIndex = element.lastIndexOf( ORDER_SEPARATOR );
+		if ( separatorIndex >= 0 ) {
+			absoluteFieldPath = element.substring( 0, separatorIndex ).trim();
+			String orderName = element.substring( separatorIndex + 1 ).trim();
+			if ( "asc".equalsIgnoreCase( orderName ) ) {
+				order = SortOrder.ASC;
+			}
+			else if ( "desc".equalsIgnoreCase( orderName ) ) {
+				order = SortOrder.DESC;
+			}
+			else {
+				throw log.invalidIndexSortElement( element );
+			}
+		}
+		if ( absoluteFieldPath.isEmpty() ) {
+			throw log.invalidIndexSortElement( element );
+		}
+
+		LuceneIndexSchemaFieldNode<?> fieldNode = model.getFieldNode( absoluteFieldPath );
+		if ( fieldNode == null ) {
+			throw log.unknownFieldForSearch( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+		return fieldNode.getSortBuilderFactory().createIndexSortField( absoluteFieldPath, order );
+	}
+}
@@ -38,6 +38,8 @@
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.Sort;
+
 public class LuceneIndexManagerImpl
 		implements IndexManagerImplementor, LuceneIndexManager,
 		LuceneScopeIndexManagerContext {
@@ -149,6 +151,11 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		shardHolder.openIndexReaders( routingKeys, readerCollector );
 	}
 
+	@Override
+	public Sort getIndexSortOrNull() {
+		return shardHolder.getIndexSortOrNull();
+	}
+
 	@Override
 	public IndexManager toAPI() {
 		return this;
@@ -31,12 +31,15 @@
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
+import org.apache.lucene.search.Sort;
+
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
+	private Sort indexSort;
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
@@ -56,11 +59,13 @@ void start(IndexManagerStartContext startContext) {
 
 		try {
 			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			this.indexSort = IndexSortSettings.extractOrNull( propertySource, model );
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl(
 							backendContext,
 							ioStrategy,
 							model,
+							indexSort,
 							startContext,
 							propertySource.withMask( "sharding" )
 					);
@@ -112,6 +117,10 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		}
 	}
 
+	Sort getIndexSortOrNull() {
+		return indexSort;
+	}
+
 	@Override
 	public String getIndexName() {
 		return model.getIndexName();
@@ -28,6 +28,8 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.Sort;
+
 class ShardingStrategyInitializationContextImpl implements ShardingStrategyInitializationContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -43,6 +45,7 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 	private final IndexManagerBackendContext backendContext;
 	private final IOStrategy ioStrategy;
 	private final LuceneIndexModel model;
+	private final Sort indexSort;
 	private final IndexManagerStartContext startContext;
 	private final ConfigurationPropertySource propertySource;
 
@@ -50,12 +53,13 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 
 	ShardingStrategyInitializationContextImpl(
 			IndexManagerBackendContext backendContext,
-			IOStrategy ioStrategy, LuceneIndexModel model,
+			IOStrategy ioStrategy, LuceneIndexModel model, Sort indexSort,
 			IndexManagerStartContext startContext,
 			ConfigurationPropertySource propertySource) {
 		this.backendContext = backendContext;
 		this.ioStrategy = ioStrategy;
 		this.model = model;
+		this.indexSort = indexSort;
 		this.startContext = startContext;
 		this.propertySource = propertySource;
 	}
@@ -114,7 +118,7 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
 		try {
 			Shard shard = backendContext.createShard(
-					ioStrategy, model, shardId
+					ioStrategy, model, indexSort, shardId
 			);
 			shardCollector.put( shardId.orElse( null ), shard );
 		}
@@ -654,4 +654,44 @@ SearchException uncommittedOperationsBecauseOfFailure(String causeMessage,
 			value = "Field '%1$s' is not contained in a nested object."
 					+ " Aggregation filters are only available if the field to aggregate on is contained in a nested object.")
 	SearchException cannotFilterAggregationOnRootDocumentField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 123,
+			value = "Index reader refresh for '%1$s'")
+	String indexReaderRefreshOperation(String indexDescription);
+
+	@Message(id = ID_OFFSET_2 + 124,
+			value = "Invalid refresh interval: '%1$s'. The I/O strategy '%2$s' refreshes index readers periodically"
+					+ " in a background task and requires a strictly positive refresh interval."
+					+ " Set the configuration property '%3$s' to a strictly positive value.")
+	SearchException invalidRefreshIntervalForAsyncIOStrategy(int refreshInterval, String ioStrategyName,
+			String refreshIntervalPropertyKey);
+
+	@Message(id = ID_OFFSET_2 + 125,
+			value = "Invalid merge policy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidMergePolicyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 126,
+			value = "Invalid value: '%1$s'. The value must be greater than or equal to %2$s.")
+	SearchException invalidIndexWriterSettingValue(int value, int minValue);
+
+	@Message(id = ID_OFFSET_2 + 127,
+			value = "Invalid merge scheduler settings: the maximum merge count (%1$s) must be greater than"
+					+ " or equal to the maximum thread count (%2$s)."
+					+ " Set the configuration properties '%3$s' and '%4$s' to consistent values.")
+	SearchException invalidMergeSchedulerSettings(int maxMergeCount, int maxThreadCount,
+			String maxMergeCountPropertyKey, String maxThreadCountPropertyKey);
+
+	@Message(id = ID_OFFSET_2 + 128,
+			value = "Cannot retrieve the next chunk of hits: the scroll was closed.")
+	SearchException cannotUseClosedScroll();
+
+	@Message(id = ID_OFFSET_2 + 129,
+			value = "Invalid index sort element: '%1$s'."
+					+ " Index sort elements must be an absolute field path, optionally followed by ':asc' or ':desc'.")
+	SearchException invalidIndexSortElement(String element);
+
+	@Message(id = ID_OFFSET_2 + 130,
+			value = "Index sorts are not supported for indexes containing nested objects:"
+					+ " sorting documents within segments would separate nested documents from their parent document.")
+	SearchException cannotIndexSortWithNestedDocuments(@Param EventContext context);
 }
@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
@@ -24,14 +25,25 @@ public final class CollectorExecutionContext {
 
 	private final int maxDocs;
 
+	private final TopDocsPositions topDocsPositions;
+
 	public CollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
 			IndexSearcher indexSearcher,
 			Query luceneQuery,
 			int maxDocs) {
+		this( metadataResolver, indexSearcher, luceneQuery, maxDocs, null );
+	}
+
+	public CollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
+			IndexSearcher indexSearcher,
+			Query luceneQuery,
+			int maxDocs,
+			TopDocsPositions topDocsPositions) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
 		this.maxDocs = maxDocs;
+		this.topDocsPositions = topDocsPositions;
 	}
 
 	public IndexReaderMetadataResolver getMetadataResolver() {
@@ -53,4 +65,15 @@ public NestedDocsProvider createNestedDocsProvider(Set<String> nestedDocumentPat
 	public int getMaxDocs() {
 		return maxDocs;
 	}
+
+	/**
+	 * @return The positions of top docs, to store collected data in arrays aligned with top docs.
+	 * @throws AssertionFailure If collectors are not applied to top docs.
+	 */
+	public TopDocsPositions getTopDocsPositions() {
+		if ( topDocsPositions == null ) {
+			throw new AssertionFailure( "Top docs positions are only available to collectors applied to top docs" );
+		}
+		return topDocsPositions;
+	}
 }
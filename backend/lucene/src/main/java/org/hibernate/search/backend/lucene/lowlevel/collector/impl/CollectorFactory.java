@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
+
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.search.Collector;
 
@@ -16,4 +19,25 @@
 
 	CollectorKey<C> getCollectorKey();
 
+	/**
+	 * Merges collectors that were each applied to a different slice of the index into a single collector.
+	 * <p>
+	 * This is only necessary for collectors that may be applied to all matching documents,
+	 * since that is the only phase where the search may be split into multiple slices executed in parallel.
+	 *
+	 * @param collectors The collectors to merge, in the order of the slices.
+	 * @return A collector holding the data of all the given collectors.
+	 * @throws IOException If merging fails.
+	 * @see org.apache.lucene.search.CollectorManager#reduce(Collection)
+	 */
+	default C reduce(Collection<C> collectors) throws IOException {
+		if ( collectors.size() == 1 ) {
+			return collectors.iterator().next();
+		}
+		throw new AssertionFailure(
+				"Collector factory " + this + " does not support reducing multiple collectors."
+						+ " There is probably a bug in Hibernate Search, please report it."
+		);
+	}
+
 }
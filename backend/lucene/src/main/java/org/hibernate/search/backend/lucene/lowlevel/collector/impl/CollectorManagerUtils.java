@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+public final class CollectorManagerUtils {
+
+	private CollectorManagerUtils() {
+	}
+
+	/**
+	 * Executes a search using a collector manager,
+	 * potentially in parallel if the index searcher was given an executor.
+	 * <p>
+	 * When executing slices in parallel, Lucene wraps exceptions thrown from the executor's threads
+	 * into a {@code RuntimeException(ExecutionException(originalException))}.
+	 * This method unwraps them so that callers can handle failures the same way
+	 * whether the search was executed in parallel or not.
+	 *
+	 * @param indexSearcher The index searcher.
+	 * @param query The query to execute.
+	 * @param collectorManager The collector manager.
+	 * @param <C> The type of collectors.
+	 * @param <T> The type of the reduced result.
+	 * @return The reduced result.
+	 * @throws IOException If the search fails.
+	 * @see IndexSearcher#search(Query, CollectorManager)
+	 */
+	public static <C extends Collector, T> T search(IndexSearcher indexSearcher, Query query,
+			CollectorManager<C, T> collectorManager) throws IOException {
+		try {
+			return indexSearcher.search( query, collectorManager );
+		}
+		catch (RuntimeException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof ExecutionException ) {
+				Throwable original = cause.getCause();
+				if ( original instanceof IOException ) {
+					throw (IOException) original;
+				}
+				else if ( original instanceof RuntimeException ) {
+					throw (RuntimeException) original;
+				}
+				else if ( original instanceof Error ) {
+					throw (Error) original;
+				}
+			}
+			throw e;
+		}
+	}
+
+}
@@ -7,13 +7,12 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValues;
@@ -38,24 +37,31 @@ public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
 	};
 
 	private final IndexReaderMetadataResolver metadataResolver;
+	private final TopDocsPositions topDocsPositions;
 
 	private String currentLeafMappedTypeName;
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, DocumentReference> collected = new HashMap<>();
+	private final DocumentReference[] collected;
 
 	private DocumentReferenceCollector(CollectorExecutionContext executionContext) {
 		this.metadataResolver = executionContext.getMetadataResolver();
+		this.topDocsPositions = executionContext.getTopDocsPositions();
+		this.collected = new DocumentReference[topDocsPositions.size()];
 	}
 
 	@Override
 	public void collect(int doc) throws IOException {
+		int position = topDocsPositions.positionOf( currentLeafDocBase + doc );
+		if ( position < 0 ) {
+			throw new AssertionFailure( "Collector.collect called for a document that is not part of the top docs" );
+		}
 		currentLeafIdDocValues.advance( doc );
-		collected.put( currentLeafDocBase + doc, new LuceneDocumentReference(
+		collected[position] = new LuceneDocumentReference(
 				currentLeafMappedTypeName,
 				currentLeafIdDocValues.binaryValue().utf8ToString()
-		) );
+		);
 	}
 
 	@Override
@@ -63,8 +69,12 @@ public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
 
-	public DocumentReference get(int doc) {
-		return collected.get( doc );
+	/**
+	 * @param hitIndex The position of a hit in the top docs.
+	 * @return The reference to the document of that hit.
+	 */
+	public DocumentReference get(int hitIndex) {
+		return collected[hitIndex];
 	}
 
 	@Override
@@ -6,13 +6,19 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.io.IOException;
+import java.util.Collection;
+
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
 
 public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
 	public static final CollectorKey<FacetsCollector> KEY = CollectorKey.create();
 
 	public static final CollectorFactory<FacetsCollector> INSTANCE = new FacetsCollectorFactory();
 
+	private final FacetsCollectorManager manager = new FacetsCollectorManager();
+
 	@Override
 	public FacetsCollector createCollector(CollectorExecutionContext context) {
 		return new FacetsCollector();
@@ -22,4 +28,10 @@ public FacetsCollector createCollector(CollectorExecutionContext context) {
 	public CollectorKey<FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
+
+	@Override
+	public FacetsCollector reduce(Collection<FacetsCollector> collectors) throws IOException {
+		// Concatenates the matching docs of each slice, which works since slices never share a segment.
+		return manager.reduce( collectors );
+	}
 }
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects the value of a single field from doc values,
+ * so that projections on that field do not need to load stored fields.
+ * <p>
+ * Doc values only preserve the order of values in single-valued documents:
+ * for documents with multiple values, the value is loaded from stored fields instead,
+ * so that the result is always the same as when using the {@link StoredFieldsCollector}.
+ * The same goes for segments where the field has no doc values at all,
+ * which may happen when targeting multiple indexes with compatible, but slightly different, mappings.
+ *
+ * @param <F> The type of collected values.
+ */
+public final class ProjectionDocValuesCollector<F> extends SimpleCollector {
+
+	private final String absoluteFieldPath;
+	private final ProjectionDocValuesSource<F> valuesSource;
+	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final Function<Document, F> storedFieldDecoder;
+	private final TopDocsPositions topDocsPositions;
+
+	private int currentLeafDocBase;
+	private LeafReader currentLeafReader;
+	private ProjectionDocValues<F> currentLeafValues;
+
+	private final Object[] collected;
+
+	public ProjectionDocValuesCollector(CollectorExecutionContext context,
+			String absoluteFieldPath, ProjectionDocValuesSource<F> valuesSource,
+			Function<Document, F> storedFieldDecoder) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.valuesSource = valuesSource;
+		this.storedFieldVisitor = new ReusableDocumentStoredFieldVisitor( Collections.singleton( absoluteFieldPath ) );
+		this.storedFieldDecoder = storedFieldDecoder;
+		this.topDocsPositions = context.getTopDocsPositions();
+		this.collected = new Object[topDocsPositions.size()];
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		int position = topDocsPositions.positionOf( currentLeafDocBase + doc );
+		if ( position < 0 ) {
+			throw new AssertionFailure( "Collector.collect called for a document that is not part of the top docs" );
+		}
+		F value;
+		if ( currentLeafValues != null && currentLeafValues.advanceExact( doc ) ) {
+			value = currentLeafValues.value();
+		}
+		else {
+			// Multi-valued document: doc values are sorted, so we need the stored fields to get the first value.
+			// Or no doc values in this segment: stored fields are our only option.
+			currentLeafReader.document( doc, storedFieldVisitor );
+			value = storedFieldDecoder.apply( storedFieldVisitor.getDocumentAndReset() );
+		}
+		collected[position] = value;
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @param hitIndex The position of a hit in the top docs.
+	 * @return The value of the field for that hit.
+	 */
+	@SuppressWarnings("unchecked") // Values are only ever set through collect(), which only sets values of type F
+	public F get(int hitIndex) {
+		return (F) collected[hitIndex];
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafDocBase = context.docBase;
+		this.currentLeafReader = context.reader();
+		FieldInfo fieldInfo = currentLeafReader.getFieldInfos().fieldInfo( absoluteFieldPath );
+		if ( fieldInfo != null && DocValuesType.NONE.equals( fieldInfo.getDocValuesType() ) ) {
+			this.currentLeafValues = null;
+		}
+		else {
+			this.currentLeafValues = valuesSource.getValues( context );
+		}
+	}
+}
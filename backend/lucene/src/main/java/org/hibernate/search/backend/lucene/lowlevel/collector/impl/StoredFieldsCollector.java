@@ -7,12 +7,12 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
+import org.hibernate.search.backend.lucene.search.extraction.impl.TopDocsStoredFieldVisitor;
 import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.document.Document;
@@ -25,7 +25,9 @@
 import org.apache.lucene.search.Weight;
 
 /**
- * Collects stored fields as Document instances.
+ * Collects stored fields of top docs, as Document instances and/or as raw values of single fields.
+ * <p>
+ * Collected data is stored in arrays aligned with top docs: see {@link TopDocsPositions}.
  * <p>
  * <strong>WARNING:</strong> this relies on reader.document() to load the value of stored field
  * for <strong>each single matching document</strong>,
@@ -35,8 +37,16 @@ public class StoredFieldsCollector extends SimpleCollector {
 
 	public static final CollectorKey<StoredFieldsCollector> KEY = CollectorKey.create();
 
+	/**
+	 * @param documentVisitor A visitor for fields that must be exposed as a {@link Document},
+	 * or {@code null} if no such field is required.
+	 * @param requiredStoredFieldValues The absolute path of fields whose raw value must be collected.
+	 * @param requiredNestedDocumentPathsForStoredFields The nested document paths to load stored fields from.
+	 * @return A collector factory.
+	 */
 	public static CollectorFactory<StoredFieldsCollector> factory(
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			ReusableDocumentStoredFieldVisitor documentVisitor,
+			Set<String> requiredStoredFieldValues,
 			Set<String> requiredNestedDocumentPathsForStoredFields) {
 		return new CollectorFactory<StoredFieldsCollector>() {
 			@Override
@@ -49,7 +59,11 @@ public StoredFieldsCollector createCollector(CollectorExecutionContext context)
 					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
 				}
 
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+				TopDocsPositions topDocsPositions = context.getTopDocsPositions();
+				TopDocsStoredFieldVisitor storedFieldVisitor = new TopDocsStoredFieldVisitor( documentVisitor,
+						requiredStoredFieldValues, topDocsPositions.size() );
+				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher(),
+						topDocsPositions, documentVisitor != null );
 			}
 
 			@Override
@@ -61,33 +75,44 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 
 	private final NestedDocsProvider nestedDocsProvider;
 	private final Weight childrenWeight;
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final TopDocsStoredFieldVisitor storedFieldVisitor;
+	private final TopDocsPositions topDocsPositions;
 
 	private int currentLeafDocBase;
 	private int currentLeafLastSeenParentDoc;
 	private DocIdSetIterator currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
-	private final Map<Integer, Document> documents = new HashMap<>();
+	// Null if no field must be exposed as a Document
+	private final Document[] documents;
 
-	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			IndexSearcher indexSearcher) throws IOException {
+	private StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
+			TopDocsStoredFieldVisitor storedFieldVisitor,
+			IndexSearcher indexSearcher, TopDocsPositions topDocsPositions,
+			boolean collectDocuments) throws IOException {
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.topDocsPositions = topDocsPositions;
+		this.documents = collectDocuments ? new Document[topDocsPositions.size()] : null;
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder( "ChildrenCollector{" );
-		sb.append( "documents=" ).append( documents );
+		sb.append( "documents=" ).append( Arrays.toString( documents ) );
 		sb.append( '}' );
 		return sb.toString();
 	}
 
 	@Override
 	public void collect(int parentDoc) throws IOException {
+		int position = topDocsPositions.positionOf( currentLeafDocBase + parentDoc );
+		if ( position < 0 ) {
+			throw new AssertionFailure( "Collector.collect called for a document that is not part of the top docs" );
+		}
+		storedFieldVisitor.startHit( position );
+
 		// add nested documents contribution
 		if ( currentLeafChildDocs != null ) {
 			collectChildDocs( parentDoc );
@@ -96,7 +121,9 @@ public void collect(int parentDoc) throws IOException {
 		// add root document contribution
 		currentLeafReader.document( parentDoc, storedFieldVisitor );
 
-		documents.put( currentLeafDocBase + parentDoc, storedFieldVisitor.getDocumentAndReset() );
+		if ( documents != null ) {
+			documents[position] = storedFieldVisitor.getDocumentAndReset();
+		}
 	}
 
 	private void collectChildDocs(int parentDoc) throws IOException {
@@ -128,8 +155,23 @@ public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
 
-	public Document getDocument(int docId) {
-		return documents.get( docId );
+	/**
+	 * @param hitIndex The position of a hit in the top docs.
+	 * @return The stored fields of that hit as a Document,
+	 * or {@code null} if no field was required to be exposed as a Document.
+	 */
+	public Document getDocument(int hitIndex) {
+		return documents == null ? null : documents[hitIndex];
+	}
+
+	/**
+	 * @param hitIndex The position of a hit in the top docs.
+	 * @param absoluteFieldPath The absolute path of a field whose raw value was required.
+	 * @return The first raw value of that field for that hit, or {@code null} if there is none.
+	 * @see org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec#decodeStoredValue(Object)
+	 */
+	public Object getStoredValue(int hitIndex, String absoluteFieldPath) {
+		return storedFieldVisitor.getSlotValue( hitIndex, absoluteFieldPath );
 	}
 
 	@Override
@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Maps document IDs to their position in an array of top docs,
+ * so that collectors applied to top docs can store their data in arrays aligned with that array,
+ * instead of maps keyed by (boxed) document IDs.
+ * <p>
+ * Collectors see documents in increasing doc ID order, while top docs are usually sorted by score or sort fields:
+ * lookups are optimized for increasing doc IDs, but work in any order.
+ * <p>
+ * <strong>WARNING:</strong> not thread-safe.
+ */
+public final class TopDocsPositions {
+
+	/**
+	 * @param scoreDocs The top docs, with document IDs relative to the top-level reader.
+	 * @return The positions of the given top docs.
+	 * @throws AssertionFailure If the same document ID appears multiple times in the top docs.
+	 */
+	public static TopDocsPositions of(ScoreDoc[] scoreDocs) {
+		int size = scoreDocs.length;
+		long[] docIdAndPosition = new long[size];
+		for ( int i = 0; i < size; i++ ) {
+			// Doc IDs are positive: sorting on the high bits sorts on doc IDs.
+			docIdAndPosition[i] = ( (long) scoreDocs[i].doc << 32 ) | i;
+		}
+		Arrays.sort( docIdAndPosition );
+
+		int[] sortedDocIds = new int[size];
+		int[] positions = new int[size];
+		for ( int i = 0; i < size; i++ ) {
+			sortedDocIds[i] = (int) ( docIdAndPosition[i] >>> 32 );
+			positions[i] = (int) docIdAndPosition[i];
+			if ( i > 0 && sortedDocIds[i] == sortedDocIds[i - 1] ) {
+				// Only one of the positions would ever be populated by collectors.
+				throw new AssertionFailure( "Document " + sortedDocIds[i] + " appears multiple times in the top docs" );
+			}
+		}
+		return new TopDocsPositions( sortedDocIds, positions );
+	}
+
+	private final int[] sortedDocIds;
+	private final int[] positions;
+
+	private int cursor = 0;
+
+	private TopDocsPositions(int[] sortedDocIds, int[] positions) {
+		this.sortedDocIds = sortedDocIds;
+		this.positions = positions;
+	}
+
+	/**
+	 * @return The number of top docs, i.e. the size of arrays aligned with top docs.
+	 */
+	public int size() {
+		return sortedDocIds.length;
+	}
+
+	/**
+	 * @param docId A document ID, relative to the top-level reader.
+	 * @return The position of the given document in the array of top docs, or {@code -1} if it is not a top doc.
+	 */
+	public int positionOf(int docId) {
+		int index;
+		if ( cursor < sortedDocIds.length && sortedDocIds[cursor] == docId ) {
+			// Same document as the last call, e.g. multiple collectors for the same document.
+			index = cursor;
+		}
+		else if ( cursor + 1 < sortedDocIds.length && sortedDocIds[cursor + 1] == docId ) {
+			// Next document: the most common case.
+			index = cursor + 1;
+		}
+		else {
+			index = Arrays.binarySearch( sortedDocIds, docId );
+			if ( index < 0 ) {
+				return -1;
+			}
+		}
+		cursor = index;
+		return positions[index];
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.common.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * The metrics of a single Lucene index (or index shard).
+ * <p>
+ * Metrics are retrieved from the registry once, when the index is created,
+ * so that updating them on the hot path does not involve any lookup.
+ */
+public final class IndexMetrics {
+
+	public static final String COMMIT_METRIC = "hibernate.search.lucene.index.commit";
+	public static final String REFRESH_METRIC = "hibernate.search.lucene.index.refresh";
+	public static final String MERGE_METRIC = "hibernate.search.lucene.index.merge";
+	public static final String MERGE_DOCUMENTS_METRIC = "hibernate.search.lucene.index.merge.documents";
+
+	private static final String INDEX_TAG = "index";
+	private static final String SHARD_TAG = "shard";
+
+	public static IndexMetrics create(MetricsRegistry registry, String indexName, Optional<String> shardId) {
+		String[] tags = shardId.isPresent()
+				? new String[] { INDEX_TAG, indexName, SHARD_TAG, shardId.get() }
+				: new String[] { INDEX_TAG, indexName };
+		return new IndexMetrics(
+				registry.timer( COMMIT_METRIC, tags ),
+				registry.timer( REFRESH_METRIC, tags ),
+				registry.timer( MERGE_METRIC, tags ),
+				registry.histogram( MERGE_DOCUMENTS_METRIC, tags )
+		);
+	}
+
+	private final Timer commitTimer;
+	private final Timer refreshTimer;
+	private final Timer mergeTimer;
+	private final Histogram mergeDocumentsHistogram;
+
+	private IndexMetrics(Timer commitTimer, Timer refreshTimer, Timer mergeTimer,
+			Histogram mergeDocumentsHistogram) {
+		this.commitTimer = commitTimer;
+		this.refreshTimer = refreshTimer;
+		this.mergeTimer = mergeTimer;
+		this.mergeDocumentsHistogram = mergeDocumentsHistogram;
+	}
+
+	/**
+	 * @return The timer recording the duration of index commits.
+	 */
+	public Timer getCommitTimer() {
+		return commitTimer;
+	}
+
+	/**
+	 * @return The timer recording the duration of index reader refreshes, including warming.
+	 */
+	public Timer getRefreshTimer() {
+		return refreshTimer;
+	}
+
+	/**
+	 * @return The timer recording the duration of segment merges.
+	 */
+	public Timer getMergeTimer() {
+		return mergeTimer;
+	}
+
+	/**
+	 * @return The histogram recording the number of documents in merged segments.
+	 */
+	public Histogram getMergeDocumentsHistogram() {
+		return mergeDocumentsHistogram;
+	}
+}
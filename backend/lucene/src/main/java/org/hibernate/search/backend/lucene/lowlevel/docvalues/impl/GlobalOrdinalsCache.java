@@ -0,0 +1,219 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A cache of global ordinal maps for {@link SortedSetDocValues},
+ * so that the (expensive) mapping from per-segment ordinals to global ordinals
+ * is only built once per top-level reader and field,
+ * instead of once per query as with {@link MultiDocValues#getSortedSetValues(IndexReader, String)}.
+ * <p>
+ * Top-level readers passed to queries are usually short-lived {@code MultiReader}s
+ * wrapping one long-lived {@link DirectoryReader} per targeted index (or shard),
+ * so cache entries are keyed by the {@link IndexReader.CacheHelper cache keys} of these directory readers.
+ * Entries are evicted as soon as one of these directory readers is closed,
+ * similarly to what Lucene does in {@code DefaultSortedSetDocValuesReaderState}.
+ * <p>
+ * Readers whose structure does not allow caching (e.g. readers without a cache helper)
+ * are handled by building the ordinal map on each call.
+ */
+public final class GlobalOrdinalsCache {
+
+	private static final Map<CacheEntryKey, OrdinalMap> ordinalMaps = new ConcurrentHashMap<>();
+	private static final Map<IndexReader.CacheKey, Boolean> listenedReaderKeys = new ConcurrentHashMap<>();
+
+	private GlobalOrdinalsCache() {
+	}
+
+	/**
+	 * @param reader A top-level reader.
+	 * @param field The name of a field with {@link DocValuesType#SORTED_SET sorted set} doc values.
+	 * @return The doc values for this field over the whole reader, exposing global ordinals,
+	 * or {@code null} if no segment has doc values for this field.
+	 * @throws IOException If an I/O failure occurs.
+	 * @see MultiDocValues#getSortedSetValues(IndexReader, String)
+	 */
+	public static SortedSetDocValues getSortedSetValues(IndexReader reader, String field) throws IOException {
+		final List<LeafReaderContext> leaves = reader.leaves();
+		final int size = leaves.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		else if ( size == 1 ) {
+			// Segment ordinals are global ordinals: no mapping needed.
+			return leaves.get( 0 ).reader().getSortedSetDocValues( field );
+		}
+
+		boolean anyReal = false;
+		final SortedSetDocValues[] values = new SortedSetDocValues[size];
+		final int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues segmentValues = context.reader().getSortedSetDocValues( field );
+			if ( segmentValues == null ) {
+				segmentValues = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = segmentValues;
+			starts[i] = context.docBase;
+			totalCost += segmentValues.cost();
+		}
+		starts[size] = reader.maxDoc();
+
+		if ( !anyReal ) {
+			return null;
+		}
+
+		OrdinalMap mapping = getOrBuildOrdinalMap( reader, field, values );
+		return new MultiDocValues.MultiSortedSetDocValues( values, starts, mapping, totalCost );
+	}
+
+	/**
+	 * Builds and caches the ordinal maps of all fields with sorted set doc values in the given reader,
+	 * so that the first queries on this reader do not have to.
+	 *
+	 * @param reader A freshly opened directory reader.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static void warm(DirectoryReader reader) throws IOException {
+		if ( reader.leaves().size() <= 1 ) {
+			// No ordinal map needed.
+			return;
+		}
+		for ( String field : collectSortedSetFields( reader ) ) {
+			getSortedSetValues( reader, field );
+		}
+	}
+
+	private static OrdinalMap getOrBuildOrdinalMap(IndexReader reader, String field,
+			SortedSetDocValues[] values) throws IOException {
+		List<IndexReader.CacheKey> readerKeys = getReaderKeysOrNull( reader );
+		if ( readerKeys == null ) {
+			// Cannot cache
+			return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		}
+
+		CacheEntryKey entryKey = new CacheEntryKey( readerKeys, field );
+		OrdinalMap mapping = ordinalMaps.get( entryKey );
+		if ( mapping == null ) {
+			// Concurrent calls may build the same map twice, but that's harmless:
+			// the alternative would be to block queries on unrelated fields while building.
+			mapping = OrdinalMap.build( readerKeys.get( 0 ), values, PackedInts.DEFAULT );
+			OrdinalMap previous = ordinalMaps.putIfAbsent( entryKey, mapping );
+			if ( previous != null ) {
+				mapping = previous;
+			}
+		}
+		return mapping;
+	}
+
+	/*
+	 * Directory readers are point-in-time views of an index:
+	 * their cache key identifies a set of segments that will never change.
+	 * Other readers may not have that property, so we only cache ordinal maps
+	 * for directory readers, or for composite readers made of directory readers.
+	 */
+	private static List<IndexReader.CacheKey> getReaderKeysOrNull(IndexReader reader) {
+		List<IndexReader> ownerReaders;
+		if ( reader instanceof DirectoryReader ) {
+			ownerReaders = Collections.singletonList( reader );
+		}
+		else {
+			List<IndexReaderContext> children = reader.getContext().children();
+			if ( children == null ) {
+				return null;
+			}
+			ownerReaders = new ArrayList<>( children.size() );
+			for ( IndexReaderContext child : children ) {
+				ownerReaders.add( child.reader() );
+			}
+		}
+
+		List<IndexReader.CacheKey> keys = new ArrayList<>( ownerReaders.size() );
+		for ( IndexReader ownerReader : ownerReaders ) {
+			IndexReader.CacheHelper cacheHelper = ownerReader.getReaderCacheHelper();
+			if ( !( ownerReader instanceof DirectoryReader ) || cacheHelper == null ) {
+				return null;
+			}
+			IndexReader.CacheKey key = cacheHelper.getKey();
+			if ( listenedReaderKeys.putIfAbsent( key, Boolean.TRUE ) == null ) {
+				cacheHelper.addClosedListener( GlobalOrdinalsCache::evict );
+			}
+			keys.add( key );
+		}
+		return keys;
+	}
+
+	private static void evict(IndexReader.CacheKey closedReaderKey) {
+		listenedReaderKeys.remove( closedReaderKey );
+		ordinalMaps.keySet().removeIf( entryKey -> entryKey.readerKeys.contains( closedReaderKey ) );
+	}
+
+	private static Set<String> collectSortedSetFields(IndexReader reader) {
+		Set<String> fields = new LinkedHashSet<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			for ( FieldInfo fieldInfo : leaf.reader().getFieldInfos() ) {
+				if ( DocValuesType.SORTED_SET.equals( fieldInfo.getDocValuesType() ) ) {
+					fields.add( fieldInfo.name );
+				}
+			}
+		}
+		return fields;
+	}
+
+	private static final class CacheEntryKey {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final String field;
+
+		private CacheEntryKey(List<IndexReader.CacheKey> readerKeys, String field) {
+			this.readerKeys = readerKeys;
+			this.field = field;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			CacheEntryKey other = (CacheEntryKey) obj;
+			return readerKeys.equals( other.readerKeys ) && field.equals( other.field );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( readerKeys, field );
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+
+/**
+ * Per-document values of a field, decoded from doc values for projections.
+ * <p>
+ * Doc values do not preserve the order of values,
+ * so this only returns values for documents with at most one value:
+ * for other documents, the value must be retrieved from stored fields.
+ *
+ * @param <F> The type of decoded values.
+ */
+public abstract class ProjectionDocValues<F> {
+
+	/**
+	 * Advance this instance to the given document id.
+	 *
+	 * @return {@code true} if this document has at most one value, which can be retrieved with {@link #value()},
+	 * {@code false} if this document has multiple values.
+	 */
+	public abstract boolean advanceExact(int doc) throws IOException;
+
+	/**
+	 * @return The value for the current document, or {@code null} if it doesn't have a value.
+	 * Can only be called after {@link #advanceExact(int)} returned {@code true}.
+	 */
+	public abstract F value() throws IOException;
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A source of {@link ProjectionDocValues}.
+ *
+ * @param <F> The type of decoded values.
+ */
+public abstract class ProjectionDocValuesSource<F> {
+
+	/**
+	 * @param field The name of a field with {@link SortedNumericDocValues}.
+	 * @param decoder A function decoding raw doc values to the type of the field.
+	 * @param <F> The type of decoded values.
+	 * @return A source of values for the given field.
+	 */
+	public static <F> ProjectionDocValuesSource<F> fromSortedNumericField(String field, LongFunction<F> decoder) {
+		return new ProjectionDocValuesSource<F>() {
+			@Override
+			public ProjectionDocValues<F> getValues(LeafReaderContext ctx) throws IOException {
+				return new SortedNumericProjectionDocValues<>(
+						DocValues.getSortedNumeric( ctx.reader(), field ), decoder
+				);
+			}
+		};
+	}
+
+	/**
+	 * @param field The name of a field with {@link SortedSetDocValues}.
+	 * @param decoder A function decoding raw doc values to the type of the field.
+	 * @param <F> The type of decoded values.
+	 * @return A source of values for the given field.
+	 */
+	public static <F> ProjectionDocValuesSource<F> fromSortedSetField(String field, Function<BytesRef, F> decoder) {
+		return new ProjectionDocValuesSource<F>() {
+			@Override
+			public ProjectionDocValues<F> getValues(LeafReaderContext ctx) throws IOException {
+				return new SortedSetProjectionDocValues<>(
+						DocValues.getSortedSet( ctx.reader(), field ), decoder
+				);
+			}
+		};
+	}
+
+	/**
+	 * @return a {@link ProjectionDocValues} instance for the passed-in LeafReaderContext.
+	 */
+	public abstract ProjectionDocValues<F> getValues(LeafReaderContext ctx) throws IOException;
+
+	private static final class SortedNumericProjectionDocValues<F> extends ProjectionDocValues<F> {
+		private final SortedNumericDocValues values;
+		private final LongFunction<F> decoder;
+		private boolean hasValue;
+
+		SortedNumericProjectionDocValues(SortedNumericDocValues values, LongFunction<F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			hasValue = values.advanceExact( doc );
+			return !hasValue || values.docValueCount() == 1;
+		}
+
+		@Override
+		public F value() throws IOException {
+			return hasValue ? decoder.apply( values.nextValue() ) : null;
+		}
+	}
+
+	private static final class SortedSetProjectionDocValues<F> extends ProjectionDocValues<F> {
+		private final SortedSetDocValues values;
+		private final Function<BytesRef, F> decoder;
+		private long ord;
+
+		SortedSetProjectionDocValues(SortedSetDocValues values, Function<BytesRef, F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			if ( !values.advanceExact( doc ) ) {
+				ord = SortedSetDocValues.NO_MORE_ORDS;
+				return true;
+			}
+			ord = values.nextOrd();
+			return values.nextOrd() == SortedSetDocValues.NO_MORE_ORDS;
+		}
+
+		@Override
+		public F value() throws IOException {
+			return ord == SortedSetDocValues.NO_MORE_ORDS ? null : decoder.apply( values.lookupOrd( ord ) );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 
@@ -22,7 +23,6 @@
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.facet.TopOrdAndIntQueue;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.ReaderUtil;
@@ -45,7 +45,7 @@ public class TextMultiValueFacetCounts extends Facets {
 	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource, FacetsCollector hits)
 			throws IOException {
 		this.field = field;
-		dv = MultiDocValues.getSortedSetValues( reader, field );
+		dv = GlobalOrdinalsCache.getSortedSetValues( reader, field );
 		if ( dv != null && dv.getValueCount() > Integer.MAX_VALUE ) {
 			// We may want to remove this limitation?
 			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
@@ -20,6 +20,15 @@ public enum IOStrategyName {
 	 * and the index writer is
 	 */
 	NEAR_REAL_TIME( "near-real-time" ),
+	/**
+	 * A variant of the {@link #NEAR_REAL_TIME near-real-time} strategy
+	 * where index readers are refreshed periodically in a background task,
+	 * instead of being refreshed by search queries,
+	 * so that search queries never wait for a refresh.
+	 * <p>
+	 * Requires a strictly positive {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#IO_REFRESH_INTERVAL refresh interval}.
+	 */
+	ASYNC_NEAR_REAL_TIME( "async-near-real-time" ),
 	DEBUG( "debug" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -40,7 +49,7 @@ public static IOStrategyName of(String value) {
 		this.externalRepresentation = externalRepresentation;
 	}
 
-	private String getExternalRepresentation() {
+	public String getExternalRepresentation() {
 		return externalRepresentation;
 	}
 }
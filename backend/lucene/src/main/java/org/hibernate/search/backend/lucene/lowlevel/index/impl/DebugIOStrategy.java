@@ -6,44 +6,53 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.IndexMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(DirectoryProvider directoryProvider, BackendThreads threads,
-			FailureHandler failureHandler) {
-		return new DebugIOStrategy( directoryProvider, threads, failureHandler );
+	public static DebugIOStrategy create(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider, BackendThreads threads,
+			FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		IndexWriterSettings writerSettings = IndexWriterSettings.extract( propertySource );
+		return new DebugIOStrategy( directoryProvider, writerSettings, threads, failureHandler, metricsRegistry );
 	}
 
-	private DebugIOStrategy(DirectoryProvider directoryProvider, BackendThreads threads,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threads, failureHandler );
+	private DebugIOStrategy(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		super( directoryProvider, writerSettings, threads, failureHandler, metricsRegistry );
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder) {
+			Sort indexSort, DirectoryHolder directoryHolder, IndexMetrics metrics) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, analyzer,
+				directoryHolder, analyzer, indexSort,
 				null, 0,
+				writerSettings,
 				threads,
-				failureHandler
+				failureHandler,
+				metrics
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, IndexMetrics metrics) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
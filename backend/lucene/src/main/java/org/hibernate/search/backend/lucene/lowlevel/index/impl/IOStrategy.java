@@ -8,35 +8,43 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.IndexMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public abstract class IOStrategy {
 
 	private final DirectoryProvider directoryProvider;
+	final IndexWriterSettings writerSettings;
 	final BackendThreads threads;
 	final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 
-	protected IOStrategy(DirectoryProvider directoryProvider, BackendThreads threads,
-			FailureHandler failureHandler) {
+	protected IOStrategy(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
 		this.directoryProvider = directoryProvider;
+		this.writerSettings = writerSettings;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			Optional<String> shardId, Analyzer analyzer) {
+			Optional<String> shardId, Analyzer analyzer, Sort indexSort) {
 		DirectoryHolder directoryHolder;
 		DirectoryCreationContext context = new DirectoryCreationContextImpl(
 				shardId.isPresent() ? EventContexts.fromShardId( shardId.get() ) : null,
@@ -44,11 +52,14 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 				shardId
 		);
 		directoryHolder = directoryProvider.createDirectoryHolder( context );
+		IndexMetrics metrics = IndexMetrics.create( metricsRegistry, indexName, shardId );
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, directoryHolder );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, indexSort,
+					directoryHolder, metrics );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, indexWriterProvider,
+					metrics );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -64,9 +75,9 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	}
 
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder);
+			Sort indexSort, DirectoryHolder directoryHolder, IndexMetrics metrics);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, IndexMetrics metrics);
 
 }
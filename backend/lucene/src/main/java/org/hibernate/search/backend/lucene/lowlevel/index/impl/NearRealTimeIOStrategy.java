@@ -6,23 +6,36 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.IndexMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.AsyncNearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public class NearRealTimeIOStrategy extends IOStrategy {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
 					.asInteger()
@@ -35,52 +48,110 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> READER_EAGER_GLOBAL_ORDINALS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_EAGER_GLOBAL_ORDINALS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_READER_EAGER_GLOBAL_ORDINALS )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> READER_EAGER_PARENT_FILTERS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_EAGER_PARENT_FILTERS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_READER_EAGER_PARENT_FILTERS )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			DirectoryProvider directoryProvider, TimingSource timingSource,
-			BackendThreads threads, FailureHandler failureHandler) {
+			BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		IndexReaderWarmer readerWarmer = new IndexReaderWarmer(
+				READER_EAGER_GLOBAL_ORDINALS.get( propertySource ),
+				READER_EAGER_PARENT_FILTERS.get( propertySource )
+		);
+		IndexWriterSettings writerSettings = IndexWriterSettings.extract( propertySource );
 		return new NearRealTimeIOStrategy(
-				directoryProvider, timingSource, commitInterval, refreshInterval,
-				threads, failureHandler
+				directoryProvider, writerSettings, timingSource, commitInterval, refreshInterval, false,
+				readerWarmer,
+				threads, failureHandler, metricsRegistry
+		);
+	}
+
+	public static NearRealTimeIOStrategy createAsync(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider, TimingSource timingSource,
+			BackendThreads threads, FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		int commitInterval = COMMIT_INTERVAL.get( propertySource );
+		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		if ( refreshInterval <= 0 ) {
+			throw log.invalidRefreshIntervalForAsyncIOStrategy(
+					refreshInterval, IOStrategyName.ASYNC_NEAR_REAL_TIME.getExternalRepresentation(),
+					REFRESH_INTERVAL.resolveOrRaw( propertySource )
+			);
+		}
+		IndexReaderWarmer readerWarmer = new IndexReaderWarmer(
+				READER_EAGER_GLOBAL_ORDINALS.get( propertySource ),
+				READER_EAGER_PARENT_FILTERS.get( propertySource )
+		);
+		IndexWriterSettings writerSettings = IndexWriterSettings.extract( propertySource );
+		return new NearRealTimeIOStrategy(
+				directoryProvider, writerSettings, timingSource, commitInterval, refreshInterval, true,
+				readerWarmer,
+				threads, failureHandler, metricsRegistry
 		);
 	}
 
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean asyncRefresh;
+	private final IndexReaderWarmer readerWarmer;
 
-	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
-			TimingSource timingSource, int commitInterval, int refreshInterval,
+	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			TimingSource timingSource, int commitInterval, int refreshInterval, boolean asyncRefresh,
+			IndexReaderWarmer readerWarmer,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threads, failureHandler );
+			FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
+		super( directoryProvider, writerSettings, threads, failureHandler, metricsRegistry );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.asyncRefresh = asyncRefresh;
+		this.readerWarmer = readerWarmer;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder) {
+			Sort indexSort, DirectoryHolder directoryHolder, IndexMetrics metrics) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, analyzer,
-				timingSource, commitInterval, threads,
-				failureHandler
+				directoryHolder, analyzer, indexSort,
+				timingSource, commitInterval,
+				writerSettings,
+				threads,
+				failureHandler,
+				metrics
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, IndexMetrics metrics) {
+		if ( asyncRefresh ) {
+			// Readers are refreshed in the background, in the same thread pool as (delayed) commits.
+			return new AsyncNearRealTimeIndexReaderProvider(
+					indexWriterProvider, eventContext,
+					threads.getWriteExecutor(), refreshInterval, readerWarmer,
+					failureHandler, metrics.getRefreshTimer()
+			);
+		}
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				readerWarmer, metrics.getRefreshTimer() );
 	}
 
 }
@@ -0,0 +1,184 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A cache of the bitsets used as parent filters in block joins (nested predicates, sorts, aggregations, ...),
+ * so that these bitsets are only computed once per segment and filter,
+ * instead of once per query as with {@link QueryBitSetProducer}.
+ * <p>
+ * Cache entries are keyed by the {@link IndexReader#getCoreCacheHelper() core cache key} of each segment,
+ * which does not change when documents are deleted:
+ * parent filters match parent documents regardless of deletions,
+ * since deleted blocks are never returned by the child queries anyway.
+ * Entries are evicted as soon as the segment core is closed,
+ * similarly to what Elasticsearch does in {@code BitsetFilterCache}.
+ * <p>
+ * Segments that do not allow caching (segments without a core cache helper)
+ * are handled by computing the bitset on each call.
+ */
+public final class BitSetFilterCache {
+
+	private static final Map<IndexReader.CacheKey, Map<Query, CacheEntry>> bitSets = new ConcurrentHashMap<>();
+
+	private BitSetFilterCache() {
+	}
+
+	/**
+	 * @param query The query matching parent documents.
+	 * @return A producer of bitsets for the given query, backed by this cache.
+	 * Producers for equal queries are equal.
+	 */
+	public static BitSetProducer getBitSetProducer(Query query) {
+		return new CachingBitSetProducer( query );
+	}
+
+	/**
+	 * Computes and caches the bitsets of the main document filter for all segments of the given reader,
+	 * so that the first queries involving nested documents on this reader do not have to.
+	 * <p>
+	 * Segments that were already part of a previous reader are skipped,
+	 * since their bitsets are already cached.
+	 *
+	 * @param reader A freshly opened directory reader.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static void warm(DirectoryReader reader) throws IOException {
+		Query query = Queries.mainDocumentQuery();
+		for ( LeafReaderContext context : reader.leaves() ) {
+			getOrCompute( query, context );
+		}
+	}
+
+	/**
+	 * @param coreCacheKey The {@link IndexReader#getCoreCacheHelper() core cache key} of a segment.
+	 * @param query The query matching parent documents.
+	 * @return {@code true} if the bitset of the given segment for the given query is currently cached,
+	 * {@code false} otherwise.
+	 */
+	public static boolean isCached(IndexReader.CacheKey coreCacheKey, Query query) {
+		Map<Query, CacheEntry> segmentBitSets = bitSets.get( coreCacheKey );
+		return segmentBitSets != null && segmentBitSets.containsKey( query );
+	}
+
+	private static BitSet getOrCompute(Query query, LeafReaderContext context) throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// Cannot cache
+			return compute( query, context );
+		}
+
+		IndexReader.CacheKey key = cacheHelper.getKey();
+		Map<Query, CacheEntry> segmentBitSets = bitSets.get( key );
+		if ( segmentBitSets == null ) {
+			segmentBitSets = new ConcurrentHashMap<>();
+			Map<Query, CacheEntry> previous = bitSets.putIfAbsent( key, segmentBitSets );
+			if ( previous != null ) {
+				segmentBitSets = previous;
+			}
+			else {
+				cacheHelper.addClosedListener( BitSetFilterCache::evict );
+			}
+		}
+
+		CacheEntry entry = segmentBitSets.get( query );
+		if ( entry == null ) {
+			// Concurrent calls may compute the same bitset twice, but that's harmless:
+			// the alternative would be to block queries on unrelated filters while computing.
+			entry = new CacheEntry( compute( query, context ) );
+			CacheEntry previous = segmentBitSets.putIfAbsent( query, entry );
+			if ( previous != null ) {
+				entry = previous;
+			}
+		}
+		return entry.bitSet;
+	}
+
+	private static BitSet compute(Query query, LeafReaderContext context) throws IOException {
+		// Same as QueryBitSetProducer
+		IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		searcher.setQueryCache( null );
+		Query rewritten = searcher.rewrite( query );
+		Weight weight = searcher.createWeight( rewritten, ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		if ( scorer == null ) {
+			return null;
+		}
+		return BitSet.of( scorer.iterator(), context.reader().maxDoc() );
+	}
+
+	private static void evict(IndexReader.CacheKey closedCoreKey) {
+		bitSets.remove( closedCoreKey );
+	}
+
+	/*
+	 * Concurrent maps do not accept null values,
+	 * and a null bitset (no matching document) is worth caching too.
+	 */
+	private static final class CacheEntry {
+		private final BitSet bitSet;
+
+		private CacheEntry(BitSet bitSet) {
+			this.bitSet = bitSet;
+		}
+	}
+
+	private static final class CachingBitSetProducer implements BitSetProducer {
+		private final Query query;
+
+		private CachingBitSetProducer(Query query) {
+			this.query = query;
+		}
+
+		@Override
+		public BitSet getBitSet(LeafReaderContext context) throws IOException {
+			return getOrCompute( query, context );
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "(" + query + ")";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			return query.equals( ( (CachingBitSetProducer) obj ).query );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * getClass().hashCode() + query.hashCode();
+		}
+	}
+}
@@ -36,6 +36,12 @@ public class NestedDocsProvider {
 	private final BitSetProducer parentFilter;
 	private final Query childQuery;
 
+	/**
+	 * The weight of the child query for the last top-level reader passed to {@link #childDocs(LeafReaderContext)},
+	 * so that we don't create a new searcher and weight for each segment.
+	 */
+	private volatile ChildDocsWeight childDocsWeightCache;
+
 	public NestedDocsProvider(String nestedDocumentPath, Query originalParentQuery) {
 		this( Collections.singleton( nestedDocumentPath ), originalParentQuery, null );
 	}
@@ -63,11 +69,14 @@ public BitSet parentDocs(LeafReaderContext context) throws IOException {
 	public DocIdSetIterator childDocs(LeafReaderContext context) throws IOException {
 		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
 
-		// Maybe we can cache on shard-base. See Elasticsearch code.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
-
-		Weight weight = childDocsWeight( indexSearcher );
-		return childDocs( weight, context );
+		ChildDocsWeight cached = childDocsWeightCache;
+		if ( cached == null || cached.topLevelCtx != topLevelCtx ) {
+			// Concurrent calls may create the same weight twice, but that's harmless.
+			IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+			cached = new ChildDocsWeight( topLevelCtx, childDocsWeight( indexSearcher ) );
+			childDocsWeightCache = cached;
+		}
+		return childDocs( cached.weight, context );
 	}
 
 	public Weight childDocsWeight(IndexSearcher indexSearcher) throws IOException {
@@ -78,4 +87,14 @@ public DocIdSetIterator childDocs(Weight weight, LeafReaderContext context) thro
 		Scorer s = weight.scorer( context );
 		return s == null ? null : s.iterator();
 	}
+
+	private static final class ChildDocsWeight {
+		private final IndexReaderContext topLevelCtx;
+		private final Weight weight;
+
+		private ChildDocsWeight(IndexReaderContext topLevelCtx, Weight weight) {
+			this.topLevelCtx = topLevelCtx;
+			this.weight = weight;
+		}
+	}
 }
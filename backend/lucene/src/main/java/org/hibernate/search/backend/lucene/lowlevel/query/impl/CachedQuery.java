@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+
+/**
+ * A wrapper marking a query as worth caching whenever it is used as a filter,
+ * regardless of how often it was used before.
+ * <p>
+ * Matching documents and scores are exactly those of the wrapped query;
+ * see {@link HibernateSearchQueryCachingPolicy} for the actual caching decision.
+ */
+public final class CachedQuery extends Query {
+
+	private final Query query;
+
+	CachedQuery(Query query) {
+		this.query = query;
+	}
+
+	@Override
+	public Query rewrite(IndexReader reader) throws IOException {
+		Query rewritten = query.rewrite( reader );
+		if ( rewritten == query ) {
+			return this;
+		}
+		return new CachedQuery( rewritten );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+		// Do not call searcher.createWeight() on the wrapped query:
+		// the query cache would then cache the wrapped query itself, subject to the default caching policy.
+		Weight weight = query.createWeight( searcher, scoreMode, boost );
+		return new FilterWeight( this, weight ) {
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		query.visit( visitor.getSubVisitor( BooleanClause.Occur.MUST, this ) );
+	}
+
+	@Override
+	public String toString(String field) {
+		return "cached(" + query.toString( field ) + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		CachedQuery other = (CachedQuery) obj;
+		return query.equals( other.query );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * classHash() + query.hashCode();
+	}
+}
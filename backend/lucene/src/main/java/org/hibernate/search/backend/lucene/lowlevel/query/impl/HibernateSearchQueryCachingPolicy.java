@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+
+/**
+ * A caching policy that always caches {@link CachedQuery cached queries},
+ * and delegates to Lucene's default policy for other queries.
+ * <p>
+ * This is necessary for Hibernate Search's own metadata filters (main document, routing keys, tenant ID):
+ * they are simple term queries, which Lucene's default policy never caches,
+ * even though they are used by every single search query.
+ */
+public final class HibernateSearchQueryCachingPolicy implements QueryCachingPolicy {
+
+	private final QueryCachingPolicy delegate = new UsageTrackingQueryCachingPolicy();
+
+	@Override
+	public void onUse(Query query) {
+		if ( !( query instanceof CachedQuery ) ) {
+			delegate.onUse( query );
+		}
+	}
+
+	@Override
+	public boolean shouldCache(Query query) throws IOException {
+		if ( query instanceof CachedQuery ) {
+			return true;
+		}
+		return delegate.shouldCache( query );
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
 
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -17,7 +18,6 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ToChildBlockJoinQuery;
 
 public class Queries {
@@ -41,6 +41,13 @@ public static Query nestedDocumentPathQuery(String absoluteFieldPath) {
 		return new TermQuery( new Term( MetadataFields.nestedDocumentPathFieldName(), absoluteFieldPath ) );
 	}
 
+	public static Query cached(Query query) {
+		if ( query instanceof CachedQuery ) {
+			return query;
+		}
+		return new CachedQuery( query );
+	}
+
 	public static Query boolFilter(Query must, Query filter) {
 		BooleanQuery.Builder queryBuilder = new BooleanQuery.Builder();
 		queryBuilder.add( must, Occur.MUST );
@@ -84,7 +91,7 @@ public static BitSetProducer parentFilter(String parentNestedDocumentPath) {
 		else {
 			parentQuery = Queries.nestedDocumentPathQuery( parentNestedDocumentPath );
 		}
-		return new QueryBitSetProducer( parentQuery );
+		return BitSetFilterCache.getBitSetProducer( parentQuery );
 	}
 
 	public static BooleanQuery findChildQuery(BitSetProducer parentFilter,
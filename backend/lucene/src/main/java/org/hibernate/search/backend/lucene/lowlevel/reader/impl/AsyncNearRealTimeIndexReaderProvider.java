@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * A index reader holder that opens an index reader from the index writer,
+ * thereby providing a near-real-time view on the index,
+ * and refreshes that index reader periodically in a background task.
+ * <p>
+ * Contrary to {@link NearRealTimeIndexReaderProvider},
+ * query threads never open index readers themselves (except for the very first one):
+ * they simply use whatever index reader was last opened by the background task,
+ * so that they never wait for a refresh.
+ * <p>
+ * Forced refreshes ({@link #refresh()}) are performed synchronously,
+ * but only if the current index reader does not already include all changes
+ * that were completed in the index writer at the time of the call,
+ * similarly to Lucene's {@code ControlledRealTimeReopenThread#waitForGeneration}.
+ */
+public class AsyncNearRealTimeIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long NO_GENERATION = -1L;
+
+	private final IndexWriterProvider indexWriterProvider;
+	private final EventContext eventContext;
+	private final ScheduledExecutorService refreshExecutor;
+	private final int refreshInterval;
+	private final IndexReaderWarmer warmer;
+	private final FailureHandler failureHandler;
+	private final Timer refreshTimer;
+
+	/**
+	 * Protects opening and swapping index readers, as well as starting/stopping the refresh task.
+	 * Query threads only acquire this lock when there is no current reader.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile DirectoryReader currentReader = null;
+	/**
+	 * The sequence number of the last operation completed by the index writer
+	 * before the current reader was opened:
+	 * all operations up to this sequence number are visible in the current reader.
+	 */
+	private volatile long currentReaderGeneration = NO_GENERATION;
+
+	private ScheduledFuture<?> refreshTask;
+
+	public AsyncNearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider, EventContext eventContext,
+			ScheduledExecutorService refreshExecutor, int refreshInterval, IndexReaderWarmer warmer,
+			FailureHandler failureHandler, Timer refreshTimer) {
+		this.indexWriterProvider = indexWriterProvider;
+		this.eventContext = eventContext;
+		this.refreshExecutor = refreshExecutor;
+		this.refreshInterval = refreshInterval;
+		this.warmer = warmer;
+		this.failureHandler = failureHandler;
+		this.refreshTimer = refreshTimer;
+	}
+
+	@Override
+	public void clear() throws IOException {
+		refreshLock.lock();
+		try {
+			if ( refreshTask != null ) {
+				refreshTask.cancel( false );
+				refreshTask = null;
+			}
+			DirectoryReader oldReader = currentReader;
+			currentReader = null;
+			currentReaderGeneration = NO_GENERATION;
+			if ( oldReader != null ) {
+				// Make sure to close the old reader as soon as no user thread is using it.
+				oldReader.decRef();
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public void refresh() {
+		IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrNull();
+		if ( indexWriterDelegator == null ) {
+			// Nothing was written since the last reader was opened.
+			return;
+		}
+		long targetGeneration = indexWriterDelegator.getMaxCompletedSequenceNumber();
+		if ( targetGeneration <= currentReaderGeneration ) {
+			// The current reader already includes all completed changes, probably thanks to the background task.
+			return;
+		}
+
+		// If the background task is currently refreshing, this will wait for it to finish.
+		refreshLock.lock();
+		try {
+			if ( currentReader == null ) {
+				// The next call to getOrCreate() will open a fresh reader.
+				return;
+			}
+			if ( targetGeneration > currentReaderGeneration ) {
+				doRefresh( indexWriterDelegator );
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToRefreshIndex( eventContext, e );
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		DirectoryReader reader = currentReader;
+		while ( reader != null ) {
+			if ( reader.tryIncRef() ) {
+				return reader;
+			}
+			// The reader was swapped and closed after we retrieved it; try again with the new one.
+			reader = currentReader;
+		}
+
+		refreshLock.lock();
+		try {
+			if ( currentReader == null ) {
+				doRefresh( indexWriterProvider.getOrCreate() );
+				startRefreshTask();
+			}
+			// Swapping readers requires the lock, so the current reader cannot get closed here.
+			reader = currentReader;
+			reader.incRef();
+			return reader;
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private void refreshInBackground() {
+		if ( !refreshLock.tryLock() ) {
+			// A refresh is already in progress: no need to start another one.
+			return;
+		}
+		try {
+			IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrNull();
+			if ( currentReader == null || indexWriterDelegator == null ) {
+				// The provider was cleared, or the writer was closed: nothing to refresh.
+				return;
+			}
+			if ( indexWriterDelegator.getMaxCompletedSequenceNumber() <= currentReaderGeneration ) {
+				// No change since the last refresh: avoid the cost of re-opening the reader.
+				return;
+			}
+			doRefresh( indexWriterDelegator );
+		}
+		catch (RuntimeException | IOException e) {
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( log.unableToRefreshIndex( eventContext, e ) );
+			contextBuilder.failingOperation( log.indexReaderRefreshOperation( eventContext.render() ) );
+			failureHandler.handle( contextBuilder.build() );
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/*
+	 * Must be called while holding the refresh lock.
+	 */
+	private void doRefresh(IndexWriterDelegatorImpl indexWriterDelegator) throws IOException {
+		// Retrieve the generation *before* opening the reader,
+		// so that the reader is guaranteed to include all changes up to that generation.
+		long generation = indexWriterDelegator.getMaxCompletedSequenceNumber();
+		DirectoryReader oldReader = currentReader;
+		DirectoryReader newReader;
+		long start = System.nanoTime();
+		if ( oldReader == null ) {
+			newReader = indexWriterDelegator.openReader();
+		}
+		else {
+			newReader = indexWriterDelegator.openReaderIfChanged( oldReader );
+		}
+		if ( newReader != null ) {
+			warmer.warmIfNecessary( newReader );
+			refreshTimer.record( System.nanoTime() - start, TimeUnit.NANOSECONDS );
+			currentReader = newReader;
+			if ( oldReader != null ) {
+				// Make sure to close the old reader as soon as no user thread is using it.
+				oldReader.decRef();
+			}
+		}
+		currentReaderGeneration = generation;
+	}
+
+	/*
+	 * Must be called while holding the refresh lock.
+	 */
+	private void startRefreshTask() {
+		if ( refreshTask != null ) {
+			return;
+		}
+		refreshTask = refreshExecutor.scheduleWithFixedDelay(
+				this::refreshInBackground, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+		);
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * Populates caches for freshly opened index readers,
+ * so that the first search queries on these readers do not have to.
+ */
+public final class IndexReaderWarmer {
+
+	private final boolean eagerGlobalOrdinals;
+	private final boolean eagerParentFilters;
+
+	public IndexReaderWarmer(boolean eagerGlobalOrdinals, boolean eagerParentFilters) {
+		this.eagerGlobalOrdinals = eagerGlobalOrdinals;
+		this.eagerParentFilters = eagerParentFilters;
+	}
+
+	/**
+	 * @param newReader A freshly opened reader. Will be closed if warming fails.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void warmIfNecessary(DirectoryReader newReader) throws IOException {
+		if ( !eagerGlobalOrdinals && !eagerParentFilters ) {
+			return;
+		}
+		try {
+			if ( eagerGlobalOrdinals ) {
+				GlobalOrdinalsCache.warm( newReader );
+			}
+			if ( eagerParentFilters ) {
+				BitSetFilterCache.warm( newReader );
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			new SuppressingCloser( e ).push( newReader );
+			throw e;
+		}
+	}
+}
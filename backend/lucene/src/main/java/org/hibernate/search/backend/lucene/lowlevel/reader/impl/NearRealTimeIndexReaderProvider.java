@@ -7,9 +7,11 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -30,6 +32,8 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final IndexReaderWarmer warmer;
+	private final Timer refreshTimer;
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,10 +41,12 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, IndexReaderWarmer warmer, Timer refreshTimer) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.warmer = warmer;
+		this.refreshTimer = refreshTimer;
 	}
 
 	@Override
@@ -81,8 +87,10 @@ public DirectoryReader getOrCreate() throws IOException {
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
+		long start = System.nanoTime();
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			warmer.warmIfNecessary( newReader );
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
@@ -92,11 +100,13 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
+				warmer.warmIfNecessary( newReaderOrNull );
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
 
 		if ( oldEntry != freshEntry ) {
+			refreshTimer.record( System.nanoTime() - start, TimeUnit.NANOSECONDS );
 			setCurrentReaderEntry( freshEntry );
 		}
 
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum MergePolicyName {
+
+	/**
+	 * The default merge policy, Lucene's {@code TieredMergePolicy},
+	 * which merges segments of approximately equal size, picking the merges with the best "score"
+	 * (smallest resulting segments, most deletions reclaimed).
+	 */
+	TIERED( "tiered" ),
+	/**
+	 * Lucene's {@code LogByteSizeMergePolicy},
+	 * which merges adjacent segments into levels of exponentially increasing size.
+	 */
+	LOG_BYTE_SIZE( "log-byte-size" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static MergePolicyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				MergePolicyName.values(),
+				MergePolicyName::getExternalRepresentation,
+				log::invalidMergePolicyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	MergePolicyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.IndexMetrics;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -21,8 +24,8 @@
 import org.apache.lucene.util.ThreadInterruptedException;
 
 /**
- * We customize Lucene's ConcurrentMergeScheduler to route eventual exceptions to our configurable failure handler
- * and override the name of merge threads.
+ * We customize Lucene's ConcurrentMergeScheduler to route eventual exceptions to our configurable failure handler,
+ * override the name of merge threads and record merge metrics.
  *
  * @see FailureHandler
  * @since 3.3
@@ -37,14 +40,26 @@ class HibernateSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 	private final String contextDescription;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
+	private final IndexMetrics metrics;
 
 	HibernateSearchConcurrentMergeScheduler(String indexName, String contextDescription,
 			ThreadProvider threadProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			IndexMetrics metrics) {
 		this.indexName = indexName;
 		this.contextDescription = contextDescription;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
+	}
+
+	@Override
+	protected void doMerge(IndexWriter writer, MergePolicy.OneMerge merge) throws IOException {
+		long start = System.nanoTime();
+		super.doMerge( writer, merge );
+		// Only successful merges are recorded: failures are reported through the failure handler.
+		metrics.getMergeTimer().record( System.nanoTime() - start, TimeUnit.NANOSECONDS );
+		metrics.getMergeDocumentsHistogram().record( merge.totalNumDocs() );
 	}
 
 	@Override
@@ -15,6 +15,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
@@ -40,6 +41,7 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final FailureHandler failureHandler;
+	private final Timer commitTimer;
 
 	private final SingletonTask delayedCommitTask;
 	private final Object commitLock = new Object();
@@ -50,12 +52,14 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
 			FailureHandler failureHandler,
-			DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			DelayedCommitFailureHandler delayedCommitFailureHandler,
+			Timer commitTimer) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -125,6 +129,10 @@ public void commitOrDelay() {
 		}
 	}
 
+	public long getMaxCompletedSequenceNumber() {
+		return delegate.getMaxCompletedSequenceNumber();
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -170,7 +178,9 @@ public void closeAfterFailure(Throwable throwable, Object failingOperation) {
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
+				long start = System.nanoTime();
 				delegate.commit();
+				commitTimer.record( System.nanoTime() - start, TimeUnit.NANOSECONDS );
 				updateCommitExpiration();
 			}
 		}
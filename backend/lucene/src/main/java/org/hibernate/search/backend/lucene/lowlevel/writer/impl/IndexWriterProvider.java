@@ -12,6 +12,7 @@
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.IndexMetrics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
@@ -23,7 +24,7 @@
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
-import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.search.Sort;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -36,16 +37,13 @@ public class IndexWriterProvider {
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
 	private final Analyzer analyzer;
+	private final Sort indexSort;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final IndexWriterSettings writerSettings;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
-
-	/* TODO HSEARCH-3776 re-allow configuring index writers
-	private final Similarity similarity;
-	private final LuceneIndexingParameters luceneParameters;
-	private final ParameterSet indexParameters;
-	 */
+	private final IndexMetrics metrics;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -58,23 +56,23 @@ public class IndexWriterProvider {
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
 	public IndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, Analyzer analyzer,
+			DirectoryHolder directoryHolder, Analyzer analyzer, Sort indexSort,
 			TimingSource timingSource, int commitInterval,
+			IndexWriterSettings writerSettings,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			IndexMetrics metrics) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.analyzer = analyzer;
+		this.indexSort = indexSort;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.writerSettings = writerSettings;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
-		/* TODO HSEARCH-3776 re-allow configuring index writers
-		this.luceneParameters = indexManager.getIndexingParameters();
-		this.indexParameters = luceneParameters.getIndexParameters();
-		this.similarity = indexManager.getSimilarity();
-		 */
+		this.metrics = metrics;
 	}
 
 	/**
@@ -132,7 +130,8 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
 							failureHandler,
-							this::clearAfterFailure
+							this::clearAfterFailure,
+							metrics.getCommitTimer()
 					);
 					log.trace( "IndexWriter opened" );
 					currentWriter.set( indexWriterDelegator );
@@ -153,18 +152,16 @@ private IndexWriter createNewIndexWriter() throws IOException {
 
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
-		/* TODO HSEARCH-3776 re-allow configuring index writers
-		luceneParameters.applyToWriter( writerConfig );
-		if ( similarity != null ) {
-			writerConfig.setSimilarity( similarity );
+		writerSettings.applyTo( writerConfig );
+		if ( indexSort != null ) {
+			writerConfig.setIndexSort( indexSort );
 		}
-		LogByteSizeMergePolicy newMergePolicy = indexParameters.getNewMergePolicy(); //TODO HSEARCH-3776 make it possible to configure a different policy?
-		writerConfig.setMergePolicy( newMergePolicy );
-		 */
-		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
+		HibernateSearchConcurrentMergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
-				threads.getThreadProvider(), failureHandler
+				threads.getThreadProvider(), failureHandler,
+				metrics
 		);
+		writerSettings.applyTo( mergeScheduler );
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
 		return writerConfig;
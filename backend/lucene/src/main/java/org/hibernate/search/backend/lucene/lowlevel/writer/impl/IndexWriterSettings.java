@@ -0,0 +1,235 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.MergePolicyName;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * Tuning settings for index writers, extracted from the index configuration.
+ * <p>
+ * Settings that were not set explicitly are not applied at all, so that Lucene's defaults are used.
+ */
+public final class IndexWriterSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_BUFFERED_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Boolean> USE_COMPOUND_FILE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_USE_COMPOUND_FILE )
+					.asBoolean()
+					.build();
+
+	private static final ConfigurationProperty<MergePolicyName> MERGE_POLICY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_POLICY )
+					.as( MergePolicyName.class, MergePolicyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_POLICY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_FACTOR =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_FACTOR )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MIN_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MIN_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_MERGE_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT )
+					.asInteger()
+					.build();
+
+	/*
+	 * Same as the difference between max merge count and max thread count
+	 * in ConcurrentMergeScheduler's automatic detection.
+	 */
+	private static final int DEFAULT_PENDING_MERGE_MARGIN = 5;
+
+	public static IndexWriterSettings extract(ConfigurationPropertySource propertySource) {
+		Optional<Integer> maxThreadCount =
+				MERGE_SCHEDULER_MAX_THREAD_COUNT.getAndMap( propertySource, atLeast( 1 ) );
+		Optional<Integer> maxMergeCount =
+				MERGE_SCHEDULER_MAX_MERGE_COUNT.getAndMap( propertySource, atLeast( 1 ) );
+		if ( maxThreadCount.isPresent() && maxMergeCount.isPresent()
+				&& maxMergeCount.get() < maxThreadCount.get() ) {
+			throw log.invalidMergeSchedulerSettings(
+					maxMergeCount.get(), maxThreadCount.get(),
+					MERGE_SCHEDULER_MAX_MERGE_COUNT.resolveOrRaw( propertySource ),
+					MERGE_SCHEDULER_MAX_THREAD_COUNT.resolveOrRaw( propertySource )
+			);
+		}
+
+		return new IndexWriterSettings(
+				RAM_BUFFER_SIZE.getAndMap( propertySource, atLeast( 1 ) ),
+				MAX_BUFFERED_DOCS.getAndMap( propertySource, atLeast( 1 ) ),
+				USE_COMPOUND_FILE.get( propertySource ),
+				MERGE_POLICY.get( propertySource ),
+				// Lucene merge policies reject merge factors lower than 2
+				MERGE_FACTOR.getAndMap( propertySource, atLeast( 2 ) ),
+				MERGE_MIN_SIZE.getAndMap( propertySource, atLeast( 1 ) ),
+				MERGE_MAX_SIZE.getAndMap( propertySource, atLeast( 1 ) ),
+				maxThreadCount, maxMergeCount
+		);
+	}
+
+	private static Function<Integer, Integer> atLeast(int minValue) {
+		return value -> {
+			if ( value < minValue ) {
+				throw log.invalidIndexWriterSettingValue( value, minValue );
+			}
+			return value;
+		};
+	}
+
+	private final Optional<Integer> ramBufferSize;
+	private final Optional<Integer> maxBufferedDocs;
+	private final Optional<Boolean> useCompoundFile;
+	private final MergePolicyName mergePolicyName;
+	private final Optional<Integer> mergeFactor;
+	private final Optional<Integer> mergeMinSize;
+	private final Optional<Integer> mergeMaxSize;
+	private final Optional<Integer> mergeSchedulerMaxThreadCount;
+	private final Optional<Integer> mergeSchedulerMaxMergeCount;
+
+	private IndexWriterSettings(Optional<Integer> ramBufferSize, Optional<Integer> maxBufferedDocs,
+			Optional<Boolean> useCompoundFile,
+			MergePolicyName mergePolicyName, Optional<Integer> mergeFactor,
+			Optional<Integer> mergeMinSize, Optional<Integer> mergeMaxSize,
+			Optional<Integer> mergeSchedulerMaxThreadCount, Optional<Integer> mergeSchedulerMaxMergeCount) {
+		this.ramBufferSize = ramBufferSize;
+		this.maxBufferedDocs = maxBufferedDocs;
+		this.useCompoundFile = useCompoundFile;
+		this.mergePolicyName = mergePolicyName;
+		this.mergeFactor = mergeFactor;
+		this.mergeMinSize = mergeMinSize;
+		this.mergeMaxSize = mergeMaxSize;
+		this.mergeSchedulerMaxThreadCount = mergeSchedulerMaxThreadCount;
+		this.mergeSchedulerMaxMergeCount = mergeSchedulerMaxMergeCount;
+	}
+
+	void applyTo(IndexWriterConfig writerConfig) {
+		if ( maxBufferedDocs.isPresent() ) {
+			writerConfig.setMaxBufferedDocs( maxBufferedDocs.get() );
+		}
+		if ( ramBufferSize.isPresent() ) {
+			writerConfig.setRAMBufferSizeMB( ramBufferSize.get() );
+		}
+		if ( useCompoundFile.isPresent() ) {
+			writerConfig.setUseCompoundFile( useCompoundFile.get() );
+		}
+		writerConfig.setMergePolicy( createMergePolicy() );
+	}
+
+	void applyTo(ConcurrentMergeScheduler mergeScheduler) {
+		if ( !mergeSchedulerMaxThreadCount.isPresent() && !mergeSchedulerMaxMergeCount.isPresent() ) {
+			// Let Lucene detect the most appropriate values
+			return;
+		}
+		int maxThreadCount;
+		int maxMergeCount;
+		if ( !mergeSchedulerMaxMergeCount.isPresent() ) {
+			maxThreadCount = mergeSchedulerMaxThreadCount.get();
+			maxMergeCount = maxThreadCount + DEFAULT_PENDING_MERGE_MARGIN;
+		}
+		else if ( !mergeSchedulerMaxThreadCount.isPresent() ) {
+			maxMergeCount = mergeSchedulerMaxMergeCount.get();
+			maxThreadCount = Math.min( maxMergeCount, defaultMaxThreadCount() );
+		}
+		else {
+			maxThreadCount = mergeSchedulerMaxThreadCount.get();
+			maxMergeCount = mergeSchedulerMaxMergeCount.get();
+		}
+		mergeScheduler.setMaxMergesAndThreads( maxMergeCount, maxThreadCount );
+	}
+
+	private MergePolicy createMergePolicy() {
+		MergePolicy mergePolicy;
+		switch ( mergePolicyName ) {
+			case LOG_BYTE_SIZE:
+				mergePolicy = createLogByteSizeMergePolicy();
+				break;
+			case TIERED:
+			default:
+				mergePolicy = createTieredMergePolicy();
+				break;
+		}
+		if ( useCompoundFile.isPresent() && !useCompoundFile.get() ) {
+			mergePolicy.setNoCFSRatio( 0.0 );
+		}
+		return mergePolicy;
+	}
+
+	private TieredMergePolicy createTieredMergePolicy() {
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		if ( mergeFactor.isPresent() ) {
+			mergePolicy.setMaxMergeAtOnce( mergeFactor.get() );
+			mergePolicy.setSegmentsPerTier( mergeFactor.get() );
+		}
+		if ( mergeMinSize.isPresent() ) {
+			mergePolicy.setFloorSegmentMB( mergeMinSize.get() );
+		}
+		if ( mergeMaxSize.isPresent() ) {
+			mergePolicy.setMaxMergedSegmentMB( mergeMaxSize.get() );
+		}
+		return mergePolicy;
+	}
+
+	private LogByteSizeMergePolicy createLogByteSizeMergePolicy() {
+		LogByteSizeMergePolicy mergePolicy = new LogByteSizeMergePolicy();
+		if ( mergeFactor.isPresent() ) {
+			mergePolicy.setMergeFactor( mergeFactor.get() );
+		}
+		if ( mergeMinSize.isPresent() ) {
+			mergePolicy.setMinMergeMB( mergeMinSize.get() );
+		}
+		if ( mergeMaxSize.isPresent() ) {
+			mergePolicy.setMaxMergeMB( mergeMaxSize.get() );
+		}
+		return mergePolicy;
+	}
+
+	private static int defaultMaxThreadCount() {
+		// Same as ConcurrentMergeScheduler's automatic detection for non-spinning disks
+		return Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() / 2 ) );
+	}
+}
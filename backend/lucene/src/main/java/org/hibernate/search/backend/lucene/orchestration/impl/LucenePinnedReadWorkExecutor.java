@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.backend.lucene.work.impl.ReadWork;
+
+/**
+ * An executor for read works that always uses the same index readers,
+ * so that successive works see the same view of the indexes,
+ * regardless of changes applied to the indexes in the meantime.
+ * <p>
+ * Works are executed synchronously in the current thread.
+ *
+ * @see LuceneSyncWorkOrchestrator#openPinnedExecutor(java.util.Set, java.util.Set, java.util.Set)
+ */
+public interface LucenePinnedReadWorkExecutor extends AutoCloseable {
+
+	<T> T submit(ReadWork<T> work);
+
+	/**
+	 * Release the index readers.
+	 */
+	@Override
+	void close();
+
+}
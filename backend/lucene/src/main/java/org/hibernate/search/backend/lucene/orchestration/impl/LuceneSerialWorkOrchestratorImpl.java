@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
@@ -37,6 +38,7 @@
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 
 	private BatchingExecutor<LuceneBatchedWorkProcessor>[] executors;
 
@@ -45,15 +47,18 @@
 	 * @param processor A processor to use in the background thread.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry A metrics registry to report the state of the background thread.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
 			String name, LuceneBatchedWorkProcessor processor,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
 		super( name );
 		this.processor = processor;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	@Override
@@ -78,7 +83,8 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
-					failureHandler
+					failureHandler,
+					metricsRegistry
 			);
 		}
 
@@ -24,4 +24,16 @@ public interface LuceneSyncWorkOrchestrator {
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work);
 
+	/**
+	 * Open index readers and keep them open until the returned executor is closed,
+	 * so that multiple works can be executed against the same view of the indexes.
+	 *
+	 * @param indexNames The names of targeted indexes.
+	 * @param indexManagerContexts The contexts of targeted indexes.
+	 * @param routingKeys The routing keys, to only target some shards.
+	 * @return An executor for read works. Must be closed to release the index readers.
+	 */
+	LucenePinnedReadWorkExecutor openPinnedExecutor(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys);
+
 }
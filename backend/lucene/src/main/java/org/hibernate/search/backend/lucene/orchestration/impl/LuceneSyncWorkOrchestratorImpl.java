@@ -10,11 +10,14 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendQueryCache;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -25,6 +28,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 public class LuceneSyncWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneSyncWorkOrchestratorImpl.WorkExecution<?>>
@@ -32,20 +36,25 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneSyncWorkOrchestratorImpl(String name) {
+	private final BackendThreads threads;
+	private final BackendQueryCache queryCache;
+
+	public LuceneSyncWorkOrchestratorImpl(String name, BackendThreads threads, BackendQueryCache queryCache) {
 		super( name );
+		this.threads = threads;
+		this.queryCache = queryCache;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work) {
-		WorkExecution<T> workExecution = new WorkExecution<>( indexNames, indexManagerContexts, routingKeys, work );
+		ReadContext readContext = new ReadContext(
+				indexNames, indexManagerContexts, routingKeys, threads.getSearchExecutor(), queryCache
+		);
 		Throwable throwable = null;
 		try {
-			submit( workExecution );
-			// If we get there, the task succeeded and we are sure there is a result.
-			return workExecution.getResult();
+			return submit( readContext, work );
 		}
 		catch (Throwable t) {
 			// Just remember something went wrong
@@ -54,16 +63,32 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 		finally {
 			if ( throwable == null ) {
-				workExecution.close();
+				readContext.close();
 			}
 			else {
 				// Take care not to erase the main error if closing the context fails: use addSuppressed() instead
 				new SuppressingCloser( throwable )
-						.push( workExecution );
+						.push( readContext );
 			}
 		}
 	}
 
+	@Override
+	public LucenePinnedReadWorkExecutor openPinnedExecutor(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+		ReadContext readContext = new ReadContext(
+				indexNames, indexManagerContexts, routingKeys, threads.getSearchExecutor(), queryCache
+		);
+		return new PinnedReadWorkExecutor( readContext );
+	}
+
+	private <T> T submit(ReadContext readContext, ReadWork<T> work) {
+		WorkExecution<T> workExecution = new WorkExecution<>( readContext, work );
+		submit( workExecution );
+		// If we get there, the task succeeded and we are sure there is a result.
+		return workExecution.getResult();
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -85,18 +110,38 @@ protected void doStop() {
 		// Nothing to do
 	}
 
-	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
-		private final Set<String> indexNames;
-		private final HibernateSearchMultiReader indexReader;
+	static class WorkExecution<T> {
+		private final ReadContext readContext;
 		private final ReadWork<T> work;
 
 		private T result;
 
-		WorkExecution(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work) {
+		WorkExecution(ReadContext readContext, ReadWork<T> work) {
+			this.readContext = readContext;
+			this.work = work;
+		}
+
+		public void execute() {
+			result = work.execute( readContext );
+		}
+
+		public T getResult() {
+			return result;
+		}
+	}
+
+	private static class ReadContext implements AutoCloseable, ReadWorkExecutionContext {
+		private final Set<String> indexNames;
+		private final HibernateSearchMultiReader indexReader;
+		private final Executor searchExecutor;
+		private final BackendQueryCache queryCache;
+
+		ReadContext(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+				Set<String> routingKeys, Executor searchExecutor, BackendQueryCache queryCache) {
 			this.indexNames = indexNames;
 			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
-			this.work = work;
+			this.searchExecutor = searchExecutor;
+			this.queryCache = queryCache;
 		}
 
 		@Override
@@ -104,6 +149,14 @@ public IndexReader getIndexReader() {
 			return indexReader;
 		}
 
+		@Override
+		public IndexSearcher createIndexSearcher() {
+			// A null executor means searches will be executed in the current thread only
+			IndexSearcher indexSearcher = new IndexSearcher( indexReader, searchExecutor );
+			queryCache.configure( indexSearcher );
+			return indexSearcher;
+		}
+
 		@Override
 		public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
 			return indexReader.getMetadataResolver();
@@ -114,14 +167,6 @@ public EventContext getEventContext() {
 			return EventContexts.fromIndexNames( indexNames );
 		}
 
-		public void execute() {
-			result = work.execute( this );
-		}
-
-		public T getResult() {
-			return result;
-		}
-
 		@Override
 		public void close() {
 			try {
@@ -133,4 +178,22 @@ public void close() {
 		}
 	}
 
+	private class PinnedReadWorkExecutor implements LucenePinnedReadWorkExecutor {
+		private final ReadContext readContext;
+
+		PinnedReadWorkExecutor(ReadContext readContext) {
+			this.readContext = readContext;
+		}
+
+		@Override
+		public <T> T submit(ReadWork<T> work) {
+			return LuceneSyncWorkOrchestratorImpl.this.submit( readContext, work );
+		}
+
+		@Override
+		public void close() {
+			readContext.close();
+		}
+	}
+
 }
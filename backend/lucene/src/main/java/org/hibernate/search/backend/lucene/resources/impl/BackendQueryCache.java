@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.resources.impl;
+
+import java.util.function.Predicate;
+
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.HibernateSearchQueryCachingPolicy;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * The query cache shared by all index searchers of a backend.
+ * <p>
+ * Lucene's default query cache is static, and thus shared by the whole JVM;
+ * this cache is per backend instead, so that it can be sized and monitored per backend.
+ */
+public class BackendQueryCache implements LuceneQueryCacheStatistics {
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHE_MAX_QUERIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MAX_QUERIES )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_QUERIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MAX_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHE_MIN_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MIN_SEGMENT_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_MIN_SEGMENT_SIZE )
+					.build();
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	/*
+	 * Same as Lucene's default: skip caching when building the cache entry
+	 * would be more than 250 times as costly as running the query.
+	 */
+	private static final float SKIP_CACHE_FACTOR = 250f;
+
+	public static BackendQueryCache create(ConfigurationPropertySource propertySource) {
+		int maxQueries = QUERY_CACHE_MAX_QUERIES.get( propertySource );
+		int maxSizeInMegabytes = QUERY_CACHE_MAX_SIZE.get( propertySource );
+		int minSegmentSize = QUERY_CACHE_MIN_SEGMENT_SIZE.get( propertySource );
+		LRUQueryCache cache = null;
+		if ( maxQueries > 0 && maxSizeInMegabytes > 0 ) {
+			// Lucene's default leaves predicate only caches on segments with at least 10,000 documents
+			// representing at least 3% of the index, which in practice disables caching on small indexes.
+			Predicate<LeafReaderContext> leavesToCache = leaf -> leaf.reader().maxDoc() >= minSegmentSize;
+			cache = new LRUQueryCache( maxQueries, maxSizeInMegabytes * BYTES_PER_MEGABYTE,
+					leavesToCache, SKIP_CACHE_FACTOR );
+		}
+		return new BackendQueryCache( cache );
+	}
+
+	private final LRUQueryCache cache;
+	private final QueryCachingPolicy cachingPolicy = new HibernateSearchQueryCachingPolicy();
+
+	private BackendQueryCache(LRUQueryCache cache) {
+		this.cache = cache;
+	}
+
+	public void configure(IndexSearcher indexSearcher) {
+		// A null cache disables caching
+		indexSearcher.setQueryCache( cache );
+		indexSearcher.setQueryCachingPolicy( cachingPolicy );
+	}
+
+	public void clear() {
+		if ( cache != null ) {
+			cache.clear();
+		}
+	}
+
+	@Override
+	public long getHitCount() {
+		return cache == null ? 0L : cache.getHitCount();
+	}
+
+	@Override
+	public long getMissCount() {
+		return cache == null ? 0L : cache.getMissCount();
+	}
+
+	@Override
+	public long getCacheSize() {
+		return cache == null ? 0L : cache.getCacheSize();
+	}
+
+	@Override
+	public long getCacheCount() {
+		return cache == null ? 0L : cache.getCacheCount();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return cache == null ? 0L : cache.getEvictionCount();
+	}
+
+	@Override
+	public long getRamBytesUsed() {
+		return cache == null ? 0L : cache.ramBytesUsed();
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -23,10 +24,17 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -46,12 +54,25 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			// Searches are split into slices that are executed in parallel in this thread pool.
+			// Queries are never executed in the write executor, so that long-running writes
+			// (commits, merges, ...) cannot delay searches, and vice-versa.
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+					searchThreadPoolSize, prefix + " - Search thread"
+			);
+		}
 	}
 
 	public void onStop() {
 		if ( writeExecutor != null ) {
 			writeExecutor.shutdownNow();
 		}
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+		}
 	}
 
 	public ThreadProvider getThreadProvider() {
@@ -64,6 +85,15 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for parallel execution of searches,
+	 * or {@code null} if searches should be executed in the calling thread only.
+	 */
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
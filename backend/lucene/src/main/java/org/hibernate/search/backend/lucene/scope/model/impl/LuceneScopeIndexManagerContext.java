@@ -8,6 +8,10 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 
+import org.apache.lucene.search.Sort;
+
 public interface LuceneScopeIndexManagerContext extends ReadIndexManagerContext {
 
+	Sort getIndexSortOrNull();
+
 }
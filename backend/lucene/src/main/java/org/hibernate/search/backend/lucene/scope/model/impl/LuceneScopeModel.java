@@ -236,6 +236,13 @@ public String getNestedDocumentPath(String absoluteFieldPath) {
 		return nestedDocumentPath.orElse( null );
 	}
 
+	public boolean isDecodableFromDocValuesInAllIndexes(String absoluteFieldPath) {
+		return indexModels.stream()
+				.map( indexModel -> indexModel.getFieldNode( absoluteFieldPath ) )
+				.filter( Objects::nonNull )
+				.allMatch( fieldNode -> fieldNode.getCodec().isDecodableFromDocValues() );
+	}
+
 	public List<String> getNestedPathHierarchyForField(String absoluteFieldPath) {
 		Optional<List<String>> nestedDocumentPath = indexModels.stream()
 				.map( indexModel -> indexModel.getFieldNode( absoluteFieldPath ) )
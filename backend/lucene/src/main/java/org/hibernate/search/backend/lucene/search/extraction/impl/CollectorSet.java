@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -22,11 +24,51 @@
 
 public class CollectorSet {
 
+	/**
+	 * Merges collector sets that were each applied to a different slice of the index.
+	 * <p>
+	 * Only collectors added through {@link Builder#addAll(Set)} are merged,
+	 * using {@link CollectorFactory#reduce(java.util.Collection)}.
+	 * Collectors added through {@link Builder#add(CollectorKey, Collector)} are expected
+	 * to be merged by the caller, from the collector sets of each slice.
+	 *
+	 * @param slices The collector sets to merge, in the order of the slices.
+	 * @return A collector set holding the data of all the given collector sets.
+	 * It cannot be used for collection: {@link #getComposed()} will return {@code null}.
+	 * @throws IOException If merging fails.
+	 */
+	public static CollectorSet reduce(List<CollectorSet> slices) throws IOException {
+		if ( slices.size() == 1 ) {
+			return slices.get( 0 );
+		}
+
+		Map<CollectorKey<?>, CollectorFactory<?>> factories = slices.get( 0 ).factories;
+		Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		for ( CollectorFactory<?> factory : factories.values() ) {
+			components.put( factory.getCollectorKey(), reduce( factory, slices ) );
+		}
+
+		return new CollectorSet( null, factories, components );
+	}
+
+	private static <C extends Collector> C reduce(CollectorFactory<C> factory, List<CollectorSet> slices)
+			throws IOException {
+		CollectorKey<C> key = factory.getCollectorKey();
+		List<C> collectors = new ArrayList<>( slices.size() );
+		for ( CollectorSet slice : slices ) {
+			collectors.add( slice.get( key ) );
+		}
+		return factory.reduce( collectors );
+	}
+
 	private final Collector composed;
+	private final Map<CollectorKey<?>, CollectorFactory<?>> factories;
 	private final Map<CollectorKey<?>, Collector> components;
 
-	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components) {
+	private CollectorSet(Collector composed, Map<CollectorKey<?>, CollectorFactory<?>> factories,
+			Map<CollectorKey<?>, Collector> components) {
 		this.composed = composed;
+		this.factories = factories;
 		this.components = components;
 	}
 
@@ -44,6 +86,7 @@ public static class Builder {
 		private final CollectorExecutionContext executionContext;
 		private final TimeoutManager timeoutManager;
 
+		private final Map<CollectorKey<?>, CollectorFactory<?>> factories = new LinkedHashMap<>();
 		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
@@ -58,6 +101,7 @@ public <C extends Collector> void add(CollectorKey<C> key, C collector) {
 		public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOException {
 			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
 				Collector collector = collectorFactory.createCollector( executionContext );
+				factories.put( collectorFactory.getCollectorKey(), collectorFactory );
 				components.put( collectorFactory.getCollectorKey(), collector );
 			}
 		}
@@ -68,7 +112,7 @@ public CollectorSet build() {
 					timeoutManager
 			);
 
-			return new CollectorSet( composed, components );
+			return new CollectorSet( composed, factories, components );
 		}
 
 		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.TimeLimitingCollector;
+
+/**
+ * A {@link CollectorManager} creating one {@link CollectorSet} per index slice,
+ * so that collection can be executed in parallel by an {@link org.apache.lucene.search.IndexSearcher}
+ * that was given an executor.
+ * <p>
+ * The collector sets of each slice are returned as-is by {@link #reduce(Collection)},
+ * in the order of slices: callers are expected to merge them, see {@link CollectorSet#reduce(List)}.
+ */
+final class CollectorSetManager implements CollectorManager<Collector, List<CollectorSet>> {
+
+	private final SliceCollectorSetFactory sliceCollectorSetFactory;
+	private final TimeoutManager timeoutManager;
+
+	// Lucene calls newCollector() from the calling thread, before executing slices
+	private final List<CollectorSet> slices = new ArrayList<>();
+
+	CollectorSetManager(SliceCollectorSetFactory sliceCollectorSetFactory, TimeoutManager timeoutManager) {
+		this.sliceCollectorSetFactory = sliceCollectorSetFactory;
+		this.timeoutManager = timeoutManager;
+	}
+
+	@Override
+	public Collector newCollector() throws IOException {
+		CollectorSet slice = sliceCollectorSetFactory.create();
+		slices.add( slice );
+		return new TimeoutTerminatingCollector( slice.getComposed(), timeoutManager );
+	}
+
+	@Override
+	public List<CollectorSet> reduce(Collection<Collector> collectors) {
+		return slices;
+	}
+
+	@FunctionalInterface
+	interface SliceCollectorSetFactory {
+		CollectorSet create() throws IOException;
+	}
+
+	/**
+	 * Terminates collection of each remaining segment upon timeout,
+	 * instead of aborting the whole search with an exception.
+	 * <p>
+	 * When slices are executed in parallel, an exception would be propagated as soon as one slice fails,
+	 * while other slices are still executing:
+	 * terminating collection ensures we only access collectors after all slices are done.
+	 */
+	private static final class TimeoutTerminatingCollector extends FilterCollector {
+
+		private final TimeoutManager timeoutManager;
+
+		TimeoutTerminatingCollector(Collector in, TimeoutManager timeoutManager) {
+			super( in );
+			this.timeoutManager = timeoutManager;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			try {
+				return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+					@Override
+					public void collect(int doc) throws IOException {
+						try {
+							super.collect( doc );
+						}
+						catch (TimeLimitingCollector.TimeExceededException e) {
+							throw onTimeout();
+						}
+					}
+				};
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				throw onTimeout();
+			}
+		}
+
+		private CollectionTerminatedException onTimeout() {
+			// This will throw an exception in case of hard timeout
+			timeoutManager.forceTimedOut();
+			return new CollectionTerminatedException();
+		}
+	}
+}
@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
-import java.io.IOException;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -20,12 +19,9 @@
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -44,61 +40,34 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
-			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, ScoreDoc after, Long totalHitCountThreshold,
+			TimeoutManager timeoutManager) {
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, luceneQuery, maxDocs );
 
-		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
-
-		if ( maxDocs > 0 ) {
-			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
-			}
-			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
-				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
-			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+		if ( maxDocs > 0 && sort != null && requireScore ) {
+			// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+			// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+			// Thus we will have to set the scores ourselves.
+			requireFieldDocRescoring = true;
+			// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+			scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 		}
 
-		TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
-
-		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
-
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
 				luceneQuery,
+				sort, maxDocs, after,
+				// Lucene's threshold is an int
+				totalHitCountThreshold == null ? Integer.MAX_VALUE
+						: (int) Math.max( 0L, Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) ),
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
-				collectorsForAllMatchingDocs,
+				executionContext,
+				requiredCollectorForAllMatchingDocsFactories,
 				requiredCollectorForTopDocsFactories,
 				timeoutManager
 		);
@@ -123,6 +92,7 @@ public static class Builder {
 
 		private boolean requireAllStoredFields = false;
 		private final Set<String> requiredStoredFields = new HashSet<>();
+		private final Set<String> requiredStoredFieldValues = new LinkedHashSet<>();
 		private final Set<String> requiredNestedDocumentPathsForStoredFields = new HashSet<>();
 
 		public void requireScore() {
@@ -151,6 +121,20 @@ public void requireStoredField(String absoluteFieldPath, String nestedDocumentPa
 			}
 		}
 
+		/**
+		 * Requires the raw value of a stored field, to be retrieved from the {@link StoredFieldsCollector}
+		 * without building a {@link org.apache.lucene.document.Document}.
+		 *
+		 * @param absoluteFieldPath The absolute path of the stored field.
+		 * @param nestedDocumentPath The path of the nested document containing the field, or {@code null}.
+		 */
+		public void requireStoredFieldValue(String absoluteFieldPath, String nestedDocumentPath) {
+			requiredStoredFieldValues.add( absoluteFieldPath );
+			if ( nestedDocumentPath != null ) {
+				requiredNestedDocumentPathsForStoredFields.add( nestedDocumentPath );
+			}
+		}
+
 		public ExtractionRequirements build() {
 			CollectorFactory<StoredFieldsCollector> storedFieldCollectorFactory = createStoredFieldCollectorFactoryOrNull();
 			if ( storedFieldCollectorFactory != null ) {
@@ -160,18 +144,23 @@ public ExtractionRequirements build() {
 		}
 
 		private CollectorFactory<StoredFieldsCollector> createStoredFieldCollectorFactoryOrNull() {
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+			ReusableDocumentStoredFieldVisitor documentVisitor;
 			if ( requireAllStoredFields ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor();
+				documentVisitor = new ReusableDocumentStoredFieldVisitor();
 			}
 			else if ( !requiredStoredFields.isEmpty() ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
+				documentVisitor = new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
+			}
+			else if ( !requiredStoredFieldValues.isEmpty() ) {
+				// Only raw values are required: no need to build documents
+				documentVisitor = null;
 			}
 			else {
 				return null;
 			}
 
-			return StoredFieldsCollector.factory( storedFieldVisitor, requiredNestedDocumentPathsForStoredFields );
+			return StoredFieldsCollector.factory( documentVisitor, requiredStoredFieldValues,
+					requiredNestedDocumentPathsForStoredFields );
 		}
 	}
 }
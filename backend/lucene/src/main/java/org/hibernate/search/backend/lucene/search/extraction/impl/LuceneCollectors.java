@@ -7,11 +7,14 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorManagerUtils;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsPositions;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
@@ -21,11 +24,15 @@
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
@@ -36,30 +43,50 @@ public class LuceneCollectors {
 
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
+	private final Sort sort;
+	private final int maxDocs;
+	private final ScoreDoc after;
+	private final int totalHitCountThreshold;
+	private final boolean requireTotalHitCountCollector;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorExecutionContext executionContextForAllMatchingDocs;
+	private final Set<CollectorFactory<?>> collectorsForAllMatchingDocsFactories;
+	private CollectorSet collectorsForAllMatchingDocs;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
-	private long totalHitCount = 0;
+	private TotalHits totalHits = new TotalHits( 0L, TotalHits.Relation.EQUAL_TO );
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
+			Sort sort, int maxDocs, ScoreDoc after, int totalHitCountThreshold,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			CollectorExecutionContext executionContextForAllMatchingDocs,
+			Set<CollectorFactory<?>> collectorsForAllMatchingDocsFactories,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.after = after;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		// Counting hits exactly is only avoidable when the top docs collector is the only collector:
+		// other collectors for all matching docs (e.g. aggregations) visit every matching document anyway,
+		// and MultiCollector ignores the minimum competitive score set by the top docs collector.
+		this.requireTotalHitCountCollector = maxDocs == 0
+				|| totalHitCountThreshold == Integer.MAX_VALUE
+				|| !collectorsForAllMatchingDocsFactories.isEmpty();
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.executionContextForAllMatchingDocs = executionContextForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsFactories = collectorsForAllMatchingDocsFactories;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
@@ -71,21 +98,17 @@ public void collect(int offset, Integer limit) throws IOException {
 		}
 
 		// Phase 1: collect top docs and aggregations
-		try {
-			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
+		if ( indexSearcher.getExecutor() == null ) {
+			collectAllMatchingDocsSequentially( offset, limit );
 		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			timeoutManager.forceTimedOut();
+		else {
+			collectAllMatchingDocsInParallel( offset, limit );
 		}
 
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
-
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		if ( topDocs == null ) {
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
 		if ( requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
@@ -110,14 +133,97 @@ public CollectorSet getCollectorsForTopDocs() {
 		return collectorsForTopDocs;
 	}
 
-	public long getTotalHitCount() {
-		return totalHitCount;
+	public TotalHits getTotalHits() {
+		return totalHits;
 	}
 
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
+	private void collectAllMatchingDocsSequentially(int offset, Integer limit) throws IOException {
+		CollectorSet collectorSet = createCollectorsForAllMatchingDocs();
+		try {
+			indexSearcher.search( luceneQuery, collectorSet.getComposed() );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			timeoutManager.forceTimedOut();
+		}
+
+		this.collectorsForAllMatchingDocs = collectorSet;
+
+		TopDocsCollector<?> topDocsCollector = collectorSet.get( TOP_DOCS_KEY );
+		if ( topDocsCollector != null ) {
+			extractTopDocs( topDocsCollector, offset, limit );
+		}
+
+		if ( requireTotalHitCountCollector ) {
+			this.totalHits = exactTotalHits( collectorSet.get( TOTAL_HIT_COUNT_KEY ).getTotalHits() );
+		}
+		else {
+			// The top docs collector counted hits, up to the threshold
+			this.totalHits = topDocs.totalHits;
+		}
+	}
+
+	private void collectAllMatchingDocsInParallel(int offset, Integer limit) throws IOException {
+		// Each slice of the index gets its own collectors, which we merge after the search.
+		List<CollectorSet> slices = CollectorManagerUtils.search(
+				indexSearcher, luceneQuery,
+				new CollectorSetManager( this::createCollectorsForAllMatchingDocs, timeoutManager )
+		);
+
+		this.collectorsForAllMatchingDocs = CollectorSet.reduce( slices );
+
+		if ( maxDocs > 0 ) {
+			mergeTopDocs( slices, offset );
+		}
+
+		if ( requireTotalHitCountCollector ) {
+			long sliceTotalHitCountSum = 0L;
+			for ( CollectorSet slice : slices ) {
+				sliceTotalHitCountSum += slice.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+			}
+			this.totalHits = exactTotalHits( sliceTotalHitCountSum );
+		}
+		else {
+			// Merging top docs also sums the hit counts of each slice, exact or not
+			this.totalHits = topDocs.totalHits;
+		}
+	}
+
+	private CollectorSet createCollectorsForAllMatchingDocs() throws IOException {
+		CollectorSet.Builder builder =
+				new CollectorSet.Builder( executionContextForAllMatchingDocs, timeoutManager );
+		if ( maxDocs > 0 ) {
+			builder.add( TOP_DOCS_KEY, createTopDocsCollector() );
+		}
+		if ( requireTotalHitCountCollector ) {
+			builder.add( TOTAL_HIT_COUNT_KEY, new TotalHitCountCollector() );
+		}
+		builder.addAll( collectorsForAllMatchingDocsFactories );
+		return builder.build();
+	}
+
+	private TopDocsCollector<?> createTopDocsCollector() {
+		// When we count hits with a separate collector, there is no point in having the top docs collector
+		// stop counting, since MultiCollector ignores the total hit count optimization anyway.
+		// Otherwise, once the threshold is reached, the top docs collector skips non-competitive documents,
+		// and even stops collecting segments entirely when they are sorted on a prefix of the sort (index sort).
+		int topDocsTotalHitsThreshold = requireTotalHitCountCollector ? Integer.MAX_VALUE : totalHitCountThreshold;
+		// When scrolling, "after" is the last top doc of the previous chunk: only collect the docs that come after it.
+		if ( sort == null ) {
+			return TopScoreDocCollector.create( maxDocs, after, topDocsTotalHitsThreshold );
+		}
+		else {
+			return TopFieldCollector.create( sort, maxDocs, (FieldDoc) after, topDocsTotalHitsThreshold );
+		}
+	}
+
+	private static TotalHits exactTotalHits(long hitCount) {
+		return new TotalHits( hitCount, TotalHits.Relation.EQUAL_TO );
+	}
+
 	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
 		if ( limit == null ) {
 			topDocs = topDocsCollector.topDocs( offset );
@@ -127,6 +233,26 @@ private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, In
 		}
 	}
 
+	private void mergeTopDocs(List<CollectorSet> slices, int offset) {
+		// maxDocs already takes the limit into account
+		int size = Math.max( 0, maxDocs - offset );
+		if ( sort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[slices.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = slices.get( i ).get( TOP_DOCS_KEY ).topDocs();
+			}
+			// Ties are broken using the slice index, then the doc ID, which preserves the order of documents.
+			topDocs = TopDocs.merge( offset, size, sliceTopDocs, true );
+		}
+		else {
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[slices.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = (TopFieldDocs) slices.get( i ).get( TOP_DOCS_KEY ).topDocs();
+			}
+			topDocs = TopDocs.merge( sort, offset, size, sliceTopDocs, true );
+		}
+	}
+
 	private void handleRescoring(IndexSearcher indexSearcher, Query luceneQuery) throws IOException {
 		if ( scoreSortFieldIndexForRescoring != null ) {
 			// If there's a SCORE sort field, just get the score value from the sort field
@@ -150,7 +276,8 @@ private void applyCollectorsToTopDocs() throws IOException {
 				// Only join nested documents for the top documents (not for all documents matching this.luceneQuery).
 				topDocsQuery,
 				// Allocate just enough memory to handle the top documents.
-				topDocs.scoreDocs.length
+				topDocs.scoreDocs.length,
+				TopDocsPositions.of( topDocs.scoreDocs )
 		);
 
 		CollectorSet.Builder collectorForTopDocsBuilder =
@@ -12,12 +12,15 @@ public class LuceneResult {
 
 	private final Document document;
 
+	private final int hitIndex;
+
 	private final int docId;
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	public LuceneResult(Document document, int hitIndex, int docId, float score) {
 		this.document = document;
+		this.hitIndex = hitIndex;
 		this.docId = docId;
 		this.score = score;
 	}
@@ -30,6 +33,15 @@ public Document getDocument() {
 		return document;
 	}
 
+	/**
+	 * @return The position of this hit in the top docs,
+	 * to retrieve data from collectors storing their data in arrays aligned with top docs.
+	 * @see org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsPositions
+	 */
+	public int getHitIndex() {
+		return hitIndex;
+	}
+
 	public int getDocId() {
 		return docId;
 	}
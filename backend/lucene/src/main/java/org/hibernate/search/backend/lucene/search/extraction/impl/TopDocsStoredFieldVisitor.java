@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.StoredFieldVisitor;
+
+/**
+ * A visitor that loads stored fields for each hit in the top docs,
+ * storing the raw value of some fields directly into slots aligned with top docs,
+ * and optionally delegating to a {@link ReusableDocumentStoredFieldVisitor}
+ * for fields that must be exposed as a {@link Document}.
+ * <p>
+ * Only the first value of each slot field is kept for each hit,
+ * consistently with {@link Document#getField(String)}.
+ * <p>
+ * A TopDocsStoredFieldVisitor is NOT threadsafe, and must not be reused across searches.
+ */
+public final class TopDocsStoredFieldVisitor extends StoredFieldVisitor {
+
+	private final ReusableDocumentStoredFieldVisitor documentVisitor;
+
+	private final Map<String, Integer> slotIndexes;
+	// Indexed by slot, then by hit index
+	private final Object[][] slots;
+
+	private int currentHitIndex;
+	private int currentHitMissingSlotValues;
+
+	private int currentFieldSlot = -1;
+	private boolean currentFieldToDocument;
+
+	/**
+	 * @param documentVisitor A visitor for fields that must be exposed as a {@link Document},
+	 * or {@code null} if no such field is required.
+	 * @param slotFieldPaths The absolute path of fields whose raw value must be stored into slots.
+	 * @param hitCount The number of hits in the top docs.
+	 */
+	public TopDocsStoredFieldVisitor(ReusableDocumentStoredFieldVisitor documentVisitor,
+			Set<String> slotFieldPaths, int hitCount) {
+		this.documentVisitor = documentVisitor;
+		this.slotIndexes = new HashMap<>();
+		for ( String slotFieldPath : slotFieldPaths ) {
+			slotIndexes.put( slotFieldPath, slotIndexes.size() );
+		}
+		this.slots = new Object[slotIndexes.size()][hitCount];
+	}
+
+	/**
+	 * Prepares this visitor for visiting the documents of a given hit,
+	 * i.e. the document matching the query and its nested documents.
+	 *
+	 * @param hitIndex The position of the hit in the top docs.
+	 */
+	public void startHit(int hitIndex) {
+		this.currentHitIndex = hitIndex;
+		this.currentHitMissingSlotValues = slots.length;
+	}
+
+	/**
+	 * @return The document populated with the stored fields visited since the last call,
+	 * or {@code null} if no field must be exposed as a {@link Document}.
+	 * @see ReusableDocumentStoredFieldVisitor#getDocumentAndReset()
+	 */
+	public Document getDocumentAndReset() {
+		return documentVisitor == null ? null : documentVisitor.getDocumentAndReset();
+	}
+
+	/**
+	 * @param hitIndex The position of a hit in the top docs.
+	 * @param absoluteFieldPath The absolute path of a slot field.
+	 * @return The raw stored value of the given field for the given hit, or {@code null} if there is none.
+	 */
+	public Object getSlotValue(int hitIndex, String absoluteFieldPath) {
+		Integer slotIndex = slotIndexes.get( absoluteFieldPath );
+		if ( slotIndex == null ) {
+			throw new AssertionFailure( "Stored field value for '" + absoluteFieldPath + "' was not required" );
+		}
+		return slots[slotIndex][hitIndex];
+	}
+
+	@Override
+	public Status needsField(FieldInfo fieldInfo) {
+		Integer slotIndex = slotIndexes.get( fieldInfo.name );
+		boolean slotNeeded = slotIndex != null && slots[slotIndex][currentHitIndex] == null;
+		Status documentStatus = documentVisitor == null ? Status.STOP : documentVisitor.needsField( fieldInfo );
+
+		currentFieldSlot = slotNeeded ? slotIndex : -1;
+		currentFieldToDocument = documentStatus == Status.YES;
+
+		if ( slotNeeded || currentFieldToDocument ) {
+			return Status.YES;
+		}
+		else if ( documentStatus == Status.STOP && currentHitMissingSlotValues == 0 ) {
+			return Status.STOP;
+		}
+		else {
+			return Status.NO;
+		}
+	}
+
+	@Override
+	public void binaryField(FieldInfo fieldInfo, byte[] value) {
+		if ( currentFieldSlot >= 0 ) {
+			fillSlot( value );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.binaryField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void stringField(FieldInfo fieldInfo, byte[] value) {
+		if ( currentFieldSlot >= 0 ) {
+			fillSlot( new String( value, StandardCharsets.UTF_8 ) );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.stringField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void intField(FieldInfo fieldInfo, int value) {
+		if ( currentFieldSlot >= 0 ) {
+			fillSlot( value );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.intField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void longField(FieldInfo fieldInfo, long value) {
+		if ( currentFieldSlot >= 0 ) {
+			fillSlot( value );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.longField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void floatField(FieldInfo fieldInfo, float value) {
+		if ( currentFieldSlot >= 0 ) {
+			fillSlot( value );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.floatField( fieldInfo, value );
+		}
+	}
+
+	@Override
+	public void doubleField(FieldInfo fieldInfo, double value) {
+		if ( currentFieldSlot >= 0 ) {
+			fillSlot( value );
+		}
+		if ( currentFieldToDocument ) {
+			documentVisitor.doubleField( fieldInfo, value );
+		}
+	}
+
+	private void fillSlot(Object value) {
+		slots[currentFieldSlot][currentHitIndex] = value;
+		--currentHitMissingSlotValues;
+	}
+}
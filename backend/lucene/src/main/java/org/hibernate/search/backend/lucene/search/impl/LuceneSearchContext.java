@@ -6,12 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.search.impl;
 
+import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
@@ -22,6 +24,8 @@
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 public final class LuceneSearchContext {
 
@@ -72,6 +76,20 @@ public Set<? extends ReadIndexManagerContext> getIndexManagerContexts() {
 		return scopeModel.getIndexManagerContexts();
 	}
 
+	/**
+	 * @param sortField A native sort field.
+	 * @return {@code true} if the index sort of every targeted index includes the given sort field.
+	 */
+	public boolean isIndexSortedOn(SortField sortField) {
+		for ( LuceneScopeIndexManagerContext indexManagerContext : scopeModel.getIndexManagerContexts() ) {
+			Sort indexSort = indexManagerContext.getIndexSortOrNull();
+			if ( indexSort == null || !Arrays.asList( indexSort.getSort() ).contains( sortField ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public Query getFilterOrNull(String tenantId) {
 		return multiTenancyStrategy.getFilterOrNull( tenantId );
 	}
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.dsl;
 
+import java.util.function.Function;
+
 import org.apache.lucene.search.Query;
 
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 
@@ -23,4 +26,49 @@ public interface LuceneSearchPredicateFactory extends SearchPredicateFactory {
 	 * @return The final step of the predicate DSL.
 	 */
 	PredicateFinalStep fromLuceneQuery(Query query);
+
+	/**
+	 * Wrap a previously-built {@link SearchPredicate}
+	 * so that its matching documents are always cached in the query cache of the backend
+	 * when it is used as a filter, e.g. in a {@link org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep#filter(SearchPredicate) filter clause}.
+	 * <p>
+	 * By default, only predicates that are used frequently are cached.
+	 * Marking as cached a predicate that is expensive to evaluate and reused in many queries
+	 * (for example a predicate restricting results to a given tenant or organization)
+	 * ensures it is evaluated once per index segment instead of once per query.
+	 * <p>
+	 * Matching documents and scores are unaffected.
+	 *
+	 * @param searchPredicate The predicate to cache.
+	 * @return The final step of the predicate DSL.
+	 */
+	PredicateFinalStep cached(SearchPredicate searchPredicate);
+
+	/**
+	 * Wrap an almost-built {@link SearchPredicate}
+	 * so that its matching documents are always cached in the query cache of the backend
+	 * when it is used as a filter.
+	 *
+	 * @param dslFinalStep A final step in the predicate DSL allowing the retrieval of a {@link SearchPredicate}.
+	 * @return The final step of the predicate DSL.
+	 * @see #cached(SearchPredicate)
+	 */
+	default PredicateFinalStep cached(PredicateFinalStep dslFinalStep) {
+		return cached( dslFinalStep.toPredicate() );
+	}
+
+	/**
+	 * Wrap the predicate defined by the given function
+	 * so that its matching documents are always cached in the query cache of the backend
+	 * when it is used as a filter.
+	 * <p>
+	 * Best used with lambda expressions.
+	 *
+	 * @param predicateContributor A function that will use the factory passed in parameter to create a predicate,
+	 * returning the final step in the predicate DSL.
+	 * Should generally be a lambda expression.
+	 * @return The final step of the predicate DSL.
+	 * @see #cached(SearchPredicate)
+	 */
+	PredicateFinalStep cached(Function<? super LuceneSearchPredicateFactory, ? extends PredicateFinalStep> predicateContributor);
 }
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.dsl.impl;
 
+import java.util.function.Function;
+
 import org.hibernate.search.backend.lucene.search.predicate.dsl.LuceneSearchPredicateFactory;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateBuilderFactory;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.predicate.dsl.spi.DelegatingSearchPredicateFactory;
@@ -31,4 +34,15 @@ public LuceneSearchPredicateFactoryImpl(SearchPredicateFactory delegate,
 	public PredicateFinalStep fromLuceneQuery(Query luceneQuery) {
 		return new LuceneQueryPredicateFinalStep( factory, luceneQuery );
 	}
+
+	@Override
+	public PredicateFinalStep cached(SearchPredicate searchPredicate) {
+		return new LuceneCachedPredicateFinalStep( factory, searchPredicate );
+	}
+
+	@Override
+	public PredicateFinalStep cached(
+			Function<? super LuceneSearchPredicateFactory, ? extends PredicateFinalStep> predicateContributor) {
+		return cached( predicateContributor.apply( this ) );
+	}
 }
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.predicate.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+
+import org.apache.lucene.search.Query;
+
+class LuceneCachedPredicateBuilder implements LuceneSearchPredicateBuilder {
+
+	private final LuceneSearchPredicateBuilder delegate;
+
+	LuceneCachedPredicateBuilder(LuceneSearchPredicateBuilder delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void checkNestableWithin(String expectedParentNestedPath) {
+		delegate.checkNestableWithin( expectedParentNestedPath );
+	}
+
+	@Override
+	public Query build(LuceneSearchPredicateContext context) {
+		return Queries.cached( delegate.build( context ) );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 
 import org.apache.lucene.search.Query;
@@ -15,4 +16,6 @@
 
 	LuceneSearchPredicateBuilder fromLuceneQuery(Query luceneQuery);
 
+	LuceneSearchPredicateBuilder cached(SearchPredicate predicate);
+
 }
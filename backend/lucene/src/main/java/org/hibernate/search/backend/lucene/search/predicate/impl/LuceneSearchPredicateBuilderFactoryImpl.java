@@ -179,6 +179,11 @@ public LuceneSearchPredicateBuilder fromLuceneQuery(Query query) {
 		return new LuceneUserProvidedLuceneQueryPredicateBuilder( query );
 	}
 
+	@Override
+	public LuceneSearchPredicateBuilder cached(SearchPredicate predicate) {
+		return new LuceneCachedPredicateBuilder( toImplementation( predicate ) );
+	}
+
 	private static class PredicateBuilderFactoryRetrievalStrategy
 			implements IndexSchemaFieldNodeComponentRetrievalStrategy<LuceneFieldPredicateBuilderFactory> {
 
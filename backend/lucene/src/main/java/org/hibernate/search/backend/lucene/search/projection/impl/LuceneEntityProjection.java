@@ -31,7 +31,7 @@ public void request(SearchProjectionRequestContext context) {
 	public Object extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
 		DocumentReference documentReference =
-				context.getCollector( DocumentReferenceCollector.KEY ).get( documentResult.getDocId() );
+				context.getCollector( DocumentReferenceCollector.KEY ).get( documentResult.getHitIndex() );
 		return mapper.planLoading( documentReference );
 	}
 
@@ -32,7 +32,7 @@ public void request(SearchProjectionRequestContext context) {
 	public R extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
 		DocumentReference documentReference =
-				context.getCollector( DocumentReferenceCollector.KEY ).get( documentResult.getDocId() );
+				context.getCollector( DocumentReferenceCollector.KEY ).get( documentResult.getHitIndex() );
 		return (R) mapper.convertReference( documentReference );
 	}
 
@@ -6,8 +6,16 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.util.Objects;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ProjectionDocValuesCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
+
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -15,7 +23,8 @@
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 
-class LuceneFieldProjection<F, V> implements LuceneSearchProjection<F, V> {
+class LuceneFieldProjection<F, V>
+		implements LuceneSearchProjection<F, V>, CollectorFactory<ProjectionDocValuesCollector<F>> {
 
 	private final Set<String> indexNames;
 	private final String absoluteFieldPath;
@@ -25,24 +34,54 @@
 
 	private final ProjectionConverter<? super F, V> converter;
 
+	private final ProjectionDocValuesSource<F> docValuesSource;
+	private final DocValuesCollectorKey<F> collectorKey;
+	private final boolean decodeStoredValue;
+
+	/**
+	 * @param docValuesSource A source of values extracted from doc values,
+	 * or {@code null} to extract values from stored fields:
+	 * raw stored values if the codec supports it, a {@link org.apache.lucene.document.Document} otherwise.
+	 */
 	LuceneFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			LuceneFieldCodec<F> codec, ProjectionConverter<? super F, V> converter) {
+			LuceneFieldCodec<F> codec, ProjectionConverter<? super F, V> converter,
+			ProjectionDocValuesSource<F> docValuesSource) {
 		this.indexNames = indexNames;
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.codec = codec;
 		this.converter = converter;
+		this.docValuesSource = docValuesSource;
+		this.collectorKey = docValuesSource == null ? null : new DocValuesCollectorKey<>( absoluteFieldPath );
+		this.decodeStoredValue = docValuesSource == null && codec.isDecodableFromStoredValue();
 	}
 
 	@Override
 	public void request(SearchProjectionRequestContext context) {
-		codec.contributeStoredFields( absoluteFieldPath, nestedDocumentPath, context::requireStoredField );
+		if ( docValuesSource != null ) {
+			context.requireCollector( this );
+		}
+		else if ( decodeStoredValue ) {
+			context.requireStoredFieldValue( absoluteFieldPath, nestedDocumentPath );
+		}
+		else {
+			codec.contributeStoredFields( absoluteFieldPath, nestedDocumentPath, context::requireStoredField );
+		}
 	}
 
 	@Override
 	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		if ( docValuesSource != null ) {
+			return context.getCollector( collectorKey ).get( documentResult.getHitIndex() );
+		}
+		else if ( decodeStoredValue ) {
+			return codec.decodeStoredValue( context.getCollector( StoredFieldsCollector.KEY )
+					.getStoredValue( documentResult.getHitIndex(), absoluteFieldPath ) );
+		}
+		else {
+			return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		}
 	}
 
 	@Override
@@ -62,7 +101,49 @@ public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", docValues=" ).append( docValuesSource != null )
 				.append( "]" );
 		return sb.toString();
 	}
+
+	@Override
+	public ProjectionDocValuesCollector<F> createCollector(CollectorExecutionContext context) {
+		return new ProjectionDocValuesCollector<>( context, absoluteFieldPath, docValuesSource,
+				document -> codec.decode( document, absoluteFieldPath ) );
+	}
+
+	@Override
+	public CollectorKey<ProjectionDocValuesCollector<F>> getCollectorKey() {
+		return collectorKey;
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 * See {@link #createCollector(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 */
+	private static final class DocValuesCollectorKey<F> implements CollectorKey<ProjectionDocValuesCollector<F>> {
+
+		private final String absoluteFieldPath;
+
+		private DocValuesCollectorKey(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			DocValuesCollectorKey<?> other = (DocValuesCollectorKey<?>) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( absoluteFieldPath );
+		}
+	}
 }
@@ -8,6 +8,7 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.projection.SearchProjection;
@@ -18,22 +19,33 @@
 	private final Set<String> indexNames;
 	private final String absoluteFieldPath;
 	private final String nestedDocumentPath;
+	private final boolean docValuesAllowed;
 
 	private final ProjectionConverter<? super F, V> converter;
 	private final LuceneFieldCodec<F> codec;
 
 	public LuceneFieldProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
+			boolean docValuesAllowed,
 			ProjectionConverter<? super F, V> converter,
 			LuceneFieldCodec<F> codec) {
 		this.indexNames = indexNames;
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.nestedDocumentPath = nestedDocumentPath;
+		this.docValuesAllowed = docValuesAllowed;
 		this.converter = converter;
 		this.codec = codec;
 	}
 
 	@Override
 	public SearchProjection<V> build() {
-		return new LuceneFieldProjection<>( indexNames, absoluteFieldPath, nestedDocumentPath, codec, converter );
+		// Prefer doc values when possible: loading stored fields means decompressing a whole block for each hit.
+		// Nested documents are not handled by doc values projections, so they still rely on stored fields.
+		// So do fields whose doc values are not decodable in every targeted index.
+		ProjectionDocValuesSource<F> docValuesSource = null;
+		if ( docValuesAllowed && nestedDocumentPath == null && codec.isDecodableFromDocValues() ) {
+			docValuesSource = codec.createProjectionDocValuesSource( absoluteFieldPath );
+		}
+		return new LuceneFieldProjection<>( indexNames, absoluteFieldPath, nestedDocumentPath, codec, converter,
+				docValuesSource );
 	}
 }
@@ -27,6 +27,10 @@ public void requireStoredField(String absoluteFieldPath, String nestedDocumentPa
 		extractionRequirementsBuilder.requireStoredField( absoluteFieldPath, nestedDocumentPath );
 	}
 
+	public void requireStoredFieldValue(String absoluteFieldPath, String nestedDocumentPath) {
+		extractionRequirementsBuilder.requireStoredFieldValue( absoluteFieldPath, nestedDocumentPath );
+	}
+
 	public void requireScore() {
 		extractionRequirementsBuilder.requireScore();
 	}
@@ -12,17 +12,22 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+
+import org.apache.lucene.search.ScoreDoc;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
- * Allows to run loading in the user thread, and not in the backend HTTP request threads.
+ * Allows to run loading in the user thread, and not in the backend HTTP request threads,
+ * unless loading is explicitly requested to happen asynchronously.
  * <p>
  * <strong>WARNING:</strong> loading should only be triggered once.
  * <p>
@@ -34,7 +39,7 @@
 	private final LuceneSearchQueryExtractContext extractContext;
 	private final LuceneSearchProjection<?, H> rootProjection;
 
-	private final long hitCount;
+	private final SearchResultTotal resultTotal;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private Duration took;
@@ -42,22 +47,46 @@
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
+			SearchResultTotal resultTotal, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Duration took, boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
-		this.hitCount = hitCount;
+		this.resultTotal = resultTotal;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
 	}
 
+	/**
+	 * @return The top doc of the last extracted hit, to be used as the starting point of the next scroll chunk,
+	 * or {@code null} if no hit was extracted.
+	 * Must be called before {@link #loadBlocking()}.
+	 */
+	ScoreDoc getLastExtractedTopDoc() {
+		if ( extractedData.isEmpty() ) {
+			return null;
+		}
+		// Extraction may stop early on timeout, so we cannot just take the last top doc.
+		return extractContext.getTopDocs().scoreDocs[extractedData.size() - 1];
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
-		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
+		return transform( extractContext.getProjectionHitMapper().loadBlocking() );
+	}
+
+	/**
+	 * @return A future that will be completed with the loaded result.
+	 * Loading is delegated to the mapper, which may or may not support it:
+	 * see {@link org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper#loadAsync()}.
+	 */
+	CompletionStage<LuceneSearchResult<H>> loadAsync() {
+		return extractContext.getProjectionHitMapper().loadAsync().thenApply( this::transform );
+	}
 
-		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
+	private LuceneSearchResult<H> transform(LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -88,6 +117,6 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut );
+		return new LuceneSearchResultImpl<>( resultTotal, loadedHits, extractedAggregations, took, timedOut );
 	}
 }
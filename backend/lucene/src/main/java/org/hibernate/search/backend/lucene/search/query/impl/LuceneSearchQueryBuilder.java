@@ -68,6 +68,7 @@
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -113,6 +114,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
@@ -168,15 +174,16 @@ public LuceneSearchQuery<H> build() {
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
 		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
-		luceneQueryBuilder.add( Queries.mainDocumentQuery(), Occur.FILTER );
+		// Metadata filters are the same for many queries: make sure they are always cached.
+		luceneQueryBuilder.add( Queries.cached( Queries.mainDocumentQuery() ), Occur.FILTER );
 		if ( !routingKeys.isEmpty() ) {
 			Query routingKeysQuery = Queries.anyTerm( MetadataFields.routingKeyFieldName(), routingKeys );
-			luceneQueryBuilder.add( routingKeysQuery, Occur.FILTER );
+			luceneQueryBuilder.add( Queries.cached( routingKeysQuery ), Occur.FILTER );
 		}
 
 		Query filter = searchContext.getFilterOrNull( sessionContext.getTenantIdentifier() );
 		if ( filter != null ) {
-			luceneQueryBuilder.add( filter, BooleanClause.Occur.FILTER );
+			luceneQueryBuilder.add( Queries.cached( filter ), BooleanClause.Occur.FILTER );
 		}
 
 		Query definitiveLuceneQuery = luceneQueryBuilder.build();
@@ -216,6 +223,7 @@ public LuceneSearchQuery<H> build() {
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
+				totalHitCountThreshold,
 				timeoutManager
 		);
 
@@ -8,9 +8,12 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LucenePinnedReadWorkExecutor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
@@ -24,7 +27,9 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
@@ -93,16 +98,43 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * See fetchAsync for loading in a non-blocking way.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		/*
+		 * The Lucene backend executes searches in-process, so there is no I/O to wait for:
+		 * we simply execute the search in the calling thread.
+		 * Only loading is delegated to the mapper, which may or may not perform it asynchronously.
+		 */
+		return Futures.create( () -> {
+			timeoutManager.start();
+			try {
+				ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
+				return doSubmit( work ).loadAsync().toCompletableFuture();
+			}
+			finally {
+				timeoutManager.stop();
+			}
+		} );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		LucenePinnedReadWorkExecutor executor = queryOrchestrator.openPinnedExecutor(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				routingKeys
+		);
+		return new LuceneSearchScroll<>( executor, workFactory, searcher, timeoutManager, chunkSize );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -112,6 +144,12 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		// Same as fetchAsync: there is no I/O to wait for, so we simply execute the count in the calling thread.
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public Explanation explain(String id) {
 		Contracts.assertNotNull( id, "id" );
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LucenePinnedReadWorkExecutor;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * A scroll relying on Lucene's "search after" feature:
+ * each chunk only collects the documents that come after the last hit of the previous chunk,
+ * so that the cost of retrieving a chunk does not depend on its position in the results.
+ * <p>
+ * The index readers are kept open for the whole duration of the scroll,
+ * so that document IDs remain valid from one chunk to the next.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe.
+ *
+ * @param <H> The type of hits.
+ */
+class LuceneSearchScroll<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LucenePinnedReadWorkExecutor executor;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final TimeoutManager timeoutManager;
+	private final int chunkSize;
+
+	private ScoreDoc after;
+	private boolean closed = false;
+
+	LuceneSearchScroll(LucenePinnedReadWorkExecutor executor,
+			LuceneWorkFactory workFactory,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			TimeoutManager timeoutManager,
+			int chunkSize) {
+		this.executor = executor;
+		this.workFactory = workFactory;
+		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		executor.close();
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.cannotUseClosedScroll();
+		}
+
+		timeoutManager.start();
+		LuceneSearchResult<H> result;
+		try {
+			ScoreDoc lastExtractedTopDoc;
+			do {
+				LuceneLoadableSearchResult<H> loadableResult =
+						executor.submit( workFactory.scroll( searcher, after, chunkSize ) );
+				lastExtractedTopDoc = loadableResult.getLastExtractedTopDoc();
+				if ( lastExtractedTopDoc != null ) {
+					after = lastExtractedTopDoc;
+				}
+				result = loadableResult.loadBlocking();
+			}
+			// If none of the hits in this chunk could be loaded (e.g. deleted entities),
+			// move on to the next chunk instead of signaling the end of the scroll.
+			while ( result.getHits().isEmpty() && lastExtractedTopDoc != null );
+		}
+		finally {
+			timeoutManager.stop();
+		}
+
+		return new SimpleSearchScrollResult<>( result.getTotal(), result.getHits(),
+				result.getTook(), result.isTimedOut() );
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorManagerUtils;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
@@ -28,6 +29,8 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -38,6 +41,7 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>> {
 
@@ -48,6 +52,7 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final Long totalHitCountThreshold;
 
 	private TimeoutManager timeoutManager;
 
@@ -55,11 +60,13 @@
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
+			Long totalHitCountThreshold,
 			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -77,9 +84,22 @@ public String toString() {
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit) throws IOException {
+		return doSearch( indexSearcher, metadataResolver, offset, limit, null );
+	}
+
+	@Override
+	public LuceneLoadableSearchResult<H> scroll(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int chunkSize) throws IOException {
+		return doSearch( indexSearcher, metadataResolver, 0, chunkSize, after );
+	}
+
+	private LuceneLoadableSearchResult<H> doSearch(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			int offset, Integer limit, ScoreDoc after) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit, after );
 
 		luceneCollectors.collect( offset, limit );
 
@@ -94,7 +114,7 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
-				luceneCollectors.getTotalHitCount(),
+				toResultTotal( luceneCollectors.getTotalHits() ),
 				extractedData,
 				extractedAggregations,
 				timeoutManager.getTookTime(),
@@ -110,7 +130,9 @@ public int count(IndexSearcher indexSearcher) throws IOException {
 		// Soft timeout has no sense in case of count,
 		// since there is no possible to have partial result.
 		if ( timeoutManager.hasHardTimeout() ) {
-			return indexSearcher.search( requestContext.getLuceneQuery(), new TimeoutCountCollectorManager( timeoutManager ) );
+			return CollectorManagerUtils.search(
+					indexSearcher, requestContext.getLuceneQuery(), new TimeoutCountCollectorManager( timeoutManager )
+			);
 		}
 
 		return indexSearcher.count( requestContext.getLuceneQuery() );
@@ -132,18 +154,22 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
-		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
-		//  as it is done in Search 5.
-		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+			int offset, Integer limit, ScoreDoc after) throws IOException {
+		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Users retrieving a large number of hits should rather scroll,
+		// so that maxDocs is bounded by the chunk size.
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
+				metadataResolver, maxDocs, after, totalHitCountThreshold, timeoutManager
 		);
 	}
 
+	private SearchResultTotal toResultTotal(TotalHits totalHits) {
+		return SimpleSearchResultTotal.of( totalHits.value, TotalHits.Relation.EQUAL_TO.equals( totalHits.relation ) );
+	}
+
 	private int getMaxDocs(IndexReader reader, int offset, Integer limit) {
 		if ( limit == null ) {
 			return reader.maxDoc();
@@ -179,9 +205,9 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 			}
 
 			ScoreDoc hit = topDocs.scoreDocs[i];
-			Document document = storedFieldsCollector == null ? null : storedFieldsCollector.getDocument( hit.doc );
+			Document document = storedFieldsCollector == null ? null : storedFieldsCollector.getDocument( i );
 
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+			LuceneResult luceneResult = new LuceneResult( document, i, hit.doc, hit.score );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExtractContext ) );
 		}
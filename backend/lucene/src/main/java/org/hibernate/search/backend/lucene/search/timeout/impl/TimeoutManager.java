@@ -50,7 +50,7 @@ private enum Type {
 	private final Type type;
 
 	private Long start;
-	boolean timedOut = false;
+	private volatile boolean timedOut = false;
 
 	private TimeoutManager(TimingSource timingSource, Query query, Long timeoutValue, TimeUnit timeoutUnit, Type type) {
 		this.timingSource = timingSource;
@@ -11,6 +11,7 @@
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextMultiValueFacetCounts;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
@@ -20,8 +21,6 @@
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.LeafReader;
-import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedSetDocValues;
 
 /**
@@ -54,24 +53,22 @@ FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
 	Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
 		TreeSet<String> collectedTerms = new TreeSet<>( descending ? STRING_COMPARATOR.reversed() : STRING_COMPARATOR );
-		for ( LeafReaderContext leaf : reader.leaves() ) {
-			final LeafReader atomicReader = leaf.reader();
-			SortedSetDocValues docValues = atomicReader.getSortedSetDocValues( absoluteFieldPath );
-			if ( docValues == null ) {
-				continue;
-			}
-			int valueCount = (int) docValues.getValueCount();
-			if ( descending ) {
-				int start = Math.max( 0, valueCount - limit );
-				for ( int i = start; i < valueCount; ++i ) {
-					collectedTerms.add( docValues.lookupOrd( i ).utf8ToString() );
-				}
+		// Global ordinals are sorted by term: we only need to look up the first (or last) ones.
+		SortedSetDocValues docValues = GlobalOrdinalsCache.getSortedSetValues( reader, absoluteFieldPath );
+		if ( docValues == null ) {
+			return collectedTerms;
+		}
+		long valueCount = docValues.getValueCount();
+		if ( descending ) {
+			long start = Math.max( 0L, valueCount - limit );
+			for ( long i = start; i < valueCount; ++i ) {
+				collectedTerms.add( docValues.lookupOrd( i ).utf8ToString() );
 			}
-			else {
-				int end = Math.min( limit, valueCount );
-				for ( int i = 0; i < end; ++i ) {
-					collectedTerms.add( docValues.lookupOrd( i ).utf8ToString() );
-				}
+		}
+		else {
+			long end = Math.min( limit, valueCount );
+			for ( long i = 0; i < end; ++i ) {
+				collectedTerms.add( docValues.lookupOrd( i ).utf8ToString() );
 			}
 		}
 		return collectedTerms;
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 
@@ -65,6 +66,19 @@ public final void encode(LuceneDocumentBuilder documentBuilder, String absoluteF
 		}
 	}
 
+	@Override
+	public boolean isDecodableFromDocValues() {
+		return ( sortable || aggregable ) && isDocValuesEncodingLossless();
+	}
+
+	@Override
+	public ProjectionDocValuesSource<F> createProjectionDocValuesSource(String absoluteFieldPath) {
+		LuceneNumericDomain<E> domain = getDomain();
+		return ProjectionDocValuesSource.fromSortedNumericField(
+				absoluteFieldPath, value -> decode( domain.sortedDocValueToTerm( value ) )
+		);
+	}
+
 	@Override
 	public Query createExistsQuery(String absoluteFieldPath) {
 		if ( sortable || aggregable ) {
@@ -94,6 +108,16 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number) decoding} an {@link #encode(Object) encoded} value
+	 * always returns a value equal to the original value,
+	 * so that projections can rely on doc values instead of stored fields.
+	 * {@code false} if some information is lost when encoding, for example the time zone or sub-millisecond precision.
+	 */
+	boolean isDocValuesEncodingLossless() {
+		return false;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
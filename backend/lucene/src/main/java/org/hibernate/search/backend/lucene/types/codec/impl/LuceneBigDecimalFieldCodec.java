@@ -48,11 +48,26 @@ void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absolut
 	@Override
 	public BigDecimal decode(Document document, String absoluteFieldPath) {
 		IndexableField field = document.getField( absoluteFieldPath );
+
 		if ( field == null ) {
 			return null;
 		}
 
-		return new BigDecimal( field.stringValue() );
+		return decodeStoredValue( field.stringValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public BigDecimal decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return new BigDecimal( (String) storedValue );
 	}
 
 	@Override
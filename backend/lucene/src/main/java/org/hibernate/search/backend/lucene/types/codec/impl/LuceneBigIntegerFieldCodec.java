@@ -48,11 +48,26 @@ void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absolut
 	@Override
 	public BigInteger decode(Document document, String absoluteFieldPath) {
 		IndexableField field = document.getField( absoluteFieldPath );
+
 		if ( field == null ) {
 			return null;
 		}
 
-		return new BigInteger( field.stringValue() );
+		return decodeStoredValue( field.stringValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public BigInteger decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return new BigInteger( (String) storedValue );
 	}
 
 	@Override
@@ -21,6 +21,11 @@ public LuceneBooleanFieldCodec(boolean projectable, boolean searchable, boolean
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Boolean value,
 			Integer encodedValue) {
@@ -35,8 +40,21 @@ public Boolean decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		Integer intValue = (Integer) field.numericValue();
-		return ( intValue > 0 );
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Boolean decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return ( (Integer) storedValue ) > 0;
 	}
 
 	@Override
@@ -21,6 +21,11 @@ public LuceneByteFieldCodec(boolean projectable, boolean searchable, boolean sor
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Byte value,
 			Integer encodedValue) {
@@ -35,8 +40,21 @@ public Byte decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		Integer integer = (Integer) field.numericValue();
-		return integer.byteValue();
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Byte decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return ( (Integer) storedValue ).byteValue();
 	}
 
 	@Override
@@ -21,6 +21,11 @@ public LuceneDoubleFieldCodec(boolean projectable, boolean searchable, boolean s
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Double value,
 			Double encodedValue) {
@@ -35,7 +40,21 @@ public Double decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		return (Double) field.numericValue();
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Double decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return (Double) storedValue;
 	}
 
 	@Override
@@ -9,6 +9,8 @@
 import java.util.function.BiConsumer;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.Query;
@@ -54,6 +56,52 @@ default void contributeStoredFields(String absoluteFieldPath, String nestedDocum
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * @return {@code true} if {@link #decode(Document, String)} only relies on the first stored value
+	 * of the field at the given path, and the value can thus be decoded with {@link #decodeStoredValue(Object)}
+	 * without building a {@link Document}.
+	 * {@code false} otherwise.
+	 */
+	default boolean isDecodableFromStoredValue() {
+		return false;
+	}
+
+	/**
+	 * Decode a raw stored value, as passed to a {@link org.apache.lucene.index.StoredFieldVisitor}:
+	 * an {@link Integer}, {@link Long}, {@link Float}, {@link Double}, {@link String} or {@code byte[]}.
+	 * <p>
+	 * Must only be called if {@link #isDecodableFromStoredValue()} returns {@code true}.
+	 *
+	 * @param storedValue The first stored value of the field, or {@code null} if there is none.
+	 * @return The decoded value.
+	 */
+	default F decodeStoredValue(Object storedValue) {
+		throw new AssertionFailure( "Codec " + this + " does not support decoding raw stored values" );
+	}
+
+	/**
+	 * @return {@code true} if the value of the field can be extracted from doc values
+	 * using {@link #createProjectionDocValuesSource(String)},
+	 * with the exact same result as {@link #decode(Document, String) decoding it from stored fields}.
+	 * {@code false} otherwise.
+	 */
+	default boolean isDecodableFromDocValues() {
+		return false;
+	}
+
+	/**
+	 * Create a source of values extracted from doc values, typically used in projections
+	 * to avoid loading stored fields.
+	 * <p>
+	 * Must only be called if {@link #isDecodableFromDocValues()} returns {@code true}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A source of decoded values.
+	 */
+	default ProjectionDocValuesSource<F> createProjectionDocValuesSource(String absoluteFieldPath) {
+		throw new AssertionFailure( "Codec " + this + " does not support extracting values from doc values" );
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
@@ -21,6 +21,11 @@ public LuceneFloatFieldCodec(boolean projectable, boolean searchable, boolean so
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Float value,
 			Float encodedValue) {
@@ -35,7 +40,21 @@ public Float decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		return (Float) field.numericValue();
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Float decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return (Float) storedValue;
 	}
 
 	@Override
@@ -40,13 +40,21 @@ public Instant decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
 
-		if ( value == null ) {
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Instant decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return FORMATTER.parse( value, Instant::from );
+		return FORMATTER.parse( (String) storedValue, Instant::from );
 	}
 
 	@Override
@@ -20,6 +20,11 @@ public LuceneIntegerFieldCodec(boolean projectable, boolean searchable, boolean
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Integer value,
 			Integer encodedValue) {
@@ -34,7 +39,21 @@ public Integer decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		return (Integer) field.numericValue();
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Integer decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return (Integer) storedValue;
 	}
 
 	@Override
@@ -35,6 +35,11 @@ public LuceneLocalDateFieldCodec(boolean projectable, boolean searchable, boolea
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalDate value,
 			Long encodedValue) {
@@ -49,13 +54,21 @@ public LocalDate decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
 
-		if ( value == null ) {
+	@Override
+	public LocalDate decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return LocalDate.parse( value, FORMATTER );
+		return LocalDate.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
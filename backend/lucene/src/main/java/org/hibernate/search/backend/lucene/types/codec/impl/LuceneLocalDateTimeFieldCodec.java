@@ -50,13 +50,21 @@ public LocalDateTime decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
 
-		if ( value == null ) {
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public LocalDateTime decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return LocalDateTime.parse( value, FORMATTER );
+		return LocalDateTime.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
@@ -44,6 +44,11 @@ public LuceneLocalTimeFieldCodec(boolean projectable, boolean searchable, boolea
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, LocalTime value,
 			Long encodedValue) {
@@ -58,13 +63,21 @@ public LocalTime decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
 
-		if ( value == null ) {
+	@Override
+	public LocalTime decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return LocalTime.parse( value, FORMATTER );
+		return LocalTime.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
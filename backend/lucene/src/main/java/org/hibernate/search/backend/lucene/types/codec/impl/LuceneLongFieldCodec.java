@@ -21,6 +21,11 @@ public LuceneLongFieldCodec(boolean projectable, boolean searchable, boolean sor
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Long value,
 			Long encodedValue) {
@@ -35,7 +40,21 @@ public Long decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		return (Long) field.numericValue();
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Long decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return (Long) storedValue;
 	}
 
 	@Override
@@ -38,6 +38,11 @@ public LuceneMonthDayFieldCodec(boolean projectable, boolean searchable, boolean
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, MonthDay value,
 			Integer encodedValue) {
@@ -52,13 +57,21 @@ public MonthDay decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
 
-		if ( value == null ) {
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public MonthDay decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return MonthDay.parse( value, FORMATTER );
+		return MonthDay.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
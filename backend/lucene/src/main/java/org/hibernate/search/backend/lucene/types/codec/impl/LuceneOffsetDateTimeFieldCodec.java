@@ -50,13 +50,21 @@ public OffsetDateTime decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
 
-		if ( value == null ) {
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public OffsetDateTime decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return OffsetDateTime.parse( value, FORMATTER );
+		return OffsetDateTime.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
@@ -51,13 +51,21 @@ public OffsetTime decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
 
-		if ( value == null ) {
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public OffsetTime decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return OffsetTime.parse( value, FORMATTER );
+		return OffsetTime.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
@@ -21,6 +21,11 @@ public LuceneShortFieldCodec(boolean projectable, boolean searchable, boolean so
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Short value,
 			Integer encodedValue) {
@@ -35,8 +40,21 @@ public Short decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		Integer integer = (Integer) field.numericValue();
-		return integer.shortValue();
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Short decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return ( (Integer) storedValue ).shortValue();
 	}
 
 	@Override
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
@@ -77,6 +78,27 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public String decodeStoredValue(Object storedValue) {
+		return (String) storedValue;
+	}
+
+	@Override
+	public boolean isDecodableFromDocValues() {
+		// Doc values hold the normalized value: only use them if normalization is a no-op
+		return ( sortable || aggregable ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
+	@Override
+	public ProjectionDocValuesSource<String> createProjectionDocValuesSource(String absoluteFieldPath) {
+		return ProjectionDocValuesSource.fromSortedSetField( absoluteFieldPath, BytesRef::utf8ToString );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
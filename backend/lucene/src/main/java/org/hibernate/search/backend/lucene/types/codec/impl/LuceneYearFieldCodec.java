@@ -23,6 +23,11 @@ public LuceneYearFieldCodec(boolean projectable, boolean searchable, boolean sor
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, Year value,
 			Integer encodedValue) {
@@ -37,8 +42,21 @@ public Year decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		Integer integer = (Integer) field.numericValue();
-		return Year.of( integer );
+		return decodeStoredValue( field.numericValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public Year decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
+			return null;
+		}
+
+		return Year.of( (Integer) storedValue );
 	}
 
 	@Override
@@ -44,6 +44,11 @@ public LuceneYearMonthFieldCodec(boolean projectable, boolean searchable, boolea
 		super( projectable, searchable, sortable, aggregable, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValuesEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, YearMonth value,
 			Long encodedValue) {
@@ -58,13 +63,21 @@ public YearMonth decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
+
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
 
-		if ( value == null ) {
+	@Override
+	public YearMonth decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return YearMonth.parse( value, FORMATTER );
+		return YearMonth.parse( (String) storedValue, FORMATTER );
 	}
 
 	@Override
@@ -56,13 +56,21 @@ public ZonedDateTime decode(Document document, String absoluteFieldPath) {
 			return null;
 		}
 
-		String value = field.stringValue();
+		return decodeStoredValue( field.stringValue() );
+	}
 
-		if ( value == null ) {
+	@Override
+	public boolean isDecodableFromStoredValue() {
+		return true;
+	}
+
+	@Override
+	public ZonedDateTime decodeStoredValue(Object storedValue) {
+		if ( storedValue == null ) {
 			return null;
 		}
 
-		return TimeHelper.parseZoneDateTime( value, FORMATTER );
+		return TimeHelper.parseZoneDateTime( (String) storedValue, FORMATTER );
 	}
 
 	@Override
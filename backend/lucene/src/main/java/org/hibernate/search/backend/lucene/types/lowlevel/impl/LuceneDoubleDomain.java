@@ -29,6 +29,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -117,6 +118,11 @@ public IndexableField createIndexField(String absoluteFieldPath, Double numericV
 		return new DoublePoint( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	@Override
 	public IndexableField createSortedDocValuesField(String absoluteFieldPath, Double numericValue) {
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
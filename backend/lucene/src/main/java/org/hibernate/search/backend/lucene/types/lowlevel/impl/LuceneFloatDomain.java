@@ -26,6 +26,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DoubleMultiValuesToSingleValuesSource;
@@ -118,6 +119,11 @@ public IndexableField createIndexField(String absoluteFieldPath, Float numericVa
 		return new FloatPoint( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.FLOAT;
+	}
+
 	@Override
 	public IndexableField createSortedDocValuesField(String absoluteFieldPath, Float numericValue) {
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.floatToSortableInt( numericValue ) );
@@ -25,6 +25,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
@@ -110,6 +111,11 @@ public IndexableField createIndexField(String absoluteFieldPath, Integer numeric
 		return new IntPoint( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	@Override
 	public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integer numericValue) {
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
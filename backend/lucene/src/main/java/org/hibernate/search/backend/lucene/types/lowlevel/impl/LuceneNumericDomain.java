@@ -18,6 +18,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public interface LuceneNumericDomain<E extends Number> {
@@ -49,6 +50,8 @@ Facets createRangeFacetCounts(String absoluteFieldPath,
 
 	IndexableField createSortedDocValuesField(String absoluteFieldPath, E numericValue);
 
+	SortField.Type getSortFieldType();
+
 	FieldComparator.NumericComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			MultiValueMode multiValueMode, E missingValue, NestedDocsProvider nestedDocsProvider);
 }
@@ -25,8 +25,12 @@
  */
 public interface LuceneFieldProjectionBuilderFactory {
 
+	/**
+	 * @param docValuesAllowed Whether the projection may extract values from doc values instead of stored fields.
+	 * {@code false} when the targeted indexes do not all encode doc values the same way for this field.
+	 */
 	<U> FieldProjectionBuilder<U> createFieldValueProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			Class<U> expectedType, ValueConvert convert);
+			boolean docValuesAllowed, Class<U> expectedType, ValueConvert convert);
 
 	DistanceToFieldProjectionBuilder createDistanceProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
 			GeoPoint center);
@@ -43,7 +43,7 @@ public LuceneGeoPointFieldProjectionBuilderFactory(boolean projectable,
 	@Override
 	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
 	public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			Class<T> expectedType, ValueConvert convert) {
+			boolean docValuesAllowed, Class<T> expectedType, ValueConvert convert) {
 		checkProjectable( absoluteFieldPath, projectable );
 
 		ProjectionConverter<? super GeoPoint, ?> requestConverter = getConverter( convert );
@@ -52,7 +52,8 @@ public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(Set<Strin
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 
-		return (FieldProjectionBuilder<T>) new LuceneFieldProjectionBuilder<>( indexNames, absoluteFieldPath, nestedDocumentPath, requestConverter, codec );
+		return (FieldProjectionBuilder<T>) new LuceneFieldProjectionBuilder<>( indexNames, absoluteFieldPath, nestedDocumentPath,
+				docValuesAllowed, requestConverter, codec );
 	}
 
 	@Override
@@ -47,7 +47,7 @@ public LuceneStandardFieldProjectionBuilderFactory(boolean projectable,
 	@Override
 	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
 	public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			Class<T> expectedType, ValueConvert convert) {
+			boolean docValuesAllowed, Class<T> expectedType, ValueConvert convert) {
 		checkProjectable( absoluteFieldPath, projectable );
 
 		ProjectionConverter<? super F, ?> requestConverter = getConverter( convert );
@@ -56,7 +56,8 @@ public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(Set<Strin
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 
-		return (FieldProjectionBuilder<T>) new LuceneFieldProjectionBuilder<>( indexNames, absoluteFieldPath, nestedDocumentPath, requestConverter, codec );
+		return (FieldProjectionBuilder<T>) new LuceneFieldProjectionBuilder<>( indexNames, absoluteFieldPath, nestedDocumentPath,
+				docValuesAllowed, requestConverter, codec );
 	}
 
 	@Override
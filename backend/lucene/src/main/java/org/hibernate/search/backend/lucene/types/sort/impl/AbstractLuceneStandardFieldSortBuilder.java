@@ -9,9 +9,11 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneCompatibilityChecker;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
+import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.search.sort.dsl.SortOrder;
@@ -19,6 +21,8 @@
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.SortField;
+
 /**
  * @param <F> The field type exposed to the mapper.
  * @param <E> The encoded type.
@@ -98,6 +102,36 @@ else if ( missingValue == SortMissingValue.MISSING_LAST ) {
 		return effectiveMissingValue;
 	}
 
+	/**
+	 * @return The native sort field used in index sorts on this field with the same order,
+	 * i.e. with missing values last and the default sort mode.
+	 */
+	protected abstract SortField createIndexSortField();
+
+	/**
+	 * Contributes the {@link #createIndexSortField() index sort field} instead of our own comparators
+	 * if it is strictly equivalent to this sort and all targeted indexes are sorted on it.
+	 * <p>
+	 * Lucene only terminates collection early when the query sort fields are equal to the index sort fields,
+	 * so this is required for queries sorted on the index sort to benefit from it.
+	 *
+	 * @param collector The sort collector.
+	 * @return {@code true} if the index sort field was contributed, {@code false} otherwise.
+	 */
+	protected final boolean contributeIndexSortFieldIfPossible(LuceneSearchSortCollector collector) {
+		MultiValueMode defaultMultiValueMode = order == SortOrder.DESC ? MultiValueMode.MAX : MultiValueMode.MIN;
+		if ( nestedDocumentPath != null || missingValue != SortMissingValue.MISSING_LAST
+				|| getMultiValueMode() != defaultMultiValueMode ) {
+			return false;
+		}
+		SortField indexSortField = createIndexSortField();
+		if ( !searchContext.isIndexSortedOn( indexSortField ) ) {
+			return false;
+		}
+		collector.collectSortField( indexSortField );
+		return true;
+	}
+
 	private DslConverter<?, ? extends F> getDslToIndexConverter(ValueConvert convert) {
 		switch ( convert ) {
 			case NO:
@@ -10,10 +10,13 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
+import org.apache.lucene.search.SortField;
+
 /**
  * A field-scoped factory for search sort builders.
  * <p>
@@ -38,6 +41,8 @@ FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 	DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(String absoluteFieldPath, String nestedDocumentPath, GeoPoint center);
 
+	SortField createIndexSortField(String absoluteFieldPath, SortOrder order);
+
 	boolean hasCompatibleCodec(LuceneFieldSortBuilderFactory other);
 
 	boolean hasCompatibleConverter(LuceneFieldSortBuilderFactory other);
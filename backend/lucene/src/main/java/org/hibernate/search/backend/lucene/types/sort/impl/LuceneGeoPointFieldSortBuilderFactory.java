@@ -13,11 +13,14 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.SortField;
+
 public class LuceneGeoPointFieldSortBuilderFactory implements LuceneFieldSortBuilderFactory {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -43,6 +46,12 @@ public DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(St
 		return new LuceneGeoPointDistanceSortBuilder( absoluteFieldPath, nestedDocumentPath, center );
 	}
 
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		throw log.traditionalSortNotSupportedByGeoPoint(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
 	@Override
 	public boolean hasCompatibleCodec(LuceneFieldSortBuilderFactory other) {
 		if ( other.getClass() != this.getClass() ) {
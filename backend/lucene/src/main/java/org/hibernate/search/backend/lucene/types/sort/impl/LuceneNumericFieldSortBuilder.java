@@ -10,11 +10,14 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 
 public class LuceneNumericFieldSortBuilder<F, E extends Number>
 	extends AbstractLuceneStandardFieldSortBuilder<F, E, AbstractLuceneNumericFieldCodec<F, E>> {
@@ -31,8 +34,20 @@
 		);
 	}
 
+	static <E extends Number> SortField createIndexSortField(String absoluteFieldPath, LuceneNumericDomain<E> domain,
+			SortOrder order) {
+		boolean reverse = order == SortOrder.DESC;
+		SortedNumericSortField sortField = new SortedNumericSortField( absoluteFieldPath, domain.getSortFieldType(), reverse,
+				reverse ? SortedNumericSelector.Type.MAX : SortedNumericSelector.Type.MIN );
+		sortField.setMissingValue( reverse ? domain.getMinValue() : domain.getMaxValue() );
+		return sortField;
+	}
+
 	@Override
 	public void buildAndContribute(LuceneSearchSortCollector collector) {
+		if ( contributeIndexSortFieldIfPossible( collector ) ) {
+			return;
+		}
 
 		LuceneNumericFieldComparatorSource<E> fieldComparatorSource = new LuceneNumericFieldComparatorSource<>(
 				nestedDocumentPath, codec.getDomain(), (E) getEffectiveMissingValue( missingValue, order ), getMultiValueMode(), getLuceneFilter() );
@@ -41,4 +56,9 @@ public void buildAndContribute(LuceneSearchSortCollector collector) {
 		collector.collectSortField( sortField, (nestedDocumentPath != null) ? fieldComparatorSource : null );
 	}
 
+	@Override
+	protected SortField createIndexSortField() {
+		return createIndexSortField( absoluteFieldPath, codec.getDomain(), order );
+	}
+
 }
@@ -20,6 +20,8 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
 
 public class LuceneTextFieldSortBuilder<F>
 		extends AbstractLuceneStandardFieldSortBuilder<F, String, LuceneTextFieldCodec<F>> {
@@ -53,8 +55,20 @@ public void mode(SortMode mode) {
 		}
 	}
 
+	static SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		boolean reverse = order == SortOrder.DESC;
+		SortedSetSortField sortField = new SortedSetSortField( absoluteFieldPath, reverse,
+				reverse ? SortedSetSelector.Type.MAX : SortedSetSelector.Type.MIN );
+		sortField.setMissingValue( reverse ? SortField.STRING_FIRST : SortField.STRING_LAST );
+		return sortField;
+	}
+
 	@Override
 	public void buildAndContribute(LuceneSearchSortCollector collector) {
+		if ( contributeIndexSortFieldIfPossible( collector ) ) {
+			return;
+		}
+
 		LuceneTextFieldComparatorSource fieldComparatorSource = new LuceneTextFieldComparatorSource(
 				nestedDocumentPath, missingValue, getMultiValueMode(), getLuceneFilter()
 		);
@@ -62,4 +76,9 @@ nestedDocumentPath, missingValue, getMultiValueMode(), getLuceneFilter()
 
 		collector.collectSortField( sortField, ( nestedDocumentPath != null ) ? fieldComparatorSource : null );
 	}
+
+	@Override
+	protected SortField createIndexSortField() {
+		return createIndexSortField( absoluteFieldPath, order );
+	}
 }
@@ -11,8 +11,11 @@
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 
+import org.apache.lucene.search.SortField;
+
 public class LuceneTextFieldSortBuilderFactory<F>
 		extends AbstractLuceneStandardFieldSortBuilderFactory<F, LuceneTextFieldCodec<F>> {
 
@@ -29,4 +32,11 @@ public FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 		return new LuceneTextFieldSortBuilder<>( searchContext, absoluteFieldPath, nestedDocumentPath, converter, rawConverter, converterChecker, codec );
 	}
+
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		checkSortable( absoluteFieldPath );
+
+		return LuceneTextFieldSortBuilder.createIndexSortField( absoluteFieldPath, order );
+	}
 }
@@ -36,6 +36,17 @@ public LuceneIndexIndexer(LuceneWorkFactory factory,
 
 	@Override
 	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, DocumentContributor documentContributor) {
+		return submit( referenceProvider, documentContributor, false );
+	}
+
+	@Override
+	public CompletableFuture<?> addOrUpdate(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor) {
+		return submit( referenceProvider, documentContributor, true );
+	}
+
+	private CompletableFuture<?> submit(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor, boolean update) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
@@ -44,13 +55,14 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		// Route the work to the appropriate shard
 		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( id, routingKey );
 
+		String entityTypeName = indexManagerContext.getMappedTypeName();
+		Object entityIdentifier = referenceProvider.getEntityIdentifier();
 		CompletableFuture<Long> future = new CompletableFuture<>();
 		orchestrator.submit(
 				future,
-				factory.add(
-						tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
-						id, indexEntry
-				)
+				update
+						? factory.update( tenantId, entityTypeName, entityIdentifier, id, indexEntry )
+						: factory.add( tenantId, entityTypeName, entityIdentifier, id, indexEntry )
 		);
 		return future;
 	}
@@ -14,12 +14,16 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R> {
 
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit) throws IOException;
 
+	R scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int chunkSize) throws IOException;
+
 	int count(IndexSearcher indexSearcher) throws IOException;
 
 	Explanation explain(IndexSearcher indexSearcher, int luceneDocId) throws IOException;
@@ -18,6 +18,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public class LuceneWorkFactoryImpl implements LuceneWorkFactory {
 
@@ -98,6 +99,11 @@ public <R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Intege
 		return new SearchWork<>( searcher, offset, limit );
 	}
 
+	@Override
+	public <R> ReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize) {
+		return new ScrollWork<>( searcher, after, chunkSize );
+	}
+
 	@Override
 	public ReadWork<Integer> count(LuceneSearcher<?> searcher) {
 		return new CountWork( searcher );
@@ -10,12 +10,19 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 
 public interface ReadWorkExecutionContext {
 
 	IndexReader getIndexReader();
 
+	/**
+	 * @return A new index searcher for the {@link #getIndexReader() index reader},
+	 * configured to execute searches in parallel if the backend allows it.
+	 */
+	IndexSearcher createIndexSearcher();
+
 	IndexReaderMetadataResolver getIndexReaderMetadataResolver();
 
 	EventContext getEventContext();
@@ -0,0 +1,99 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.junit.Test;
+
+import org.apache.lucene.search.ScoreDoc;
+
+public class TopDocsPositionsTest {
+
+	@Test
+	public void empty() {
+		TopDocsPositions positions = TopDocsPositions.of( new ScoreDoc[0] );
+		assertThat( positions.size() ).isEqualTo( 0 );
+		assertThat( positions.positionOf( 0 ) ).isEqualTo( -1 );
+	}
+
+	@Test
+	public void increasingDocIds() {
+		// Top docs sorted by score, i.e. not by doc ID
+		TopDocsPositions positions = TopDocsPositions.of( scoreDocs( 42, 3, 1000, 7, 0 ) );
+		assertThat( positions.size() ).isEqualTo( 5 );
+
+		// Collectors see documents in increasing doc ID order
+		assertThat( positions.positionOf( 0 ) ).isEqualTo( 4 );
+		assertThat( positions.positionOf( 3 ) ).isEqualTo( 1 );
+		assertThat( positions.positionOf( 7 ) ).isEqualTo( 3 );
+		assertThat( positions.positionOf( 42 ) ).isEqualTo( 0 );
+		assertThat( positions.positionOf( 1000 ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void sameDocIdRepeatedly() {
+		// Multiple collectors may look up the same document in a row
+		TopDocsPositions positions = TopDocsPositions.of( scoreDocs( 5, 2, 9 ) );
+		assertThat( positions.positionOf( 2 ) ).isEqualTo( 1 );
+		assertThat( positions.positionOf( 2 ) ).isEqualTo( 1 );
+		assertThat( positions.positionOf( 5 ) ).isEqualTo( 0 );
+		assertThat( positions.positionOf( 5 ) ).isEqualTo( 0 );
+		assertThat( positions.positionOf( 9 ) ).isEqualTo( 2 );
+		assertThat( positions.positionOf( 9 ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void outOfOrderDocIds() {
+		TopDocsPositions positions = TopDocsPositions.of( scoreDocs( 10, 20, 30, 40, 50 ) );
+		assertThat( positions.positionOf( 40 ) ).isEqualTo( 3 );
+		assertThat( positions.positionOf( 10 ) ).isEqualTo( 0 );
+		assertThat( positions.positionOf( 50 ) ).isEqualTo( 4 );
+		assertThat( positions.positionOf( 20 ) ).isEqualTo( 1 );
+		// Skipping a document
+		assertThat( positions.positionOf( 40 ) ).isEqualTo( 3 );
+		assertThat( positions.positionOf( 30 ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void notATopDoc() {
+		TopDocsPositions positions = TopDocsPositions.of( scoreDocs( 10, 20, 30 ) );
+		assertThat( positions.positionOf( 20 ) ).isEqualTo( 1 );
+		assertThat( positions.positionOf( 0 ) ).isEqualTo( -1 );
+		assertThat( positions.positionOf( 21 ) ).isEqualTo( -1 );
+		assertThat( positions.positionOf( 31 ) ).isEqualTo( -1 );
+		// Misses do not affect subsequent lookups
+		assertThat( positions.positionOf( 30 ) ).isEqualTo( 2 );
+		assertThat( positions.positionOf( 10 ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void largeDocIds() {
+		TopDocsPositions positions = TopDocsPositions.of( scoreDocs( Integer.MAX_VALUE - 1, 0, Integer.MAX_VALUE ) );
+		assertThat( positions.positionOf( 0 ) ).isEqualTo( 1 );
+		assertThat( positions.positionOf( Integer.MAX_VALUE - 1 ) ).isEqualTo( 0 );
+		assertThat( positions.positionOf( Integer.MAX_VALUE ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void duplicateDocIds() {
+		assertThatThrownBy( () -> TopDocsPositions.of( scoreDocs( 3, 8, 1, 8 ) ) )
+				.isInstanceOf( AssertionFailure.class )
+				.hasMessageContaining( "Document 8 appears multiple times in the top docs" );
+	}
+
+	private static ScoreDoc[] scoreDocs(int... docIds) {
+		ScoreDoc[] scoreDocs = new ScoreDoc[docIds.length];
+		for ( int i = 0; i < docIds.length; i++ ) {
+			scoreDocs[i] = new ScoreDoc( docIds[i], docIds.length - i );
+		}
+		return scoreDocs;
+	}
+}
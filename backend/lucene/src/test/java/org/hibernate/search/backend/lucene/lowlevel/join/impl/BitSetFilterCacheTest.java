@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+public class BitSetFilterCacheTest {
+
+	private final Query parentQuery = Queries.mainDocumentQuery();
+
+	private Directory directory;
+	private IndexWriter writer;
+	private final List<DirectoryReader> readersToClose = new ArrayList<>();
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig() );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		for ( DirectoryReader reader : readersToClose ) {
+			reader.close();
+		}
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void sameBitSetAcrossQueries() throws IOException {
+		// Two segments
+		addBlockAndCommit();
+		addBlockAndCommit();
+		DirectoryReader reader = openReader();
+		assertThat( reader.leaves() ).hasSize( 2 );
+
+		// Each query gets its own producer, but producers for the same filter share the same bitsets
+		BitSetProducer firstQueryProducer = BitSetFilterCache.getBitSetProducer( parentQuery );
+		BitSetProducer secondQueryProducer = BitSetFilterCache.getBitSetProducer( parentQuery );
+		assertThat( firstQueryProducer ).isEqualTo( secondQueryProducer );
+
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			BitSet bitSet = firstQueryProducer.getBitSet( leaf );
+			// Each block is made of one child followed by its parent
+			assertThat( bitSet.get( 0 ) ).isFalse();
+			assertThat( bitSet.get( 1 ) ).isTrue();
+			assertThat( secondQueryProducer.getBitSet( leaf ) ).isSameAs( bitSet );
+			assertThat( BitSetFilterCache.isCached( coreCacheKey( leaf ), parentQuery ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void sameBitSetAcrossReaders() throws IOException {
+		addBlockAndCommit();
+		DirectoryReader reader = openReader();
+		LeafReaderContext leaf = reader.leaves().get( 0 );
+		BitSet bitSet = BitSetFilterCache.getBitSetProducer( parentQuery ).getBitSet( leaf );
+
+		// The segment is not affected by new documents or deletions: its core, and thus its bitset, are reused
+		addBlockAndCommit();
+		writer.deleteDocuments( Queries.childDocumentQuery() );
+		writer.commit();
+		DirectoryReader newReader = reopen( reader );
+		assertThat( newReader.leaves() ).hasSize( 2 );
+		LeafReaderContext sameSegmentLeaf = newReader.leaves().get( 0 );
+		assertThat( coreCacheKey( sameSegmentLeaf ) ).isSameAs( coreCacheKey( leaf ) );
+		assertThat( BitSetFilterCache.getBitSetProducer( parentQuery ).getBitSet( sameSegmentLeaf ) )
+				.isSameAs( bitSet );
+	}
+
+	@Test
+	public void evictionOnReaderClose() throws IOException {
+		addBlockAndCommit();
+		addBlockAndCommit();
+		DirectoryReader reader = DirectoryReader.open( directory );
+		List<IndexReader.CacheKey> keys = new ArrayList<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			BitSetFilterCache.getBitSetProducer( parentQuery ).getBitSet( leaf );
+			keys.add( coreCacheKey( leaf ) );
+			assertThat( BitSetFilterCache.isCached( coreCacheKey( leaf ), parentQuery ) ).isTrue();
+		}
+
+		// No other reader uses these segments: closing the reader closes the segment cores
+		reader.close();
+
+		for ( IndexReader.CacheKey key : keys ) {
+			assertThat( BitSetFilterCache.isCached( key, parentQuery ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void evictionOnMerge() throws IOException {
+		addBlockAndCommit();
+		addBlockAndCommit();
+		DirectoryReader reader = DirectoryReader.open( directory );
+		List<IndexReader.CacheKey> keys = new ArrayList<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			BitSetFilterCache.getBitSetProducer( parentQuery ).getBitSet( leaf );
+			keys.add( coreCacheKey( leaf ) );
+		}
+
+		writer.forceMerge( 1 );
+		writer.commit();
+		DirectoryReader newReader = reopen( reader );
+		assertThat( newReader.leaves() ).hasSize( 1 );
+		LeafReaderContext mergedLeaf = newReader.leaves().get( 0 );
+		// The merged segment is new: nothing is cached for it yet
+		assertThat( BitSetFilterCache.isCached( coreCacheKey( mergedLeaf ), parentQuery ) ).isFalse();
+
+		// Once the old reader is released, the merged segments are closed and their bitsets evicted
+		reader.close();
+		for ( IndexReader.CacheKey key : keys ) {
+			assertThat( BitSetFilterCache.isCached( key, parentQuery ) ).isFalse();
+		}
+
+		BitSet mergedBitSet = BitSetFilterCache.getBitSetProducer( parentQuery ).getBitSet( mergedLeaf );
+		assertThat( mergedBitSet.cardinality() ).isEqualTo( 2 );
+		assertThat( BitSetFilterCache.isCached( coreCacheKey( mergedLeaf ), parentQuery ) ).isTrue();
+	}
+
+	@Test
+	public void warm() throws IOException {
+		addBlockAndCommit();
+		addBlockAndCommit();
+		DirectoryReader reader = openReader();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			assertThat( BitSetFilterCache.isCached( coreCacheKey( leaf ), parentQuery ) ).isFalse();
+		}
+
+		BitSetFilterCache.warm( reader );
+
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			assertThat( BitSetFilterCache.isCached( coreCacheKey( leaf ), parentQuery ) ).isTrue();
+		}
+	}
+
+	private void addBlockAndCommit() throws IOException {
+		Document child = new Document();
+		child.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_CHILD_DOCUMENT ) );
+		Document parent = new Document();
+		parent.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_MAIN_DOCUMENT ) );
+		writer.addDocuments( Arrays.asList( child, parent ) );
+		writer.commit();
+	}
+
+	private DirectoryReader openReader() throws IOException {
+		DirectoryReader reader = DirectoryReader.open( directory );
+		readersToClose.add( reader );
+		return reader;
+	}
+
+	private DirectoryReader reopen(DirectoryReader oldReader) throws IOException {
+		DirectoryReader newReader = DirectoryReader.openIfChanged( oldReader );
+		assertThat( newReader ).isNotNull();
+		readersToClose.add( newReader );
+		return newReader;
+	}
+
+	private static IndexReader.CacheKey coreCacheKey(LeafReaderContext leaf) {
+		return leaf.reader().getCoreCacheHelper().getKey();
+	}
+}
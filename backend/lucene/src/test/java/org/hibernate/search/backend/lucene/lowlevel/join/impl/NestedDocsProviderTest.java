@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class NestedDocsProviderTest {
+
+	private static final String NESTED_PATH = "nested";
+
+	private Directory directory;
+	private IndexWriter writer;
+	private final List<DirectoryReader> readersToClose = new ArrayList<>();
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig() );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		for ( DirectoryReader reader : readersToClose ) {
+			reader.close();
+		}
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void childDocs_weightReusedAcrossSegments() throws IOException {
+		// Two segments
+		addBlockAndCommit();
+		addBlockAndCommit();
+		DirectoryReader reader = openReader();
+		assertThat( reader.leaves() ).hasSize( 2 );
+
+		CountingQuery nestedFilter = new CountingQuery();
+		NestedDocsProvider provider = new NestedDocsProvider( NESTED_PATH, Queries.mainDocumentQuery(), nestedFilter );
+
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			DocIdSetIterator childDocs = provider.childDocs( leaf );
+			// Each block is made of one child followed by its parent
+			assertThat( childDocs.nextDoc() ).isEqualTo( 0 );
+			assertThat( childDocs.nextDoc() ).isEqualTo( DocIdSetIterator.NO_MORE_DOCS );
+		}
+		// The weight was created once for the top-level reader, not once per segment
+		assertThat( nestedFilter.createWeightCount ).isEqualTo( 1 );
+
+		// A new top-level reader requires a new weight
+		addBlockAndCommit();
+		DirectoryReader newReader = reopen( reader );
+		for ( LeafReaderContext leaf : newReader.leaves() ) {
+			provider.childDocs( leaf );
+		}
+		assertThat( nestedFilter.createWeightCount ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void parentDocs_cached() throws IOException {
+		addBlockAndCommit();
+		DirectoryReader reader = openReader();
+		LeafReaderContext leaf = reader.leaves().get( 0 );
+
+		NestedDocsProvider provider1 = new NestedDocsProvider( NESTED_PATH, Queries.mainDocumentQuery() );
+		NestedDocsProvider provider2 = new NestedDocsProvider( NESTED_PATH, new MatchAllDocsQuery() );
+
+		// Parent filters do not depend on the query: they are shared across providers, and thus across queries
+		assertThat( provider2.parentDocs( leaf ) ).isSameAs( provider1.parentDocs( leaf ) );
+	}
+
+	private void addBlockAndCommit() throws IOException {
+		Document child = new Document();
+		child.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_CHILD_DOCUMENT ) );
+		child.add( MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(),
+				NESTED_PATH ) );
+		Document parent = new Document();
+		parent.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_MAIN_DOCUMENT ) );
+		writer.addDocuments( Arrays.asList( child, parent ) );
+		writer.commit();
+	}
+
+	private DirectoryReader openReader() throws IOException {
+		DirectoryReader reader = DirectoryReader.open( directory );
+		readersToClose.add( reader );
+		return reader;
+	}
+
+	private DirectoryReader reopen(DirectoryReader oldReader) throws IOException {
+		DirectoryReader newReader = DirectoryReader.openIfChanged( oldReader );
+		assertThat( newReader ).isNotNull();
+		readersToClose.add( newReader );
+		return newReader;
+	}
+
+	/**
+	 * A query matching all documents, which counts how many times a weight was created for it.
+	 */
+	private static final class CountingQuery extends Query {
+		private final Query delegate = new MatchAllDocsQuery();
+		private int createWeightCount = 0;
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			++createWeightCount;
+			return delegate.createWeight( searcher, scoreMode, boost );
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.getCurrentArguments;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.BitSetFilterCache;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.easymock.EasyMockSupport;
+
+/**
+ * Checks that index readers are warmed when they are refreshed, depending on the configuration.
+ */
+public class IndexReaderWarmerTest extends EasyMockSupport {
+
+	private final IndexWriterProvider indexWriterProviderMock = createMock( IndexWriterProvider.class );
+	private final IndexWriterDelegatorImpl indexWriterDelegatorMock = createMock( IndexWriterDelegatorImpl.class );
+	private final TimingSource timingSourceMock = createMock( TimingSource.class );
+
+	private Directory directory;
+	private IndexWriter writer;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig() );
+
+		resetAll();
+		expect( indexWriterProviderMock.getOrCreate() ).andStubReturn( indexWriterDelegatorMock );
+		expect( indexWriterDelegatorMock.openReader() ).andStubAnswer( () -> DirectoryReader.open( directory ) );
+		expect( indexWriterDelegatorMock.openReaderIfChanged( anyObject() ) )
+				.andStubAnswer( () -> DirectoryReader.openIfChanged( (DirectoryReader) getCurrentArguments()[0] ) );
+		replayAll();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void eagerParentFilters() throws IOException {
+		NearRealTimeIndexReaderProvider provider = createProvider( new IndexReaderWarmer( false, true ) );
+
+		addBlockAndCommit();
+		DirectoryReader reader = provider.getOrCreate();
+		try {
+			assertParentFiltersCached( reader, true );
+		}
+		finally {
+			reader.decRef();
+		}
+
+		// New segments are warmed when the reader is refreshed, before it is returned
+		addBlockAndCommit();
+		provider.refresh();
+		DirectoryReader refreshedReader = provider.getOrCreate();
+		try {
+			assertThat( refreshedReader ).isNotSameAs( reader );
+			assertThat( refreshedReader.leaves() ).hasSize( 2 );
+			assertParentFiltersCached( refreshedReader, true );
+		}
+		finally {
+			refreshedReader.decRef();
+		}
+
+		provider.clear();
+		verifyAll();
+	}
+
+	@Test
+	public void eagerParentFilters_disabled() throws IOException {
+		NearRealTimeIndexReaderProvider provider = createProvider( new IndexReaderWarmer( false, false ) );
+
+		addBlockAndCommit();
+		DirectoryReader reader = provider.getOrCreate();
+		try {
+			assertParentFiltersCached( reader, false );
+		}
+		finally {
+			reader.decRef();
+		}
+
+		addBlockAndCommit();
+		provider.refresh();
+		DirectoryReader refreshedReader = provider.getOrCreate();
+		try {
+			assertThat( refreshedReader.leaves() ).hasSize( 2 );
+			assertParentFiltersCached( refreshedReader, false );
+		}
+		finally {
+			refreshedReader.decRef();
+		}
+
+		provider.clear();
+		verifyAll();
+	}
+
+	private NearRealTimeIndexReaderProvider createProvider(IndexReaderWarmer warmer) {
+		return new NearRealTimeIndexReaderProvider( indexWriterProviderMock, timingSourceMock, 0, warmer,
+				(duration, unit) -> { } );
+	}
+
+	private void addBlockAndCommit() throws IOException {
+		Document child = new Document();
+		child.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_CHILD_DOCUMENT ) );
+		Document parent = new Document();
+		parent.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+				MetadataFields.TYPE_MAIN_DOCUMENT ) );
+		writer.addDocuments( Arrays.asList( child, parent ) );
+		writer.commit();
+	}
+
+	private static void assertParentFiltersCached(DirectoryReader reader, boolean expected) {
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			assertThat( BitSetFilterCache.isCached( leaf.reader().getCoreCacheHelper().getKey(),
+					Queries.mainDocumentQuery() ) )
+					.isEqualTo( expected );
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+public class IndexWriterSettingsTest {
+
+	private final Map<String, Object> properties = new HashMap<>();
+
+	@Test
+	public void defaults() {
+		IndexWriterConfig defaultConfig = new IndexWriterConfig( new StandardAnalyzer() );
+		IndexWriterConfig writerConfig = new IndexWriterConfig( new StandardAnalyzer() );
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+
+		IndexWriterSettings settings = extract();
+		settings.applyTo( writerConfig );
+		settings.applyTo( mergeScheduler );
+
+		assertThat( writerConfig.getRAMBufferSizeMB() ).isEqualTo( defaultConfig.getRAMBufferSizeMB() );
+		assertThat( writerConfig.getMaxBufferedDocs() ).isEqualTo( defaultConfig.getMaxBufferedDocs() );
+		assertThat( writerConfig.getUseCompoundFile() ).isEqualTo( defaultConfig.getUseCompoundFile() );
+		assertThat( writerConfig.getMergePolicy() ).isInstanceOf( TieredMergePolicy.class );
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS );
+	}
+
+	@Test
+	public void writer() {
+		properties.put( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, 256 );
+		properties.put( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, "1000" );
+		properties.put( LuceneIndexSettings.IO_WRITER_USE_COMPOUND_FILE, false );
+		IndexWriterConfig writerConfig = new IndexWriterConfig( new StandardAnalyzer() );
+
+		extract().applyTo( writerConfig );
+
+		assertThat( writerConfig.getRAMBufferSizeMB() ).isEqualTo( 256.0 );
+		assertThat( writerConfig.getMaxBufferedDocs() ).isEqualTo( 1000 );
+		assertThat( writerConfig.getUseCompoundFile() ).isFalse();
+		assertThat( writerConfig.getMergePolicy().getNoCFSRatio() ).isEqualTo( 0.0 );
+	}
+
+	@Test
+	public void mergePolicy_tiered() {
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "tiered" );
+		properties.put( LuceneIndexSettings.IO_MERGE_FACTOR, 5 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MIN_SIZE, 4 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MAX_SIZE, 1024 );
+		IndexWriterConfig writerConfig = new IndexWriterConfig( new StandardAnalyzer() );
+
+		extract().applyTo( writerConfig );
+
+		assertThat( writerConfig.getMergePolicy() ).isInstanceOf( TieredMergePolicy.class );
+		TieredMergePolicy mergePolicy = (TieredMergePolicy) writerConfig.getMergePolicy();
+		assertThat( mergePolicy.getSegmentsPerTier() ).isEqualTo( 5.0 );
+		assertThat( mergePolicy.getMaxMergeAtOnce() ).isEqualTo( 5 );
+		assertThat( mergePolicy.getFloorSegmentMB() ).isEqualTo( 4.0 );
+		assertThat( mergePolicy.getMaxMergedSegmentMB() ).isEqualTo( 1024.0 );
+	}
+
+	@Test
+	public void mergePolicy_logByteSize() {
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "log-byte-size" );
+		properties.put( LuceneIndexSettings.IO_MERGE_FACTOR, 5 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MIN_SIZE, 4 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MAX_SIZE, 1024 );
+		IndexWriterConfig writerConfig = new IndexWriterConfig( new StandardAnalyzer() );
+
+		extract().applyTo( writerConfig );
+
+		assertThat( writerConfig.getMergePolicy() ).isInstanceOf( LogByteSizeMergePolicy.class );
+		LogByteSizeMergePolicy mergePolicy = (LogByteSizeMergePolicy) writerConfig.getMergePolicy();
+		assertThat( mergePolicy.getMergeFactor() ).isEqualTo( 5 );
+		assertThat( mergePolicy.getMinMergeMB() ).isEqualTo( 4.0 );
+		assertThat( mergePolicy.getMaxMergeMB() ).isEqualTo( 1024.0 );
+	}
+
+	@Test
+	public void mergePolicy_invalid() {
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "some-invalid-name" );
+
+		assertThatThrownBy( this::extract )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( LuceneIndexSettings.IO_MERGE_POLICY )
+				.hasStackTraceContaining( "Invalid merge policy name: 'some-invalid-name'" );
+	}
+
+	@Test
+	public void mergeFactor_invalid() {
+		properties.put( LuceneIndexSettings.IO_MERGE_FACTOR, 1 );
+
+		assertThatThrownBy( this::extract )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( LuceneIndexSettings.IO_MERGE_FACTOR )
+				.hasStackTraceContaining( "Invalid value: '1'. The value must be greater than or equal to 2." );
+	}
+
+	@Test
+	public void mergeScheduler() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 2 );
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 3 );
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+
+		extract().applyTo( mergeScheduler );
+
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 2 );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void mergeScheduler_threadCountOnly() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 2 );
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+
+		extract().applyTo( mergeScheduler );
+
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 2 );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 7 );
+	}
+
+	@Test
+	public void mergeScheduler_mergeCountOnly() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 1 );
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+
+		extract().applyTo( mergeScheduler );
+
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 1 );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void mergeScheduler_inconsistent() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 4 );
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 2 );
+
+		assertThatThrownBy( this::extract )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "the maximum merge count (2) must be greater than"
+						+ " or equal to the maximum thread count (4)" );
+	}
+
+	private IndexWriterSettings extract() {
+		return IndexWriterSettings.extract( ConfigurationPropertySource.fromMap( properties ) );
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsPositions;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class TopDocsStoredFieldVisitorTest {
+
+	private static final String ID_FIELD = "id";
+	private static final String LONG_FIELD = "longField";
+	private static final String STRING_FIELD = "stringField";
+	private static final String OTHER_FIELD = "otherField";
+
+	private Directory directory;
+	private DirectoryReader reader;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory,
+				new IndexWriterConfig().setMergePolicy( NoMergePolicy.INSTANCE ) ) ) {
+			// Segment 1: docs 0 to 2
+			writer.addDocument( document( "0", 0L, "zero" ) );
+			writer.addDocument( document( "1", 10L, "one" ) );
+			writer.addDocument( document( "2", null, "two" ) );
+			writer.commit();
+			// Segment 2: docs 3 to 4
+			writer.addDocument( document( "3", 30L, null ) );
+			// Multi-valued fields: only the first value must be kept
+			Document multiValued = document( "4", 40L, "four" );
+			multiValued.add( new StoredField( LONG_FIELD, 41L ) );
+			multiValued.add( new StoredField( STRING_FIELD, "four-bis" ) );
+			writer.addDocument( multiValued );
+			writer.commit();
+			// Segment 3: doc 5
+			writer.addDocument( document( "5", 50L, "five" ) );
+			writer.commit();
+		}
+		reader = DirectoryReader.open( directory );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		reader.close();
+		directory.close();
+	}
+
+	@Test
+	public void slotsOnly_multipleSegments_outOfOrderTopDocs() throws IOException {
+		assertThat( reader.leaves() ).hasSize( 3 );
+
+		// Top docs are sorted by score, not by doc ID, and some docs are not part of the top docs
+		StoredFieldsCollector collector = collect( null, 5, 0, 3, 1, 4 );
+
+		assertThat( collector.getDocument( 0 ) ).isNull();
+		assertThat( collector.getStoredValue( 0, LONG_FIELD ) ).isEqualTo( 50L );
+		assertThat( collector.getStoredValue( 0, STRING_FIELD ) ).isEqualTo( "five" );
+		assertThat( collector.getStoredValue( 1, LONG_FIELD ) ).isEqualTo( 0L );
+		assertThat( collector.getStoredValue( 1, STRING_FIELD ) ).isEqualTo( "zero" );
+		assertThat( collector.getStoredValue( 2, LONG_FIELD ) ).isEqualTo( 30L );
+		assertThat( collector.getStoredValue( 2, STRING_FIELD ) ).isNull();
+		assertThat( collector.getStoredValue( 3, LONG_FIELD ) ).isEqualTo( 10L );
+		assertThat( collector.getStoredValue( 3, STRING_FIELD ) ).isEqualTo( "one" );
+		assertThat( collector.getStoredValue( 4, LONG_FIELD ) ).isEqualTo( 40L );
+		assertThat( collector.getStoredValue( 4, STRING_FIELD ) ).isEqualTo( "four" );
+	}
+
+	@Test
+	public void slotsAndDocument() throws IOException {
+		ReusableDocumentStoredFieldVisitor documentVisitor =
+				new ReusableDocumentStoredFieldVisitor( Collections.singleton( ID_FIELD ) );
+		StoredFieldsCollector collector = collect( documentVisitor, 4, 2 );
+
+		assertThat( collector.getDocument( 0 ).get( ID_FIELD ) ).isEqualTo( "4" );
+		assertThat( collector.getDocument( 0 ).get( LONG_FIELD ) ).isNull();
+		assertThat( collector.getStoredValue( 0, LONG_FIELD ) ).isEqualTo( 40L );
+		assertThat( collector.getStoredValue( 0, STRING_FIELD ) ).isEqualTo( "four" );
+		assertThat( collector.getDocument( 1 ).get( ID_FIELD ) ).isEqualTo( "2" );
+		assertThat( collector.getStoredValue( 1, LONG_FIELD ) ).isNull();
+		assertThat( collector.getStoredValue( 1, STRING_FIELD ) ).isEqualTo( "two" );
+	}
+
+	@Test
+	public void sameFieldInSlotAndDocument() throws IOException {
+		// Loading all fields into the document
+		ReusableDocumentStoredFieldVisitor documentVisitor = new ReusableDocumentStoredFieldVisitor();
+		StoredFieldsCollector collector = collect( documentVisitor, 4 );
+
+		// The document gets all values, the slot only gets the first one
+		assertThat( collector.getDocument( 0 ).getFields( LONG_FIELD ) )
+				.extracting( field -> field.numericValue().longValue() )
+				.containsExactly( 40L, 41L );
+		assertThat( collector.getStoredValue( 0, LONG_FIELD ) ).isEqualTo( 40L );
+		assertThat( collector.getDocument( 0 ).getValues( STRING_FIELD ) ).containsExactly( "four", "four-bis" );
+		assertThat( collector.getStoredValue( 0, STRING_FIELD ) ).isEqualTo( "four" );
+	}
+
+	@Test
+	public void visitorReusedAcrossHits() throws IOException {
+		TopDocsStoredFieldVisitor visitor = new TopDocsStoredFieldVisitor( null,
+				Collections.singleton( STRING_FIELD ), 3 );
+
+		// Hits visited in an arbitrary order, across segments
+		visitor.startHit( 2 );
+		reader.document( 5, visitor );
+		visitor.startHit( 0 );
+		reader.document( 1, visitor );
+		visitor.startHit( 1 );
+		reader.document( 3, visitor );
+
+		assertThat( visitor.getDocumentAndReset() ).isNull();
+		assertThat( visitor.getSlotValue( 0, STRING_FIELD ) ).isEqualTo( "one" );
+		assertThat( visitor.getSlotValue( 1, STRING_FIELD ) ).isNull();
+		assertThat( visitor.getSlotValue( 2, STRING_FIELD ) ).isEqualTo( "five" );
+	}
+
+	@Test
+	public void slotValueNotRequired() {
+		TopDocsStoredFieldVisitor visitor = new TopDocsStoredFieldVisitor( null,
+				Collections.singleton( STRING_FIELD ), 1 );
+
+		assertThatThrownBy( () -> visitor.getSlotValue( 0, OTHER_FIELD ) )
+				.isInstanceOf( AssertionFailure.class )
+				.hasMessageContaining( "Stored field value for '" + OTHER_FIELD + "' was not required" );
+	}
+
+	@Test
+	public void duplicateTopDocs() {
+		assertThatThrownBy( () -> collect( null, 1, 4, 1 ) )
+				.isInstanceOf( AssertionFailure.class )
+				.hasMessageContaining( "Document 1 appears multiple times in the top docs" );
+	}
+
+	private StoredFieldsCollector collect(ReusableDocumentStoredFieldVisitor documentVisitor, int... topDocIds)
+			throws IOException {
+		ScoreDoc[] scoreDocs = new ScoreDoc[topDocIds.length];
+		for ( int i = 0; i < topDocIds.length; i++ ) {
+			scoreDocs[i] = new ScoreDoc( topDocIds[i], topDocIds.length - i );
+		}
+		IndexSearcher searcher = new IndexSearcher( reader );
+		ExplicitDocIdsQuery query = new ExplicitDocIdsQuery( scoreDocs );
+		CollectorExecutionContext context = new CollectorExecutionContext( null, searcher, query,
+				scoreDocs.length, TopDocsPositions.of( scoreDocs ) );
+
+		StoredFieldsCollector collector = StoredFieldsCollector.factory( documentVisitor,
+				new HashSet<>( Arrays.asList( LONG_FIELD, STRING_FIELD ) ), Collections.emptySet() )
+				.createCollector( context );
+		searcher.search( query, collector );
+		return collector;
+	}
+
+	private static Document document(String id, Long longValue, String stringValue) {
+		Document document = new Document();
+		document.add( new StoredField( ID_FIELD, id ) );
+		document.add( new StoredField( OTHER_FIELD, "other" + id ) );
+		if ( longValue != null ) {
+			document.add( new StoredField( LONG_FIELD, longValue ) );
+		}
+		if ( stringValue != null ) {
+			document.add( new StoredField( STRING_FIELD, stringValue ) );
+		}
+		return document;
+	}
+}
@@ -768,6 +768,22 @@ public void lucene() {
 					.extracting( Book::getId )
 					.containsExactlyInAnyOrder( BOOK4_ID );
 		} );
+
+		withinSearchSession( searchSession -> {
+			// tag::lucene-cached[]
+			List<Book> hits = searchSession.search( Book.class )
+					.extension( LuceneExtension.get() )
+					.where( f -> f.bool()
+							.must( f.matchAll() )
+							.filter( f.cached( f.match().field( "genre" )
+									.matching( Genre.CRIME_FICTION ) ) ) // <1>
+					)
+					.fetchHits( 20 );
+			// end::lucene-cached[]
+			assertThat( hits )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK4_ID );
+		} );
 	}
 
 	@Test
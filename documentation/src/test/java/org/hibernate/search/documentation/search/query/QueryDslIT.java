@@ -9,10 +9,12 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.persistence.EntityManagerFactory;
@@ -30,6 +32,9 @@
 import org.hibernate.search.documentation.testsupport.LuceneBackendConfiguration;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategyNames;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
@@ -279,6 +284,55 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void scrolling() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> collectedIds = new ArrayList<>();
+			// tag::fetching-scrolling[]
+			try ( SearchScroll<Book> scroll = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.scroll( 20 ) ) { // <1>
+				for ( SearchScrollResult<Book> chunk = scroll.next(); // <2>
+						chunk.hasHits(); chunk = scroll.next() ) { // <3>
+					for ( Book hit : chunk.getHits() ) {
+						// ... do something with the hits ...
+						collectedIds.add( hit.getId() ); // <4>
+					}
+
+					entityManager.clear(); // <5>
+				}
+			}
+			// end::fetching-scrolling[]
+
+			assertThat( collectedIds )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
+	@Test
+	public void async() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<String> collectedTitles = new ArrayList<>();
+			// tag::fetching-async[]
+			CompletionStage<List<String>> future = searchSession.search( Book.class )
+					.select( f -> f.field( "title", String.class ) ) // <1>
+					.where( f -> f.matchAll() )
+					.fetchHitsAsync( 20 ); // <2>
+			future.thenAccept( hits -> { // <3>
+				for ( String title : hits ) {
+					// ... do something with the hits ...
+					collectedTitles.add( title );
+				}
+			} )
+					.toCompletableFuture().join(); // <4>
+			// end::fetching-async[]
+
+			assertThat( collectedTitles ).hasSize( 4 );
+		} );
+	}
+
 	@Test
 	public void searchQuery() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -429,6 +483,28 @@ public void failAfter() {
 		} );
 	}
 
+	@Test
+	public void totalHitCountThreshold() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::totalHitCountThreshold[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.where( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.totalHitCountThreshold( 1000 ) // <2>
+					.fetch( 20 ); // <3>
+
+			SearchResultTotal resultTotal = result.getTotal(); // <4>
+			long totalHitCountLowerBound = resultTotal.getHitCountLowerBound(); // <5>
+			boolean hitCountExact = resultTotal.isHitCountExact(); // <6>
+			// end::totalHitCountThreshold[]
+
+			assertThat( totalHitCountLowerBound ).isEqualTo( 2L );
+			assertThat( hitCountExact ).isTrue();
+		} );
+	}
+
 	@Test
 	public void cacheLookupStrategy() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
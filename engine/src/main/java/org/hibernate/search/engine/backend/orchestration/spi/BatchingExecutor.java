@@ -15,6 +15,9 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -31,14 +34,28 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The name of the gauge sampling the number of works waiting in the queue of each executor.
+	 */
+	public static final String QUEUE_SIZE_METRIC = "hibernate.search.executor.queue.size";
+
+	/**
+	 * The name of the histogram recording the number of works processed in each batch.
+	 */
+	public static final String BATCH_SIZE_METRIC = "hibernate.search.executor.batch.size";
+
+	private static final String EXECUTOR_TAG = "executor";
+
 	private final String name;
 
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 
 	private final BlockingQueue<BatchedWork<? super P>> workQueue;
 	private final BatchWorker<P> worker;
 
 	private SingletonTask processingTask;
+	private Gauge queueSizeGauge;
 
 	/**
 	 * @param name The name of the executor thread (and of this executor when reporting errors)
@@ -53,10 +70,29 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, failureHandler, MetricsRegistry.noOp() );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRegistry A metrics registry to report the queue size and batch sizes.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			FailureHandler failureHandler, MetricsRegistry metricsRegistry) {
 		this.name = name;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch,
+				metricsRegistry.histogram( BATCH_SIZE_METRIC, EXECUTOR_TAG, name ) );
 	}
 
 	@Override
@@ -81,6 +117,7 @@ public synchronized void start(ExecutorService executorService) {
 				new BatchScheduler( executorService ),
 				failureHandler
 		);
+		queueSizeGauge = metricsRegistry.gauge( QUEUE_SIZE_METRIC, workQueue::size, EXECUTOR_TAG, name );
 	}
 
 	/**
@@ -92,6 +129,11 @@ public synchronized void start(ExecutorService executorService) {
 	public synchronized void stop() {
 		log.stoppingExecutor( name );
 
+		if ( queueSizeGauge != null ) {
+			queueSizeGauge.close();
+			queueSizeGauge = null;
+		}
+
 		workQueue.clear();
 
 		// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
@@ -141,14 +183,16 @@ public CompletableFuture<?> getCompletion() {
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Histogram batchSizeHistogram;
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, Histogram batchSizeHistogram) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.batchSizeHistogram = batchSizeHistogram;
 		}
 
 		@Override
@@ -162,6 +206,7 @@ public CompletableFuture<?> work() {
 			}
 
 			int workCount = workBuffer.size();
+			batchSizeHistogram.record( workCount );
 			boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
 				log.debugf( "Processing %d works in executor '%s'", workCount, name );
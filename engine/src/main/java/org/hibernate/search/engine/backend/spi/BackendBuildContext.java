@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.backend.spi;
 
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -27,4 +28,6 @@ public interface BackendBuildContext {
 
 	FailureHandler getFailureHandler();
 
+	MetricsRegistry getMetricsRegistry();
+
 }
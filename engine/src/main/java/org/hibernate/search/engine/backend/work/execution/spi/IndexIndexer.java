@@ -15,4 +15,17 @@ public interface IndexIndexer {
 
 	CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor);
 
+	/**
+	 * Add a document to the index, or replace it if it is already present in the index.
+	 * <p>
+	 * Slower than {@link #add(DocumentReferenceProvider, DocumentContributor)} with some backends,
+	 * but never leads to duplicate documents.
+	 *
+	 * @param documentReferenceProvider A provider of the reference of the document to add or update.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A {@link CompletableFuture} reflecting the completion state of the operation.
+	 */
+	CompletableFuture<?> addOrUpdate(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor documentContributor);
+
 }
@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.cfg.EngineSettings;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsRegistry;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 
@@ -49,6 +51,16 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link MetricsRegistry} used to expose internal metrics:
+	 * executor queues, index commits and refreshes, remote calls, ...
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsRegistry}.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_REGISTRY}, a registry that ignores all metrics.
+	 */
+	public static final String METRICS_REGISTRY = PREFIX + Radicals.METRICS_REGISTRY;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -59,6 +71,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS_REGISTRY = "metrics_registry";
 	}
 
 	/**
@@ -72,5 +85,7 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( DefaultThreadProvider.class );
+		public static final BeanReference<? extends MetricsRegistry> METRICS_REGISTRY =
+				BeanReference.of( NoOpMetricsRegistry.class );
 	}
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 
 class DelegatingBuildContext {
@@ -44,4 +45,8 @@ public ThreadPoolProvider getThreadPoolProvider() {
 	public FailureHandler getFailureHandler() {
 		return delegate.getFailureHandler();
 	}
+
+	public MetricsRegistry getMetricsRegistry() {
+		return delegate.getMetricsRegistry();
+	}
 }
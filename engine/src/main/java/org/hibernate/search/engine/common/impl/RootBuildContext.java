@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -25,12 +26,14 @@ class RootBuildContext {
 	private final FailureCollector failureCollector;
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final MetricsRegistry metricsRegistry;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
-			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
+			MetricsRegistry metricsRegistry) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -38,6 +41,7 @@ class RootBuildContext {
 		this.failureCollector = failureCollector;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -67,4 +71,8 @@ ThreadPoolProvider getThreadPoolProvider() {
 	FailureHandler getFailureHandler() {
 		return failureHandler;
 	}
+
+	MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
 }
@@ -25,6 +25,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertyChecker;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
@@ -76,6 +77,12 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends MetricsRegistry>> METRICS_REGISTRY =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_REGISTRY )
+					.asBeanReference( MetricsRegistry.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_REGISTRY )
+					.build();
+
 	private final ConfigurationPropertyChecker propertyChecker;
 	private final ConfigurationPropertySource propertySource;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -149,6 +156,7 @@ public <PBM extends MappingPartialBuildState> SearchIntegrationBuilder addMappin
 	public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends MetricsRegistry> metricsRegistryHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -195,10 +203,13 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			threadProviderHolder = THREAD_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
 			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
 
+			metricsRegistryHolder = METRICS_REGISTRY.getAndTransform( propertySource, beanResolver::resolve );
+
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					classResolver, resourceResolver, beanResolver,
-					failureCollector, threadPoolProvider, failureHandler
+					failureCollector, threadPoolProvider, failureHandler,
+					metricsRegistryHolder.get()
 			);
 
 			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanResolver, propertySource, rootBuildContext );
@@ -263,6 +274,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					beanProvider, beanResolver,
 					failureHandlerHolder,
 					threadPoolProvider,
+					metricsRegistryHolder,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
 					indexManagerBuildingStateHolder.getIndexManagersNonStartedStates(),
@@ -306,6 +318,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
 			// Close environment resources before aborting
 			closer.pushAll( BeanHolder::close, threadProviderHolder );
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 
 			throw rethrownException;
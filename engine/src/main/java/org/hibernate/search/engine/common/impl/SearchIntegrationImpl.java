@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanProvider;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingKey;
@@ -36,6 +37,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 	private final BeanProvider beanProvider;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
 	private final ThreadPoolProviderImpl threadPoolProvider;
+	private final BeanHolder<? extends MetricsRegistry> metricsRegistryHolder;
 
 	private final Map<MappingKey<?, ?>, MappingImplementor<?>> mappings;
 	private final Map<String, BackendImplementor> backends;
@@ -44,12 +46,14 @@ public class SearchIntegrationImpl implements SearchIntegration {
 	SearchIntegrationImpl(BeanProvider beanProvider,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
 			ThreadPoolProviderImpl threadPoolProvider,
+			BeanHolder<? extends MetricsRegistry> metricsRegistryHolder,
 			Map<MappingKey<?, ?>, MappingImplementor<?>> mappings,
 			Map<String, BackendImplementor> backends,
 			Map<String, IndexManagerImplementor> indexManagers) {
 		this.beanProvider = beanProvider;
 		this.failureHandlerHolder = failureHandlerHolder;
 		this.threadPoolProvider = threadPoolProvider;
+		this.metricsRegistryHolder = metricsRegistryHolder;
 		this.mappings = mappings;
 		this.backends = backends;
 		this.indexManagers = indexManagers;
@@ -84,6 +88,7 @@ public void close() {
 			closer.push( SearchIntegrationImpl::preStopBackends, this );
 			closer.pushAll( BackendImplementor::stop, backends.values() );
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 		}
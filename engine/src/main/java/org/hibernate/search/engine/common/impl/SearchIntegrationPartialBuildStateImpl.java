@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.bean.spi.BeanProvider;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingFinalizationContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingFinalizer;
@@ -39,6 +40,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 	private final BeanResolver beanResolver;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
 	private final ThreadPoolProviderImpl threadPoolProvider;
+	private final BeanHolder<? extends MetricsRegistry> metricsRegistryHolder;
 
 	private final Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings;
 	private final Map<String, BackendNonStartedState> nonStartedBackends;
@@ -56,6 +58,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 			BeanProvider beanProvider, BeanResolver beanResolver,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
 			ThreadPoolProviderImpl threadPoolProvider,
+			BeanHolder<? extends MetricsRegistry> metricsRegistryHolder,
 			Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings,
 			Map<String, BackendNonStartedState> nonStartedBackends,
 			Map<String, IndexManagerNonStartedState> nonStartedIndexManagers,
@@ -64,6 +67,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 		this.beanResolver = beanResolver;
 		this.failureHandlerHolder = failureHandlerHolder;
 		this.threadPoolProvider = threadPoolProvider;
+		this.metricsRegistryHolder = metricsRegistryHolder;
 		this.partiallyBuiltMappings = partiallyBuiltMappings;
 		this.nonStartedBackends = nonStartedBackends;
 		this.nonStartedIndexManagers = nonStartedIndexManagers;
@@ -81,6 +85,7 @@ public void closeOnFailure() {
 			closer.pushAll( BackendNonStartedState::closeOnFailure, nonStartedBackends.values() );
 			closer.pushAll( BackendImplementor::stop, startedBackends.values() );
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 		}
@@ -181,6 +186,7 @@ public SearchIntegration finalizeIntegration() {
 					beanProvider,
 					failureHandlerHolder,
 					threadPoolProvider,
+					metricsRegistryHolder,
 					fullyBuiltStartedMappings,
 					startedBackends,
 					startedIndexManagers
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.impl;
+
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * A metrics registry that ignores all metrics.
+ * <p>
+ * Returns shared, stateless handles, so that instrumented code does not allocate anything
+ * when no metrics registry is configured.
+ */
+public final class NoOpMetricsRegistry implements MetricsRegistry {
+
+	public static final NoOpMetricsRegistry INSTANCE = new NoOpMetricsRegistry();
+
+	private static final Counter COUNTER = amount -> { };
+	public static final Timer TIMER = (duration, unit) -> { };
+	private static final Histogram HISTOGRAM = value -> { };
+	private static final Gauge GAUGE = () -> { };
+
+	public NoOpMetricsRegistry() {
+		// Public constructor, so that this class can be referenced as a bean.
+	}
+
+	@Override
+	public Counter counter(String name, String... tags) {
+		return COUNTER;
+	}
+
+	@Override
+	public Timer timer(String name, String... tags) {
+		return TIMER;
+	}
+
+	@Override
+	public Histogram histogram(String name, String... tags) {
+		return HISTOGRAM;
+	}
+
+	@Override
+	public Gauge gauge(String name, DoubleSupplier valueSupplier, String... tags) {
+		return GAUGE;
+	}
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * A value that can only increase, for example a number of executed operations.
+ *
+ * @see MetricsRegistry#counter(String, String...)
+ */
+public interface Counter {
+
+	default void increment() {
+		increment( 1L );
+	}
+
+	void increment(long amount);
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * A handle to a registered gauge.
+ *
+ * @see MetricsRegistry#gauge(String, java.util.function.DoubleSupplier, String...)
+ */
+public interface Gauge extends AutoCloseable {
+
+	/**
+	 * Unregisters the gauge, so that the registry no longer holds a reference to the value supplier.
+	 */
+	@Override
+	void close();
+
+}
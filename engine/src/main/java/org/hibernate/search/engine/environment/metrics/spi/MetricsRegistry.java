@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsRegistry;
+
+/**
+ * The metrics registry, used to expose internal metrics of Hibernate Search
+ * (executor queues, index commits and refreshes, remote calls, ...)
+ * to a monitoring system.
+ * <p>
+ * Implementations are expected to adapt these calls to an actual metrics library,
+ * for example Micrometer or JMX.
+ * <p>
+ * Metrics are retrieved once, when components are created,
+ * and the returned handles are then updated on the hot path:
+ * handles should be cheap to update and thread-safe.
+ * <p>
+ * Tags are passed as alternating keys and values,
+ * e.g. {@code "index", "myIndex", "shard", "0"}.
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * @return A metrics registry that ignores all metrics.
+	 */
+	static MetricsRegistry noOp() {
+		return NoOpMetricsRegistry.INSTANCE;
+	}
+
+	/**
+	 * @param name The name of the counter.
+	 * @param tags The tags of the counter, as alternating keys and values.
+	 * @return A counter, i.e. a value that can only increase.
+	 */
+	Counter counter(String name, String... tags);
+
+	/**
+	 * @param name The name of the timer.
+	 * @param tags The tags of the timer, as alternating keys and values.
+	 * @return A timer, i.e. a distribution of durations.
+	 */
+	Timer timer(String name, String... tags);
+
+	/**
+	 * @param name The name of the histogram.
+	 * @param tags The tags of the histogram, as alternating keys and values.
+	 * @return A histogram, i.e. a distribution of values, for example sizes.
+	 */
+	Histogram histogram(String name, String... tags);
+
+	/**
+	 * Registers a gauge, i.e. a value that is sampled on demand.
+	 *
+	 * @param name The name of the gauge.
+	 * @param valueSupplier A supplier of the current value of the gauge. Must be thread-safe.
+	 * @param tags The tags of the gauge, as alternating keys and values.
+	 * @return A handle to unregister the gauge when the component it samples is stopped.
+	 */
+	Gauge gauge(String name, DoubleSupplier valueSupplier, String... tags);
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsRegistry;
+
+/**
+ * A distribution of durations, for example the latency of an operation.
+ *
+ * @see MetricsRegistry#timer(String, String...)
+ */
+public interface Timer {
+
+	/**
+	 * @return A timer that ignores all durations,
+	 * i.e. the timer returned by {@link MetricsRegistry#noOp()}.
+	 * Instrumented code may compare a timer to this instance to skip measuring durations altogether.
+	 */
+	static Timer noOp() {
+		return NoOpMetricsRegistry.TIMER;
+	}
+
+	void record(long duration, TimeUnit unit);
+
+}
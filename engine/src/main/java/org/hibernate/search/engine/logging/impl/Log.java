@@ -309,4 +309,17 @@ void configurationPropertyTrackingUnusedProperties(Set<String> propertyKeys, Str
 			value = "The background failure handler threw an exception while handling a previous failure."
 					+ " The failure may not have been reported.")
 	void failureInFailureHandler(@Cause Throwable t);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "The total hit count is not exact: the total hit count threshold was reached,"
+					+ " and the total hit count is only known to be greater than or equal to %1$s."
+					+ " Use SearchResultTotal.getHitCountLowerBound() to retrieve this lower bound,"
+					+ " or remove the total hit count threshold from the query to get an exact total hit count.")
+	SearchException notExactTotalHitCount(long hitCountLowerBound);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Cannot load entities asynchronously: this mapper only supports blocking entity loading."
+					+ " Either select projections that do not require loading entities,"
+					+ " or fetch results synchronously.")
+	SearchException cannotLoadEntitiesAsynchronously();
 }
@@ -7,7 +7,10 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
@@ -18,7 +21,7 @@
 	private final DocumentReferenceConverter<R> documentReferenceConverter;
 	private final EntityLoader<R, ? extends E> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(DocumentReferenceConverter<R> documentReferenceConverter,
 			EntityLoader<R, ? extends E> objectLoader) {
@@ -39,7 +42,24 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<E> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		LoadingResult<E> result = new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		// The same mapper may be used for multiple successive loads, e.g. when scrolling:
+		// don't load the same references again next time.
+		// Don't clear the list, as some loaders return it as is.
+		referencesToLoad = new ArrayList<>();
+		return result;
+	}
+
+	@Override
+	public CompletionStage<LoadingResult<E>> loadAsync() {
+		List<R> references = referencesToLoad;
+		referencesToLoad = new ArrayList<>();
+		if ( references.isEmpty() ) {
+			// Nothing to load: don't involve the loader, which may not support asynchronous loading.
+			return CompletableFuture.completedFuture( new DefaultLoadingResult<>( Collections.emptyList() ) );
+		}
+		return objectLoader.loadAsync( references )
+				.thenApply( loadedObjects -> new DefaultLoadingResult<>( loadedObjects ) );
 	}
 
 	private static class DefaultLoadingResult<E> implements LoadingResult<E> {
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +26,23 @@
 	 */
 	List<E> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references without blocking the current thread.
+	 * <p>
+	 * This is used when executing queries asynchronously,
+	 * in which case this method may be called from a backend I/O thread:
+	 * implementations must not perform any blocking operation.
+	 * <p>
+	 * By default, asynchronous loading is not supported and the returned future is completed exceptionally.
+	 *
+	 * @param references A list of references to the objects to load.
+	 * @return A future that will be completed with a list of entities, in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 */
+	default CompletionStage<List<E>> loadAsync(List<R> references) {
+		return EntityLoaders.asyncLoadingNotSupported();
+	}
+
 	static <T> EntityLoader<T, T> identity() {
 		return IdentityEntityLoader.get();
 	}
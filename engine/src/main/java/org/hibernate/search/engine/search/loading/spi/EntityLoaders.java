@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.loading.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Holds state for the default methods of {@link EntityLoader},
+ * since interfaces cannot have private static fields.
+ */
+final class EntityLoaders {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private EntityLoaders() {
+	}
+
+	static <E> CompletionStage<List<E>> asyncLoadingNotSupported() {
+		CompletableFuture<List<E>> future = new CompletableFuture<>();
+		future.completeExceptionally( log.cannotLoadEntitiesAsynchronously() );
+		return future;
+	}
+
+}
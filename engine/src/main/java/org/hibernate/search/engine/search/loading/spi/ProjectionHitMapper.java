@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.loading.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.backend.common.DocumentReference;
 
 /**
@@ -39,4 +41,15 @@
 	 */
 	LoadingResult<E> loadBlocking();
 
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread.
+	 * <p>
+	 * This is used when executing queries asynchronously,
+	 * in which case this method may be called from a backend I/O thread.
+	 *
+	 * @return A future that will be completed with the loaded entities,
+	 * or completed exceptionally if entities cannot be loaded asynchronously.
+	 */
+	CompletionStage<LoadingResult<E>> loadAsync();
+
 }
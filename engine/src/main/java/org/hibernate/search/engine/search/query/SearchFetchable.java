@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,96 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query continuously to retrieve the hits in successive chunks of {@code chunkSize} hits,
+	 * without holding all hits in memory at once.
+	 * <p>
+	 * This should be preferred to {@link #fetch(Integer, Integer)} with an increasing offset
+	 * when retrieving a very large number of hits,
+	 * since the cost of each chunk does not depend on the number of hits retrieved before.
+	 * <p>
+	 * The returned scroll holds resources and must be {@link SearchScroll#close() closed},
+	 * ideally with a try-with-resources block.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link SearchScroll#next()}.
+	 * @return The {@link SearchScroll}.
+	 * @throws SearchException If something goes wrong while executing the query.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
+	/**
+	 * Execute the query asynchronously and return a future of the {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * Failures are reported through the returned future, never thrown by this method.
+	 * <p>
+	 * <strong>WARNING:</strong> entities cannot be loaded asynchronously by every mapper.
+	 * For instance, the Hibernate ORM mapper only supports blocking entity loading:
+	 * with this mapper, only queries whose projections do not require loading entities
+	 * (field projections, entity references, ...) can be executed asynchronously.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A future that will be completed with the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions {@link #fetch(Integer)} would throw,
+	 * or with a {@link SearchException} if entities cannot be loaded asynchronously.
+	 * @see #fetch(Integer)
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a future of the {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A future that will be completed with the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions {@link #fetch(Integer, Integer)} would throw,
+	 * or with a {@link SearchException} if entities cannot be loaded asynchronously.
+	 * @see #fetch(Integer, Integer)
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a future of the hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A future that will be completed with the query hits,
+	 * or completed exceptionally with the same exceptions {@link #fetchHits(Integer)} would throw,
+	 * or with a {@link SearchException} if entities cannot be loaded asynchronously.
+	 * @see #fetchHits(Integer)
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a future of the hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A future that will be completed with the query hits,
+	 * or completed exceptionally with the same exceptions {@link #fetchHits(Integer, Integer)} would throw,
+	 * or with a {@link SearchException} if entities cannot be loaded asynchronously.
+	 * @see #fetchHits(Integer, Integer)
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a future of the total hit count.
+	 * <p>
+	 * Failures are reported through the returned future, never thrown by this method.
+	 *
+	 * @return A future that will be completed with the total number of matching entities,
+	 * ignoring pagination settings,
+	 * or completed exceptionally with the same exceptions {@link #fetchTotalHitCount()} would throw.
+	 * @see #fetchTotalHitCount()
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
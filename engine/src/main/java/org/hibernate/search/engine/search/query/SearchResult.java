@@ -18,9 +18,18 @@
 
 	/**
 	 * @return The total number of matching entities, ignoring pagination settings.
+	 * @throws org.hibernate.search.util.common.SearchException If the total hit count is not exact,
+	 * which may only happen when a {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long)
+	 * total hit count threshold} was set. See {@link #getTotal()}.
 	 */
 	long getTotalHitCount();
 
+	/**
+	 * @return Information about the total number of matching entities, ignoring pagination settings:
+	 * either an exact hit count, or a lower bound of the hit count.
+	 */
+	SearchResultTotal getTotal();
+
 	/**
 	 * @return The hits as a {@link List} containing one element for each matched entity.
 	 */
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * Information about the total number of hits of a search.
+ * <p>
+ * The total hit count may be exact, or only a lower bound of the actual total hit count
+ * if a {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long)
+ * total hit count threshold} was set and the threshold was reached.
+ */
+public interface SearchResultTotal {
+
+	/**
+	 * @return {@code true} if the hit count is exact, i.e. if {@link #getHitCount()} will not throw an exception.
+	 */
+	boolean isHitCountExact();
+
+	/**
+	 * @return {@code true} if the hit count is only a lower bound,
+	 * i.e. if {@link #getHitCount()} will throw an exception.
+	 */
+	boolean isHitCountLowerBound();
+
+	/**
+	 * @return The exact total number of matching entities, ignoring pagination settings.
+	 * @throws org.hibernate.search.util.common.SearchException If the hit count is only a lower bound,
+	 * see {@link #isHitCountExact()}.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return A lower bound of the total number of matching entities, ignoring pagination settings.
+	 * Equal to {@link #getHitCount()} if the hit count is {@link #isHitCountExact() exact}.
+	 */
+	long getHitCountLowerBound();
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+
+/**
+ * An ongoing scroll, allowing to retrieve the hits of a query in successive chunks,
+ * without holding all hits in memory at once.
+ * <p>
+ * Scrolls hold resources (index readers, server-side search contexts, ...)
+ * and must be {@link #close() closed} when no longer needed.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface SearchScroll<H> extends AutoCloseable {
+
+	/**
+	 * Release the resources held by this scroll.
+	 * <p>
+	 * Calling {@link #next()} after the scroll was closed will lead to an exception.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Retrieve the next chunk of hits.
+	 *
+	 * @return The next {@link SearchScrollResult}.
+	 * When all hits were retrieved, the returned result {@link SearchScrollResult#hasHits() has no hits}.
+	 * @throws SearchException If something goes wrong while executing the query.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchScrollResult<H> next();
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A chunk of hits returned by a {@link SearchScroll}.
+ *
+ * @param <H> The type of hits.
+ */
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk contains hits,
+	 * {@code false} if all hits were already retrieved by previous chunks.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits of this chunk as a {@link List}, containing one element for each matched entity.
+	 */
+	List<H> getHits();
+
+	/**
+	 * @return Information about the total number of matching entities, ignoring chunking:
+	 * either an exact hit count, or a lower bound of the hit count.
+	 */
+	SearchResultTotal getTotal();
+
+	/**
+	 * @return the time taken to retrieve this chunk, as a {@link Duration}
+	 */
+	Duration getTook();
+
+	/**
+	 * @return whether or not a timeout occurred while retrieving this chunk.
+	 */
+	boolean isTimedOut();
+
+}
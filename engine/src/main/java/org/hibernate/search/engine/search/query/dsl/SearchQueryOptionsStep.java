@@ -92,6 +92,24 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Allow the backend to stop counting hits once the total hit count reaches a given threshold.
+	 * <p>
+	 * When the threshold is reached, the backend may skip documents that cannot be part of the top hits,
+	 * which can make queries considerably faster when they match a lot of documents.
+	 * The downside is that the {@link SearchResult#getTotal() total hit count} of the result
+	 * may then only be a {@link org.hibernate.search.engine.search.query.SearchResultTotal#isHitCountLowerBound() lower bound}.
+	 * <p>
+	 * This has no effect on the result of {@link #fetchTotalHitCount()}, which is always exact.
+	 * <p>
+	 * By default, hits are always counted exactly.
+	 *
+	 * @param totalHitCountThreshold The threshold: the total hit count is guaranteed to be exact
+	 * as long as it is lower than this number.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -36,6 +37,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilderFactory;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.spi.SearchSortBuilderFactory;
 
@@ -102,6 +104,12 @@ public S failAfter(long timeout, TimeUnit timeUnit) {
 		return thisAsS();
 	}
 
+	@Override
+	public S totalHitCountThreshold(long totalHitCountThreshold) {
+		searchQueryBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		return thisAsS();
+	}
+
 	@Override
 	public S loading(Consumer<? super LOS> loadingOptionsContributor) {
 		loadingOptionsContributor.accept( loadingContextBuilder.toAPI() );
@@ -193,6 +201,36 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return toQuery().scroll( chunkSize );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return toQuery().fetchHitsAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	private <B> void contribute(SearchPredicateBuilderFactory<? super C, B> factory, SearchPredicate predicate) {
 		factory.contribute( searchQueryBuilder.toQueryElementCollector(), factory.toImplementation( predicate ) );
 	}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public final class SimpleSearchResultTotal implements SearchResultTotal {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static SimpleSearchResultTotal exact(long hitCount) {
+		return new SimpleSearchResultTotal( true, hitCount );
+	}
+
+	public static SimpleSearchResultTotal lowerBound(long hitCountLowerBound) {
+		return new SimpleSearchResultTotal( false, hitCountLowerBound );
+	}
+
+	public static SimpleSearchResultTotal of(long hitCount, boolean exact) {
+		return new SimpleSearchResultTotal( exact, hitCount );
+	}
+
+	private final boolean exact;
+	private final long hitCount;
+
+	private SimpleSearchResultTotal(boolean exact, long hitCount) {
+		this.exact = exact;
+		this.hitCount = hitCount;
+	}
+
+	@Override
+	public boolean isHitCountExact() {
+		return exact;
+	}
+
+	@Override
+	public boolean isHitCountLowerBound() {
+		return !exact;
+	}
+
+	@Override
+	public long getHitCount() {
+		if ( !exact ) {
+			throw log.notExactTotalHitCount( hitCount );
+		}
+		return hitCount;
+	}
+
+	@Override
+	public long getHitCountLowerBound() {
+		return hitCount;
+	}
+
+	@Override
+	public String toString() {
+		return SimpleSearchResultTotal.class.getSimpleName()
+				+ "[" + ( exact ? "hitCount=" : "hitCountLowerBound=" ) + hitCount + "]";
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+
+public class SimpleSearchScrollResult<H> implements SearchScrollResult<H> {
+
+	private final SearchResultTotal total;
+	private final List<H> hits;
+	private final Duration took;
+	private final boolean timedOut;
+
+	public SimpleSearchScrollResult(SearchResultTotal total, List<H> hits, Duration took, Boolean timedOut) {
+		this.total = total;
+		this.hits = hits;
+		this.took = took;
+		this.timedOut = ( timedOut != null ) && timedOut;
+	}
+
+	@Override
+	public boolean hasHits() {
+		return !hits.isEmpty();
+	}
+
+	@Override
+	public List<H> getHits() {
+		return hits;
+	}
+
+	@Override
+	public SearchResultTotal getTotal() {
+		return total;
+	}
+
+	@Override
+	public Duration getTook() {
+		return took;
+	}
+
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner( ", ", SimpleSearchScrollResult.class.getSimpleName() + "[", "]" )
+				.add( "total=" + total )
+				.add( "hits=" + hits )
+				.add( "took=" + took )
+				.add( "timedOut=" + timedOut )
+				.toString();
+	}
+}
@@ -9,14 +9,19 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.DoubleSupplier;
 
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.reporting.FailureContext;
@@ -288,6 +293,77 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void metrics() throws InterruptedException {
+		MetricsRegistry metricsRegistryMock = createMock( MetricsRegistry.class );
+		Histogram batchSizeHistogramMock = createMock( Histogram.class );
+		Gauge queueSizeGaugeMock = createMock( Gauge.class );
+		Capture<DoubleSupplier> queueSizeCapture = Capture.newInstance();
+
+		// The batch size histogram is retrieved when the executor is created
+		resetAll();
+		expect( metricsRegistryMock.histogram( BatchingExecutor.BATCH_SIZE_METRIC, "executor", NAME ) )
+				.andReturn( batchSizeHistogramMock );
+		replayAll();
+		this.executor = new BatchingExecutor<>(
+				NAME, processorMock, 2, true, failureHandlerMock, metricsRegistryMock
+		);
+		verifyAll();
+
+		// The queue size gauge is registered when the executor starts
+		this.executorService = threadPoolProvider.newScheduledExecutor( 4, "BatchingExecutorTest" );
+		resetAll();
+		expect( metricsRegistryMock.gauge( eq( BatchingExecutor.QUEUE_SIZE_METRIC ), capture( queueSizeCapture ),
+				eq( "executor" ), eq( NAME ) ) )
+				.andReturn( queueSizeGaugeMock );
+		replayAll();
+		executor.start( executorService );
+		verifyAll();
+		DoubleSupplier queueSize = queueSizeCapture.getValue();
+		assertThat( queueSize.getAsDouble() ).isEqualTo( 0.0 );
+
+		// Block the executor, so that submitted works stay in the queue
+		StubWork blockingWorkMock = createMock( StubWork.class );
+		CompletableFuture<Object> blockingBatchFuture = new CompletableFuture<>();
+		resetAll();
+		batchSizeHistogramMock.record( 1L );
+		processorMock.beginBatch();
+		blockingWorkMock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) blockingBatchFuture );
+		replayAll();
+		executor.submit( blockingWorkMock );
+		verifyAllAsynchronously();
+
+		StubWork work1Mock = createMock( StubWork.class );
+		StubWork work2Mock = createMock( StubWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		verifyAll();
+		assertThat( queueSize.getAsDouble() ).isEqualTo( 2.0 );
+
+		// Unblock the executor: the two queued works are processed in a single batch
+		resetAll();
+		batchSizeHistogramMock.record( 2L );
+		processorMock.beginBatch();
+		work1Mock.submitTo( processorMock );
+		work2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) CompletableFuture.completedFuture( null ) );
+		processorMock.complete();
+		replayAll();
+		blockingBatchFuture.complete( null );
+		verifyAllAsynchronously();
+		assertThat( queueSize.getAsDouble() ).isEqualTo( 0.0 );
+
+		// The queue size gauge is closed when the executor stops
+		resetAll();
+		queueSizeGaugeMock.close();
+		replayAll();
+		executor.stop();
+		verifyAll();
+	}
+
 	private void verifyAllAsynchronously() {
 		await().untilAsserted( () -> {
 			// Synchronize on the processor, like in the batching executor,
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
@@ -34,6 +35,7 @@
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactoryImpl;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientImpl;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
@@ -52,6 +54,7 @@
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.categories.RequiresNoAutomaticAuthenticationHeader;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchTckBackendHelper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.RecordingMetricsRegistry;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
@@ -88,6 +91,9 @@ public class ElasticsearchClientFactoryImplIT {
 
 	private static final JsonParser JSON_PARSER = new JsonParser();
 
+	private static final String CLIENT_NAME = "Client";
+	private static final Map<String, String> CLIENT_TAGS = Collections.singletonMap( "client", CLIENT_NAME );
+
 	@Rule
 	public ExpectedLog4jLog logged = ExpectedLog4jLog.create();
 
@@ -108,6 +114,8 @@ public class ElasticsearchClientFactoryImplIT {
 	private ScheduledExecutorService timeoutExecutorService =
 			threadPoolProvider.newScheduledExecutor( 1, "Timeout - " );
 
+	private final RecordingMetricsRegistry metricsRegistry = new RecordingMetricsRegistry();
+
 	@After
 	public void cleanup() {
 		timeoutExecutorService.shutdownNow();
@@ -171,6 +179,34 @@ public void simple_https() throws Exception {
 		}
 	}
 
+	@Test
+	public void compression() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		// Large enough for the server to compress it
+		StringBuilder responseBodyBuilder = new StringBuilder( "{ \"hits\": [" );
+		for ( int i = 0; i < 100; i++ ) {
+			if ( i > 0 ) {
+				responseBodyBuilder.append( "," );
+			}
+			responseBodyBuilder.append( "{ \"_id\": \"" ).append( i ).append( "\" }" );
+		}
+		String responseBody = responseBodyBuilder.append( "] }" ).toString();
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+				.withHeader( "Accept-Encoding", equalTo( "gzip" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withBody( responseBody ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> properties.accept( ElasticsearchBackendSettings.REQUEST_COMPRESSION, true )
+		) ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+			assertThat( result.getStatusCode() ).as( "status code" ).isEqualTo( 200 );
+			assertJsonEquals( responseBody, result.getBody().toString() );
+		}
+	}
+
 	@Test
 	public void error() throws Exception {
 		String payload = "{ \"foo\": \"bar\" }";
@@ -270,6 +306,86 @@ public void timeout_request() throws Exception {
 				) );
 	}
 
+	@Test
+	public void metrics_success() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient() ) {
+			doPost( client, "/myIndex/myType", payload );
+			doPost( client, "/myIndex/myType", payload );
+		}
+
+		assertThat( metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC ) )
+				.containsOnlyKeys( CLIENT_TAGS );
+		assertThat( metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC ).get( CLIENT_TAGS ) )
+				.hasSize( 2 )
+				.allSatisfy( duration -> assertThat( duration ).isPositive() );
+		assertThat( metricsRegistry.getCounters( ElasticsearchClientImpl.REQUEST_FAILURE_METRIC ) )
+				.containsEntry( CLIENT_TAGS, 0L );
+	}
+
+	@Test
+	public void metrics_error() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 500 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient() ) {
+			doPost( client, "/myIndex/myType", payload );
+		}
+
+		// An error response is still a response: it is timed, but not counted as a failure
+		assertThat( metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC ).get( CLIENT_TAGS ) )
+				.hasSize( 1 );
+		assertThat( metricsRegistry.getCounters( ElasticsearchClientImpl.REQUEST_FAILURE_METRIC ) )
+				.containsEntry( CLIENT_TAGS, 0L );
+	}
+
+	@Test
+	public void metrics_unparseable() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withBody( "'unparseable" ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient() ) {
+			assertThatThrownBy( () -> doPost( client, "/myIndex/myType", payload ) )
+					.isInstanceOf( AssertionFailure.class );
+		}
+
+		assertThat( metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC ).get( CLIENT_TAGS ) )
+				.hasSize( 1 );
+	}
+
+	@Test
+	public void metrics_timeout() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withFixedDelay( 2000 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.READ_TIMEOUT, "99999" );
+					properties.accept( ElasticsearchBackendSettings.REQUEST_TIMEOUT, "1000" );
+				}
+		) ) {
+			assertThatThrownBy( () -> doPost( client, "/myIndex/myType", payload ) )
+					.isInstanceOf( AssertionFailure.class );
+		}
+
+		// Requests that did not get any response are both timed and counted as failures
+		assertThat( metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC ).get( CLIENT_TAGS ) )
+				.hasSize( 1 )
+				.allSatisfy( duration -> assertThat( duration ).isGreaterThanOrEqualTo( 1_000_000_000L ) );
+		assertThat( metricsRegistry.getCounters( ElasticsearchClientImpl.REQUEST_FAILURE_METRIC ) )
+				.containsEntry( CLIENT_TAGS, 1L );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-2235")
 	public void multipleHosts() throws Exception {
@@ -668,9 +784,10 @@ private ElasticsearchClientImplementor createClient(Consumer<BiConsumer<String,
 				beanResolver.resolve( ElasticsearchClientFactoryImpl.REFERENCE ) ) {
 			return factoryHolder.get().create(
 					backendProperties,
-					threadPoolProvider.getThreadProvider(), "Client",
+					threadPoolProvider.getThreadProvider(), CLIENT_NAME,
 					timeoutExecutorService,
-					GsonProvider.create( GsonBuilder::new, true )
+					GsonProvider.create( GsonBuilder::new, true ),
+					metricsRegistry
 			);
 		}
 	}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientImpl;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.RecordingMetricsRegistry;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that the Elasticsearch backend reports its metrics to the configured metrics registry,
+ * with the expected tags.
+ */
+public class ElasticsearchMetricsIT {
+
+	private static final String INDEX_NAME = "indexname";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final RecordingMetricsRegistry metricsRegistry = new RecordingMetricsRegistry();
+
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void requests() {
+		setup();
+
+		Map<Map<String, String>, List<Long>> requestTimers =
+				metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC );
+		// Requests are sent on startup: version check, schema management, ...
+		assertThat( requestTimers ).hasSize( 1 );
+		Map<String, String> clientTags = requestTimers.keySet().iterator().next();
+		assertThat( clientTags ).containsOnlyKeys( "client" );
+		int requestCountBefore = requestTimers.get( clientTags ).size();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.execute().join();
+		indexManager.createWorkspace().refresh().join();
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( 1L );
+
+		// Indexing, refresh and search requests: at least three more requests
+		assertThat( metricsRegistry.getTimers( ElasticsearchClientImpl.REQUEST_METRIC ).get( clientTags ) )
+				.hasSizeGreaterThanOrEqualTo( requestCountBefore + 3 )
+				.allSatisfy( duration -> assertThat( duration ).isPositive() );
+		// The cluster answered every request
+		assertThat( metricsRegistry.getCounters( ElasticsearchClientImpl.REQUEST_FAILURE_METRIC ) )
+				.containsEntry( clientTags, 0L );
+	}
+
+	@Test
+	public void executor() {
+		SearchIntegration integration = setup();
+
+		// The queue size gauge is registered when the executor starts
+		Map<Map<String, String>, DoubleSupplier> queueSizeGauges =
+				metricsRegistry.getGauges( BatchingExecutor.QUEUE_SIZE_METRIC );
+		assertThat( queueSizeGauges ).isNotEmpty();
+		assertThat( queueSizeGauges ).allSatisfy( (tags, valueSupplier) -> {
+			assertThat( tags ).containsOnlyKeys( "executor" );
+			assertThat( valueSupplier.getAsDouble() ).isGreaterThanOrEqualTo( 0.0 );
+		} );
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.add( referenceProvider( "2" ), document -> { } );
+		plan.execute().join();
+
+		// Each batch records its size, with the same tags as the queue size gauge
+		Map<Map<String, String>, List<Long>> batchSizeHistograms =
+				metricsRegistry.getHistograms( BatchingExecutor.BATCH_SIZE_METRIC );
+		assertThat( batchSizeHistograms.keySet() ).containsAll( queueSizeGauges.keySet() );
+		long processedWorkCount = batchSizeHistograms.values().stream()
+				.flatMap( List::stream )
+				.mapToLong( Long::longValue )
+				.sum();
+		assertThat( processedWorkCount ).isGreaterThanOrEqualTo( 2L );
+
+		// The queue size gauge is closed when the executor stops
+		integration.close();
+		assertThat( metricsRegistry.getGauges( BatchingExecutor.QUEUE_SIZE_METRIC ) ).isEmpty();
+	}
+
+	private SearchIntegration setup() {
+		return setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS_REGISTRY, metricsRegistry )
+				.withIndex( INDEX_NAME, ctx -> { }, indexManager -> this.indexManager = indexManager )
+				.setup();
+	}
+}
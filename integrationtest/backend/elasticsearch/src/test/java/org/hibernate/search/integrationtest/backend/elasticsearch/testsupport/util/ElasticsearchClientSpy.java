@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.util.impl.integrationtest.common.rule.CallQueue;
 
@@ -97,10 +98,18 @@ private SpyingElasticsearchClientFactory(
 		public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
 				ThreadProvider threadProvider, String threadNamePrefix, ScheduledExecutorService timeoutExecutorService,
 				GsonProvider gsonProvider) {
+			return create( propertySource, threadProvider, threadNamePrefix, timeoutExecutorService, gsonProvider,
+					MetricsRegistry.noOp() );
+		}
+
+		@Override
+		public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
+				ThreadProvider threadProvider, String threadNamePrefix, ScheduledExecutorService timeoutExecutorService,
+				GsonProvider gsonProvider, MetricsRegistry metricsRegistry) {
 			createdClientCount.incrementAndGet();
 			return new SpyingElasticsearchClient( delegate.create(
 					propertySource, threadProvider, threadNamePrefix,
-					timeoutExecutorService, gsonProvider
+					timeoutExecutorService, gsonProvider, metricsRegistry
 			) );
 		}
 	}
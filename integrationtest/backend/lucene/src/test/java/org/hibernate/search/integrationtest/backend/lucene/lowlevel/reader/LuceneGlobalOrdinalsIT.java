@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Checks that terms aggregations on String fields, which rely on cached global ordinals,
+ * return correct results when the index has multiple segments and the index reader is refreshed.
+ */
+@RunWith(Parameterized.class)
+public class LuceneGlobalOrdinalsIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final String AGGREGATION_NAME = "aggregationName";
+	private static final int BATCH_SIZE = 5;
+	private static final int TERM_COUNT = 7;
+
+	@Parameterized.Parameters(name = "IO strategy {0}, eager global ordinals {1}")
+	public static Object[][] parameters() {
+		return new Object[][] {
+				{ null, null },
+				{ null, true },
+				{ "async-near-real-time", false },
+				{ "async-near-real-time", true }
+		};
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final String ioStrategyName;
+	private final Boolean eagerGlobalOrdinals;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private final Map<String, Long> expectedCounts = new TreeMap<>();
+	private int nextDocumentId = 0;
+
+	public LuceneGlobalOrdinalsIT(String ioStrategyName, Boolean eagerGlobalOrdinals) {
+		this.ioStrategyName = ioStrategyName;
+		this.eagerGlobalOrdinals = eagerGlobalOrdinals;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL,
+						ioStrategyName == null ? null : 1000 )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_READER_EAGER_GLOBAL_ORDINALS, eagerGlobalOrdinals )
+				.setup();
+	}
+
+	@Test
+	public void multipleSegments() {
+		// Each batch is refreshed separately, and thus ends up in a different segment
+		for ( int i = 0; i < 3; i++ ) {
+			indexBatch( i );
+		}
+		assertThat( countByTerm() ).containsExactlyEntriesOf( expectedCounts );
+
+		// Refreshing the reader must not lead to stale global ordinals being used
+		indexBatch( 3 );
+		assertThat( countByTerm() ).containsExactlyEntriesOf( expectedCounts );
+	}
+
+	@Test
+	public void multipleSegments_minDocumentCountZero() {
+		for ( int i = 0; i < 3; i++ ) {
+			indexBatch( i );
+		}
+
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( AGGREGATION_NAME );
+		Map<String, Long> ascending = indexManager.createScope().query()
+				.where( f -> f.id().matching( "unknownId" ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "text", String.class )
+						.orderByTermAscending()
+						.minDocumentCount( 0 )
+						.maxTermCount( 3 ) )
+				.toQuery()
+				.fetchAll()
+				.getAggregation( aggregationKey );
+		assertThat( ascending ).containsExactlyEntriesOf( zeroCounts( "term0", "term1", "term2" ) );
+
+		Map<String, Long> descending = indexManager.createScope().query()
+				.where( f -> f.id().matching( "unknownId" ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "text", String.class )
+						.orderByTermDescending()
+						.minDocumentCount( 0 )
+						.maxTermCount( 3 ) )
+				.toQuery()
+				.fetchAll()
+				.getAggregation( aggregationKey );
+		assertThat( descending ).containsExactlyEntriesOf( zeroCounts( "term6", "term5", "term4" ) );
+	}
+
+	private Map<String, Long> countByTerm() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( AGGREGATION_NAME );
+		return indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "text", String.class )
+						.orderByTermAscending() )
+				.toQuery()
+				.fetchAll()
+				.getAggregation( aggregationKey );
+	}
+
+	private void indexBatch(int batchIndex) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.FORCE
+		);
+		for ( int i = 0; i < BATCH_SIZE; i++ ) {
+			// Use a different subset of terms in each batch, so that segment ordinals differ from global ordinals
+			String term = "term" + ( ( batchIndex * 2 + i ) % TERM_COUNT );
+			expectedCounts.merge( term, 1L, Long::sum );
+			plan.add( referenceProvider( String.valueOf( nextDocumentId++ ) ),
+					document -> document.addValue( indexMapping.textField, term ) );
+		}
+		plan.execute().join();
+	}
+
+	private static Map<String, Long> zeroCounts(String... terms) {
+		Map<String, Long> result = new LinkedHashMap<>();
+		for ( String term : terms ) {
+			result.put( term, 0L );
+		}
+		return result;
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> textField;
+
+		IndexMapping(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
@@ -18,6 +18,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
 
@@ -26,6 +27,7 @@
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 
 @RunWith(Parameterized.class)
@@ -161,6 +163,61 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThat( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyAsync_refreshIntervalPositive_refreshStrategyNone() {
+		setup( "async-near-real-time", NON_ZERO_DELAY );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThat( query ).hasNoHits();
+
+		// ... but they should be after some time, without any query triggering the refresh
+		Awaitility.await().untilAsserted( () -> assertThat( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyAsync_refreshIntervalPositive_refreshStrategyForce() {
+		setup( "async-near-real-time", NON_ZERO_DELAY );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThat( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void ioStrategyAsync_refreshIntervalZero() {
+		Assertions.assertThatThrownBy( () -> setup( "async-near-real-time", 0 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid refresh interval: '0'" )
+				.hasMessageContaining( "requires a strictly positive refresh interval" );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
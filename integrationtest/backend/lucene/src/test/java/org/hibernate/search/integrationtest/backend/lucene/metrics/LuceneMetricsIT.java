@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.IndexMetrics;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.RecordingMetricsRegistry;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that the Lucene backend reports its metrics to the configured metrics registry,
+ * with the expected tags.
+ */
+public class LuceneMetricsIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String SHARD_ID_1 = "first";
+	private static final String SHARD_ID_2 = "second";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final RecordingMetricsRegistry metricsRegistry = new RecordingMetricsRegistry();
+
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void commitAndRefresh() {
+		setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS_REGISTRY, metricsRegistry )
+				.withIndex( INDEX_NAME, ctx -> { }, indexManager -> this.indexManager = indexManager )
+				.setup();
+
+		Map<String, String> indexTags = tags( "index", INDEX_NAME );
+
+		int commitCountBefore = recordedCount( metricsRegistry.getTimers( IndexMetrics.COMMIT_METRIC ), indexTags );
+		int refreshCountBefore = recordedCount( metricsRegistry.getTimers( IndexMetrics.REFRESH_METRIC ), indexTags );
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE
+		);
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.add( referenceProvider( "2" ), document -> { } );
+		plan.execute().join();
+
+		// The commit happens before the indexing plan completes
+		assertThat( metricsRegistry.getTimers( IndexMetrics.COMMIT_METRIC ) ).containsKey( indexTags );
+		assertThat( recordedCount( metricsRegistry.getTimers( IndexMetrics.COMMIT_METRIC ), indexTags ) )
+				.isGreaterThan( commitCountBefore );
+
+		// The refresh happens when a reader is requested
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( 2L );
+		assertThat( metricsRegistry.getTimers( IndexMetrics.REFRESH_METRIC ) ).containsKey( indexTags );
+		assertThat( recordedCount( metricsRegistry.getTimers( IndexMetrics.REFRESH_METRIC ), indexTags ) )
+				.isGreaterThan( refreshCountBefore );
+		assertThat( metricsRegistry.getTimers( IndexMetrics.REFRESH_METRIC ).get( indexTags ) )
+				.allSatisfy( duration -> assertThat( duration ).isGreaterThanOrEqualTo( 0L ) );
+	}
+
+	@Test
+	public void commit_sharding() {
+		setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS_REGISTRY, metricsRegistry )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS,
+						SHARD_ID_1 + "," + SHARD_ID_2 )
+				.withIndex( INDEX_NAME, ctx -> { }, indexManager -> this.indexManager = indexManager )
+				.setup();
+
+		Map<String, String> shard1Tags = tags( "index", INDEX_NAME, "shard", SHARD_ID_1 );
+		Map<String, String> shard2Tags = tags( "index", INDEX_NAME, "shard", SHARD_ID_2 );
+
+		int shard1CountBefore = recordedCount( metricsRegistry.getTimers( IndexMetrics.COMMIT_METRIC ), shard1Tags );
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE
+		);
+		// Only index a document in the first shard: the second shard still has its own timer
+		plan.add( referenceProvider( "1", SHARD_ID_1 ), document -> { } );
+		plan.execute().join();
+
+		Map<Map<String, String>, List<Long>> commitTimers = metricsRegistry.getTimers( IndexMetrics.COMMIT_METRIC );
+		// Each shard has its own metrics
+		assertThat( commitTimers ).containsKeys( shard1Tags, shard2Tags );
+		assertThat( commitTimers ).doesNotContainKey( tags( "index", INDEX_NAME ) );
+		assertThat( recordedCount( commitTimers, shard1Tags ) ).isGreaterThan( shard1CountBefore );
+	}
+
+	@Test
+	public void executor() {
+		SearchIntegration integration = setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS_REGISTRY, metricsRegistry )
+				.withIndex( INDEX_NAME, ctx -> { }, indexManager -> this.indexManager = indexManager )
+				.setup();
+
+		// The queue size gauge is registered when the executor starts
+		Map<Map<String, String>, DoubleSupplier> queueSizeGauges =
+				metricsRegistry.getGauges( BatchingExecutor.QUEUE_SIZE_METRIC );
+		assertThat( queueSizeGauges ).isNotEmpty();
+		assertThat( queueSizeGauges ).allSatisfy( (tags, valueSupplier) -> {
+			assertThat( tags ).containsOnlyKeys( "executor" );
+			assertThat( tags.get( "executor" ) ).contains( INDEX_NAME );
+			assertThat( valueSupplier.getAsDouble() ).isGreaterThanOrEqualTo( 0.0 );
+		} );
+
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.add( referenceProvider( "2" ), document -> { } );
+		plan.execute().join();
+
+		// Each batch records its size
+		Map<Map<String, String>, List<Long>> batchSizeHistograms =
+				metricsRegistry.getHistograms( BatchingExecutor.BATCH_SIZE_METRIC );
+		assertThat( batchSizeHistograms.keySet() ).containsAll( queueSizeGauges.keySet() );
+		long processedWorkCount = 0L;
+		for ( Map.Entry<Map<String, String>, List<Long>> entry : batchSizeHistograms.entrySet() ) {
+			if ( queueSizeGauges.containsKey( entry.getKey() ) ) {
+				assertThat( entry.getValue() ).allSatisfy( batchSize -> assertThat( batchSize ).isPositive() );
+				processedWorkCount += entry.getValue().stream().mapToLong( Long::longValue ).sum();
+			}
+		}
+		// The whole indexing plan is submitted as a single work to the executor
+		assertThat( processedWorkCount ).isGreaterThanOrEqualTo( 1L );
+
+		// The queue size gauge is closed when the executor stops
+		integration.close();
+		assertThat( metricsRegistry.getGauges( BatchingExecutor.QUEUE_SIZE_METRIC ) ).isEmpty();
+	}
+
+	private static int recordedCount(Map<Map<String, String>, List<Long>> timers, Map<String, String> tags) {
+		List<Long> values = timers.get( tags );
+		return values == null ? 0 : values.size();
+	}
+
+	private static Map<String, String> tags(String... keysAndValues) {
+		Map<String, String> result = new LinkedHashMap<>();
+		for ( int i = 0; i < keysAndValues.length; i += 2 ) {
+			result.put( keysAndValues[i], keysAndValues[i + 1] );
+		}
+		return result;
+	}
+}
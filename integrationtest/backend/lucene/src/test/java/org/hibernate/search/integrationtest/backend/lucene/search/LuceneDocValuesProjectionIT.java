@@ -0,0 +1,239 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that projections on fields with doc values, which may rely on doc values instead of stored fields,
+ * return the same values as projections relying on stored fields.
+ */
+public class LuceneDocValuesProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final String NORMALIZED_INDEX_NAME = "NormalizedIndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private NormalizedIndexMapping normalizedIndexMapping;
+	private StubMappingIndexManager normalizedIndexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndex(
+						NORMALIZED_INDEX_NAME,
+						ctx -> this.normalizedIndexMapping = new NormalizedIndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.normalizedIndexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void singleValued() {
+		StubMappingScope scope = indexManager.createScope();
+
+		assertThat( scope.query()
+				.asProjection( f -> f.field( "sortableLong", Long.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( 1L, 2L, 3L, null );
+
+		assertThat( scope.query()
+				.asProjection( f -> f.field( "aggregableKeyword", String.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( "Keyword1", "Keyword2", "Keyword3", null );
+
+		assertThat( scope.query()
+				.asProjection( f -> f.field( "sortableLocalDate", LocalDate.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( LocalDate.of( 2020, 1, 1 ), LocalDate.of( 2020, 1, 2 ),
+						LocalDate.of( 2020, 1, 3 ), null );
+	}
+
+	@Test
+	public void multiValued() {
+		// Doc values are sorted: the projection must still return the first value in indexing order
+		assertThat( indexManager.createScope().query()
+				.asProjection( f -> f.field( "multiValuedInteger", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( 3, 1, 42, null );
+	}
+
+	@Test
+	public void lossyDocValues() {
+		// Doc values only hold milliseconds: the projection must not lose the nanoseconds
+		assertThat( indexManager.createScope().query()
+				.asProjection( f -> f.field( "sortableLocalDateTime", LocalDateTime.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( dateTime( 1 ), dateTime( 2 ), dateTime( 3 ), null );
+	}
+
+	@Test
+	public void normalizedDocValues() {
+		// Doc values hold the normalized value: the projection must return the original value
+		assertThat( normalizedIndexManager.createScope().query()
+				.asProjection( f -> f.field( "aggregableKeyword", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactly( "Normalized" );
+	}
+
+	@Test
+	public void multiIndex_normalizedAndNonNormalized() {
+		StubMappingScope scope = indexManager.createScope( normalizedIndexManager );
+
+		// Doc values do not hold the same values in both indexes: stored fields must be used for all indexes
+		assertThat( scope.query()
+				.asProjection( f -> f.field( "aggregableKeyword", String.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( "Keyword1", "Keyword2", "Keyword3", "Normalized", null );
+
+		// Other fields can still rely on doc values
+		assertThat( scope.query()
+				.asProjection( f -> f.field( "sortableLong", Long.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortableLong" ).asc().missing().last() )
+				.fetchAllHits() )
+				.containsExactly( 1L, 2L, 3L, 4L, null );
+	}
+
+	private void initData() {
+		// Index in multiple batches, so that documents end up in multiple segments
+		indexDocuments( indexManager, plan -> {
+			plan.add( referenceProvider( "2" ), document -> {
+				document.addValue( indexMapping.sortableLong, 2L );
+				document.addValue( indexMapping.aggregableKeyword, "Keyword2" );
+				document.addValue( indexMapping.sortableLocalDate, LocalDate.of( 2020, 1, 2 ) );
+				document.addValue( indexMapping.sortableLocalDateTime, dateTime( 2 ) );
+				document.addValue( indexMapping.multiValuedInteger, 1 );
+			} );
+			plan.add( referenceProvider( "empty" ), document -> { } );
+		} );
+		indexDocuments( indexManager, plan -> {
+			plan.add( referenceProvider( "1" ), document -> {
+				document.addValue( indexMapping.sortableLong, 1L );
+				document.addValue( indexMapping.aggregableKeyword, "Keyword1" );
+				document.addValue( indexMapping.sortableLocalDate, LocalDate.of( 2020, 1, 1 ) );
+				document.addValue( indexMapping.sortableLocalDateTime, dateTime( 1 ) );
+				for ( Integer value : Arrays.asList( 3, 1, 2 ) ) {
+					document.addValue( indexMapping.multiValuedInteger, value );
+				}
+			} );
+			plan.add( referenceProvider( "3" ), document -> {
+				document.addValue( indexMapping.sortableLong, 3L );
+				document.addValue( indexMapping.aggregableKeyword, "Keyword3" );
+				document.addValue( indexMapping.sortableLocalDate, LocalDate.of( 2020, 1, 3 ) );
+				document.addValue( indexMapping.sortableLocalDateTime, dateTime( 3 ) );
+				document.addValue( indexMapping.multiValuedInteger, 42 );
+				document.addValue( indexMapping.multiValuedInteger, 42 );
+			} );
+		} );
+		indexDocuments( normalizedIndexManager, plan -> {
+			plan.add( referenceProvider( "4" ), document -> {
+				document.addValue( normalizedIndexMapping.sortableLong, 4L );
+				document.addValue( normalizedIndexMapping.aggregableKeyword, "Normalized" );
+			} );
+		} );
+	}
+
+	private static void indexDocuments(StubMappingIndexManager indexManager,
+			Consumer<IndexIndexingPlan<?>> contributor) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.FORCE
+		);
+		contributor.accept( plan );
+		plan.execute().join();
+	}
+
+	private static LocalDateTime dateTime(int day) {
+		return LocalDateTime.of( 2020, 1, day, 10, 15, 30, 123_456_789 );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Long> sortableLong;
+		final IndexFieldReference<String> aggregableKeyword;
+		final IndexFieldReference<LocalDate> sortableLocalDate;
+		final IndexFieldReference<LocalDateTime> sortableLocalDateTime;
+		final IndexFieldReference<Integer> multiValuedInteger;
+
+		IndexMapping(IndexSchemaElement root) {
+			sortableLong = root.field( "sortableLong", c -> c.asLong()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			aggregableKeyword = root.field( "aggregableKeyword", c -> c.asString()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) ).toReference();
+			sortableLocalDate = root.field( "sortableLocalDate", c -> c.asLocalDate()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			sortableLocalDateTime = root.field( "sortableLocalDateTime", c -> c.asLocalDateTime()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			multiValuedInteger = root.field( "multiValuedInteger", c -> c.asInteger()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.multiValued().toReference();
+		}
+	}
+
+	private static class NormalizedIndexMapping {
+		final IndexFieldReference<Long> sortableLong;
+		final IndexFieldReference<String> aggregableKeyword;
+
+		NormalizedIndexMapping(IndexSchemaElement root) {
+			sortableLong = root.field( "sortableLong", c -> c.asLong()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			aggregableKeyword = root.field( "aggregableKeyword", c -> c.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
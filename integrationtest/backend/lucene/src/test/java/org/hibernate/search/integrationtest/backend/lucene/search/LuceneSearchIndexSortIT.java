@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that queries sorted on the index sort stop collecting hits early
+ * when a total hit count threshold is set, and that results are unaffected otherwise.
+ */
+public class LuceneSearchIndexSortIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 1000;
+	private static final int THRESHOLD = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void earlyTermination() {
+		setup( "number:desc" );
+
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 5 );
+
+		assertThat( result.getHits() ).containsExactly( 999, 998, 997, 996, 995 );
+		assertThat( result.getTotal().isHitCountLowerBound() ).isTrue();
+		assertThat( result.getTotal().getHitCountLowerBound() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void earlyTermination_prefix() {
+		setup( "text,number" );
+
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "text" ) )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 5 );
+
+		assertThat( result.getHits() ).hasSize( 5 );
+		assertThat( result.getTotal().isHitCountLowerBound() ).isTrue();
+		assertThat( result.getTotal().getHitCountLowerBound() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void exact_noThreshold() {
+		setup( "number:desc" );
+
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 5 );
+
+		assertThat( result.getHits() ).containsExactly( 999, 998, 997, 996, 995 );
+		assertThat( result.getTotal().isHitCountExact() ).isTrue();
+		assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void otherSort() {
+		setup( "number:desc" );
+
+		// Sorting in the opposite order, or with custom missing values, does not benefit from the index sort,
+		// but still returns correct results.
+		SearchResult<Integer> result = indexManager.createScope().query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).asc().missing().first() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 5 );
+
+		assertThat( result.getHits() ).containsExactly( 0, 1, 2, 3, 4 );
+	}
+
+	@Test
+	public void invalid_unknownField() {
+		assertThatThrownBy( () -> setup( "unknownField" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown field 'unknownField'" );
+	}
+
+	@Test
+	public void invalid_order() {
+		assertThatThrownBy( () -> setup( "number:sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort element: 'number:sideways'" );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WRITER_INDEX_SORT, indexSort )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.number, number );
+				document.addValue( indexMapping.text, "text" + ( number % 10 ) );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			number = root.field(
+					"number",
+					f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES )
+			)
+					.toReference();
+			text = root.field(
+					"text",
+					f -> f.asString().sortable( Sortable.YES )
+			)
+					.toReference();
+		}
+	}
+}
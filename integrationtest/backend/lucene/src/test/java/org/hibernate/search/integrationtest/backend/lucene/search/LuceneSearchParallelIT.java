@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that searches behave the same when executed in parallel in the search thread pool.
+ */
+public class LuceneSearchParallelIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SHARD_COUNT = 3;
+	private static final int DOCUMENT_COUNT = 60;
+	private static final int CATEGORY_COUNT = 4;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 2 )
+				// Multiple shards mean multiple segments, thus potentially multiple slices
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sortAndPaging() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchResult<Integer> result = scope.query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 10, 5 );
+
+		assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.getHits() ).containsExactly(
+				DOCUMENT_COUNT - 11, DOCUMENT_COUNT - 12, DOCUMENT_COUNT - 13, DOCUMENT_COUNT - 14, DOCUMENT_COUNT - 15
+		);
+	}
+
+	@Test
+	public void fetchAll() {
+		StubMappingScope scope = indexManager.createScope();
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( i );
+		}
+
+		List<Integer> hits = scope.query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.fetchAllHits();
+
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void count() {
+		StubMappingScope scope = indexManager.createScope();
+
+		long count = scope.query()
+				.where( f -> f.range().field( "number" ).atLeast( 20 ) )
+				.fetchTotalHitCount();
+
+		assertThat( count ).isEqualTo( DOCUMENT_COUNT - 20 );
+	}
+
+	@Test
+	public void aggregation() {
+		StubMappingScope scope = indexManager.createScope();
+
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		SearchResult<?> result = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", Integer.class ) )
+				.fetch( 0 );
+
+		Map<Integer, Long> expected = new LinkedHashMap<>();
+		for ( int i = 0; i < CATEGORY_COUNT; i++ ) {
+			expected.put( i, (long) ( DOCUMENT_COUNT / CATEGORY_COUNT ) );
+		}
+		assertThat( result.getAggregation( aggregationKey ) ).containsAllEntriesOf( expected );
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.number, number );
+				document.addValue( indexMapping.category, number % CATEGORY_COUNT );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<Integer> category;
+
+		IndexMapping(IndexSchemaElement root) {
+			number = root.field(
+					"number",
+					f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES )
+			)
+					.toReference();
+			category = root.field(
+					"category",
+					f -> f.asInteger().aggregable( Aggregable.YES )
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks the behavior of the backend query cache and of predicates marked as cached.
+ */
+public class LuceneSearchQueryCacheIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void cachedPredicate() {
+		SearchIntegration integration = setup( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_QUERIES );
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchPredicate cachedPredicate = scope.predicate().extension( LuceneExtension.get() )
+				.cached( f -> f.range().field( "number" ).atLeast( 10 ) )
+				.toPredicate();
+
+		LuceneQueryCacheStatistics statistics = getStatistics( integration );
+
+		// The first execution populates the cache
+		List<Integer> hits = fetchWithCachedFilter( scope, cachedPredicate );
+		assertThat( hits ).containsExactly( 10, 11, 12, 13, 14 );
+		assertThat( statistics.getCacheSize() ).isGreaterThan( 0L );
+		assertThat( statistics.getCacheCount() ).isGreaterThanOrEqualTo( statistics.getCacheSize() );
+		long hitCountAfterFirstExecution = statistics.getHitCount();
+
+		// Later executions hit the cache
+		for ( int i = 0; i < 2; i++ ) {
+			hits = fetchWithCachedFilter( scope, cachedPredicate );
+			assertThat( hits ).containsExactly( 10, 11, 12, 13, 14 );
+		}
+		assertThat( statistics.getHitCount() ).isGreaterThan( hitCountAfterFirstExecution );
+		assertThat( statistics.getHitCount() ).isGreaterThan( 0L );
+
+		// Cached predicates used as the main predicate work too
+		long hitCountBeforeMainPredicate = statistics.getHitCount();
+		hits = scope.query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( cachedPredicate )
+				.sort( f -> f.field( "number" ) )
+				.fetchAllHits();
+		assertThat( hits ).hasSize( DOCUMENT_COUNT - 10 );
+		assertThat( statistics.getHitCount() ).isGreaterThan( hitCountBeforeMainPredicate );
+		assertThat( statistics.getRamBytesUsed() ).isGreaterThan( 0L );
+	}
+
+	@Test
+	public void minSegmentSize() {
+		SearchIntegration integration = setupHelper.start( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.QUERY_CACHE_MIN_SEGMENT_SIZE,
+						DOCUMENT_COUNT + 1 )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		initData();
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchPredicate cachedPredicate = scope.predicate().extension( LuceneExtension.get() )
+				.cached( f -> f.range().field( "number" ).atLeast( 10 ) )
+				.toPredicate();
+
+		for ( int i = 0; i < 3; i++ ) {
+			List<Integer> hits = fetchWithCachedFilter( scope, cachedPredicate );
+			assertThat( hits ).containsExactly( 10, 11, 12, 13, 14 );
+		}
+
+		// Segments are too small: nothing gets cached
+		LuceneQueryCacheStatistics statistics = getStatistics( integration );
+		assertThat( statistics.getCacheCount() ).isZero();
+		assertThat( statistics.getHitCount() ).isZero();
+	}
+
+	@Test
+	public void disabled() {
+		SearchIntegration integration = setup( 0 );
+		StubMappingScope scope = indexManager.createScope();
+
+		List<Integer> hits = scope.query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.extension( LuceneExtension.get() )
+						.cached( f.range().field( "number" ).lessThan( 3 ) ) )
+				.sort( f -> f.field( "number" ) )
+				.fetchAllHits();
+		assertThat( hits ).containsExactly( 0, 1, 2 );
+
+		LuceneQueryCacheStatistics statistics = getStatistics( integration );
+		assertThat( statistics.getHitCount() ).isZero();
+		assertThat( statistics.getMissCount() ).isZero();
+		assertThat( statistics.getCacheCount() ).isZero();
+		assertThat( statistics.getRamBytesUsed() ).isZero();
+	}
+
+	private SearchIntegration setup(int maxQueries) {
+		SearchIntegration integration = setupHelper.start( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.QUERY_CACHE_MAX_QUERIES, maxQueries )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+		return integration;
+	}
+
+	private List<Integer> fetchWithCachedFilter(StubMappingScope scope, SearchPredicate cachedPredicate) {
+		return scope.query()
+				.asProjection( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.bool()
+						.must( f.range().field( "number" ).lessThan( 15 ) )
+						.filter( cachedPredicate )
+				)
+				.sort( f -> f.field( "number" ) )
+				.fetchAllHits();
+	}
+
+	private LuceneQueryCacheStatistics getStatistics(SearchIntegration integration) {
+		return integration.getBackend( BACKEND_NAME ).unwrap( LuceneBackend.class ).getQueryCacheStatistics();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.number, number );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> number;
+
+		IndexMapping(IndexSchemaElement root) {
+			number = root.field(
+					"number",
+					f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES )
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Checks that scrolling in the Lucene backend returns each hit exactly once, in order,
+ * even with multiple shards and parallel search,
+ * and that it relies on the same view of the index from one chunk to the next.
+ */
+@RunWith(Parameterized.class)
+public class LuceneSearchScrollIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SHARD_COUNT = 3;
+	private static final int DOCUMENT_COUNT = 500;
+	private static final int CHUNK_SIZE = 30;
+
+	@Parameterized.Parameters(name = "search thread pool size {0}")
+	public static List<Integer> params() {
+		return Arrays.asList( 0, 2 );
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final int searchThreadPoolSize;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	public LuceneSearchScrollIT(int searchThreadPoolSize) {
+		this.searchThreadPoolSize = searchThreadPoolSize;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, searchThreadPoolSize )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sortByField() {
+		List<Integer> values = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.getHits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				values.addAll( chunk.getHits() );
+			}
+		}
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = DOCUMENT_COUNT - 1; i >= 0; i-- ) {
+			expected.add( i );
+		}
+		assertThat( values ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void sortByScore() {
+		List<Integer> values = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				values.addAll( chunk.getHits() );
+			}
+		}
+
+		assertThat( values ).hasSize( DOCUMENT_COUNT ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void stableViewOfTheIndex() {
+		List<Integer> values = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = indexManager.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.scroll( CHUNK_SIZE ) ) {
+			SearchScrollResult<Integer> chunk = scroll.next();
+			values.addAll( chunk.getHits() );
+
+			// Delete every document: the scroll should not notice
+			IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				plan.delete( referenceProvider( String.valueOf( i ) ) );
+			}
+			plan.execute().join();
+
+			for ( chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				values.addAll( chunk.getHits() );
+			}
+		}
+
+		assertThat( values ).hasSize( DOCUMENT_COUNT ).isSorted();
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isZero();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, number );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field(
+					"integer",
+					f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES )
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Checks that the Lucene backend actually stops counting hits when a total hit count threshold is set.
+ */
+@RunWith(Parameterized.class)
+public class LuceneSearchTotalHitCountThresholdIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SHARD_COUNT = 3;
+	private static final int DOCUMENT_COUNT = 1000;
+	private static final int THRESHOLD = 100;
+
+	@Parameterized.Parameters(name = "search thread pool size {0}")
+	public static List<Integer> params() {
+		return Arrays.asList( 0, 2 );
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final int searchThreadPoolSize;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	public LuceneSearchTotalHitCountThresholdIT(int searchThreadPoolSize) {
+		this.searchThreadPoolSize = searchThreadPoolSize;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, searchThreadPoolSize )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void lowerBound() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 10 );
+
+		assertThat( result.getHits() ).hasSize( 10 );
+		assertThat( result.getTotal().isHitCountLowerBound() ).isTrue();
+		assertThat( result.getTotal().getHitCountLowerBound() )
+				.isGreaterThanOrEqualTo( THRESHOLD )
+				.isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void exact_noThreshold() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+
+		assertThat( result.getHits() ).hasSize( 10 );
+		assertThat( result.getTotal().isHitCountExact() ).isTrue();
+		assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void exact_aggregation() {
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		// Aggregations require visiting every matching document, so the hit count is exact anyway
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", Integer.class ) )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 10 );
+
+		assertThat( result.getHits() ).hasSize( 10 );
+		assertThat( result.getTotal().isHitCountExact() ).isTrue();
+		assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void exact_noHits() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( THRESHOLD )
+				.fetch( 0 );
+
+		assertThat( result.getHits() ).isEmpty();
+		assertThat( result.getTotal().isHitCountExact() ).isTrue();
+		assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.category, number % 4 );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> category;
+
+		IndexMapping(IndexSchemaElement root) {
+			category = root.field(
+					"category",
+					f -> f.asInteger().aggregable( Aggregable.YES )
+			)
+					.toReference();
+		}
+	}
+}
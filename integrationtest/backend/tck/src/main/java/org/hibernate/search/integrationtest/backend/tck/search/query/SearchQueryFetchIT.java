@@ -24,6 +24,10 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
@@ -257,6 +261,180 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void totalHitCountThreshold_notReached() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.totalHitCountThreshold( DOCUMENT_COUNT + 1 )
+				.fetch( 2 );
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		SearchResultTotal total = result.getTotal();
+		Assertions.assertThat( total.isHitCountExact() ).isTrue();
+		Assertions.assertThat( total.isHitCountLowerBound() ).isFalse();
+		Assertions.assertThat( total.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( total.getHitCountLowerBound() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_reached() {
+		int threshold = DOCUMENT_COUNT / 4;
+		SearchResult<DocumentReference> result = matchAllQueryByScore()
+				.totalHitCountThreshold( threshold )
+				.fetch( 5 );
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+
+		// Backends are allowed to count hits exactly anyway
+		SearchResultTotal total = result.getTotal();
+		if ( total.isHitCountExact() ) {
+			Assertions.assertThat( total.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			Assertions.assertThat( total.getHitCountLowerBound() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			Assertions.assertThat( total.isHitCountLowerBound() ).isTrue();
+			Assertions.assertThat( total.getHitCountLowerBound() ).isBetween( (long) threshold, (long) DOCUMENT_COUNT );
+			Assertions.assertThatThrownBy( total::getHitCount )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "The total hit count is not exact" );
+			Assertions.assertThatThrownBy( result::getTotalHitCount )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "The total hit count is not exact" );
+		}
+
+		// The threshold must not affect the explicit hit count
+		Assertions.assertThat( matchAllQueryByScore().totalHitCountThreshold( threshold ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_zero() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.totalHitCountThreshold( 0 )
+				.fetch( 2 );
+		// Hits must be fetched even if the backend did not count any of them
+		assertThat( result ).hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		SearchResultTotal total = result.getTotal();
+		if ( total.isHitCountExact() ) {
+			Assertions.assertThat( total.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			Assertions.assertThat( total.getHitCountLowerBound() ).isBetween( 0L, (long) DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void scroll() {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( 7 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.getHits() ).hasSizeLessThanOrEqualTo( 7 );
+				Assertions.assertThat( chunk.getTotal().getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				hits.addAll( chunk.getHits() );
+			}
+		}
+
+		assertThat( hits )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void scroll_byScore() {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQueryByScore().scroll( 7 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				hits.addAll( chunk.getHits() );
+			}
+		}
+
+		// All scores are equal: we can't predict the order, but each document must be returned exactly once
+		assertThat( hits )
+				.hasDocRefHitsAnyOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void scroll_noHits() {
+		try ( SearchScroll<DocumentReference> scroll = matchNoneQuery().scroll( 7 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.getHits() ).isEmpty();
+			Assertions.assertThat( chunk.getTotal().getHitCount() ).isEqualTo( 0L );
+		}
+	}
+
+	@Test
+	public void scroll_invalidChunkSize() {
+		Assertions.assertThatThrownBy( () -> matchAllQuery().scroll( 0 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "chunkSize" );
+	}
+
+	@Test
+	public void scroll_closed() {
+		SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( 7 );
+		Assertions.assertThat( scroll.next().getHits() ).hasSize( 7 );
+		scroll.close();
+
+		Assertions.assertThatThrownBy( scroll::next )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "the scroll was closed" );
+	}
+
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		assertThat( matchAllQuery().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+
+		// Fetch beyond the total hit count
+		assertThat( matchAllQuery().fetchAsync( DOCUMENT_COUNT + 1, null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		assertThat( matchAllQuery().fetchHitsAsync( 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		assertThat( matchFirstHalfQuery().fetchHitsAsync( null, null ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQueryByScore() {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.where( f -> f.matchAll() );
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuery() {
 		StubMappingScope scope = indexManager.createScope();
 		return scope.query()
@@ -8,6 +8,7 @@
 
 import static org.easymock.EasyMock.expect;
 import static org.hibernate.search.util.impl.integrationtest.common.EasyMockUtils.projectionMatcher;
+import static org.hibernate.search.util.impl.integrationtest.common.EasyMockUtils.referenceMatcher;
 import static org.hibernate.search.util.impl.integrationtest.common.NormalizationUtils.reference;
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
@@ -15,6 +16,8 @@
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -41,6 +44,8 @@
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.stub.MapperEasyMockUtils;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.GenericStubMappingScope;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
@@ -50,6 +55,8 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.assertj.core.api.Assertions;
+
 import org.easymock.EasyMockSupport;
 
 public class SearchQueryResultLoadingOrTransformingIT extends EasyMockSupport {
@@ -242,6 +249,79 @@ public void selectEntity_referencesTransformer_entityLoading() {
 		verifyAll();
 	}
 
+	@Test
+	public void selectEntity_referencesTransformer_entityLoading_async() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+		StubLoadedObject mainLoadedObject = new StubLoadedObject( mainReference );
+		StubLoadedObject emptyLoadedObject = new StubLoadedObject( emptyReference );
+
+		LoadingContext<StubTransformedReference, StubLoadedObject> loadingContextMock =
+				createMock( LoadingContext.class );
+		DocumentReferenceConverter<StubTransformedReference> documentReferenceConverterMock =
+				createMock( StubDocumentReferenceConverter.class );
+		EntityLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				createMock( StubEntityLoader.class );
+
+		GenericStubMappingScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createGenericScope();
+		SearchQuery<StubLoadedObject> objectsQuery = scope.query( loadingContextMock )
+				.selectEntity()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		resetAll();
+		MapperEasyMockUtils.expectHitMappingAsync(
+				loadingContextMock, documentReferenceConverterMock, objectLoaderMock,
+				c -> c
+						.load( mainReference, mainTransformedReference, mainLoadedObject )
+						.load( emptyReference, emptyTransformedReference, emptyLoadedObject )
+		);
+		replayAll();
+		assertThat( objectsQuery.fetchHitsAsync( null ).toCompletableFuture().join() )
+				.hasHitsAnyOrder( mainLoadedObject, emptyLoadedObject );
+		verifyAll();
+	}
+
+	@Test
+	public void selectEntity_referencesTransformer_entityLoading_async_unsupported() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+
+		LoadingContext<StubTransformedReference, StubLoadedObject> loadingContextMock =
+				createMock( LoadingContext.class );
+		DocumentReferenceConverter<StubTransformedReference> documentReferenceConverterMock =
+				createMock( StubDocumentReferenceConverter.class );
+		// An entity loader that only supports blocking loading
+		EntityLoader<StubTransformedReference, StubLoadedObject> blockingObjectLoader = references -> {
+			throw new AssertionFailure( "Unexpected call to loadBlocking" );
+		};
+
+		GenericStubMappingScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createGenericScope();
+		SearchQuery<StubLoadedObject> objectsQuery = scope.query( loadingContextMock )
+				.selectEntity()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		resetAll();
+		expect( loadingContextMock.getProjectionHitMapper() )
+				.andReturn( new DefaultProjectionHitMapper<>( documentReferenceConverterMock, blockingObjectLoader ) );
+		expect( documentReferenceConverterMock.fromDocumentReference( referenceMatcher( mainReference ) ) )
+				.andReturn( new StubTransformedReference( mainReference ) );
+		expect( documentReferenceConverterMock.fromDocumentReference( referenceMatcher( emptyReference ) ) )
+				.andReturn( new StubTransformedReference( emptyReference ) );
+		replayAll();
+		CompletableFuture<List<StubLoadedObject>> future = objectsQuery.fetchHitsAsync( null ).toCompletableFuture();
+		Assertions.assertThatThrownBy( future::join )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot load entities asynchronously" );
+		verifyAll();
+	}
+
 	@Test
 	public void select_referencesTransformer_entityLoading() {
 		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
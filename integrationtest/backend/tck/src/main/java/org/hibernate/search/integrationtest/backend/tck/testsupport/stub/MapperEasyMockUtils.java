@@ -13,6 +13,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -38,12 +39,40 @@ private MapperEasyMockUtils() {
 	 * @param <R> The reference type.
 	 * @param <E> The entity type.
 	 */
-	@SuppressWarnings({"unchecked"})
 	public static <R, E> void expectHitMapping(
 			LoadingContext<R, E> loadingContextMock,
 			DocumentReferenceConverter<R> referenceTransformerMock,
 			EntityLoader<R, E> objectLoaderMock,
 			Consumer<HitMappingDefinitionContext<R, E>> hitMappingDefinition) {
+		expectHitMapping( loadingContextMock, referenceTransformerMock, objectLoaderMock, false,
+				hitMappingDefinition );
+	}
+
+	/**
+	 * @param loadingContextMock The EasyMock mock for the loading context.
+	 * @param referenceTransformerMock The EasyMock mock for the reference transformer.
+	 * @param objectLoaderMock The EasyMock mock for the entity loader.
+	 * @param hitMappingDefinition A definition of the reference -> entity mapping.
+	 * @param <R> The reference type.
+	 * @param <E> The entity type.
+	 * @see EntityLoader#loadAsync(List)
+	 */
+	public static <R, E> void expectHitMappingAsync(
+			LoadingContext<R, E> loadingContextMock,
+			DocumentReferenceConverter<R> referenceTransformerMock,
+			EntityLoader<R, E> objectLoaderMock,
+			Consumer<HitMappingDefinitionContext<R, E>> hitMappingDefinition) {
+		expectHitMapping( loadingContextMock, referenceTransformerMock, objectLoaderMock, true,
+				hitMappingDefinition );
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private static <R, E> void expectHitMapping(
+			LoadingContext<R, E> loadingContextMock,
+			DocumentReferenceConverter<R> referenceTransformerMock,
+			EntityLoader<R, E> objectLoaderMock,
+			boolean async,
+			Consumer<HitMappingDefinitionContext<R, E>> hitMappingDefinition) {
 		/*
 		 * We expect getProjectionHitMapper to be called *every time* a load is performed,
 		 * so that the mapper can check its state (session is open in ORM, for example).
@@ -64,12 +93,21 @@ public static <R, E> void expectHitMapping(
 			}
 		}
 
-		expect( objectLoaderMock.loadBlocking(
-				EasyMockUtils.collectionAnyOrderMatcher( new ArrayList<>( context.loadingMap.keySet() ) )
-		) )
-				.andAnswer( () -> ( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
-						.map( context.loadingMap::get )
-						.collect( Collectors.toList() ) );
+		List<R> expectedReferences = new ArrayList<>( context.loadingMap.keySet() );
+		if ( async ) {
+			expect( objectLoaderMock.loadAsync( EasyMockUtils.collectionAnyOrderMatcher( expectedReferences ) ) )
+					.andAnswer( () -> CompletableFuture.completedFuture(
+							( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
+									.map( context.loadingMap::get )
+									.collect( Collectors.toList() )
+					) );
+		}
+		else {
+			expect( objectLoaderMock.loadBlocking( EasyMockUtils.collectionAnyOrderMatcher( expectedReferences ) ) )
+					.andAnswer( () -> ( (List<R>) EasyMock.getCurrentArguments()[0] ).stream()
+							.map( context.loadingMap::get )
+							.collect( Collectors.toList() ) );
+		}
 	}
 
 	public static class HitMappingDefinitionContext<R, E> {
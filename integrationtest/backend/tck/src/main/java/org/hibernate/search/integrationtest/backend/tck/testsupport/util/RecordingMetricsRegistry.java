@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.testsupport.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Gauge;
+import org.hibernate.search.engine.environment.metrics.spi.Histogram;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * A metrics registry that records every value it receives,
+ * so that tests can check which metrics are reported, with which tags.
+ * <p>
+ * Metrics are identified by their name and their tags.
+ * Timer durations are recorded in nanoseconds.
+ */
+public final class RecordingMetricsRegistry implements MetricsRegistry {
+
+	private final Map<String, Map<Map<String, String>, AtomicLong>> counters = new ConcurrentHashMap<>();
+	private final Map<String, Map<Map<String, String>, List<Long>>> timers = new ConcurrentHashMap<>();
+	private final Map<String, Map<Map<String, String>, List<Long>>> histograms = new ConcurrentHashMap<>();
+	private final Map<String, Map<Map<String, String>, DoubleSupplier>> gauges = new ConcurrentHashMap<>();
+
+	@Override
+	public Counter counter(String name, String... tags) {
+		AtomicLong value = byTags( counters, name ).computeIfAbsent( toMap( tags ), ignored -> new AtomicLong() );
+		return value::addAndGet;
+	}
+
+	@Override
+	public Timer timer(String name, String... tags) {
+		List<Long> values = byTags( timers, name ).computeIfAbsent( toMap( tags ), ignored -> newValueList() );
+		return (duration, unit) -> values.add( unit.toNanos( duration ) );
+	}
+
+	@Override
+	public Histogram histogram(String name, String... tags) {
+		List<Long> values = byTags( histograms, name ).computeIfAbsent( toMap( tags ), ignored -> newValueList() );
+		return values::add;
+	}
+
+	@Override
+	public Gauge gauge(String name, DoubleSupplier valueSupplier, String... tags) {
+		Map<Map<String, String>, DoubleSupplier> gaugesWithName = byTags( gauges, name );
+		Map<String, String> tagMap = toMap( tags );
+		gaugesWithName.put( tagMap, valueSupplier );
+		return () -> gaugesWithName.remove( tagMap, valueSupplier );
+	}
+
+	/**
+	 * @param name The name of a counter.
+	 * @return The current value of each counter with that name, by tags.
+	 */
+	public Map<Map<String, String>, Long> getCounters(String name) {
+		Map<Map<String, String>, Long> result = new LinkedHashMap<>();
+		byTags( counters, name ).forEach( (tags, value) -> result.put( tags, value.get() ) );
+		return result;
+	}
+
+	/**
+	 * @param name The name of a timer.
+	 * @return The durations recorded by each timer with that name, by tags, in {@link TimeUnit#NANOSECONDS}.
+	 */
+	public Map<Map<String, String>, List<Long>> getTimers(String name) {
+		return copy( byTags( timers, name ) );
+	}
+
+	/**
+	 * @param name The name of a histogram.
+	 * @return The values recorded by each histogram with that name, by tags.
+	 */
+	public Map<Map<String, String>, List<Long>> getHistograms(String name) {
+		return copy( byTags( histograms, name ) );
+	}
+
+	/**
+	 * @param name The name of a gauge.
+	 * @return The value supplier of each gauge with that name that is currently registered (not closed), by tags.
+	 */
+	public Map<Map<String, String>, DoubleSupplier> getGauges(String name) {
+		return new LinkedHashMap<>( byTags( gauges, name ) );
+	}
+
+	private static <V> Map<Map<String, String>, V> byTags(Map<String, Map<Map<String, String>, V>> metrics,
+			String name) {
+		return metrics.computeIfAbsent( name, ignored -> new ConcurrentHashMap<>() );
+	}
+
+	private static Map<Map<String, String>, List<Long>> copy(Map<Map<String, String>, List<Long>> valuesByTags) {
+		Map<Map<String, String>, List<Long>> result = new LinkedHashMap<>();
+		valuesByTags.forEach( (tags, values) -> {
+			synchronized ( values ) {
+				result.put( tags, new ArrayList<>( values ) );
+			}
+		} );
+		return result;
+	}
+
+	private static List<Long> newValueList() {
+		return Collections.synchronizedList( new ArrayList<>() );
+	}
+
+	private static Map<String, String> toMap(String... tags) {
+		if ( tags.length % 2 != 0 ) {
+			throw new IllegalArgumentException( "Tags must be alternating keys and values, got an odd number of strings" );
+		}
+		Map<String, String> result = new LinkedHashMap<>();
+		for ( int i = 0; i < tags.length; i += 2 ) {
+			result.put( tags[i], tags[i + 1] );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+}
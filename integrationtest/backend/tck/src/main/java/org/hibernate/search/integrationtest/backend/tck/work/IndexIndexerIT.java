@@ -84,6 +84,39 @@ public void success() {
 		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( NUMBER_OF_BOOKS );
 	}
 
+	@Test
+	public void addOrUpdate() {
+		setup();
+
+		IndexIndexer indexer =
+				indexManager.createIndexer();
+		IndexWorkspace workspace = indexManager.createWorkspace();
+
+		// Index each document twice: the second operation must replace the first one
+		for ( int pass = 0; pass < 2; pass++ ) {
+			CompletableFuture<?>[] tasks = new CompletableFuture<?>[NUMBER_OF_BOOKS];
+			for ( int i = 0; i < NUMBER_OF_BOOKS; i++ ) {
+				final String id = i + "";
+				tasks[i] = indexer.addOrUpdate( referenceProvider( id ), document -> {
+					document.addValue( indexMapping.title, "The Lord of the Rings cap. " + id );
+				} );
+			}
+			CompletableFuture<?> future = CompletableFuture.allOf( tasks );
+			Awaitility.await().until( future::isDone );
+
+			// The operations should succeed.
+			FutureAssert.assertThat( future ).isSuccessful();
+		}
+
+		workspace.refresh().join();
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( NUMBER_OF_BOOKS );
+	}
+
 	@Test
 	public void failure() {
 		setup();
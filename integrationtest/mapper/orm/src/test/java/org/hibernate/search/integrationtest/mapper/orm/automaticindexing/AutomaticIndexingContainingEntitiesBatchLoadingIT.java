@@ -0,0 +1,261 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.OneToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing when containing entities to reindex are loaded in batches,
+ * i.e. when {@link HibernateOrmMapperSettings#AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE} is set.
+ */
+public class AutomaticIndexingContainingEntitiesBatchLoadingIT {
+
+	private static final int ENTITY_COUNT = 20;
+	private static final int BATCH_SIZE = 10;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Test
+	public void updateContained() {
+		setup( BATCH_SIZE );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			List<ContainedEntity> containedEntities = loadContainedEntities( session );
+			for ( ContainedEntity contained : containedEntities ) {
+				contained.setText( "updated" + contained.getId() );
+			}
+
+			expectUpdateWorks( "updated" ).processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void statementCount() {
+		setup( BATCH_SIZE );
+
+		long statementCount = reindexContainingEntitiesAndCountStatements();
+
+		// Containing entities are loaded with one statement per batch
+		assertThat( statementCount ).isLessThanOrEqualTo( ( ENTITY_COUNT + BATCH_SIZE - 1 ) / BATCH_SIZE );
+	}
+
+	@Test
+	public void statementCount_batchLoadingDisabled() {
+		setup( 0 );
+
+		long statementCount = reindexContainingEntitiesAndCountStatements();
+
+		// Containing entities are loaded one by one
+		assertThat( statementCount ).isGreaterThanOrEqualTo( ENTITY_COUNT );
+	}
+
+	private void setup(int batchSize) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.objectField( "contained", b2 -> b2
+						.field( "text", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE, batchSize )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				IndexedEntity indexed = new IndexedEntity();
+				indexed.setId( i );
+				ContainedEntity contained = new ContainedEntity();
+				contained.setId( i );
+				contained.setText( "initial" + i );
+				indexed.setContained( contained );
+				contained.setContaining( indexed );
+				session.persist( indexed );
+				session.persist( contained );
+			}
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				String text = "initial" + i;
+				expectations.add( String.valueOf( i ), b -> b
+						.objectField( "contained", b2 -> b2
+								.field( "text", text )
+						)
+				);
+			}
+			expectations.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	/**
+	 * @return The number of statements executed to reindex all containing entities,
+	 * excluding the statements that write changes to the database.
+	 */
+	private long reindexContainingEntitiesAndCountStatements() {
+		Statistics statistics = sessionFactory.getStatistics();
+		statistics.setStatisticsEnabled( true );
+
+		AtomicLong statementCount = new AtomicLong();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			List<ContainedEntity> containedEntities = loadContainedEntities( session );
+
+			expectUpdateWorks( "initial" ).processed();
+
+			// Reindex containing entities explicitly, so that no other statement is executed (updates, ...)
+			SearchIndexingPlan indexingPlan = Search.session( session ).indexingPlan();
+			for ( ContainedEntity contained : containedEntities ) {
+				indexingPlan.addOrUpdate( contained );
+			}
+			statistics.clear();
+			indexingPlan.process();
+			statementCount.set( statistics.getPrepareStatementCount() );
+			backendMock.verifyExpectationsMet();
+
+			assertThat( statistics.getEntityStatistics( IndexedEntity.NAME ).getLoadCount() )
+					.isEqualTo( ENTITY_COUNT );
+			for ( ContainedEntity contained : containedEntities ) {
+				assertThat( Hibernate.isInitialized( contained.getContaining() ) ).isTrue();
+			}
+
+			expectUpdateWorks( "initial" ).executed();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		return statementCount.get();
+	}
+
+	private BackendMock.DocumentWorkCallListContext expectUpdateWorks(String textPrefix) {
+		BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			String text = textPrefix + i;
+			expectations.update( String.valueOf( i ), b -> b
+					.objectField( "contained", b2 -> b2
+							.field( "text", text )
+					)
+			);
+		}
+		return expectations;
+	}
+
+	private static List<ContainedEntity> loadContainedEntities(Session session) {
+		List<ContainedEntity> containedEntities = session.createQuery(
+				"select c from contained c order by c.id", ContainedEntity.class
+		)
+				.getResultList();
+		for ( ContainedEntity contained : containedEntities ) {
+			// Sanity check: the containing entities have not been loaded yet
+			assertThat( Hibernate.isInitialized( contained.getContaining() ) ).isFalse();
+		}
+		return containedEntities;
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String NAME = "indexed";
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@OneToOne(mappedBy = "containing")
+		@IndexedEmbedded
+		private ContainedEntity contained;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public ContainedEntity getContained() {
+			return contained;
+		}
+
+		public void setContained(ContainedEntity contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = "contained")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@OneToOne(fetch = FetchType.LAZY)
+		private IndexedEntity containing;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
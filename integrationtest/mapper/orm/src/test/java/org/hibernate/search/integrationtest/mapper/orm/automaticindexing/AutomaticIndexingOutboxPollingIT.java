@@ -0,0 +1,435 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing with the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} strategy.
+ */
+public class AutomaticIndexingOutboxPollingIT {
+
+	private static final long ALMOST_FOREVER_VALUE = 10L;
+	private static final TimeUnit ALMOST_FOREVER_UNIT = TimeUnit.SECONDS;
+
+	private static final int MAX_ATTEMPTS = 2;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+				.objectField( "contained", b2 -> b2
+						.multiValued( true )
+						.field( "text", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY,
+						AutomaticIndexingStrategyName.OUTBOX_POLLING )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL, 10 )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS, MAX_ATTEMPTS )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void lifecycle() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = new IndexedEntity();
+			indexed.setId( 1 );
+			indexed.setText( "initial" );
+			session.persist( indexed );
+
+			// Documents are only updated after the events are processed, in the background
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "initial" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = session.get( IndexedEntity.class, 1 );
+			indexed.setText( "updated" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "updated" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = session.get( IndexedEntity.class, 1 );
+			session.delete( indexed );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.delete( "1" )
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void coalescing() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = new IndexedEntity();
+			indexed.setId( 1 );
+			indexed.setText( "initial" );
+			session.persist( indexed );
+			session.flush();
+
+			// Multiple events for the same entity: only the last state should be indexed, once
+			indexed.setText( "updated1" );
+			session.flush();
+			indexed.setText( "updated2" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "updated2" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void containedUpdate() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = new IndexedEntity();
+			indexed.setId( 1 );
+			indexed.setText( "initial" );
+			ContainedEntity contained = new ContainedEntity();
+			contained.setId( 2 );
+			contained.setText( "contained-initial" );
+			contained.setContaining( indexed );
+			indexed.getContained().add( contained );
+			session.persist( indexed );
+			session.persist( contained );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "initial" )
+							.objectField( "contained", b2 -> b2
+									.field( "text", "contained-initial" )
+							)
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = session.get( ContainedEntity.class, 2 );
+			contained.setText( "contained-updated" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "initial" )
+							.objectField( "contained", b2 -> b2
+									.field( "text", "contained-updated" )
+							)
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void containedDeletion() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = new IndexedEntity();
+			indexed.setId( 1 );
+			indexed.setText( "initial" );
+			ContainedEntity contained = new ContainedEntity();
+			contained.setId( 2 );
+			contained.setText( "contained-initial" );
+			contained.setContaining( indexed );
+			indexed.getContained().add( contained );
+			session.persist( indexed );
+			session.persist( contained );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "initial" )
+							.objectField( "contained", b2 -> b2
+									.field( "text", "contained-initial" )
+							)
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = session.get( ContainedEntity.class, 2 );
+			session.delete( contained );
+
+			// The containing entity can only be resolved from the deleted entity:
+			// it must be reindexed even though the event processor cannot load the deleted entity
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "text", "initial" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void rollback() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			session.getTransaction().begin();
+			IndexedEntity indexed = new IndexedEntity();
+			indexed.setId( 1 );
+			indexed.setText( "initial" );
+			session.persist( indexed );
+			session.flush();
+			// Sanity check: the event is recorded in the transaction, before the commit
+			assertThat( session.createQuery( "select count(e) from HibernateSearchOutboxEvent e", Long.class )
+					.getSingleResult() )
+					.isEqualTo( 1L );
+			session.getTransaction().rollback();
+		} );
+
+		// The event was never committed, so it cannot have been processed: it was rolled back
+		assertThat( countOutboxEvents() ).isZero();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = new IndexedEntity();
+			indexed.setId( 2 );
+			indexed.setText( "initial" );
+			session.persist( indexed );
+
+			// Only the entity persisted in the committed transaction should be indexed
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b
+							.field( "text", "initial" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void failingEntity() {
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				IndexedEntity indexed = new IndexedEntity();
+				indexed.setId( i );
+				indexed.setText( "initial" );
+				session.persist( indexed );
+			}
+
+			// All three events are processed in the same batch, but indexing of entity 2 fails
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "text", "initial" ) )
+					.update( "2", b -> b.field( "text", "initial" ) )
+					.update( "3", b -> b.field( "text", "initial" ) )
+					.processed();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "text", "initial" ) )
+					.executed();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b.field( "text", "initial" ) )
+					.executed( failingFuture );
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "3", b -> b.field( "text", "initial" ) )
+					.executed();
+
+			// Then entities are reindexed one at a time: entities 1 and 3 are indexed, entity 2 still fails
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "text", "initial" ) )
+					.processedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b.field( "text", "initial" ) )
+					.processedThenExecuted( failingFuture );
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "3", b -> b.field( "text", "initial" ) )
+					.processedThenExecuted();
+
+			// On the next poll, only the event of entity 2 is left: it fails again, in the batch then on its own,
+			// and the maximum number of attempts is reached
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b.field( "text", "initial" ) )
+					.processedThenExecuted( failingFuture );
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b.field( "text", "initial" ) )
+					.processedThenExecuted( failingFuture );
+		} );
+		// The event of entity 2 is kept, but ignored from now on
+		awaitProcessing( 1L );
+		Awaitility.await().atMost( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT )
+				.untilAsserted( () -> assertThat( getOutboxEventAttempts() ).containsExactly( MAX_ATTEMPTS ) );
+
+		// The failing event does not prevent other events from being processed
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = session.get( IndexedEntity.class, 1 );
+			indexed.setText( "updated" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "text", "updated" ) )
+					.processedThenExecuted();
+		} );
+		awaitProcessing( 1L );
+		assertThat( getOutboxEventAttempts() ).containsExactly( MAX_ATTEMPTS );
+	}
+
+	private void awaitProcessing() {
+		awaitProcessing( 0L );
+	}
+
+	private void awaitProcessing(long expectedRemainingEventCount) {
+		Awaitility.await().atMost( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT )
+				.untilAsserted( () -> {
+					backendMock.verifyExpectationsMet();
+					assertThat( countOutboxEvents() ).isEqualTo( expectedRemainingEventCount );
+				} );
+	}
+
+	private List<Integer> getOutboxEventAttempts() {
+		List<Integer> attempts = new ArrayList<>();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			attempts.addAll( session.createQuery( "select e.attempts from HibernateSearchOutboxEvent e", Integer.class )
+					.getResultList() );
+		} );
+		return attempts;
+	}
+	private long countOutboxEvents() {
+		AtomicLong count = new AtomicLong();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			count.set( session.createQuery( "select count(e) from HibernateSearchOutboxEvent e", Long.class )
+					.getSingleResult() );
+		} );
+		return count.get();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		public List<ContainedEntity> getContained() {
+			return contained;
+		}
+
+		public void setContained(List<ContainedEntity> contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = "contained")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private IndexedEntity containing;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
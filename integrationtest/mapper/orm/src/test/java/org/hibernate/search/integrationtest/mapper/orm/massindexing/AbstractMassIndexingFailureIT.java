@@ -99,6 +99,47 @@ public void indexing() {
 		);
 	}
 
+	@Test
+	public void indexing_pipelined() {
+		SessionFactory sessionFactory = setup();
+
+		String entityName = Book.NAME;
+		String entityReferenceAsString = Book.NAME + "#2";
+		String exceptionMessage = "Indexing failure";
+		String failingOperationAsString = "Indexing instance of entity '" + entityName + "' during mass indexing";
+
+		expectEntityIndexingFailureHandling(
+				entityName, entityReferenceAsString,
+				exceptionMessage, failingOperationAsString
+		);
+
+		// Failures are reported asynchronously, after the session was cleared:
+		// the entity reference must still be available.
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+						.pipelinedBatchesPerThread( 2 ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SearchException.class )
+						.hasMessageContainingAll(
+								"1 entities could not be indexed",
+								"See the logs for details.",
+								"First failure on entity 'Book#2': ",
+								exceptionMessage
+						)
+						.hasCauseInstanceOf( SimulatedFailure.class ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.PURGE, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.MERGE_SEGMENTS, ExecutionExpectation.SUCCEED ),
+				expectIndexingWorks( ExecutionExpectation.FAIL ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.REFRESH, ExecutionExpectation.SUCCEED )
+		);
+
+		assertEntityIndexingFailureHandling(
+				entityName, entityReferenceAsString,
+				exceptionMessage, failingOperationAsString
+		);
+	}
+
 	@Test
 	public void getId() {
 		SessionFactory sessionFactory = setup();
@@ -208,6 +208,65 @@ public void mergeSegmentsOnFinish() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void pipelinedBatchesPerThread() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					// Make sure multiple batches are pipelined
+					.batchSizeToLoadObjects( 1 )
+					.threadsToLoadObjects( 1 )
+					.pipelinedBatchesPerThread( 2 );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// so we expect 1 purge, 1 mergeSegments and 1 flush calls in this order:
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void pipelinedBatchesPerThread_invalid() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer();
+			Assertions.assertThatThrownBy( () -> indexer.pipelinedBatchesPerThread( -1 ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "batches must be positive or zero" );
+		} );
+	}
+
 	@Test
 	public void fromMappingWithoutSession() throws Exception {
 		SearchMapping searchMapping = Search.mapping( sessionFactory );
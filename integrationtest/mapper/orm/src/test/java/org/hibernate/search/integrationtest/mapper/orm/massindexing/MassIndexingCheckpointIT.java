@@ -0,0 +1,287 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Fail.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureContext;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that the {@link MassIndexer} records checkpoints and resumes from them.
+ */
+public class MassIndexingCheckpointIT {
+
+	private static final int ENTITY_COUNT = 50;
+	private static final int BATCH_SIZE = 10;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SessionFactory sessionFactory;
+	private Path checkpointFile;
+
+	@Before
+	public void setup() throws IOException {
+		backendMock.expectAnySchema( IntegerIdEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( IntegerIdEntity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+
+		checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoints" );
+	}
+
+	@Test
+	public void success() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = createMassIndexer( session, MassIndexingCheckpointStore.file( checkpointFile ) );
+
+			expectAdds( 0, ENTITY_COUNT );
+
+			backendMock.expectIndexScaleWorks( IntegerIdEntity.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					// Checkpoints are persisted after indexing of the type ends
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// Nothing to resume
+		assertThat( checkpointFile ).doesNotExist();
+		assertThat( MassIndexingCheckpointStore.file( checkpointFile ).load( IntegerIdEntity.NAME ) ).isEmpty();
+	}
+
+	@Test
+	public void resume_afterFailure() {
+		int failingId = 25;
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = createMassIndexer( session, MassIndexingCheckpointStore.file( checkpointFile ) );
+
+			expectAdds( 0, failingId );
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+			backendMock.expectWorksAnyOrder(
+					IntegerIdEntity.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( String.valueOf( failingId ), b -> b.field( "text", "text" + failingId ) )
+					.processedThenExecuted( failingFuture );
+			expectAdds( failingId + 1, ENTITY_COUNT );
+
+			backendMock.expectIndexScaleWorks( IntegerIdEntity.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.flush()
+					.refresh();
+
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "1 entities could not be indexed" );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// The checkpoint must stop right before the batch that failed
+		int lastIndexedId = failingId / BATCH_SIZE * BATCH_SIZE - 1;
+		assertThat( MassIndexingCheckpointStore.file( checkpointFile ).load( IntegerIdEntity.NAME ) )
+				.extracting( MassIndexingCheckpoint::getLowerBoundInclusive, MassIndexingCheckpoint::getUpperBoundExclusive,
+						MassIndexingCheckpoint::getLastIndexedIdentifier, MassIndexingCheckpoint::isCompleted )
+				.containsExactly( tuple( null, null, lastIndexedId, false ) );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = createMassIndexer( session, MassIndexingCheckpointStore.file( checkpointFile ) );
+
+			// Only entities after the checkpoint are indexed; they may already be in the index
+			expectUpdates( lastIndexedId + 1, ENTITY_COUNT );
+
+			// No purge when resuming
+			backendMock.expectIndexScaleWorks( IntegerIdEntity.INDEX, session.getTenantIdentifier() )
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void resume_partitions() {
+		// Simulate a previous execution that partitioned identifiers,
+		// completed the second partition and indexed part of the first one
+		MassIndexingCheckpointStore store = MassIndexingCheckpointStore.file( checkpointFile );
+		store.save( IntegerIdEntity.NAME, Arrays.asList(
+				new MassIndexingCheckpoint( null, 25, 9, false ),
+				new MassIndexingCheckpoint( 25, null, null, true )
+		) );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			// Partitions are restored from checkpoints, regardless of the requested partitions
+			MassIndexer indexer = createMassIndexer( session, MassIndexingCheckpointStore.file( checkpointFile ) )
+					.idPartitions( 4 );
+
+			expectUpdates( 10, 25 );
+
+			backendMock.expectIndexScaleWorks( IntegerIdEntity.INDEX, session.getTenantIdentifier() )
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void resumeFrom_null() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer();
+			assertThatThrownBy( () -> indexer.resumeFrom( null ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "checkpointStore must not be null" );
+		} );
+	}
+
+	private MassIndexer createMassIndexer(Session session, MassIndexingCheckpointStore store) {
+		return Search.session( session ).massIndexer( IntegerIdEntity.class )
+				// Make the order of batches predictable
+				.threadsToLoadObjects( 1 )
+				.batchSizeToLoadObjects( BATCH_SIZE )
+				.failureHandler( new IgnoringFailureHandler() )
+				.resumeFrom( store );
+	}
+
+	private void expectAdds(int fromInclusive, int toExclusive) {
+		BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorksAnyOrder(
+				IntegerIdEntity.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		);
+		for ( int i = fromInclusive; i < toExclusive; i++ ) {
+			String text = "text" + i;
+			expectations.add( String.valueOf( i ), b -> b.field( "text", text ) );
+		}
+		expectations.processedThenExecuted();
+	}
+
+	private void expectUpdates(int fromInclusive, int toExclusive) {
+		BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorksAnyOrder(
+				IntegerIdEntity.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		);
+		for ( int i = fromInclusive; i < toExclusive; i++ ) {
+			String text = "text" + i;
+			expectations.update( String.valueOf( i ), b -> b.field( "text", text ) );
+		}
+		expectations.processedThenExecuted();
+	}
+
+	private static void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( new IntegerIdEntity( i, "text" + i ) );
+			}
+		} );
+	}
+
+	private static class IgnoringFailureHandler implements MassIndexingFailureHandler {
+		@Override
+		public void handle(MassIndexingFailureContext context) {
+			// Failures are expected: the mass indexer will report them by throwing an exception anyway
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+	@Entity(name = IntegerIdEntity.NAME)
+	@Table(name = "integer_id_entity")
+	@Indexed(index = IntegerIdEntity.INDEX)
+	public static class IntegerIdEntity {
+
+		public static final String NAME = "IntegerIdEntity";
+		public static final String INDEX = "IntegerIdEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		public IntegerIdEntity() {
+		}
+
+		public IntegerIdEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
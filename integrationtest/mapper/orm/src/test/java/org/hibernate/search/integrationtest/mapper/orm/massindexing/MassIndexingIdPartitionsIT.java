@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Fail.fail;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that the {@link MassIndexer} indexes every entity exactly once
+ * when the identifier space is partitioned.
+ */
+public class MassIndexingIdPartitionsIT {
+
+	private static final int ENTITY_COUNT = 50;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IntegerIdEntity.INDEX );
+		backendMock.expectAnySchema( StringIdEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( IntegerIdEntity.class, StringIdEntity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void integralId() {
+		// Partitions computed from min/max
+		expectAndRunMassIndexing( IntegerIdEntity.class, IntegerIdEntity.INDEX, 4 );
+	}
+
+	@Test
+	public void integralId_morePartitionsThanIds() {
+		expectAndRunMassIndexing( IntegerIdEntity.class, IntegerIdEntity.INDEX, ENTITY_COUNT * 2 );
+	}
+
+	@Test
+	public void comparableId() {
+		// Partitions computed by sampling
+		expectAndRunMassIndexing( StringIdEntity.class, StringIdEntity.INDEX, 4 );
+	}
+
+	@Test
+	public void comparableId_morePartitionsThanIds() {
+		expectAndRunMassIndexing( StringIdEntity.class, StringIdEntity.INDEX, ENTITY_COUNT * 2 );
+	}
+
+	@Test
+	public void invalidPartitions() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer();
+			Assertions.assertThatThrownBy( () -> indexer.idPartitions( 0 ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "partitions must be at least 1" );
+		} );
+	}
+
+	private void expectAndRunMassIndexing(Class<?> type, String index, int partitions) {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer( type )
+					.idPartitions( partitions );
+
+			// Each entity must be indexed exactly once
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorksAnyOrder(
+					index, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			);
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				String text = "text" + i;
+				expectations.add( documentId( type, i ), b -> b.field( "text", text ) );
+			}
+			expectations.processedThenExecuted();
+
+			backendMock.expectIndexScaleWorks( index, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private static String documentId(Class<?> type, int i) {
+		return IntegerIdEntity.class.equals( type ) ? String.valueOf( i ) : StringIdEntity.id( i );
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( new IntegerIdEntity( i, "text" + i ) );
+				session.persist( new StringIdEntity( StringIdEntity.id( i ), "text" + i ) );
+			}
+		} );
+	}
+
+	@Entity(name = "IntegerIdEntity")
+	@Table(name = "integer_id_entity")
+	@Indexed(index = IntegerIdEntity.INDEX)
+	public static class IntegerIdEntity {
+
+		public static final String INDEX = "IntegerIdEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		public IntegerIdEntity() {
+		}
+
+		public IntegerIdEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "StringIdEntity")
+	@Table(name = "string_id_entity")
+	@Indexed(index = StringIdEntity.INDEX)
+	public static class StringIdEntity {
+
+		public static final String INDEX = "StringIdEntity";
+
+		static String id(int i) {
+			return "id" + i;
+		}
+
+		@Id
+		private String id;
+
+		@GenericField
+		private String text;
+
+		public StringIdEntity() {
+		}
+
+		public StringIdEntity(String id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -89,6 +89,47 @@ public MyContainer<String> getText() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void custom_chainedWithBuiltin_compiledIndexingProcessors() {
+		@Indexed(index = INDEX_NAME)
+		class IndexedEntity {
+			Integer id;
+			List<MyContainer<String>> text;
+			@DocumentId
+			public Integer getId() {
+				return id;
+			}
+			@GenericField(extraction = @ContainerExtraction({ BuiltinContainerExtractors.COLLECTION, MyContainerExtractor.NAME }))
+			public List<MyContainer<String>> getText() {
+				return text;
+			}
+		}
+
+		backendMock.expectSchema( INDEX_NAME, b -> b
+				.field( "text", String.class, f -> f.multiValued( true ) )
+		);
+
+		SearchMapping mapping = setupHelper.start()
+				.withConfiguration( builder -> {
+					builder.setIndexingProcessorCompilationEnabled( true );
+					builder.containerExtractors().define( MyContainerExtractor.NAME, MyContainerExtractor.class );
+				} )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		try ( SearchSession session = mapping.createSession() ) {
+			IndexedEntity entity = new IndexedEntity();
+			entity.id = 1;
+			entity.text = Arrays.asList( new MyContainer<>( "value1", "value2" ), null, new MyContainer<>( "value3" ) );
+			session.indexingPlan().add( entity );
+
+			backendMock.expectWorks( INDEX_NAME )
+					.add( "1", b -> b.field( "text", "value1", "value2", "value3" ) )
+					.processedThenExecuted();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
 	private static class MyContainer<T> {
 		private final List<T> elements;
 
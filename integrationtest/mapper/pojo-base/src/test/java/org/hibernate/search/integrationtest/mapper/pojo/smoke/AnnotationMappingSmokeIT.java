@@ -51,10 +51,17 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
-
+@RunWith(Parameterized.class)
 public class AnnotationMappingSmokeIT {
 
+	@Parameterized.Parameters(name = "compileIndexingProcessors={0}")
+	public static Object[] params() {
+		return new Object[] { false, true };
+	}
+
 	@Rule
 	public BackendMock backendMock = new BackendMock( "stubBackend" );
 
@@ -64,8 +71,14 @@ public class AnnotationMappingSmokeIT {
 	@Rule
 	public StaticCounters counters = new StaticCounters();
 
+	private final boolean compileIndexingProcessors;
+
 	private SearchMapping mapping;
 
+	public AnnotationMappingSmokeIT(boolean compileIndexingProcessors) {
+		this.compileIndexingProcessors = compileIndexingProcessors;
+	}
+
 	@Before
 	public void setup() {
 		backendMock.expectSchema( OtherIndexedEntity.INDEX, b -> b
@@ -141,6 +154,7 @@ public void setup() {
 
 		mapping = setupHelper.start()
 				.withConfiguration( builder -> {
+					builder.setIndexingProcessorCompilationEnabled( compileIndexingProcessors );
 					builder.addEntityTypes( CollectionHelper.asSet(
 							IndexedEntity.class,
 							OtherIndexedEntity.class,
@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.dataset.Dataset;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.dataset.DatasetHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo.AbstractJavaBeanMappingHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo.IndexedEntity;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchIndexingPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Abstract class for JMH benchmarks related to on-the-fly indexing of entities through a POJO mapper,
+ * i.e. including the transfer of data from entities to documents by indexing processors.
+ * <p>
+ * Unlike {@link AbstractOnTheFlyIndexingBenchmarks}, where documents are populated directly,
+ * this benchmark exercises the POJO mapper: compare results with the {@code compileIndexingProcessors}
+ * parameter set to {@code true} and {@code false} to assess the cost of document building.
+ * <p>
+ * Each thread indexes its own set of entities, so that threads never conflict.
+ */
+@Fork(1)
+@State(Scope.Thread)
+// Use a longer iteration time than the default of 10s:
+// backends have background operations that execute every second,
+// which could introduce significant errors in 10-second iterations.
+@Measurement(time = 30)
+public abstract class AbstractPojoIndexingBenchmarks {
+
+	/**
+	 * The number of entities to add or update in each indexing plan.
+	 */
+	@Param({ "20" })
+	private int entitiesPerIndexingPlan;
+
+	private SearchMapping mapping;
+	private long entityIdOffset;
+	private long entityIdGap;
+
+	private final List<IndexedEntity> entities = new ArrayList<>();
+
+	protected void doSetupTrial(AbstractJavaBeanMappingHolder mappingHolder, ThreadParams threadParams) {
+		this.mapping = mappingHolder.getMapping();
+		// Avoid conflict between threads: use a different starting point based on the thread index,
+		// and then a gap based on the thread count
+		this.entityIdOffset = threadParams.getThreadIndex();
+		this.entityIdGap = threadParams.getThreadCount();
+	}
+
+	@Setup(Level.Iteration)
+	public void prepareIteration(DatasetHolder datasetHolder) {
+		Dataset dataset = datasetHolder.getDataset();
+		// Entities are created upfront so that the benchmark only measures indexing
+		entities.clear();
+		for ( int i = 0; i < entitiesPerIndexingPlan; ++i ) {
+			IndexedEntity entity = new IndexedEntity();
+			dataset.populate( entity, entityIdOffset + i * entityIdGap, 0L );
+			entities.add( entity );
+		}
+	}
+
+	@Benchmark
+	public void indexingPlan(WriteCounters counters) {
+		SearchSession session = mapping.createSessionWithOptions()
+				.commitStrategy( DocumentCommitStrategy.NONE )
+				.refreshStrategy( DocumentRefreshStrategy.NONE )
+				.build();
+		try {
+			SearchIndexingPlan indexingPlan = session.indexingPlan();
+			for ( IndexedEntity entity : entities ) {
+				indexingPlan.addOrUpdate( entity );
+			}
+		}
+		finally {
+			// Do not return until works are *actually* executed
+			session.close();
+		}
+
+		counters.write += entitiesPerIndexingPlan;
+	}
+
+}
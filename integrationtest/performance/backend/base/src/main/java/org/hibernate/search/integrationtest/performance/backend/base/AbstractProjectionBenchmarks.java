@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to the extraction of hits,
+ * i.e. everything that happens after the top docs have been found:
+ * loading stored fields, document references, and applying projections.
+ * <p>
+ * The index is never written to during the benchmark,
+ * so that the cost of extraction is not hidden behind the cost of refreshes.
+ * <p>
+ * Indexes use the {@link SearchMappedIndex} mapping, whose fields are projectable and sortable,
+ * except for one field that is only projectable, so that projections go through both doc values and stored fields.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractProjectionBenchmarks extends AbstractBackendBenchmarks {
+
+	/**
+	 * The number of hits to extract in each query.
+	 */
+	@Param({ "100", "1000", "10000" })
+	private int hitCount;
+
+	@Benchmark
+	public void documentReferences(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		List<DocumentReference> hits = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetchHits( hitCount );
+
+		for ( DocumentReference hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void fieldProjections(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		List<List<?>> hits = index.createScope().query()
+				.asProjection( f -> f.composite(
+						f.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( SearchMappedIndex.NUMERIC_FIELD_NAME, Long.class ),
+						f.field( SearchMappedIndex.STORED_SHORT_TEXT_FIELD_NAME, String.class )
+				) )
+				.where( f -> f.matchAll() )
+				.fetchHits( hitCount );
+
+		for ( List<?> hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void fieldProjectionsSorted(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		// Hits are no longer in doc ID order
+		List<List<?>> hits = index.createScope().query()
+				.asProjection( f -> f.composite(
+						f.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( SearchMappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetchHits( hitCount );
+
+		for ( List<?> hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to searching:
+ * predicates, sorts, aggregations, projections, paging.
+ * <p>
+ * The index is never written to during the benchmark,
+ * so that the cost of queries is not hidden behind the cost of refreshes.
+ * <p>
+ * Indexes use the {@link SearchMappedIndex} mapping,
+ * so concrete benchmarks must be set up with a backend holder that creates such indexes.
+ * <p>
+ * Run with {@code -prof gc} to also report allocation rates.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> TERMS_AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> RANGE_AGGREGATION_KEY = AggregationKey.of( "range" );
+
+	/**
+	 * The text to search for in full-text predicates.
+	 * The default value is meant to match a significant portion of the mailing list dataset.
+	 */
+	@Param({ "hibernate search" })
+	private String queryText;
+
+	/**
+	 * The number of hits to fetch in each query.
+	 */
+	@Param({ "20" })
+	private int pageSize;
+
+	/**
+	 * The offset of the page to fetch in {@link #deepPaging(Blackhole)}.
+	 */
+	@Param({ "5000" })
+	private int deepPagingOffset;
+
+	@Benchmark
+	public void match(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void phrase(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.phrase().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void simpleQueryString(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.simpleQueryString().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void sortByField(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.sort( f -> f.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME )
+						.then().field( SearchMappedIndex.NUMERIC_FIELD_NAME ) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void sortByScore(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.sort( f -> f.score() )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void termsAggregation(Blackhole blackhole) {
+		SearchResult<DocumentReference> result = createScope().query()
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.aggregation( TERMS_AGGREGATION_KEY, f -> f.terms()
+						.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME, String.class )
+						.maxTermCount( 10 ) )
+				.fetch( 0 );
+
+		blackhole.consume( result.getAggregation( TERMS_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void rangeAggregation(Blackhole blackhole) {
+		SearchResult<DocumentReference> result = createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( RANGE_AGGREGATION_KEY, f -> f.range()
+						.field( SearchMappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( null, 100L )
+						.range( 100L, 1_000L )
+						.range( 1_000L, 10_000L )
+						.range( 10_000L, null ) )
+				.fetch( 0 );
+
+		blackhole.consume( result.getAggregation( RANGE_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void documentReferenceProjections(Blackhole blackhole) {
+		List<List<?>> hits = createScope().query()
+				.asProjection( f -> f.composite(
+						f.documentReference(),
+						f.score()
+				) )
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void fieldProjections(Blackhole blackhole) {
+		List<List<?>> hits = createScope().query()
+				.asProjection( f -> f.composite(
+						f.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( SearchMappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void nestedPredicate(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.nested().objectField( SearchMappedIndex.NESTED_OBJECT_NAME )
+						.nest( f.bool()
+								.must( f.range().field( SearchMappedIndex.NESTED_NUMERIC_FIELD_NAME ).atLeast( 100L ) )
+								.must( f.exists().field( SearchMappedIndex.NESTED_SHORT_TEXT_FIELD_NAME ) )
+						) )
+				.fetchHits( pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void deepPaging(Blackhole blackhole) {
+		List<DocumentReference> hits = createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( SearchMappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetchHits( deepPagingOffset, pageSize );
+
+		consume( blackhole, hits );
+	}
+
+	@Benchmark
+	public void countOnly(Blackhole blackhole) {
+		long count = createScope().query()
+				.where( f -> f.match().field( SearchMappedIndex.LONG_TEXT_FIELD_NAME ).matching( queryText ) )
+				.fetchTotalHitCount();
+
+		blackhole.consume( count );
+	}
+
+	private StubMappingScope createScope() {
+		return getIndexPartition().getIndex().createScope();
+	}
+
+	private static void consume(Blackhole blackhole, List<?> hits) {
+		for ( Object hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo.IndexedEntity;
 
 import org.openjdk.jmh.annotations.CompilerControl;
 
@@ -24,4 +25,14 @@ public void populate(MappedIndex index, DocumentElement documentElement, long do
 		);
 	}
 
+	@Override
+	public void populate(IndexedEntity entity, long entityId, long randomizer) {
+		entity.setId( entityId );
+		entity.populate(
+				"Some short text " + randomizer,
+				"Some very long text should be stored here. No, I mean long as in a book. " + randomizer,
+				entityId + randomizer
+		);
+	}
+
 }
@@ -8,9 +8,12 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo.IndexedEntity;
 
 public interface Dataset {
 
 	void populate(MappedIndex index, DocumentElement documentElement, long documentId, long randomizer);
 
+	void populate(IndexedEntity entity, long entityId, long randomizer);
+
 }
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo.IndexedEntity;
 
 import org.openjdk.jmh.annotations.CompilerControl;
 
@@ -41,6 +42,18 @@ public void populate(MappedIndex index, DocumentElement documentElement, long do
 		);
 	}
 
+	@Override
+	public void populate(IndexedEntity entity, long entityId, long randomizer) {
+		int sampleIndex = (int) ( ( entityId + randomizer ) % size );
+		DataSample sample = samples.get( sampleIndex );
+		entity.setId( entityId );
+		entity.populate(
+				sample.shortText,
+				sample.longText,
+				sample.numeric
+		);
+	}
+
 	public static class DataSample {
 
 		private final String shortText;
@@ -74,7 +74,7 @@ public void startHibernateSearch(TemporaryFileHolder temporaryFileHolder) throws
 
 		indexes = new ArrayList<>();
 		for ( int i = 0; i < INDEX_COUNT; ++i ) {
-			MappedIndex index = new MappedIndex( BACKEND_NAME, i );
+			MappedIndex index = createIndex( BACKEND_NAME, i );
 			initiator.add( index );
 			indexes.add( index );
 		}
@@ -113,6 +113,15 @@ public List<MappedIndex> getIndexes() {
 		return indexes;
 	}
 
+	/**
+	 * @param backendName The name of the backend hosting the index.
+	 * @param indexId The identifier of the index, unique within this holder.
+	 * @return A new index. Override to benchmark another mapping.
+	 */
+	protected MappedIndex createIndex(String backendName, int indexId) {
+		return new MappedIndex( backendName, indexId );
+	}
+
 	protected final Map<String, String> stringToMap(String settings) {
 		String[] settingsSplit = settings.split( "&" );
 		Map<String, String> map = new LinkedHashMap<>();
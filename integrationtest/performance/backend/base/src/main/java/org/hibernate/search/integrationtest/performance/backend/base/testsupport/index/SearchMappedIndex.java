@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.index;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+
+import org.openjdk.jmh.annotations.CompilerControl;
+
+/**
+ * An index with the same fields as {@link MappedIndex},
+ * but with additional features enabled for search benchmarks (sorts, aggregations, projections)
+ * and one nested object per document.
+ * <p>
+ * Kept separate from {@link MappedIndex} so that these features do not affect the results of indexing benchmarks.
+ */
+@CompilerControl(CompilerControl.Mode.INLINE)
+public class SearchMappedIndex extends MappedIndex {
+
+	/**
+	 * A copy of the short text that is projectable, but not sortable:
+	 * projections on this field are extracted from stored fields rather than from doc values.
+	 */
+	public static final String STORED_SHORT_TEXT_FIELD_NAME = "storedShortText";
+
+	public static final String NESTED_OBJECT_NAME = "nested";
+	public static final String NESTED_SHORT_TEXT_FIELD_NAME = NESTED_OBJECT_NAME + "." + SHORT_TEXT_FIELD_NAME;
+	public static final String NESTED_NUMERIC_FIELD_NAME = NESTED_OBJECT_NAME + "." + NUMERIC_FIELD_NAME;
+
+	private IndexFieldReference<String> shortTextField;
+	private IndexFieldReference<String> longTextField;
+	private IndexFieldReference<Long> numericField;
+	private IndexFieldReference<String> storedShortTextField;
+	private IndexObjectFieldReference nestedObject;
+	private IndexFieldReference<String> nestedShortTextField;
+	private IndexFieldReference<Long> nestedNumericField;
+
+	public SearchMappedIndex(String backendName, int indexId) {
+		super( backendName, indexId );
+	}
+
+	@Override
+	protected void bind(IndexedEntityBindingContext context) {
+		IndexSchemaElement root = context.getSchemaElement();
+		shortTextField = root.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.sortable( Sortable.YES ).projectable( Projectable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
+				.toReference();
+		numericField = root.field(
+				NUMERIC_FIELD_NAME,
+				f -> f.asLong().sortable( Sortable.YES ).projectable( Projectable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+		storedShortTextField = root.field(
+				STORED_SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().projectable( Projectable.YES )
+		)
+				.toReference();
+
+		IndexSchemaObjectField nestedObjectField = root.objectField( NESTED_OBJECT_NAME, ObjectFieldStorage.NESTED );
+		nestedObject = nestedObjectField.toReference();
+		nestedShortTextField = nestedObjectField.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+		)
+				.toReference();
+		nestedNumericField = nestedObjectField.field( NUMERIC_FIELD_NAME, f -> f.asLong() ).toReference();
+	}
+
+	@Override
+	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
+		documentElement.addValue( shortTextField, shortText );
+		documentElement.addValue( longTextField, longText );
+		documentElement.addValue( numericField, numeric );
+		documentElement.addValue( storedShortTextField, shortText );
+		DocumentElement nested = documentElement.addObject( nestedObject );
+		nested.addValue( nestedShortTextField, shortText );
+		nested.addValue( nestedNumericField, numeric );
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.filesystem.TemporaryFileHolder;
+import org.hibernate.search.mapper.javabean.mapping.CloseableSearchMapping;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a JavaBean mapping of {@link IndexedEntity},
+ * so that documents are built by indexing processors instead of being populated directly.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractJavaBeanMappingHolder {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	/**
+	 * Whether indexing processors should be specialized at bootstrap.
+	 */
+	@Param({ "false", "true" })
+	private boolean compileIndexingProcessors;
+
+	private CloseableSearchMapping mapping;
+
+	@Setup(Level.Trial)
+	public void startHibernateSearch(TemporaryFileHolder temporaryFileHolder) throws IOException {
+		Map<String, Object> backendProperties = new LinkedHashMap<>();
+		backendProperties.putAll( getDefaultBackendProperties( temporaryFileHolder ) );
+		// Allow multiple backend configurations to be tested using a benchmark parameter
+		Map<String, String> configurationFromParameter = stringToMap( getConfigurationParameter() );
+		// > Apply the configuration at the backend level
+		backendProperties.putAll( configurationFromParameter );
+		// > Apply the configuration at the index level (for convenience)
+		for ( Map.Entry<String, String> entry : configurationFromParameter.entrySet() ) {
+			backendProperties.put( BackendSettings.INDEX_DEFAULTS + "." + entry.getKey(), entry.getValue() );
+		}
+
+		Map<String, Object> properties = new LinkedHashMap<>();
+		properties.put( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME );
+		for ( Map.Entry<String, Object> entry : backendProperties.entrySet() ) {
+			properties.put( EngineSettings.BACKENDS + "." + BACKEND_NAME + "." + entry.getKey(), entry.getValue() );
+		}
+
+		mapping = SearchMapping.builder( MethodHandles.lookup() )
+				.setProperties( properties )
+				.addEntityType( IndexedEntity.class )
+				.setIndexingProcessorCompilationEnabled( compileIndexingProcessors )
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopHibernateSearch() {
+		if ( mapping != null ) {
+			mapping.close();
+		}
+	}
+
+	public SearchMapping getMapping() {
+		return mapping;
+	}
+
+	protected final Map<String, String> stringToMap(String settings) {
+		String[] settingsSplit = settings.split( "&" );
+		Map<String, String> map = new LinkedHashMap<>();
+		for ( String keyValue : settingsSplit ) {
+			if ( keyValue.isEmpty() ) {
+				continue;
+			}
+			String[] keyValueSplit = keyValue.split( "=" );
+			map.put( keyValueSplit[0], keyValueSplit[1] );
+		}
+		return map;
+	}
+
+	protected abstract Map<String, Object> getDefaultBackendProperties(TemporaryFileHolder temporaryFileHolder)
+			throws IOException;
+
+	protected abstract String getConfigurationParameter();
+}
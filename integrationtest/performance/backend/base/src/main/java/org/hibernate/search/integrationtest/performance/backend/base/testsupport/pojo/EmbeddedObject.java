@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo;
+
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+public class EmbeddedObject {
+
+	@KeywordField(normalizer = Analyzers.NORMALIZER_ENGLISH)
+	private String shortText;
+
+	@GenericField
+	private long numeric;
+
+	public String getShortText() {
+		return shortText;
+	}
+
+	public void setShortText(String shortText) {
+		this.shortText = shortText;
+	}
+
+	public long getNumeric() {
+		return numeric;
+	}
+
+	public void setNumeric(long numeric) {
+		this.numeric = numeric;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.pojo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+/**
+ * An entity mapped through annotations,
+ * so that documents are built by the POJO mapper's indexing processors,
+ * from the same data as the stub-mapped indexes.
+ * <p>
+ * The mapping involves value bridges, container extraction and embedded objects,
+ * i.e. the most common nodes of indexing processors.
+ */
+@Indexed(index = IndexedEntity.INDEX_NAME)
+public class IndexedEntity {
+
+	public static final String INDEX_NAME = "pojoIndex";
+
+	@DocumentId
+	private Long id;
+
+	@KeywordField(normalizer = Analyzers.NORMALIZER_ENGLISH, sortable = Sortable.YES)
+	private String shortText;
+
+	@FullTextField(analyzer = Analyzers.ANALYZER_ENGLISH)
+	private String longText;
+
+	@GenericField
+	private long numeric;
+
+	@KeywordField(normalizer = Analyzers.NORMALIZER_ENGLISH)
+	private List<String> keywords = new ArrayList<>();
+
+	@IndexedEmbedded
+	private EmbeddedObject embedded = new EmbeddedObject();
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getShortText() {
+		return shortText;
+	}
+
+	public void setShortText(String shortText) {
+		this.shortText = shortText;
+	}
+
+	public String getLongText() {
+		return longText;
+	}
+
+	public void setLongText(String longText) {
+		this.longText = longText;
+	}
+
+	public long getNumeric() {
+		return numeric;
+	}
+
+	public void setNumeric(long numeric) {
+		this.numeric = numeric;
+	}
+
+	public List<String> getKeywords() {
+		return keywords;
+	}
+
+	public void setKeywords(List<String> keywords) {
+		this.keywords = keywords;
+	}
+
+	public EmbeddedObject getEmbedded() {
+		return embedded;
+	}
+
+	public void setEmbedded(EmbeddedObject embedded) {
+		this.embedded = embedded;
+	}
+
+	/**
+	 * Sets all the data of this entity from the given values.
+	 */
+	public void populate(String shortText, String longText, long numeric) {
+		this.shortText = shortText;
+		this.longText = longText;
+		this.numeric = numeric;
+		keywords.clear();
+		for ( String keyword : shortText.split( " " ) ) {
+			keywords.add( keyword );
+		}
+		embedded.setShortText( shortText );
+		embedded.setNumeric( numeric );
+	}
+}
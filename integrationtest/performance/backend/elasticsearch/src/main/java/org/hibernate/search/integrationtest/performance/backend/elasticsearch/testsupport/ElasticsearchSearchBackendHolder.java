@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch.testsupport;
+
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A backend holder whose indexes use the {@link SearchMappedIndex} mapping, for search benchmarks.
+ */
+@State(Scope.Benchmark)
+public class ElasticsearchSearchBackendHolder extends ElasticsearchBackendHolder {
+
+	@Override
+	protected MappedIndex createIndex(String backendName, int indexId) {
+		return new SearchMappedIndex( backendName, indexId );
+	}
+}
@@ -106,6 +106,16 @@ public SearchMappingBuilder setMultiTenancyEnabled(boolean multiTenancyEnabled)
 		return this;
 	}
 
+	/**
+	 * @param indexingProcessorCompilationEnabled Whether indexing processors,
+	 * which transfer data from entities to documents, should be specialized at bootstrap for faster execution.
+	 * @return {@code this}, for call chaining.
+	 */
+	public SearchMappingBuilder setIndexingProcessorCompilationEnabled(boolean indexingProcessorCompilationEnabled) {
+		mappingInitiator.setIndexingProcessorCompilationEnabled( indexingProcessorCompilationEnabled );
+		return this;
+	}
+
 	public SearchMappingBuilder setProvidedIdentifierBridge(BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge) {
 		mappingInitiator.setProvidedIdentifierBridge( providedIdentifierBridge );
 		return this;
@@ -9,6 +9,7 @@
 import org.hibernate.search.mapper.javabean.session.impl.JavaBeanSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
@@ -58,6 +59,11 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals dirtyPathOrdinals) {
+			// Nothing to do: dirty paths are passed to indexing plans as strings
+		}
+
 		JavaBeanIndexedTypeContext<E> build() {
 			return new JavaBeanIndexedTypeContext<>( this );
 		}
@@ -6,29 +6,39 @@
  */
 package org.hibernate.search.mapper.javabean.model.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.util.common.impl.CollectionHelper;
 
 /**
  * A factory for filters expecting a simple string representation of dirty paths,
- * in the form "propertyA.propertyB.propertyC".
+ * in the form "propertyA.propertyB.propertyC",
+ * converted to ordinals using the {@link PojoPathOrdinals} of the entity type.
  * <p>
  * See {@link PojoModelPathPropertyNode#toPropertyString()}.
  */
-public class JavaBeanSimpleStringSetPojoPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class JavaBeanSimplePojoPathFilterFactory implements PojoPathFilterFactory<BitSet> {
+
+	private final PojoPathOrdinals pathOrdinals;
+
+	public JavaBeanSimplePojoPathFilterFactory(PojoPathOrdinals pathOrdinals) {
+		this.pathOrdinals = pathOrdinals;
+	}
+
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
 		// Use a LinkedHashSet for deterministic iteration
 		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
 		for ( PojoModelPathValueNode path : paths ) {
 			pathsAsStrings.add( path.getParent().toPropertyString() );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
+		return BitSetPojoPathFilter.create( pathOrdinals, pathsAsStrings );
 	}
 }
@@ -25,6 +25,7 @@
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchSession;
+import org.hibernate.search.mapper.pojo.work.spi.PojoReindexingEntityBatchLoader;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
 
@@ -68,6 +69,12 @@ public PojoRuntimeIntrospector getRuntimeIntrospector() {
 		return PojoRuntimeIntrospector.simple();
 	}
 
+	@Override
+	public PojoReindexingEntityBatchLoader getReindexingEntityBatchLoader() {
+		// Entities are never proxied in this mapper: there is nothing to load
+		return null;
+	}
+
 	@Override
 	public SearchQuerySelectStep<?, EntityReference, ?, ?, ?, ?> search(Collection<? extends Class<?>> types) {
 		return search( scope( types ) );
@@ -30,7 +30,25 @@ public enum AutomaticIndexingStrategyName {
 	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session:
 	 * entity insertion, update etc.
 	 */
-	SESSION("session");
+	SESSION("session"),
+
+	/**
+	 * Entity changes are detected in the Hibernate ORM session, like with {@link #SESSION},
+	 * but instead of being indexed when the transaction is committed,
+	 * they are recorded as events in an outbox table, as part of the same transaction.
+	 * <p>
+	 * A background processor polls the outbox table, coalesces events affecting the same entity,
+	 * reindexes the corresponding entities as they are in the database at that time,
+	 * then removes the processed events.
+	 * This removes indexing from the critical path of transactions,
+	 * and ensures changes are eventually indexed even if the application crashes right after a commit.
+	 * <p>
+	 * The outbox table is mapped as an additional Hibernate ORM entity,
+	 * so it must be created along with the rest of the database schema.
+	 * This strategy does not support multi-tenancy,
+	 * and only a single application instance should be running against a given database.
+	 */
+	OUTBOX_POLLING("outbox-polling");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
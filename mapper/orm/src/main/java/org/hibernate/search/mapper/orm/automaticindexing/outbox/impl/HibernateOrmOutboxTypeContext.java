@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
+public interface HibernateOrmOutboxTypeContext {
+
+	PojoRawTypeIdentifier<?> getTypeIdentifier();
+
+	String getHibernateOrmEntityName();
+
+	EntityPersister getEntityPersister();
+
+	boolean isIndexed();
+
+	Object toIndexingPlanProvidedId(Object entityId);
+
+	/**
+	 * @param dirtyPaths Dirty paths, as passed to an indexing plan.
+	 * @return The string representation of each dirty path, suitable for persisting.
+	 */
+	List<String> toDirtyPathStrings(BitSet dirtyPaths);
+
+}
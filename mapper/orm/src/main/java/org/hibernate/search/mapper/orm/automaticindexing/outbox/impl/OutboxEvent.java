@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+/**
+ * An event recorded in the outbox table, signaling that an entity changed and must be reindexed.
+ * <p>
+ * Mapped to the database through {@link OutboxEventMappingProducer}.
+ */
+public class OutboxEvent {
+
+	private Long id;
+
+	private String entityName;
+
+	private byte[] entityId;
+
+	/*
+	 * Comma-separated list of dirty paths,
+	 * or null if the entity must be considered dirty as a whole (e.g. when it was added or deleted).
+	 */
+	private String dirtyPaths;
+
+	/*
+	 * The number of failed attempts at reindexing the entity affected by this event.
+	 */
+	private int attempts;
+
+	public OutboxEvent() {
+	}
+
+	OutboxEvent(String entityName, byte[] entityId, String dirtyPaths) {
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.dirtyPaths = dirtyPaths;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "id=" + id
+				+ ", entityName=" + entityName
+				+ ", dirtyPaths=" + dirtyPaths
+				+ ", attempts=" + attempts
+				+ "]";
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public void setEntityName(String entityName) {
+		this.entityName = entityName;
+	}
+
+	public byte[] getEntityId() {
+		return entityId;
+	}
+
+	public void setEntityId(byte[] entityId) {
+		this.entityId = entityId;
+	}
+
+	public String getDirtyPaths() {
+		return dirtyPaths;
+	}
+
+	public void setDirtyPaths(String dirtyPaths) {
+		this.dirtyPaths = dirtyPaths;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(int attempts) {
+		this.attempts = attempts;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.source.internal.hbm.MappingDocument;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.AdditionalJaxbMappingProducer;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+
+import org.jboss.jandex.IndexView;
+
+/**
+ * Adds the mapping of {@link OutboxEvent} to the Hibernate ORM metadata,
+ * so that the outbox table is handled like any other table: schema generation, transactions, ...
+ * <p>
+ * Does nothing unless the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING}.
+ */
+public class OutboxEventMappingProducer implements AdditionalJaxbMappingProducer {
+
+	static final String ENTITY_NAME = "HibernateSearchOutboxEvent";
+	static final String TABLE_NAME = "HSEARCH_OUTBOX_EVENT";
+	static final int DIRTY_PATHS_MAX_LENGTH = 4096;
+
+	private static final String MAPPING = "<?xml version=\"1.0\"?>\n"
+			+ "<hibernate-mapping>\n"
+			+ "    <class name=\"" + OutboxEvent.class.getName() + "\" entity-name=\"" + ENTITY_NAME + "\""
+			+ "            table=\"" + TABLE_NAME + "\" lazy=\"false\">\n"
+			+ "        <id name=\"id\" type=\"long\">\n"
+			+ "            <generator class=\"org.hibernate.id.enhanced.SequenceStyleGenerator\">\n"
+			+ "                <param name=\"sequence_name\">" + TABLE_NAME + "_GENERATOR</param>\n"
+			+ "                <param name=\"increment_size\">50</param>\n"
+			+ "            </generator>\n"
+			+ "        </id>\n"
+			+ "        <property name=\"entityName\" type=\"string\" length=\"256\" not-null=\"true\"/>\n"
+			+ "        <property name=\"entityId\" type=\"binary\" length=\"8192\" not-null=\"true\"/>\n"
+			+ "        <property name=\"dirtyPaths\" type=\"string\" length=\"" + DIRTY_PATHS_MAX_LENGTH + "\"/>\n"
+			+ "        <property name=\"attempts\" type=\"integer\" not-null=\"true\"/>\n"
+			+ "    </class>\n"
+			+ "</hibernate-mapping>\n";
+
+	private static final ConfigurationProperty<Boolean> ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
+	@Override
+	public Collection<MappingDocument> produceAdditionalMappings(MetadataImplementor metadata,
+			IndexView jandexIndex, MappingBinder mappingBinder, MetadataBuildingContext buildingContext) {
+		StandardServiceRegistry serviceRegistry = metadata.getMetadataBuildingOptions().getServiceRegistry();
+		ConfigurationPropertySource propertySource = ConfigurationPropertySource.fromMap(
+				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+		);
+		if ( !ENABLED.get( propertySource )
+				|| !AutomaticIndexingStrategyName.OUTBOX_POLLING.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+			return Collections.emptyList();
+		}
+
+		Origin origin = new Origin( SourceType.OTHER, "Hibernate Search outbox" );
+		@SuppressWarnings("unchecked") // The binder returns hbm.xml bindings for hbm.xml documents
+		Binding<JaxbHbmHibernateMapping> binding = mappingBinder.bind(
+				new ByteArrayInputStream( MAPPING.getBytes( StandardCharsets.UTF_8 ) ), origin
+		);
+		return Collections.singletonList( new MappingDocument( binding.getRoot(), origin, buildingContext ) );
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Polls the outbox table in a background thread and reindexes the entities affected by outbox events.
+ * <p>
+ * Each batch of events is processed in its own session and transaction:
+ * events affecting the same entity are coalesced, the affected entities are loaded in their current state,
+ * reindexed, then the events are deleted and the transaction committed.
+ * <p>
+ * If reindexing the batch fails, the transaction is rolled back
+ * and the entities of the batch are reindexed again one at a time, each in its own transaction,
+ * so that a single failing entity does not prevent the others from being indexed.
+ * The events of an entity that still fails are kept, its failure is reported,
+ * and its number of attempts is incremented, so that the events will be processed again on a later poll.
+ * Once the maximum number of attempts is reached, the events are left in the outbox table and ignored.
+ */
+public final class OutboxEventProcessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SELECT_EVENTS =
+			"select e from " + OutboxEventMappingProducer.ENTITY_NAME + " e"
+					+ " where e.attempts < :maxAttempts order by e.id";
+	private static final String DELETE_EVENTS =
+			"delete from " + OutboxEventMappingProducer.ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String INCREMENT_ATTEMPTS =
+			"update " + OutboxEventMappingProducer.ENTITY_NAME + " e set e.attempts = e.attempts + 1"
+					+ " where e.id in (:ids)";
+
+	private final HibernateOrmOutboxMappingContext mappingContext;
+	private final long pollingInterval;
+	private final int batchSize;
+	private final int maxAttempts;
+
+	private ScheduledExecutorService executor;
+
+	public OutboxEventProcessor(HibernateOrmOutboxMappingContext mappingContext, long pollingInterval,
+			int batchSize, int maxAttempts) {
+		this.mappingContext = mappingContext;
+		this.pollingInterval = pollingInterval;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+	}
+
+	public void start() {
+		executor = mappingContext.getThreadPoolProvider().newScheduledExecutor( 1, "Outbox event processor" );
+		executor.scheduleWithFixedDelay( this::processAvailableEvents, 0, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	public void stop() {
+		if ( executor == null ) {
+			return;
+		}
+		// Let the current batch complete: interrupting it would only result in the events being processed again.
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		executor = null;
+	}
+
+	private void processAvailableEvents() {
+		try {
+			boolean pollAgain;
+			do {
+				pollAgain = processBatch();
+			}
+			while ( pollAgain && !executor.isShutdown() );
+		}
+		catch (RuntimeException e) {
+			// Do not let the exception propagate, or the executor would stop polling.
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.outboxEventProcessing() );
+			mappingContext.getFailureHandler().handle( contextBuilder.build() );
+		}
+	}
+
+	/**
+	 * @return {@code true} if the outbox table should be polled again immediately,
+	 * i.e. if a full batch of events was processed successfully.
+	 */
+	private boolean processBatch() {
+		Map<String, Map<Serializable, EntityChanges>> changesByEntityName = null;
+		try ( SessionImplementor session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				List<OutboxEvent> events = session.createQuery( SELECT_EVENTS, OutboxEvent.class )
+						.setParameter( "maxAttempts", maxAttempts )
+						.setMaxResults( batchSize )
+						.getResultList();
+				if ( events.isEmpty() ) {
+					transaction.commit();
+					return false;
+				}
+
+				changesByEntityName = coalesce( events );
+				if ( !reindex( session, changesByEntityName ).getThrowable().isPresent() ) {
+					List<Long> eventIds = new ArrayList<>( events.size() );
+					for ( OutboxEvent event : events ) {
+						eventIds.add( event.getId() );
+					}
+					deleteEvents( session, eventIds );
+					transaction.commit();
+
+					int entityCount = 0;
+					for ( Map<Serializable, EntityChanges> changesById : changesByEntityName.values() ) {
+						entityCount += changesById.size();
+					}
+					log.processedOutboxEvents( events.size(), entityCount );
+					return events.size() >= batchSize;
+				}
+				transaction.rollback();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					new SuppressingCloser( e ).push( transaction::rollback );
+				}
+				if ( changesByEntityName == null ) {
+					// We could not even retrieve the events: there is nothing more we can do.
+					throw e;
+				}
+				// Otherwise, we cannot know which entities caused the failure: find out below.
+			}
+		}
+
+		// Reindexing the batch failed: reindex entities one at a time,
+		// so that failing entities do not prevent the others from being indexed.
+		for ( Map.Entry<String, Map<Serializable, EntityChanges>> entry : changesByEntityName.entrySet() ) {
+			String entityName = entry.getKey();
+			for ( Map.Entry<Serializable, EntityChanges> changesEntry : entry.getValue().entrySet() ) {
+				processEntity( entityName, changesEntry.getKey(), changesEntry.getValue() );
+			}
+		}
+		// Wait for the next poll before retrying failed events.
+		return false;
+	}
+
+	private void processEntity(String entityName, Serializable entityId, EntityChanges changes) {
+		Map<String, Map<Serializable, EntityChanges>> changesByEntityName =
+				Collections.singletonMap( entityName, Collections.singletonMap( entityId, changes ) );
+		try ( SessionImplementor session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				IndexIndexingPlanExecutionReport<EntityReference> report = reindex( session, changesByEntityName );
+				if ( !report.getThrowable().isPresent() ) {
+					deleteEvents( session, changes.eventIds );
+					transaction.commit();
+					log.processedOutboxEvents( changes.eventIds.size(), 1 );
+					return;
+				}
+				transaction.rollback();
+				EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+				contextBuilder.throwable( report.getThrowable().get() );
+				contextBuilder.failingOperation( log.outboxEventProcessing() );
+				for ( EntityReference entityReference : report.getFailingEntityReferences() ) {
+					contextBuilder.entityReference( entityReference );
+				}
+				mappingContext.getFailureHandler().handle( contextBuilder.build() );
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					new SuppressingCloser( e ).push( transaction::rollback );
+				}
+				FailureContext.Builder contextBuilder = FailureContext.builder();
+				contextBuilder.throwable( e );
+				contextBuilder.failingOperation( log.outboxEventProcessing() );
+				mappingContext.getFailureHandler().handle( contextBuilder.build() );
+			}
+		}
+
+		recordFailedAttempt( changes );
+		int attempts = changes.attempts + 1;
+		if ( attempts >= maxAttempts ) {
+			log.abandonedOutboxEvents( changes.eventIds.size(), entityName, entityId, attempts );
+		}
+	}
+
+	private void recordFailedAttempt(EntityChanges changes) {
+		try ( SessionImplementor session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				session.createQuery( INCREMENT_ATTEMPTS )
+						.setParameterList( "ids", changes.eventIds )
+						.executeUpdate();
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					new SuppressingCloser( e ).push( transaction::rollback );
+				}
+				throw e;
+			}
+		}
+	}
+
+	private SessionImplementor openSession() {
+		return (SessionImplementor) mappingContext.getSessionFactory().openSession();
+	}
+
+	private static void deleteEvents(SessionImplementor session, List<Long> eventIds) {
+		session.createQuery( DELETE_EVENTS )
+				.setParameterList( "ids", eventIds )
+				.executeUpdate();
+	}
+
+	private Map<String, Map<Serializable, EntityChanges>> coalesce(List<OutboxEvent> events) {
+		// Use LinkedHashMaps so that entities are reindexed in the order of their first event
+		Map<String, Map<Serializable, EntityChanges>> changesByEntityName = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			Serializable entityId = (Serializable) SerializationHelper.deserialize( event.getEntityId() );
+			changesByEntityName.computeIfAbsent( event.getEntityName(), ignored -> new LinkedHashMap<>() )
+					.computeIfAbsent( entityId, ignored -> new EntityChanges() )
+					.add( event );
+		}
+		return changesByEntityName;
+	}
+
+	private IndexIndexingPlanExecutionReport<EntityReference> reindex(SessionImplementor session,
+			Map<String, Map<Serializable, EntityChanges>> changesByEntityName) {
+		HibernateOrmOutboxTypeContextProvider typeContextProvider = mappingContext.getTypeContextProvider();
+		PojoIndexingPlan<EntityReference> plan = mappingContext.createDirectIndexingPlan( session );
+		for ( Map.Entry<String, Map<Serializable, EntityChanges>> entry : changesByEntityName.entrySet() ) {
+			HibernateOrmOutboxTypeContext typeContext = typeContextProvider.getByHibernateOrmEntityName( entry.getKey() );
+			if ( typeContext == null ) {
+				// The type is no longer relevant to indexing, probably because the mapping changed.
+				continue;
+			}
+			Map<Serializable, EntityChanges> changesById = entry.getValue();
+			List<Serializable> entityIds = new ArrayList<>( changesById.keySet() );
+			List<?> entities = session.byMultipleIds( typeContext.getHibernateOrmEntityName() )
+					.withBatchSize( batchSize )
+					.multiLoad( entityIds );
+			for ( int i = 0; i < entityIds.size(); i++ ) {
+				Serializable entityId = entityIds.get( i );
+				Object entity = entities.get( i );
+				Object providedId = typeContext.toIndexingPlanProvidedId( entityId );
+				if ( entity == null ) {
+					// The entity no longer exists
+					if ( typeContext.isIndexed() && providedId != null ) {
+						plan.purge( typeContext.getTypeIdentifier(), providedId, null );
+					}
+					continue;
+				}
+				EntityChanges changes = changesById.get( entityId );
+				if ( changes.allDirty ) {
+					plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity );
+				}
+				else {
+					plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity,
+							changes.dirtyPaths.toArray( new String[0] ) );
+				}
+			}
+		}
+
+		plan.process();
+		return Futures.unwrappedExceptionJoin( plan.executeAndReport() );
+	}
+
+	private static final class EntityChanges {
+		private final List<Long> eventIds = new ArrayList<>();
+		private int attempts = 0;
+		private boolean allDirty = false;
+		private final Set<String> dirtyPaths = new LinkedHashSet<>();
+
+		void add(OutboxEvent event) {
+			eventIds.add( event.getId() );
+			attempts = Math.max( attempts, event.getAttempts() );
+			String dirtyPathsString = event.getDirtyPaths();
+			if ( allDirty ) {
+				return;
+			}
+			if ( dirtyPathsString == null ) {
+				allDirty = true;
+				dirtyPaths.clear();
+				return;
+			}
+			for ( String dirtyPath : dirtyPathsString.split( "," ) ) {
+				dirtyPaths.add( dirtyPath );
+			}
+		}
+	}
+}
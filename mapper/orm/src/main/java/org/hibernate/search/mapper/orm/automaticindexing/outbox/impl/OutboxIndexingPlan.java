@@ -0,0 +1,213 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+/**
+ * An indexing plan that, instead of indexing entities, records events in the outbox table
+ * in the same transaction as the changes that triggered them.
+ * <p>
+ * Purges cannot be expressed as outbox events since they do not involve an entity:
+ * they are forwarded to a direct indexing plan, executed after the transaction as usual.
+ * <p>
+ * Entities containing a deleted entity are resolved when the plan is processed,
+ * while the deleted entity is still available, and get their own outbox events:
+ * when the events are processed, the deleted entity can no longer be loaded.
+ */
+public final class OutboxIndexingPlan implements PojoIndexingPlan<EntityReference> {
+
+	private final HibernateOrmOutboxTypeContextProvider typeContextProvider;
+	private final SessionImplementor sessionImplementor;
+	private final PojoIndexingPlan<EntityReference> delegate;
+
+	private final List<OutboxEvent> events = new ArrayList<>();
+	private final List<DeletedEntity> deletedEntities = new ArrayList<>();
+
+	public OutboxIndexingPlan(HibernateOrmOutboxTypeContextProvider typeContextProvider,
+			SessionImplementor sessionImplementor, PojoIndexingPlan<EntityReference> delegate) {
+		this.typeContextProvider = typeContextProvider;
+		this.sessionImplementor = sessionImplementor;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		addEvent( typeIdentifier, entity, null );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		addEvent( typeIdentifier, entity, null );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			String... dirtyPaths) {
+		addEvent( typeIdentifier, entity, Arrays.asList( dirtyPaths ) );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			BitSet dirtyPaths) {
+		HibernateOrmOutboxTypeContext typeContext = typeContextProvider.getByExactType( typeIdentifier );
+		addEvent( typeContext, entity, typeContext.toDirtyPathStrings( dirtyPaths ) );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		addEvent( typeIdentifier, entity, null );
+		deletedEntities.add( new DeletedEntity( typeIdentifier, entity ) );
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		delegate.purge( typeIdentifier, providedId, providedRoutingKey );
+	}
+
+	@Override
+	public void resolveEntitiesToReindexOnDelete(PojoRawTypeIdentifier<?> typeIdentifier, Object entity,
+			Consumer<Object> containingEntityCollector) {
+		delegate.resolveEntitiesToReindexOnDelete( typeIdentifier, entity, containingEntityCollector );
+	}
+
+	@Override
+	public void process() {
+		delegate.process();
+		if ( !deletedEntities.isEmpty() ) {
+			List<DeletedEntity> deletedEntitiesToResolve = new ArrayList<>( deletedEntities );
+			deletedEntities.clear();
+			for ( DeletedEntity deletedEntity : deletedEntitiesToResolve ) {
+				delegate.resolveEntitiesToReindexOnDelete( deletedEntity.typeIdentifier, deletedEntity.entity,
+						this::addContainingEntityEvent );
+			}
+		}
+		if ( events.isEmpty() ) {
+			return;
+		}
+		List<OutboxEvent> eventsToPersist = new ArrayList<>( events );
+		events.clear();
+		// Use the connection of the session, so that events are persisted as part of the current transaction,
+		// but do not use the session itself, which may be in the middle of a flush.
+		sessionImplementor.doWork( connection -> {
+			try ( StatelessSession statelessSession =
+					sessionImplementor.getSessionFactory().openStatelessSession( connection ) ) {
+				for ( OutboxEvent event : eventsToPersist ) {
+					statelessSession.insert( OutboxEventMappingProducer.ENTITY_NAME, event );
+				}
+			}
+		} );
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> executeAndReport() {
+		return delegate.executeAndReport();
+	}
+
+	@Override
+	public void discard() {
+		events.clear();
+		deletedEntities.clear();
+		delegate.discard();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		events.clear();
+		deletedEntities.clear();
+		delegate.discardNotProcessed();
+	}
+
+	private void addEvent(PojoRawTypeIdentifier<?> typeIdentifier, Object entity, Collection<String> dirtyPaths) {
+		addEvent( typeContextProvider.getByExactType( typeIdentifier ), entity, dirtyPaths );
+	}
+
+	private void addEvent(HibernateOrmOutboxTypeContext typeContext, Object entity, Collection<String> dirtyPaths) {
+		if ( dirtyPaths != null && dirtyPaths.isEmpty() ) {
+			// Nothing relevant to indexing changed: no need for an event.
+			return;
+		}
+		Serializable entityId = getEntityId( typeContext, entity );
+		addEvent( typeContext.getHibernateOrmEntityName(), entityId, toDirtyPathsString( dirtyPaths ) );
+	}
+
+	private void addEvent(String entityName, Serializable entityId, String dirtyPaths) {
+		events.add( new OutboxEvent(
+				entityName,
+				SerializationHelper.serialize( entityId ),
+				dirtyPaths
+		) );
+	}
+
+	private void addContainingEntityEvent(Object containingEntity) {
+		Object entity = containingEntity;
+		if ( entity instanceof HibernateProxy ) {
+			LazyInitializer lazyInitializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			String entityName = lazyInitializer.getEntityName();
+			EntityPersister persister = sessionImplementor.getFactory().getMetamodel().entityPersister( entityName );
+			if ( !persister.getEntityMetamodel().hasSubclasses() ) {
+				// The exact type of the entity is known: no need to initialize the proxy.
+				addEvent( entityName, lazyInitializer.getIdentifier(), null );
+				return;
+			}
+			// The proxy may be for a supertype of the actual entity type: initialize it to find out.
+			entity = lazyInitializer.getImplementation();
+		}
+		HibernateOrmOutboxTypeContext typeContext =
+				typeContextProvider.getByHibernateOrmEntityName( sessionImplementor.bestGuessEntityName( entity ) );
+		// The entity was modified in the sense that one of its contained entities was deleted:
+		// consider it entirely dirty.
+		addEvent( typeContext, entity, null );
+	}
+
+	private Serializable getEntityId(HibernateOrmOutboxTypeContext typeContext, Object entity) {
+		if ( entity instanceof HibernateProxy ) {
+			return ( (HibernateProxy) entity ).getHibernateLazyInitializer().getIdentifier();
+		}
+		return typeContext.getEntityPersister().getIdentifier( entity, sessionImplementor );
+	}
+
+	private static String toDirtyPathsString(Collection<String> dirtyPaths) {
+		if ( dirtyPaths == null ) {
+			return null;
+		}
+		String result = String.join( ",", dirtyPaths );
+		if ( result.length() > OutboxEventMappingProducer.DIRTY_PATHS_MAX_LENGTH ) {
+			// Too many dirty paths to persist them: consider the whole entity dirty.
+			return null;
+		}
+		return result;
+	}
+
+	private static final class DeletedEntity {
+		private final PojoRawTypeIdentifier<?> typeIdentifier;
+		private final Object entity;
+
+		private DeletedEntity(PojoRawTypeIdentifier<?> typeIdentifier, Object entity) {
+			this.typeIdentifier = typeIdentifier;
+			this.entity = entity;
+		}
+	}
+}
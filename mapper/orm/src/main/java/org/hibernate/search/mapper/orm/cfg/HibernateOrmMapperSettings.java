@@ -78,6 +78,65 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The batch size to use when loading containing entities that must be reindexed
+	 * because an entity they contain was modified.
+	 * <p>
+	 * When strictly positive, containing entities that were not loaded yet
+	 * are loaded right before reindexing, using multi-ID loads with this batch size,
+	 * instead of being loaded one by one as they are reached.
+	 * When zero, batch loading is disabled.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE;
+
+	/**
+	 * The interval between two polls of the outbox table, in milliseconds,
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * The outbox table is polled again immediately, without waiting for this interval,
+	 * as long as the previous poll returned a full batch of events.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of outbox events to process in a single transaction
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The maximum number of times Hibernate Search will try to reindex the entity affected by an outbox event
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * Once this number of attempts is reached, the event is left in the outbox table and ignored,
+	 * so that it does not prevent the processing of other events.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -110,6 +169,22 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_PROCESS_ANNOTATIONS = PREFIX + Radicals.MAPPING_PROCESS_ANNOTATIONS;
 
+	/**
+	 * Whether indexing processors, which transfer data from entities to documents,
+	 * should be specialized at bootstrap for faster execution.
+	 * <p>
+	 * Specialized processors retrieve bridges once and for all,
+	 * handle properties mapped to a single field in a single step,
+	 * and iterate on built-in containers (collections, maps, arrays, optionals) directly.
+	 * Custom bridges and container extractors are still supported.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_COMPILE_INDEXING_PROCESSORS}.
+	 */
+	public static final String MAPPING_COMPILE_INDEXING_PROCESSORS = PREFIX + Radicals.MAPPING_COMPILE_INDEXING_PROCESSORS;
+
 	/**
 	 * The mapping configurer to use.
 	 * <p>
@@ -146,9 +221,14 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE = "automatic_indexing.containing_entities.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = "automatic_indexing.outbox.polling_interval";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = "automatic_indexing.outbox.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = "automatic_indexing.outbox.max_attempts";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
+		public static final String MAPPING_COMPILE_INDEXING_PROCESSORS = "mapping.compile_indexing_processors";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
 	}
@@ -167,10 +247,15 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final int AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE = 0;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = 100;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = 50;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = 3;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
+		public static final boolean MAPPING_COMPILE_INDEXING_PROCESSORS = false;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY = SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 	}
 
@@ -12,6 +12,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 
@@ -211,6 +212,9 @@ void skippingPreliminaryCacheLookupsForNonEntityIdEntityLoader(String entityName
 	@Message(value = "Automatic indexing of Hibernate ORM entities")
 	String automaticIndexing();
 
+	@Message(value = "Processing of outbox events for automatic indexing of Hibernate ORM entities")
+	String outboxEventProcessing();
+
 	@Message(id = ID_OFFSET_2 + 23, value = "Automatic indexing failed before transaction completion: %1$s" )
 	SearchException synchronizationBeforeTransactionFailure(String causeMessage, @Cause Throwable cause);
 
@@ -266,4 +270,25 @@ SearchException invalidEntitySuperType(String entityName,
 	@Message(id = ID_OFFSET_2 + 32, value = "Invalid schema management strategy name: '%1$s'."
 			+ " Valid names are: %2$s.")
 	SearchException invalidSchemaManagementStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 33, value = "Unable to access mass indexing checkpoints in file '%1$s': %2$s")
+	SearchException unableToAccessMassIndexingCheckpoints(Path path, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 34, value = "Resuming mass indexing from the checkpoints of a previous execution."
+			+ " Indexes will not be purged or re-created, and entities will be indexed from the last checkpoint.")
+	void resumingMassIndexing();
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 35, value = "Processed %1$d outbox events affecting %2$d entities.")
+	void processedOutboxEvents(int eventCount, int entityCount);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 36, value = "Giving up on %1$d outbox events affecting entity '%2$s' with identifier '%3$s':"
+			+ " reindexing failed %4$d times. These events will be left in the outbox table and ignored.")
+	void abandonedOutboxEvents(int eventCount, String entityName, Object entityId, int attempts);
+
+	@Message(id = ID_OFFSET_2 + 37,
+			value = "Invalid value: '%1$s'. The value must be greater than or equal to %2$s.")
+	SearchException invalidIntegerSettingValue(int value, int minValue);
 }
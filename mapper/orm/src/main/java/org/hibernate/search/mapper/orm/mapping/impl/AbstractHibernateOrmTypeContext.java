@@ -7,35 +7,53 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
+import java.util.List;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContext;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 abstract class AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext,
-				HibernateOrmSessionTypeContext<E> {
+				HibernateOrmSessionTypeContext<E>, HibernateOrmOutboxTypeContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
 	private final String jpaEntityName;
 	private final EntityPersister entityPersister;
 	private final EntityTypeDescriptor<E> entityTypeDescriptor;
+	private final PojoPathOrdinals dirtyPathOrdinals;
+	/*
+	 * The ordinal of the dirty path matching each property of the entity persister, indexed by property index,
+	 * or -1 if the property is not relevant to dirty checking.
+	 */
+	private final int[] propertyIndexToDirtyPathOrdinal;
 
 	AbstractHibernateOrmTypeContext(SessionFactoryImplementor sessionFactory,
-			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
+			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName,
+			PojoPathOrdinals dirtyPathOrdinals) {
 		this.typeIdentifier = typeIdentifier;
 		this.jpaEntityName = jpaEntityName;
 		MetamodelImplementor metamodel = sessionFactory.getMetamodel();
 		this.entityPersister = metamodel.entityPersister( hibernateOrmEntityName );
 		this.entityTypeDescriptor = metamodel.entity( entityPersister.getEntityName() );
+		this.dirtyPathOrdinals = dirtyPathOrdinals;
+		String[] propertyNames = entityPersister.getPropertyNames();
+		this.propertyIndexToDirtyPathOrdinal = new int[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			Integer ordinal = dirtyPathOrdinals.toExistingOrdinal( propertyNames[i] );
+			propertyIndexToDirtyPathOrdinal[i] = ordinal == null ? -1 : ordinal;
+		}
 	}
 
 	@Override
@@ -48,14 +66,38 @@ public String getJpaEntityName() {
 		return jpaEntityName;
 	}
 
+	@Override
 	public String getHibernateOrmEntityName() {
 		return entityPersister.getEntityName();
 	}
 
+	@Override
 	public EntityPersister getEntityPersister() {
 		return entityPersister;
 	}
 
+	@Override
+	public BitSet toDirtyPaths(int[] dirtyProperties) {
+		BitSet dirtyPaths = new BitSet();
+		for ( int dirtyProperty : dirtyProperties ) {
+			int ordinal = propertyIndexToDirtyPathOrdinal[dirtyProperty];
+			if ( ordinal >= 0 ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+		return dirtyPaths;
+	}
+
+	@Override
+	public BitSet toDirtyPaths(String collectionRole) {
+		return dirtyPathOrdinals.toOrdinals( collectionRole );
+	}
+
+	@Override
+	public List<String> toDirtyPathStrings(BitSet dirtyPaths) {
+		return dirtyPathOrdinals.toPaths( dirtyPaths );
+	}
+
 	public EntityTypeDescriptor<E> getEntityTypeDescriptor() {
 		if ( entityTypeDescriptor == null ) {
 			// TODO HSEARCH-3771 Mass indexing for ORM's dynamic-map entity types
@@ -9,6 +9,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeContainedTypeContext;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 class HibernateOrmContainedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
@@ -16,7 +17,13 @@
 
 	private HibernateOrmContainedTypeContext(HibernateOrmContainedTypeContext.Builder<E> builder,
 			SessionFactoryImplementor sessionFactory) {
-		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName );
+		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName,
+				builder.dirtyPathOrdinals );
+	}
+
+	@Override
+	public boolean isIndexed() {
+		return false;
 	}
 
 	@Override
@@ -30,6 +37,7 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 		private final PojoRawTypeIdentifier<E> typeIdentifier;
 		private final String jpaEntityName;
 		private final String hibernateOrmEntityName;
+		private PojoPathOrdinals dirtyPathOrdinals;
 
 		Builder(PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
 			this.typeIdentifier = typeIdentifier;
@@ -37,6 +45,11 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 			this.hibernateOrmEntityName = hibernateOrmEntityName;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals dirtyPathOrdinals) {
+			this.dirtyPathOrdinals = dirtyPathOrdinals;
+		}
+
 		HibernateOrmContainedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
 			return new HibernateOrmContainedTypeContext<>( this, sessionFactory );
 		}
@@ -17,6 +17,7 @@
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
@@ -28,7 +29,8 @@
 	private final IdentifierMapping identifierMapping;
 
 	private HibernateOrmIndexedTypeContext(Builder<E> builder, SessionFactoryImplementor sessionFactory) {
-		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName );
+		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName,
+				builder.dirtyPathOrdinals );
 
 		if ( getEntityPersister().getIdentifierPropertyName().equals( builder.documentIdSourcePropertyName ) ) {
 			documentIdIsEntityId = true;
@@ -51,6 +53,11 @@ sessionFactory, getEntityPersister()
 		this.identifierMapping = builder.identifierMapping;
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return true;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		if ( documentIdIsEntityId ) {
@@ -82,6 +89,7 @@ public EntityLoaderFactory getLoaderFactory() {
 		private String documentIdSourcePropertyName;
 		private ValueReadHandle<?> documentIdSourcePropertyHandle;
 		private IdentifierMapping identifierMapping;
+		private PojoPathOrdinals dirtyPathOrdinals;
 
 		Builder(PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
 			this.typeIdentifier = typeIdentifier;
@@ -100,6 +108,11 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals dirtyPathOrdinals) {
+			this.dirtyPathOrdinals = dirtyPathOrdinals;
+		}
+
 		public HibernateOrmIndexedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
 			return new HibernateOrmIndexedTypeContext<>( this, sessionFactory );
 		}
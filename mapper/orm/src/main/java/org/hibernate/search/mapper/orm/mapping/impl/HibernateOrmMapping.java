@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
@@ -32,6 +33,9 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPreStopContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxEventProcessor;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -64,16 +68,47 @@
 public class HibernateOrmMapping extends AbstractPojoMappingImplementor<HibernateOrmMapping>
 		implements SearchMapping, HibernateOrmMappingContext,
 				HibernateOrmListenerContextProvider,
-				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext {
+				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext,
+				HibernateOrmOutboxMappingContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends AutomaticIndexingSynchronizationStrategy>> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.asBeanReference( AutomaticIndexingSynchronizationStrategy.class )
 					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.build();
+
 	private static final ConfigurationProperty<EntityLoadingCacheLookupStrategy> QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
 					.as( EntityLoadingCacheLookupStrategy.class, EntityLoadingCacheLookupStrategy::of )
@@ -102,6 +137,16 @@ public static MappingImplementor<HibernateOrmMapping> create(
 		try {
 			log.defaultAutomaticIndexingSynchronizationStrategy( synchronizationStrategyHolder.get() );
 
+			int containingEntitiesBatchSize =
+					AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE.getAndTransform( propertySource, atLeast( 0 ) );
+
+			boolean automaticIndexingThroughOutbox = AutomaticIndexingStrategyName.OUTBOX_POLLING.equals(
+					AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) );
+			int outboxPollingInterval =
+					AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL.getAndTransform( propertySource, atLeast( 1 ) );
+			int outboxBatchSize = AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE.getAndTransform( propertySource, atLeast( 1 ) );
+			int outboxMaxAttempts = AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS.getAndTransform( propertySource, atLeast( 1 ) );
+
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy =
 					QUERY_LOADING_CACHE_LOOKUP_STRATEGY.get( propertySource );
 
@@ -112,7 +157,8 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 			return new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
-					synchronizationStrategyHolder,
+					synchronizationStrategyHolder, containingEntitiesBatchSize,
+					automaticIndexingThroughOutbox, outboxPollingInterval, outboxBatchSize, outboxMaxAttempts,
 					cacheLookupStrategy, fetchSize,
 					schemaManagementListener
 			);
@@ -124,9 +170,20 @@ public static MappingImplementor<HibernateOrmMapping> create(
 		}
 	}
 
+	private static Function<Integer, Integer> atLeast(int minValue) {
+		return value -> {
+			if ( value < minValue ) {
+				throw log.invalidIntegerSettingValue( value, minValue );
+			}
+			return value;
+		};
+	}
+
 	private final SessionFactoryImplementor sessionFactory;
 	private final HibernateOrmTypeContextContainer typeContextContainer;
 	private final BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
+	private final int containingEntitiesBatchSize;
+	private final OutboxEventProcessor outboxEventProcessor;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
 
@@ -136,6 +193,9 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
+			int containingEntitiesBatchSize,
+			boolean automaticIndexingThroughOutbox, int outboxPollingInterval, int outboxBatchSize,
+			int outboxMaxAttempts,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			int fetchSize,
 			SchemaManagementListener schemaManagementListener) {
@@ -143,6 +203,10 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
 		this.defaultSynchronizationStrategyHolder = defaultSynchronizationStrategyHolder;
+		this.containingEntitiesBatchSize = containingEntitiesBatchSize;
+		this.outboxEventProcessor = automaticIndexingThroughOutbox
+				? new OutboxEventProcessor( this, outboxPollingInterval, outboxBatchSize, outboxMaxAttempts )
+				: null;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
 		this.schemaManagementListener = schemaManagementListener;
@@ -156,11 +220,19 @@ public CompletableFuture<?> start(MappingStartContext context) {
 			return CompletableFuture.completedFuture( null );
 		}
 		PojoScopeSchemaManager schemaManager = scope.get().schemaManagerDelegate();
-		return schemaManagementListener.onStart( context, schemaManager );
+		CompletableFuture<?> future = schemaManagementListener.onStart( context, schemaManager );
+		if ( outboxEventProcessor != null ) {
+			// Only process outbox events once indexes are ready
+			future = future.thenRun( outboxEventProcessor::start );
+		}
+		return future;
 	}
 
 	@Override
 	public CompletableFuture<?> preStop(MappingPreStopContext context) {
+		if ( outboxEventProcessor != null ) {
+			outboxEventProcessor.stop();
+		}
 		Optional<SearchScopeImpl<Object>> scope = createAllScope();
 		if ( !scope.isPresent() ) {
 			// No indexed type
@@ -215,6 +287,16 @@ public PojoIndexer createIndexer(SessionImplementor sessionImplementor) {
 		return HibernateOrmSearchSession.get( this, sessionImplementor ).createIndexer();
 	}
 
+	@Override
+	public int getContainingEntitiesBatchSize() {
+		return containingEntitiesBatchSize;
+	}
+
+	@Override
+	public boolean isAutomaticIndexingThroughOutbox() {
+		return outboxEventProcessor != null;
+	}
+
 	@Override
 	public EntityLoadingCacheLookupStrategy getCacheLookupStrategy() {
 		return cacheLookupStrategy;
@@ -256,6 +338,11 @@ public PojoIndexingPlan<EntityReference> getCurrentIndexingPlan(SessionImplement
 		return HibernateOrmSearchSession.get( this, session ).getCurrentIndexingPlan( createIfDoesNotExist );
 	}
 
+	@Override
+	public PojoIndexingPlan<EntityReference> createDirectIndexingPlan(SessionImplementor session) {
+		return HibernateOrmSearchSession.get( this, session ).createDirectIndexingPlan();
+	}
+
 	@Override
 	public ConfiguredAutomaticIndexingSynchronizationStrategy getCurrentAutomaticIndexingSynchronizationStrategy(
 			SessionImplementor session) {
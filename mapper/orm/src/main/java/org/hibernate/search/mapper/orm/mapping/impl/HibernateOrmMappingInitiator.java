@@ -38,6 +38,12 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_PROCESS_ANNOTATIONS )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_COMPILE_INDEXING_PROCESSORS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends HibernateOrmSearchMappingConfigurer>> MAPPING_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
@@ -104,6 +110,8 @@ public void configure(MappingBuildContext buildContext,
 			}
 		}
 
+		setIndexingProcessorCompilationEnabled( MAPPING_COMPILE_INDEXING_PROCESSORS.get( propertySource ) );
+
 		// Apply the user-provided mapping configurer if necessary
 		final BeanResolver beanResolver = buildContext.getBeanResolver();
 		MAPPING_CONFIGURER.getAndMap( propertySource, beanResolver::resolve )
@@ -15,6 +15,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmBasicTypeMetadataProvider;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContextProvider;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRawTypeIdentifierResolver;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionIndexedTypeContext;
@@ -23,7 +24,8 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider, HibernateOrmSessionTypeContextProvider {
+class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider, HibernateOrmSessionTypeContextProvider,
+		HibernateOrmOutboxTypeContextProvider {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -71,6 +73,18 @@ public <E> HibernateOrmContainedTypeContext<E> getContainedByExactType(PojoRawTy
 		return (HibernateOrmContainedTypeContext<E>) containedTypeContexts.get( typeIdentifier );
 	}
 
+	@Override
+	public AbstractHibernateOrmTypeContext<?> getByExactType(PojoRawTypeIdentifier<?> typeIdentifier) {
+		AbstractHibernateOrmTypeContext<?> result = indexedTypeContexts.get( typeIdentifier );
+		if ( result != null ) {
+			return result;
+		}
+
+		result = containedTypeContexts.get( typeIdentifier );
+
+		return result;
+	}
+
 	@Override
 	public AbstractHibernateOrmTypeContext<?> getByHibernateOrmEntityName(String hibernateOrmEntityName) {
 		AbstractHibernateOrmTypeContext<?> result =
@@ -46,6 +46,28 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the maximum number of batches of entities, per entity loading thread,
+	 * that can be in the process of being indexed while the thread loads the next batch.
+	 * <p>
+	 * By default, each entity loading thread waits for a batch to be fully indexed
+	 * before it starts loading the next batch,
+	 * and thus alternates between waiting for the database and waiting for the backend.
+	 * With pipelining enabled, loading the next batch will overlap with the indexing of previous batches,
+	 * and indexing failures will be reported asynchronously.
+	 * <p>
+	 * Higher values may improve throughput, at the cost of more memory and more load on the backend.
+	 * <p>
+	 * Defaults to {@code 0}, i.e. no pipelining.
+	 *
+	 * @param batches the maximum number of batches being indexed while the next batch is loaded, for each thread.
+	 * @return {@code this} for method chaining
+	 * @see #threadsToLoadObjects(int)
+	 * @see #batchSizeToLoadObjects(int)
+	 */
+	@Incubating
+	MassIndexer pipelinedBatchesPerThread(int batches);
+
 	/**
 	 * Sets the cache interaction mode for the data loading tasks.
 	 * <p>
@@ -146,6 +168,62 @@ public interface MassIndexer {
 	 */
 	MassIndexer idFetchSize(int idFetchSize);
 
+	/**
+	 * Sets the number of partitions the identifier space of each entity type is split into,
+	 * each partition being loaded by its own thread, in its own transaction.
+	 * <p>
+	 * By default, identifiers of a given type are loaded by a single thread using a single database cursor,
+	 * which may become a bottleneck for very large tables, regardless of the
+	 * {@link #threadsToLoadObjects(int) number of threads used to load entities}.
+	 * Partitioning the identifier space allows to load identifiers in parallel.
+	 * <p>
+	 * For integral identifiers, partitions are computed from the minimum and maximum identifier,
+	 * and thus will only be balanced if identifiers are evenly distributed.
+	 * For other comparable identifiers, partition boundaries are sampled from the database.
+	 * Identifiers that are not comparable, e.g. composite identifiers, are never partitioned.
+	 * <p>
+	 * This setting is ignored if a {@link #limitIndexedObjectsTo(long) limit} is set.
+	 * <p>
+	 * Defaults to {@code 1}, i.e. no partitioning.
+	 *
+	 * @param partitions the number of partitions; each partition requires an additional thread and JDBC connection.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer idPartitions(int partitions);
+
+	/**
+	 * Persists the progress of mass indexing to the given store, and resumes from that progress if possible.
+	 * <p>
+	 * Progress is recorded as {@link MassIndexingCheckpoint checkpoints}: for each entity type
+	 * and each partition of its identifiers, the identifier up to which all entities have been indexed.
+	 * Checkpoints are persisted periodically, and when indexing of an entity type ends,
+	 * including when mass indexing fails or is interrupted.
+	 * <p>
+	 * If the store contains checkpoints from a previous execution when mass indexing starts,
+	 * mass indexing resumes from these checkpoints:
+	 * indexes are neither purged nor re-created, identifiers are partitioned as in the previous execution,
+	 * and only entities with an identifier greater than the last checkpoint are loaded.
+	 * Documents are then replaced instead of simply added, to avoid duplicates,
+	 * which may be slower with some backends.
+	 * Entities deleted since the previous execution may remain in the indexes.
+	 * <p>
+	 * Checkpoints are cleared once mass indexing completes without any failure.
+	 * <p>
+	 * Checkpoints can only record precise progress for identifiers that can be ordered,
+	 * such as numbers or strings.
+	 * For other identifiers (e.g. composite identifiers), only whether indexing of an entity type completed is recorded.
+	 * Checkpoints are ignored if {@link #limitIndexedObjectsTo(long) a limit of indexed objects} is set.
+	 * <p>
+	 * Defaults to no checkpoints.
+	 *
+	 * @param checkpointStore The store to persist checkpoints to and to resume from,
+	 * for example {@link MassIndexingCheckpointStore#file(java.nio.file.Path)}.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer resumeFrom(MassIndexingCheckpointStore checkpointStore);
+
 	/**
 	 * Timeout of transactions for loading ids and entities to be re-indexed.
 	 * <p>
@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.io.Serializable;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The progress of mass indexing in a single partition of the identifiers of an entity type,
+ * persisted by a {@link MassIndexingCheckpointStore} so that mass indexing can be resumed
+ * after a crash or an interruption.
+ * <p>
+ * Identifier bounds and the last indexed identifier are {@code null} when unbounded or unknown,
+ * and must be {@link Serializable} for the checkpoint to be serialized.
+ */
+@Incubating
+public final class MassIndexingCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Object lowerBoundInclusive;
+	private final Object upperBoundExclusive;
+	private final Object lastIndexedIdentifier;
+	private final boolean completed;
+
+	/**
+	 * @param lowerBoundInclusive The lowest identifier in the partition, or {@code null} if unbounded.
+	 * @param upperBoundExclusive The identifier just above the highest identifier in the partition,
+	 * or {@code null} if unbounded.
+	 * @param lastIndexedIdentifier The identifier up to which (inclusive) all entities of the partition
+	 * have been indexed, or {@code null} if unknown.
+	 * @param completed Whether all entities of the partition have been indexed.
+	 */
+	public MassIndexingCheckpoint(Object lowerBoundInclusive, Object upperBoundExclusive,
+			Object lastIndexedIdentifier, boolean completed) {
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+		this.lastIndexedIdentifier = lastIndexedIdentifier;
+		this.completed = completed;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "lowerBoundInclusive=" + lowerBoundInclusive
+				+ ", upperBoundExclusive=" + upperBoundExclusive
+				+ ", lastIndexedIdentifier=" + lastIndexedIdentifier
+				+ ", completed=" + completed
+				+ "]";
+	}
+
+	/**
+	 * @return The lowest identifier in the partition, or {@code null} if unbounded.
+	 */
+	public Object getLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	/**
+	 * @return The identifier just above the highest identifier in the partition, or {@code null} if unbounded.
+	 */
+	public Object getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	/**
+	 * @return The identifier up to which (inclusive) all entities of the partition have been indexed,
+	 * or {@code null} if unknown, e.g. because no batch was fully indexed yet
+	 * or because identifiers of this entity type cannot be ordered.
+	 */
+	public Object getLastIndexedIdentifier() {
+		return lastIndexedIdentifier;
+	}
+
+	/**
+	 * @return {@code true} if all entities of the partition have been indexed, {@code false} otherwise.
+	 */
+	public boolean isCompleted() {
+		return completed;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.search.mapper.orm.massindexing.impl.FileMassIndexingCheckpointStore;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A store for the {@link MassIndexingCheckpoint checkpoints} of a mass indexer,
+ * allowing to resume mass indexing after a crash or an interruption.
+ * <p>
+ * The default implementation, returned by {@link #file(Path)}, persists checkpoints to a file,
+ * but a custom store can be implemented, for example to persist checkpoints to a database table,
+ * and passed to {@link MassIndexer#resumeFrom(MassIndexingCheckpointStore)}.
+ * <p>
+ * Implementations must be threadsafe.
+ */
+@Incubating
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @param path The path to a file where checkpoints will be persisted.
+	 * The parent directory must exist; the file will be created if necessary.
+	 * @return A store persisting checkpoints to the given file.
+	 */
+	static MassIndexingCheckpointStore file(Path path) {
+		return new FileMassIndexingCheckpointStore( path );
+	}
+
+	/**
+	 * Load the checkpoints of an entity type.
+	 *
+	 * @param entityName The name of the entity type.
+	 * @return The checkpoints of each partition of the identifiers of the given entity type,
+	 * in the order they were {@link #save(String, List) saved},
+	 * or an empty list if no checkpoint was saved for this entity type.
+	 */
+	List<MassIndexingCheckpoint> load(String entityName);
+
+	/**
+	 * Save the checkpoints of an entity type, replacing any previously saved checkpoints for that type.
+	 * <p>
+	 * This method may be called from several threads, but never concurrently for the same entity type.
+	 *
+	 * @param entityName The name of the entity type.
+	 * @param checkpoints The checkpoints of each partition of the identifiers of the given entity type.
+	 */
+	void save(String entityName, List<MassIndexingCheckpoint> checkpoints);
+
+	/**
+	 * Remove all checkpoints from this store.
+	 * <p>
+	 * Called when mass indexing completes without any failure.
+	 */
+	void clear();
+
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -18,10 +19,13 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.mapper.orm.logging.impl.HibernateOrmEventContextMessages;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -34,6 +38,8 @@
  */
 public class BatchCoordinator extends FailureHandledRunnable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final DetachedBackendSessionContext sessionContext;
 	// Entity types to reindex, guaranteed not to be subtypes of each other.
@@ -43,6 +49,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int pipelinedBatchesPerThread;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
 	private final boolean mergeSegmentsOnFinish;
@@ -51,6 +58,8 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final boolean mergeSegmentsAfterPurge;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final int idPartitions;
+	private final MassIndexingCheckpointStore checkpointStore;
 	private final Integer transactionTimeout;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
@@ -59,10 +68,11 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			MassIndexingNotifier notifier,
 			Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes,
 			PojoScopeSchemaManager scopeSchemaManager, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
+			int typesToIndexInParallel, int documentBuilderThreads, int pipelinedBatchesPerThread, CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, int idPartitions, MassIndexingCheckpointStore checkpointStore,
+			Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -71,9 +81,12 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.scopeWorkspace = scopeWorkspace;
 
 		this.idFetchSize = idFetchSize;
+		this.idPartitions = idPartitions;
+		this.checkpointStore = checkpointStore;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.pipelinedBatchesPerThread = pipelinedBatchesPerThread;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
@@ -89,9 +102,20 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
-		beforeBatch(); // purgeAll and mergeSegments if enabled
-		doBatchWork();
+		boolean resuming = hasCheckpoints();
+		if ( resuming ) {
+			// Purging or re-creating the indexes would lose the progress made by the previous execution
+			log.resumingMassIndexing();
+		}
+		else {
+			beforeBatch(); // purgeAll and mergeSegments if enabled
+		}
+		doBatchWork( resuming );
 		afterBatch(); // mergeSegments if enabled and flush
+		if ( checkpointStore != null && !getNotifier().hasEntityIndexingFailures() ) {
+			// Nothing left to resume
+			checkpointStore.clear();
+		}
 	}
 
 	@Override
@@ -136,11 +160,11 @@ private void cancelPendingTasks() {
 	 *
 	 * @throws InterruptedException if interrupted while waiting for endAllSignal.
 	 */
-	private void doBatchWork() throws InterruptedException {
+	private void doBatchWork(boolean resuming) throws InterruptedException {
 		ExecutorService executor = mappingContext.getThreadPoolProvider()
 				.newFixedThreadPool( typesToIndexInParallel, MassIndexerImpl.THREAD_NAME_PREFIX + "Workspace" );
 		for ( HibernateOrmMassIndexingIndexedTypeContext<?> type : rootEntityTypes ) {
-			indexingFutures.add( Futures.runAsync( createBatchIndexingWorkspace( type ), executor ) );
+			indexingFutures.add( Futures.runAsync( createBatchIndexingWorkspace( type, resuming ), executor ) );
 		}
 		executor.shutdown();
 
@@ -150,16 +174,31 @@ private void doBatchWork() throws InterruptedException {
 		);
 	}
 
-	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type) {
+	private boolean hasCheckpoints() {
+		if ( checkpointStore == null ) {
+			return false;
+		}
+		for ( HibernateOrmMassIndexingIndexedTypeContext<?> type : rootEntityTypes ) {
+			if ( !checkpointStore.load( type.getJpaEntityName() ).isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type,
+			boolean resuming) {
 		EntityType<E> typeDescriptor = type.getEntityTypeDescriptor();
 		SingularAttribute<? super E, ?> idAttributeOfType = typeDescriptor.getId( typeDescriptor.getIdType().getJavaType() );
 
 		return new BatchIndexingWorkspace<>(
-				mappingContext, sessionContext, getNotifier(),
+				mappingContext, sessionContext, getNotifier(), scopeWorkspace,
 				type, idAttributeOfType,
-				documentBuilderThreads, cacheMode,
+				documentBuilderThreads, pipelinedBatchesPerThread, cacheMode,
 				objectLoadingBatchSize,
-				objectsLimit, idFetchSize, transactionTimeout
+				objectsLimit, idFetchSize, idPartitions,
+				checkpointStore, resuming,
+				transactionTimeout
 		);
 	}
 
@@ -8,7 +8,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -18,6 +21,9 @@
 import org.hibernate.CacheMode;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -37,13 +43,19 @@
 
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final DetachedBackendSessionContext sessionContext;
+	private final PojoScopeWorkspace scopeWorkspace;
 
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private CheckpointTracker<I> checkpoints;
 
 	private final int documentBuilderThreads;
+	private final int pipelinedBatchesPerThread;
+	private final int idPartitions;
+	private final MassIndexingCheckpointStore checkpointStore;
+	private final boolean resuming;
 
 	// loading options
 	private final CacheMode cacheMode;
@@ -59,30 +71,35 @@
 
 	BatchIndexingWorkspace(HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedBackendSessionContext sessionContext,
-			MassIndexingNotifier notifier,
+			MassIndexingNotifier notifier, PojoScopeWorkspace scopeWorkspace,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int objectLoadingThreads, int pipelinedBatchesPerThread,
+			CacheMode cacheMode, int objectLoadingBatchSize,
 			long objectsLimit,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, int idPartitions,
+			MassIndexingCheckpointStore checkpointStore, boolean resuming,
+			Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
+		this.scopeWorkspace = scopeWorkspace;
 
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.idFetchSize = idFetchSize;
+		this.idPartitions = idPartitions;
+		this.checkpointStore = checkpointStore;
+		this.resuming = resuming;
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
 		this.documentBuilderThreads = objectLoadingThreads;
+		this.pipelinedBatchesPerThread = pipelinedBatchesPerThread;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
-
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -94,24 +111,45 @@ public void runWithFailureHandler() throws InterruptedException {
 
 		final BatchTransactionalContext transactionalContext =
 				new BatchTransactionalContext( mappingContext.getSessionFactory() );
+		checkpoints = createCheckpointTrackerOrNull();
+		// Identifier ranges to load, by partition index
+		Map<Integer, IdentifierRange<I>> idRanges = getIdentifierRangesToLoad();
+		if ( idRanges.isEmpty() ) {
+			log.debugf( "Indexing for %s was already completed according to checkpoints", type.getJpaEntityName() );
+			return;
+		}
+		//pipelining queues: one producer per identifier range
+		primaryKeyStream = new ProducerConsumerQueue<>( idRanges.size() );
 		// First start the consumers, then the producers (reverse order):
 		startIndexing();
-		startProducingPrimaryKeys( transactionalContext );
+		startProducingPrimaryKeys( transactionalContext, idRanges );
 		// Wait for indexing to finish.
 		Futures.unwrappedExceptionGet(
 				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
 		);
+		if ( checkpoints != null ) {
+			checkpoints.persist();
+		}
 		log.debugf( "Indexing for %s is done", type.getJpaEntityName() );
 	}
 
 	@Override
-	protected void cleanUpOnInterruption() {
+	protected void cleanUpOnInterruption() throws InterruptedException {
 		cancelPendingTasks();
+		persistCheckpointsOnAbort();
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		persistCheckpointsOnAbort();
+	}
+
+	private void persistCheckpointsOnAbort() throws InterruptedException {
+		// Save whatever progress was made, so that mass indexing can resume from there
+		if ( checkpoints != null ) {
+			checkpoints.persist();
+		}
 	}
 
 	private void cancelPendingTasks() {
@@ -124,28 +162,91 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
-				transactionalContext,
-				getNotifier(),
-				new IdentifierProducer<>(
-						mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
-						getNotifier(),
-						primaryKeyStream,
-						objectLoadingBatchSize,
-						type, idAttributeOfType,
-						objectsLimit,
-						idFetchSize
-				),
-				transactionTimeout, sessionContext.getTenantIdentifier()
+	private CheckpointTracker<I> createCheckpointTrackerOrNull() {
+		if ( checkpointStore == null ) {
+			return null;
+		}
+		if ( objectsLimit != 0 ) {
+			// Resuming would be meaningless, since we would not index all entities anyway.
+			log.debugf( "Ignoring checkpoints for %s, because a limit of indexed objects was set",
+					type.getJpaEntityName() );
+			return null;
+		}
+		String entityName = type.getJpaEntityName();
+		List<MassIndexingCheckpoint> savedCheckpoints = checkpointStore.load( entityName );
+		return new CheckpointTracker<>(
+				checkpointStore, scopeWorkspace, entityName,
+				IdentifierRangePartitioner.isComparable( idAttributeOfType.getJavaType() ),
+				savedCheckpoints,
+				// When resuming, reuse the partitions of the previous execution
+				savedCheckpoints.isEmpty() ? partitionIdentifiers() : Collections.emptyList()
 		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+	}
+
+	private Map<Integer, IdentifierRange<I>> getIdentifierRangesToLoad() {
+		Map<Integer, IdentifierRange<I>> result = new LinkedHashMap<>();
+		if ( checkpoints == null ) {
+			List<IdentifierRange<I>> idRanges = partitionIdentifiers();
+			for ( int i = 0; i < idRanges.size(); i++ ) {
+				result.put( i, idRanges.get( i ) );
+			}
+		}
+		else {
+			for ( int i = 0; i < checkpoints.getPartitionCount(); i++ ) {
+				IdentifierRange<I> remainingRange = checkpoints.getRemainingRange( i );
+				if ( remainingRange != null ) {
+					result.put( i, remainingRange );
+				}
+			}
+		}
+		return result;
+	}
+
+	private List<IdentifierRange<I>> partitionIdentifiers() {
+		if ( idPartitions <= 1 ) {
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		if ( objectsLimit != 0 ) {
+			// Each producer would apply the limit separately: don't partition so that the limit is honored.
+			log.debugf( "Ignoring the requested identifier partitioning for %s, because a limit of indexed objects was set",
+					type.getJpaEntityName() );
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		return new IdentifierRangePartitioner<>(
+				mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+				type, idAttributeOfType,
+				idPartitions
+		)
+				.partition();
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			Map<Integer, IdentifierRange<I>> idRanges) {
+		//execIdentifiersLoader has one thread per identifier range and is not configurable:
+		//ensures each range is consistent as produced by one transaction
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
-				1,
+				idRanges.size(),
 				MassIndexerImpl.THREAD_NAME_PREFIX + type.getJpaEntityName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( Map.Entry<Integer, IdentifierRange<I>> entry : idRanges.entrySet() ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						getNotifier(),
+						new IdentifierProducer<>(
+								mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+								getNotifier(),
+								primaryKeyStream,
+								objectLoadingBatchSize,
+								type, idAttributeOfType,
+								entry.getValue(), checkpoints, entry.getKey(),
+								objectsLimit,
+								idFetchSize
+						),
+						transactionTimeout, sessionContext.getTenantIdentifier()
+				);
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
@@ -159,6 +260,9 @@ private void startIndexing() {
 				type, idAttributeOfType,
 				primaryKeyStream,
 				cacheMode,
+				pipelinedBatchesPerThread,
+				// When resuming, some entities after the last checkpoint may already have been indexed
+				checkpoints, resuming,
 				transactionTimeout
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
@@ -0,0 +1,266 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Tracks the progress of mass indexing for each identifier partition of an entity type,
+ * and periodically persists that progress as {@link MassIndexingCheckpoint checkpoints}.
+ * <p>
+ * Batches of identifiers are registered by the {@link IdentifierProducer}s in the order they are produced,
+ * and marked as indexed by the {@link IdentifierConsumerDocumentProducer}s, possibly out of order.
+ * The checkpoint of a partition only moves forward past a batch once that batch
+ * and all the batches produced before it in the same partition were successfully indexed,
+ * so that resuming from a checkpoint never skips an entity.
+ * A batch that failed to be loaded or indexed thus blocks the checkpoint of its partition
+ * until the end of mass indexing.
+ * <p>
+ * Indexes are flushed before checkpoints are persisted,
+ * so that persisted checkpoints never get ahead of what was durably indexed.
+ *
+ * @param <I> The identifier type
+ */
+final class CheckpointTracker<I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The number of indexed batches after which checkpoints are persisted.
+	 * Persisting checkpoints requires flushing indexes, so it should not happen after each batch.
+	 */
+	static final int BATCHES_PER_CHECKPOINT = 100;
+
+	private final MassIndexingCheckpointStore store;
+	private final PojoScopeWorkspace scopeWorkspace;
+	private final String entityName;
+	private final boolean ordered;
+
+	private final List<Partition<I>> partitions;
+	private final Map<List<I>, PendingBatch<I>> pendingBatches = new IdentityHashMap<>();
+	private int batchesIndexedSinceLastPersist = 0;
+
+	// Ensures checkpoints of this type are persisted by one thread at a time, in order
+	private final ReentrantLock persistLock = new ReentrantLock();
+
+	/**
+	 * @param store The store to persist checkpoints to.
+	 * @param scopeWorkspace The workspace to flush before checkpoints are persisted.
+	 * @param entityName The name of the entity type.
+	 * @param ordered Whether identifiers are produced in ascending order,
+	 * in which case the last indexed identifier is recorded in checkpoints.
+	 * @param savedCheckpoints The checkpoints to resume from, or an empty list to start from scratch.
+	 * @param idRanges The identifier ranges to start from, when not resuming.
+	 */
+	@SuppressWarnings("unchecked") // Checkpoints of this type were created from identifiers of type I
+	CheckpointTracker(MassIndexingCheckpointStore store, PojoScopeWorkspace scopeWorkspace,
+			String entityName, boolean ordered,
+			List<MassIndexingCheckpoint> savedCheckpoints, List<IdentifierRange<I>> idRanges) {
+		this.store = store;
+		this.scopeWorkspace = scopeWorkspace;
+		this.entityName = entityName;
+		this.ordered = ordered;
+		if ( savedCheckpoints.isEmpty() ) {
+			this.partitions = new ArrayList<>( idRanges.size() );
+			for ( IdentifierRange<I> idRange : idRanges ) {
+				partitions.add( new Partition<>( idRange.getLowerBound(), idRange.getUpperBoundExclusive(), null, false ) );
+			}
+			// Persist the partitions immediately, so that they are reused when resuming
+			store.save( entityName, toCheckpoints() );
+		}
+		else {
+			this.partitions = new ArrayList<>( savedCheckpoints.size() );
+			for ( MassIndexingCheckpoint checkpoint : savedCheckpoints ) {
+				partitions.add( new Partition<>(
+						(I) checkpoint.getLowerBoundInclusive(), (I) checkpoint.getUpperBoundExclusive(),
+						ordered ? (I) checkpoint.getLastIndexedIdentifier() : null,
+						checkpoint.isCompleted()
+				) );
+			}
+			log.debugf( "Resuming mass indexing of entity '%s' from checkpoints %s", entityName, savedCheckpoints );
+		}
+	}
+
+	boolean isOrdered() {
+		return ordered;
+	}
+
+	int getPartitionCount() {
+		return partitions.size();
+	}
+
+	/**
+	 * @param partition The index of a partition.
+	 * @return The range of identifiers that remain to be indexed in the given partition,
+	 * or {@code null} if the partition was already completed.
+	 */
+	synchronized IdentifierRange<I> getRemainingRange(int partition) {
+		Partition<I> state = partitions.get( partition );
+		if ( state.completed ) {
+			return null;
+		}
+		return state.lastIndexedId == null
+				? IdentifierRange.between( state.lowerBoundInclusive, state.upperBoundExclusive )
+				: IdentifierRange.after( state.lastIndexedId, state.upperBoundExclusive );
+	}
+
+	/**
+	 * Registers a batch of identifiers; must be called before the batch is handed over to consumers.
+	 *
+	 * @param partition The index of the partition the batch was produced from.
+	 * @param ids The identifiers in the batch, in the order they were produced.
+	 */
+	synchronized void batchProduced(int partition, List<I> ids) {
+		PendingBatch<I> batch = new PendingBatch<>( partitions.get( partition ), ids.get( ids.size() - 1 ) );
+		batch.partition.pendingBatches.addLast( batch );
+		pendingBatches.put( ids, batch );
+	}
+
+	/**
+	 * @param partition The index of a partition whose identifiers were all produced successfully.
+	 */
+	synchronized void partitionProduced(int partition) {
+		Partition<I> state = partitions.get( partition );
+		state.allProduced = true;
+		state.updateCompleted();
+	}
+
+	/**
+	 * @param ids A batch of identifiers previously passed to {@link #batchProduced(int, List)}.
+	 * @param successful Whether all the entities in the batch were indexed successfully.
+	 */
+	synchronized void batchIndexed(List<I> ids, boolean successful) {
+		PendingBatch<I> batch = pendingBatches.remove( ids );
+		if ( batch == null || !successful ) {
+			// The failed batch will stay at the head of the partition queue, preventing any further progress.
+			return;
+		}
+		batch.indexed = true;
+		Partition<I> state = batch.partition;
+		Deque<PendingBatch<I>> queue = state.pendingBatches;
+		while ( !queue.isEmpty() && queue.peekFirst().indexed ) {
+			PendingBatch<I> indexedBatch = queue.removeFirst();
+			if ( ordered ) {
+				state.lastIndexedId = indexedBatch.lastId;
+			}
+		}
+		state.updateCompleted();
+		++batchesIndexedSinceLastPersist;
+	}
+
+	/**
+	 * Persists checkpoints if enough batches were indexed since checkpoints were last persisted,
+	 * unless another thread is already persisting checkpoints.
+	 * <p>
+	 * Must not be called from a backend thread, since it waits for indexes to be flushed.
+	 */
+	void persistIfNecessary() throws InterruptedException {
+		synchronized ( this ) {
+			if ( batchesIndexedSinceLastPersist < BATCHES_PER_CHECKPOINT ) {
+				return;
+			}
+		}
+		if ( !persistLock.tryLock() ) {
+			return;
+		}
+		try {
+			doPersist();
+		}
+		finally {
+			persistLock.unlock();
+		}
+	}
+
+	/**
+	 * Persists checkpoints unconditionally.
+	 * <p>
+	 * Must not be called from a backend thread, since it waits for indexes to be flushed.
+	 */
+	void persist() throws InterruptedException {
+		persistLock.lock();
+		try {
+			doPersist();
+		}
+		finally {
+			persistLock.unlock();
+		}
+	}
+
+	/*
+	 * Must be called while holding the persist lock.
+	 */
+	private void doPersist() throws InterruptedException {
+		// Take the snapshot *before* flushing,
+		// so that the flush is guaranteed to include everything the snapshot refers to.
+		List<MassIndexingCheckpoint> snapshot;
+		synchronized ( this ) {
+			snapshot = toCheckpoints();
+			batchesIndexedSinceLastPersist = 0;
+		}
+		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		store.save( entityName, snapshot );
+		log.tracef( "Persisted checkpoints of entity '%s': %s", entityName, snapshot );
+	}
+
+	private List<MassIndexingCheckpoint> toCheckpoints() {
+		List<MassIndexingCheckpoint> checkpoints = new ArrayList<>( partitions.size() );
+		for ( Partition<I> partition : partitions ) {
+			checkpoints.add( new MassIndexingCheckpoint(
+					partition.lowerBoundInclusive, partition.upperBoundExclusive,
+					partition.lastIndexedId, partition.completed
+			) );
+		}
+		return checkpoints;
+	}
+
+	private static final class Partition<I> {
+		private final I lowerBoundInclusive;
+		private final I upperBoundExclusive;
+		private final Deque<PendingBatch<I>> pendingBatches = new ArrayDeque<>();
+		private I lastIndexedId;
+		private boolean allProduced;
+		private boolean completed;
+
+		private Partition(I lowerBoundInclusive, I upperBoundExclusive, I lastIndexedId, boolean completed) {
+			this.lowerBoundInclusive = lowerBoundInclusive;
+			this.upperBoundExclusive = upperBoundExclusive;
+			this.lastIndexedId = lastIndexedId;
+			this.completed = completed;
+		}
+
+		void updateCompleted() {
+			if ( allProduced && pendingBatches.isEmpty() ) {
+				completed = true;
+			}
+		}
+	}
+
+	private static final class PendingBatch<I> {
+		private final Partition<I> partition;
+		private final I lastId;
+		private boolean indexed;
+
+		private PendingBatch(Partition<I> partition, I lastId) {
+			this.partition = partition;
+			this.lastId = lastId;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A checkpoint store that serializes all checkpoints to a single file.
+ * <p>
+ * The file is entirely re-written on each save: checkpoints are first written to a temporary file,
+ * which then replaces the checkpoint file, atomically if the file system supports it,
+ * so that a crash while saving does not corrupt previously saved checkpoints.
+ */
+public final class FileMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Path path;
+	private final Path temporaryPath;
+
+	// Lazily loaded from the file
+	private Map<String, List<MassIndexingCheckpoint>> checkpoints;
+
+	public FileMassIndexingCheckpointStore(Path path) {
+		this.path = path.toAbsolutePath();
+		this.temporaryPath = this.path.resolveSibling( this.path.getFileName() + ".tmp" );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + path + "]";
+	}
+
+	@Override
+	public synchronized List<MassIndexingCheckpoint> load(String entityName) {
+		List<MassIndexingCheckpoint> result = getCheckpoints().get( entityName );
+		return result == null ? Collections.emptyList() : Collections.unmodifiableList( result );
+	}
+
+	@Override
+	public synchronized void save(String entityName, List<MassIndexingCheckpoint> checkpointsOfType) {
+		Map<String, List<MassIndexingCheckpoint>> allCheckpoints = getCheckpoints();
+		allCheckpoints.put( entityName, new ArrayList<>( checkpointsOfType ) );
+		try {
+			try ( OutputStream stream = Files.newOutputStream( temporaryPath );
+					ObjectOutputStream objectStream = new ObjectOutputStream( stream ) ) {
+				objectStream.writeObject( allCheckpoints );
+			}
+			try {
+				Files.move( temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporaryPath, path, StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToAccessMassIndexingCheckpoints( path, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+		checkpoints = new HashMap<>();
+		try {
+			Files.deleteIfExists( path );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToAccessMassIndexingCheckpoints( path, e.getMessage(), e );
+		}
+	}
+
+	private Map<String, List<MassIndexingCheckpoint>> getCheckpoints() {
+		if ( checkpoints == null ) {
+			checkpoints = read();
+		}
+		return checkpoints;
+	}
+
+	@SuppressWarnings("unchecked") // We only ever write maps of checkpoint lists to the file
+	private Map<String, List<MassIndexingCheckpoint>> read() {
+		if ( !Files.exists( path ) ) {
+			return new HashMap<>();
+		}
+		try ( InputStream stream = Files.newInputStream( path );
+				ObjectInputStream objectStream = new ObjectInputStream( stream ) ) {
+			return (Map<String, List<MassIndexingCheckpoint>>) objectStream.readObject();
+		}
+		catch (IOException | ClassNotFoundException | RuntimeException e) {
+			throw log.unableToAccessMassIndexingCheckpoints( path, e.getMessage(), e );
+		}
+	}
+}
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import javax.persistence.LockModeType;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -35,6 +36,12 @@
  * to the index writing backend.
  * It will finish when the queue it is consuming from will
  * signal there are no more identifiers.
+ * <p>
+ * By default, each batch of entities is fully indexed before the next batch is loaded.
+ * If pipelining is enabled, up to {@code pipelinedBatches} batches may be in the process of being indexed
+ * while the next batch is being loaded, and indexing failures are reported asynchronously.
+ * <p>
+ * If checkpoints are enabled, each batch is reported to the {@link CheckpointTracker} once indexed.
  *
  * @param <E> The entity type
  * @param <I> The identifier type
@@ -54,6 +61,9 @@
 
 	private final ProducerConsumerQueue<List<I>> source;
 	private final CacheMode cacheMode;
+	private final int pipelinedBatches;
+	private final CheckpointTracker<I> checkpoints;
+	private final boolean replaceExistingDocuments;
 	private final Integer transactionTimeout;
 
 	/**
@@ -67,6 +77,8 @@
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			CacheMode cacheMode,
+			int pipelinedBatches,
+			CheckpointTracker<I> checkpoints, boolean replaceExistingDocuments,
 			Integer transactionTimeout
 			) {
 		this.mappingContext = mappingContext;
@@ -74,6 +86,9 @@
 		this.notifier = notifier;
 		this.source = fromIdentifierListToEntities;
 		this.cacheMode = cacheMode;
+		this.pipelinedBatches = pipelinedBatches;
+		this.checkpoints = checkpoints;
+		this.replaceExistingDocuments = replaceExistingDocuments;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.transactionTimeout = transactionTimeout;
@@ -95,7 +110,9 @@ public void run() {
 			session.setHibernateFlushMode( FlushMode.MANUAL );
 			session.setCacheMode( cacheMode );
 			session.setDefaultReadOnly( true );
-			loadAllFromQueue( session );
+			// This runnable may be executed by multiple threads: each thread gets its own pipeline
+			Semaphore inFlightBatches = pipelinedBatches > 0 ? new Semaphore( pipelinedBatches ) : null;
+			loadAllFromQueue( session, inFlightBatches );
 		}
 		catch (Exception exception) {
 			notifier.notifyRunnableFailure(
@@ -106,7 +123,8 @@ public void run() {
 		log.trace( "finished" );
 	}
 
-	private void loadAllFromQueue(SessionImplementor session) throws SystemException, NotSupportedException {
+	private void loadAllFromQueue(SessionImplementor session, Semaphore inFlightBatches)
+			throws SystemException, NotSupportedException {
 		// The search session will be closed automatically with the ORM session
 		PojoIndexer indexer = mappingContext.createIndexer( session );
 		try {
@@ -115,10 +133,18 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 				idList = source.take();
 				if ( idList != null ) {
 					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, indexer );
+					loadList( idList, session, indexer, inFlightBatches );
+					if ( checkpoints != null ) {
+						checkpoints.persistIfNecessary();
+					}
 				}
 			}
 			while ( idList != null );
+			if ( inFlightBatches != null ) {
+				// Wait for the last batches to be indexed, so that the parent workspace knows when indexing is done
+				inFlightBatches.acquire( pipelinedBatches );
+				inFlightBatches.release( pipelinedBatches );
+			}
 		}
 		catch (InterruptedException e) {
 			// just quit
@@ -134,8 +160,9 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 	 * @param listIds the list of entity identifiers (of type
 	 * @param session the session to be used
 	 * @param indexer the indexer to be used
+	 * @param inFlightBatches the semaphore bounding the number of batches being indexed, or {@code null} to disable pipelining
 	 */
-	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
+	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer, Semaphore inFlightBatches)
 			throws InterruptedException, NotSupportedException, SystemException {
 		try {
 			beginTransaction( session );
@@ -153,7 +180,16 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( session, indexer, query.getResultList() );
+			List<E> entities = query.getResultList();
+			if ( inFlightBatches == null ) {
+				boolean successful = indexAllQueue( session, indexer, entities );
+				if ( checkpoints != null ) {
+					checkpoints.batchIndexed( listIds, successful );
+				}
+			}
+			else {
+				indexAllQueuePipelined( session, indexer, listIds, entities, inFlightBatches );
+			}
 			session.clear();
 		}
 		finally {
@@ -189,9 +225,12 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
+	/**
+	 * @return {@code true} if all entities were indexed successfully, {@code false} otherwise.
+	 */
+	private boolean indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			return true;
 		}
 
 		notifier.notifyEntitiesLoaded( entities.size() );
@@ -225,6 +264,76 @@ private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entitie
 		}
 
 		notifier.notifyDocumentsAdded( successfulEntities );
+		return successfulEntities == entities.size();
+	}
+
+	private void indexAllQueuePipelined(Session session, PojoIndexer indexer, List<I> listIds, List<E> entities,
+			Semaphore inFlightBatches) throws InterruptedException {
+		if ( entities == null || entities.isEmpty() ) {
+			if ( checkpoints != null ) {
+				checkpoints.batchIndexed( listIds, true );
+			}
+			return;
+		}
+
+		notifier.notifyEntitiesLoaded( entities.size() );
+		// Wait for a slot in the pipeline before submitting more works to the backend
+		inFlightBatches.acquire();
+
+		CompletableFuture<?>[] indexingFutures = new CompletableFuture<?>[entities.size()];
+		// Failures will be reported after the session was cleared: extract identifiers while we still can
+		Object[] identifiers = new Object[entities.size()];
+		try {
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final E entity = entities.get( i );
+				identifiers[i] = extractIdentifierOrNull( session, entity );
+				indexingFutures[i] = index( indexer, entity );
+			}
+		}
+		catch (InterruptedException | RuntimeException e) {
+			inFlightBatches.release();
+			throw e;
+		}
+
+		CompletableFuture.allOf( indexingFutures )
+				// We handle exceptions on a per-entity basis below, so we ignore them here.
+				.handle( (ignored, throwable) -> null )
+				.thenRun( () -> {
+					try {
+						int successfulEntities = 0;
+						for ( int i = 0; i < indexingFutures.length; i++ ) {
+							CompletableFuture<?> future = indexingFutures[i];
+
+							if ( future.isCompletedExceptionally() ) {
+								notifier.notifyEntityIndexingFailure(
+										type, identifiers[i], Futures.getThrowableNow( future )
+								);
+							}
+							else {
+								++successfulEntities;
+							}
+						}
+
+						notifier.notifyDocumentsAdded( successfulEntities );
+						if ( checkpoints != null ) {
+							checkpoints.batchIndexed( listIds, successfulEntities == indexingFutures.length );
+						}
+					}
+					finally {
+						inFlightBatches.release();
+					}
+				} );
+	}
+
+	private Object extractIdentifierOrNull(Session session, E entity) {
+		try {
+			return session.getIdentifier( entity );
+		}
+		catch (RuntimeException e) {
+			// The failure, if any, will be reported without an entity reference.
+			log.tracef( e, "Unable to extract the identifier of entity %s", entity );
+			return null;
+		}
 	}
 
 	private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws InterruptedException {
@@ -236,7 +345,9 @@ private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws Interru
 
 		CompletableFuture<?> future;
 		try {
-			future = indexer.add( type.getTypeIdentifier(), null, entity );
+			future = replaceExistingDocuments
+					? indexer.addOrUpdate( type.getTypeIdentifier(), null, entity )
+					: indexer.add( type.getTypeIdentifier(), null, entity );
 		}
 		catch (RuntimeException e) {
 			future = new CompletableFuture<>();
@@ -29,8 +29,8 @@
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
  * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * done by one thread per type, or per identifier range if identifiers are partitioned)
+ * so that a single transaction is used to define the group of entities to be indexed.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -50,6 +50,9 @@
 
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final IdentifierRange<I> idRange;
+	private final CheckpointTracker<I> checkpoints;
+	private final int partition;
 
 	private final ProducerConsumerQueue<List<I>> destination;
 	private final int batchSize;
@@ -64,6 +67,9 @@
 	 * @param objectLoadingBatchSize affects mostly the next consumer: IdentifierConsumerEntityProducer
 	 * @param type the entity type whose identifiers are to be loaded
 	 * @param idAttributeOfType the id attribute to be loaded
+	 * @param idRange the range of identifiers to be loaded
+	 * @param checkpoints the tracker to register produced batches with, or {@code null} if checkpoints are disabled
+	 * @param partition the index of the partition {@code idRange} belongs to
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
 	 */
@@ -72,12 +78,16 @@
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			IdentifierRange<I> idRange, CheckpointTracker<I> checkpoints, int partition,
 			long objectsLimit, int idFetchSize) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
+		this.idRange = idRange;
+		this.checkpoints = checkpoints;
+		this.partition = partition;
 		this.destination = fromIdentifierListToEntities;
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
@@ -142,7 +152,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			totalCount = objectsLimit;
 		}
 		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+			log.debugf( "going to fetch %d primary keys in range %s", (Long) totalCount, idRange );
 		}
 		notifier.notifyAddedTotalCount( totalCount );
 
@@ -173,6 +183,9 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			}
 		}
 		enqueueList( destinationList );
+		if ( checkpoints != null ) {
+			checkpoints.partitionProduced( partition );
+		}
 	}
 
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
@@ -181,6 +194,7 @@ private Query<Long> createTotalCountQuery(StatelessSession session) {
 
 		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
+		idRange.restrict( criteriaBuilder, criteriaQuery, root.get( idAttributeOfType ) );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false );
@@ -193,6 +207,11 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
 		Path<I> idPath = root.get( idAttributeOfType );
 		criteriaQuery.select( idPath );
+		idRange.restrict( criteriaBuilder, criteriaQuery, idPath );
+		if ( checkpoints != null && checkpoints.isOrdered() ) {
+			// Checkpoints record the last indexed identifier, which only makes sense if identifiers are ordered
+			criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
+		}
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false )
@@ -201,6 +220,9 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
+			if ( checkpoints != null ) {
+				checkpoints.batchProduced( partition, idsList );
+			}
 			destination.put( idsList );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
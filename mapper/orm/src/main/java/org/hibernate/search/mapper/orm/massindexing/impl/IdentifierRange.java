@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+/**
+ * A range of identifiers, used to split the identifier space of an entity type
+ * so that identifiers can be loaded by multiple {@link IdentifierProducer}s in parallel,
+ * or to restrict loading to identifiers after a {@link CheckpointTracker checkpoint}.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierRange<I> {
+
+	private static final IdentifierRange<?> ALL = new IdentifierRange<>( null, true, null );
+
+	@SuppressWarnings("unchecked")
+	static <I> IdentifierRange<I> all() {
+		return (IdentifierRange<I>) ALL;
+	}
+
+	static <I> IdentifierRange<I> between(I lowerBoundInclusive, I upperBoundExclusive) {
+		return new IdentifierRange<>( lowerBoundInclusive, true, upperBoundExclusive );
+	}
+
+	static <I> IdentifierRange<I> after(I lowerBoundExclusive, I upperBoundExclusive) {
+		return new IdentifierRange<>( lowerBoundExclusive, false, upperBoundExclusive );
+	}
+
+	private final I lowerBound;
+	private final boolean lowerBoundInclusive;
+	private final I upperBoundExclusive;
+
+	private IdentifierRange(I lowerBound, boolean lowerBoundInclusive, I upperBoundExclusive) {
+		this.lowerBound = lowerBound;
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	@Override
+	public String toString() {
+		return ( lowerBoundInclusive ? "[" : "(" ) + ( lowerBound == null ? "" : lowerBound )
+				+ ", " + ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+	}
+
+	/**
+	 * @return The lower bound of this range, or {@code null} if unbounded.
+	 * Inclusive, unless this range was created with {@link #after(Object, Object)}.
+	 */
+	I getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * @return The upper bound (exclusive) of this range, or {@code null} if unbounded.
+	 */
+	I getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	/**
+	 * Restricts the given query to identifiers within this range.
+	 * <p>
+	 * Has no effect on the query if this range is unbounded.
+	 *
+	 * @param criteriaBuilder The criteria builder.
+	 * @param criteriaQuery The query to restrict.
+	 * @param idPath The path to the identifier in the query.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Bounds are only ever set for comparable identifiers
+	void restrict(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery, Path<I> idPath) {
+		Expression<Comparable> comparableIdPath = (Expression) idPath;
+		Predicate predicate = null;
+		if ( lowerBound != null ) {
+			predicate = lowerBoundInclusive
+					? criteriaBuilder.greaterThanOrEqualTo( comparableIdPath, (Comparable) lowerBound )
+					: criteriaBuilder.greaterThan( comparableIdPath, (Comparable) lowerBound );
+		}
+		if ( upperBoundExclusive != null ) {
+			Predicate upperBoundPredicate = criteriaBuilder.lessThan( comparableIdPath, (Comparable) upperBoundExclusive );
+			predicate = predicate == null ? upperBoundPredicate : criteriaBuilder.and( predicate, upperBoundPredicate );
+		}
+		if ( predicate != null ) {
+			criteriaQuery.where( predicate );
+		}
+	}
+}
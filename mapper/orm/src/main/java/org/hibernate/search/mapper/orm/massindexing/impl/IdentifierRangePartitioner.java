@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifier space of an entity type into ranges,
+ * so that identifiers can be loaded by multiple {@link IdentifierProducer}s in parallel.
+ * <p>
+ * For integral identifiers, ranges are computed from the minimum and maximum identifier,
+ * which only requires one cheap query but assumes identifiers are evenly distributed.
+ * For other comparable identifiers, range boundaries are sampled from the database
+ * by retrieving the identifiers at regular offsets in the ordered identifier space.
+ * Identifiers that are not comparable (e.g. composite identifiers) are not partitioned.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+final class IdentifierRangePartitioner<E, I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final String tenantId;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+
+	private final int partitionCount;
+
+	IdentifierRangePartitioner(SessionFactory sessionFactory, String tenantId,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			int partitionCount) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.partitionCount = partitionCount;
+	}
+
+	/**
+	 * @return A list of contiguous, non-overlapping ranges covering the whole identifier space,
+	 * including identifiers that may be added after the ranges were computed.
+	 * Contains at most {@code partitionCount} ranges, and at least one range.
+	 */
+	List<IdentifierRange<I>> partition() {
+		Class<I> idType = idAttributeOfType.getJavaType();
+		if ( partitionCount <= 1 ) {
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		if ( !isComparable( idType ) ) {
+			log.debugf( "Identifiers of entity '%s' are of non-comparable type '%s'; ignoring the requested"
+					+ " identifier partitioning and loading all identifiers in a single thread",
+					type.getJpaEntityName(), idType );
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+
+		StatelessSession session;
+		if ( tenantId == null ) {
+			session = sessionFactory.openStatelessSession();
+		}
+		else {
+			session = sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+		}
+		List<I> boundaries;
+		try {
+			Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
+			final boolean controlTransactions = !transaction.isActive();
+			if ( controlTransactions ) {
+				transaction.begin();
+			}
+			try {
+				boundaries = isIntegral( idType )
+						? computeBoundariesFromMinMax( session, idType )
+						: computeBoundariesBySampling( session );
+			}
+			finally {
+				if ( controlTransactions ) {
+					transaction.commit();
+				}
+			}
+		}
+		finally {
+			session.close();
+		}
+
+		List<IdentifierRange<I>> ranges = new ArrayList<>( boundaries.size() + 1 );
+		I lowerBound = null;
+		for ( I boundary : boundaries ) {
+			ranges.add( IdentifierRange.between( lowerBound, boundary ) );
+			lowerBound = boundary;
+		}
+		ranges.add( IdentifierRange.between( lowerBound, null ) );
+		log.debugf( "Partitioned identifiers of entity '%s' into ranges %s", type.getJpaEntityName(), ranges );
+		return ranges;
+	}
+
+	private List<I> computeBoundariesFromMinMax(StatelessSession session, Class<I> idType) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		@SuppressWarnings("unchecked") // We checked that the identifier is an integral number
+		Expression<Number> idPath = (Expression<Number>) (Expression<?>) root.get( idAttributeOfType );
+		criteriaQuery.multiselect( criteriaBuilder.min( idPath ), criteriaBuilder.max( idPath ) );
+
+		Tuple minMax = session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.uniqueResult();
+		Number min = (Number) minMax.get( 0 );
+		Number max = (Number) minMax.get( 1 );
+		if ( min == null || max == null ) {
+			// No entity
+			return Collections.emptyList();
+		}
+
+		BigInteger lowest = toBigInteger( min );
+		BigInteger span = toBigInteger( max ).subtract( lowest ).add( BigInteger.ONE );
+		int actualPartitionCount = span.min( BigInteger.valueOf( partitionCount ) ).intValue();
+		BigInteger bigPartitionCount = BigInteger.valueOf( actualPartitionCount );
+
+		List<I> boundaries = new ArrayList<>( actualPartitionCount - 1 );
+		for ( int i = 1; i < actualPartitionCount; i++ ) {
+			BigInteger boundary = lowest.add( span.multiply( BigInteger.valueOf( i ) ).divide( bigPartitionCount ) );
+			boundaries.add( fromBigInteger( boundary, idType ) );
+		}
+		return boundaries;
+	}
+
+	private List<I> computeBoundariesBySampling(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+		CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery( Long.class );
+		countQuery.select( criteriaBuilder.count( countQuery.from( type.getEntityTypeDescriptor() ) ) );
+		long totalCount = session.createQuery( countQuery )
+				.setCacheable( false )
+				.uniqueResult();
+		if ( totalCount > Integer.MAX_VALUE ) {
+			log.debugf( "Too many entities of type '%s' to sample identifiers; ignoring the requested"
+					+ " identifier partitioning and loading all identifiers in a single thread",
+					type.getJpaEntityName() );
+			return Collections.emptyList();
+		}
+
+		CriteriaQuery<I> idQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
+		Root<E> root = idQuery.from( type.getEntityTypeDescriptor() );
+		Path<I> idPath = root.get( idAttributeOfType );
+		idQuery.select( idPath ).orderBy( criteriaBuilder.asc( idPath ) );
+
+		int actualPartitionCount = (int) Math.min( totalCount, partitionCount );
+		List<I> boundaries = new ArrayList<>( Math.max( 0, actualPartitionCount - 1 ) );
+		for ( int i = 1; i < actualPartitionCount; i++ ) {
+			int offset = (int) ( totalCount * i / actualPartitionCount );
+			I boundary = session.createQuery( idQuery )
+					.setCacheable( false )
+					.setFirstResult( offset )
+					.setMaxResults( 1 )
+					.uniqueResult();
+			if ( boundary == null ) {
+				// Entities were deleted since we counted them
+				break;
+			}
+			boundaries.add( boundary );
+		}
+		return boundaries;
+	}
+
+	/**
+	 * @param idType The identifier type.
+	 * @return {@code true} if identifiers of the given type can be compared in queries,
+	 * and thus be partitioned or ordered.
+	 */
+	static boolean isComparable(Class<?> idType) {
+		return isIntegral( idType ) || Comparable.class.isAssignableFrom( idType );
+	}
+
+	private static boolean isIntegral(Class<?> idType) {
+		return Long.class.equals( idType ) || long.class.equals( idType )
+				|| Integer.class.equals( idType ) || int.class.equals( idType )
+				|| Short.class.equals( idType ) || short.class.equals( idType )
+				|| BigInteger.class.equals( idType );
+	}
+
+	private static BigInteger toBigInteger(Number number) {
+		if ( number instanceof BigInteger ) {
+			return (BigInteger) number;
+		}
+		return BigInteger.valueOf( number.longValue() );
+	}
+
+	@SuppressWarnings("unchecked") // We checked the identifier type
+	private static <I> I fromBigInteger(BigInteger value, Class<I> idType) {
+		if ( Long.class.equals( idType ) || long.class.equals( idType ) ) {
+			return (I) Long.valueOf( value.longValue() );
+		}
+		else if ( Integer.class.equals( idType ) || int.class.equals( idType ) ) {
+			return (I) Integer.valueOf( value.intValue() );
+		}
+		else if ( Short.class.equals( idType ) || short.class.equals( idType ) ) {
+			return (I) Short.valueOf( value.shortValue() );
+		}
+		else {
+			return (I) value;
+		}
+	}
+}
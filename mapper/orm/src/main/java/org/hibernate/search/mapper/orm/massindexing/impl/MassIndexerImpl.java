@@ -18,6 +18,7 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
@@ -51,6 +52,7 @@ public class MassIndexerImpl implements MassIndexer {
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
 	private int objectLoadingBatchSize = 10;
+	private int pipelinedBatchesPerThread = 0; //means no pipelining: wait for each batch to be indexed before loading the next
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
 	private boolean mergeSegmentsOnFinish = false;
@@ -58,6 +60,8 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
+	private int idPartitions = 1;
+	private MassIndexingCheckpointStore checkpointStore; //means no checkpoints
 	private Integer idLoadingTransactionTimeout;
 
 	private MassIndexingFailureHandler failureHandler;
@@ -141,6 +145,15 @@ public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer pipelinedBatchesPerThread(int batches) {
+		if ( batches < 0 ) {
+			throw new IllegalArgumentException( "batches must be positive or zero" );
+		}
+		this.pipelinedBatchesPerThread = batches;
+		return this;
+	}
+
 	@Override
 	public MassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -209,10 +222,10 @@ protected BatchCoordinator createCoordinator() {
 				mappingContext, sessionContext,
 				notifier,
 				rootEntityTypes, scopeSchemaManager, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, documentBuilderThreads, pipelinedBatchesPerThread,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				idFetchSize, idPartitions, checkpointStore, idLoadingTransactionTimeout
 		);
 	}
 
@@ -230,6 +243,24 @@ public MassIndexer idFetchSize(int idFetchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer idPartitions(int partitions) {
+		if ( partitions < 1 ) {
+			throw new IllegalArgumentException( "partitions must be at least 1" );
+		}
+		this.idPartitions = partitions;
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFrom(MassIndexingCheckpointStore checkpointStore) {
+		if ( checkpointStore == null ) {
+			throw new IllegalArgumentException( "checkpointStore must not be null" );
+		}
+		this.checkpointStore = checkpointStore;
+		return this;
+	}
+
 	@Override
 	public MassIndexer failureHandler(MassIndexingFailureHandler failureHandler) {
 		this.failureHandler = failureHandler;
@@ -62,6 +62,28 @@ void notifyDocumentsAdded(int size) {
 
 	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
 			Session session, T entity, Throwable throwable) {
+		// Add more information here, but information that may not be available if the session completely broke down
+		// (we're being extra careful here because we don't want to throw an exception while handling and exception)
+		EntityReference entityReference = extractReferenceOrSuppress( type, session, entity, throwable );
+		doNotifyEntityIndexingFailure( type, entityReference, throwable );
+	}
+
+	/**
+	 * @param type The type of the entity that failed to be indexed.
+	 * @param entityIdentifier The identifier of the entity that failed to be indexed,
+	 * extracted before the session was cleared, or {@code null} if it could not be extracted.
+	 * @param throwable The indexing failure.
+	 * @param <T> The entity type.
+	 */
+	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
+			Object entityIdentifier, Throwable throwable) {
+		EntityReference entityReference = entityIdentifier == null ? null
+				: new EntityReferenceImpl( type.getTypeIdentifier(), type.getJpaEntityName(), entityIdentifier );
+		doNotifyEntityIndexingFailure( type, entityReference, throwable );
+	}
+
+	private <T> void doNotifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
+			EntityReference entityReference, Throwable throwable) {
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
@@ -70,9 +92,6 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		contextBuilder.throwable( throwable );
 		// Add minimal information here, but information we're sure we can get
 		contextBuilder.failingOperation( log.massIndexerIndexingInstance( type.getJpaEntityName() ) );
-		// Add more information here, but information that may not be available if the session completely broke down
-		// (we're being extra careful here because we don't want to throw an exception while handling and exception)
-		EntityReference entityReference = extractReferenceOrSuppress( type, session, entity, throwable );
 		if ( entityReference != null ) {
 			contextBuilder.entityReference( entityReference );
 			recordedFailure.entityReference = entityReference;
@@ -80,6 +99,10 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		failureHandler.handle( contextBuilder.build() );
 	}
 
+	boolean hasEntityIndexingFailures() {
+		return entityIndexingFirstFailure.get() != null;
+	}
+
 	void notifyIndexingCompletedSuccessfully() {
 		monitor.indexingCompleted();
 
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoReindexingEntityBatchLoader;
+
+/**
+ * Loads containing entities to reindex through a multi-ID load,
+ * so that uninitialized proxies to these entities can be initialized
+ * with a few queries instead of one query per entity.
+ */
+final class HibernateOrmReindexingEntityBatchLoader implements PojoReindexingEntityBatchLoader {
+
+	private final HibernateOrmSessionTypeContextProvider typeContextProvider;
+	private final SessionImplementor sessionImplementor;
+	private final int batchSize;
+
+	HibernateOrmReindexingEntityBatchLoader(HibernateOrmSessionTypeContextProvider typeContextProvider,
+			SessionImplementor sessionImplementor, int batchSize) {
+		this.typeContextProvider = typeContextProvider;
+		this.sessionImplementor = sessionImplementor;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public Object toProvidedIdIfUninitialized(PojoRawTypeIdentifier<?> typeIdentifier, Object entity) {
+		if ( !( entity instanceof HibernateProxy ) ) {
+			return null;
+		}
+		LazyInitializer lazyInitializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+		if ( !lazyInitializer.isUninitialized() ) {
+			return null;
+		}
+		HibernateOrmSessionIndexedTypeContext<?> typeContext = typeContextProvider.getIndexedByExactType( typeIdentifier );
+		if ( typeContext == null ) {
+			return null;
+		}
+		if ( typeContext.getEntityPersister().getEntityMetamodel().hasSubclasses() ) {
+			// The proxy may point to an entity of a subtype: we need to initialize it to know the actual type.
+			return null;
+		}
+		// Returns null if the document ID is not the entity ID, in which case we will not batch loads.
+		return typeContext.toIndexingPlanProvidedId( lazyInitializer.getIdentifier() );
+	}
+
+	@Override
+	public void load(PojoRawTypeIdentifier<?> typeIdentifier, List<Object> providedIds) {
+		HibernateOrmSessionIndexedTypeContext<?> typeContext = typeContextProvider.getIndexedByExactType( typeIdentifier );
+		List<Serializable> ids = new ArrayList<>( providedIds.size() );
+		for ( Object providedId : providedIds ) {
+			// Provided IDs are entity IDs: see toProvidedIdIfUninitialized
+			ids.add( (Serializable) providedId );
+		}
+		/*
+		 * We don't need the result: loading the entities will add them to the persistence context,
+		 * and proxies will retrieve them from there when they are unproxied.
+		 * Entities that are already in the persistence context are skipped thanks to the session check.
+		 */
+		sessionImplementor.byMultipleIds( typeContext.getEntityPersister().getEntityName() )
+				.withBatchSize( batchSize )
+				.enableSessionCheck( true )
+				.multiLoad( ids );
+	}
+
+}
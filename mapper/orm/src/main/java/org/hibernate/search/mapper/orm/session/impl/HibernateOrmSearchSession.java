@@ -24,6 +24,7 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxIndexingPlan;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -48,6 +49,7 @@
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchSession;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoReindexingEntityBatchLoader;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.TransientReference;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -97,6 +99,7 @@ public static HibernateOrmSearchSession get(HibernateOrmSearchSessionMappingCont
 	private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 	private final SessionImplementor sessionImplementor;
 	private final HibernateOrmRuntimeIntrospector runtimeIntrospector;
+	private final HibernateOrmReindexingEntityBatchLoader reindexingEntityBatchLoader;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy;
 
 	/*
@@ -113,6 +116,7 @@ private HibernateOrmSearchSession(Builder builder) {
 		this.typeContextProvider = builder.typeContextProvider;
 		this.sessionImplementor = builder.sessionImplementor;
 		this.runtimeIntrospector = builder.buildRuntimeIntrospector();
+		this.reindexingEntityBatchLoader = builder.buildReindexingEntityBatchLoader();
 		setAutomaticIndexingSynchronizationStrategy( builder.automaticIndexingSynchronizationStrategy );
 	}
 
@@ -249,6 +253,11 @@ public PojoRuntimeIntrospector getRuntimeIntrospector() {
 		return runtimeIntrospector;
 	}
 
+	@Override
+	public PojoReindexingEntityBatchLoader getReindexingEntityBatchLoader() {
+		return reindexingEntityBatchLoader;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public PojoIndexingPlan<EntityReference> getCurrentIndexingPlan(boolean createIfDoesNotExist) {
@@ -281,10 +290,10 @@ public PojoIndexingPlan<EntityReference> getCurrentIndexingPlan(boolean createIf
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		plan = createDirectIndexingPlan();
+		if ( mappingContext.isAutomaticIndexingThroughOutbox() ) {
+			plan = new OutboxIndexingPlan( typeContextProvider, sessionImplementor, plan );
+		}
 		planPerTransaction.put( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -297,6 +306,17 @@ public PojoIndexingPlan<EntityReference> getCurrentIndexingPlan(boolean createIf
 		return plan;
 	}
 
+	/**
+	 * @return An indexing plan that sends works to the backend directly,
+	 * regardless of the automatic indexing strategy.
+	 */
+	public PojoIndexingPlan<EntityReference> createDirectIndexingPlan() {
+		return createIndexingPlan(
+				configuredAutomaticIndexingSynchronizationStrategy.getDocumentCommitStrategy(),
+				configuredAutomaticIndexingSynchronizationStrategy.getDocumentRefreshStrategy()
+		);
+	}
+
 	@Override
 	public ConfiguredAutomaticIndexingSynchronizationStrategy getConfiguredAutomaticIndexingSynchronizationStrategy() {
 		return configuredAutomaticIndexingSynchronizationStrategy;
@@ -391,6 +411,15 @@ private HibernateOrmRuntimeIntrospector buildRuntimeIntrospector() {
 			return new HibernateOrmRuntimeIntrospector( typeContextProvider, sessionImplementor );
 		}
 
+		private HibernateOrmReindexingEntityBatchLoader buildReindexingEntityBatchLoader() {
+			int batchSize = mappingContext.getContainingEntitiesBatchSize();
+			if ( batchSize <= 0 ) {
+				// Batch loading is disabled
+				return null;
+			}
+			return new HibernateOrmReindexingEntityBatchLoader( typeContextProvider, sessionImplementor, batchSize );
+		}
+
 		public HibernateOrmSearchSession build() {
 			return new HibernateOrmSearchSession( this );
 		}
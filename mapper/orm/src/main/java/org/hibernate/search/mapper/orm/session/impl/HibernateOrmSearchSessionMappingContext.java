@@ -17,6 +17,18 @@ public interface HibernateOrmSearchSessionMappingContext extends PojoSearchSessi
 
 	FailureHandler getFailureHandler();
 
+	/**
+	 * @return The batch size to use when loading containing entities to reindex,
+	 * or zero if batch loading is disabled.
+	 */
+	int getContainingEntitiesBatchSize();
+
+	/**
+	 * @return {@code true} if automatic indexing should record events in the outbox table
+	 * instead of indexing entities directly.
+	 */
+	boolean isAutomaticIndexingThroughOutbox();
+
 	<T> SearchScopeImpl<T> createScope(Collection<? extends Class<? extends T>> types);
 
 	<T> SearchScopeImpl<T> createScope(Class<T> expectedSuperType, Collection<String> entityNames);
@@ -6,13 +6,17 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 
 /**
  * @param <E> The entity type mapped to the index.
  */
-public interface HibernateOrmSessionIndexedTypeContext<E> extends HibernateOrmSessionTypeContext<E> {
+public interface HibernateOrmSessionIndexedTypeContext<E>
+		extends HibernateOrmSessionTypeContext<E>, HibernateOrmScopeIndexedTypeContext<E> {
 
 	IdentifierMapping getIdentifierMapping();
 
+	Object toIndexingPlanProvidedId(Object entityId);
+
 }
@@ -6,13 +6,18 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospectorTypeContextProvider;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContextProvider;
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanTypeContextProvider;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface HibernateOrmSessionTypeContextProvider
 		extends HibernateOrmScopeTypeContextProvider, HibernateOrmRuntimeIntrospectorTypeContextProvider,
-				SearchIndexingPlanTypeContextProvider {
+				SearchIndexingPlanTypeContextProvider, HibernateOrmOutboxTypeContextProvider {
+
+	@Override
+	<E> HibernateOrmSessionIndexedTypeContext<E> getIndexedByExactType(PojoRawTypeIdentifier<E> typeIdentifier);
 
 	HibernateOrmSessionIndexedTypeContext<?> getIndexedByJpaEntityName(String indexName);
 
@@ -59,10 +59,24 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@SuppressWarnings( "unchecked" ) // We can only cast to the raw type, if U is generic we need an unchecked cast
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
-		U castedDirty = (U) caster.castOrNull( runtimeIntrospector.unproxy( dirty ) );
-		if ( castedDirty != null ) {
-			for ( PojoImplicitReindexingResolverNode<? super U, S> node : nestedNodes ) {
-				node.resolveEntitiesToReindex( collector, runtimeIntrospector, castedDirty, dirtinessState );
+		U castedUnproxied = null;
+		boolean unproxied = false;
+		for ( PojoImplicitReindexingResolverNode<? super U, S> node : nestedNodes ) {
+			if ( !node.requiresUnproxiedInput() ) {
+				// Avoid initializing proxies when we don't need to.
+				// The cast may fail on proxies of a supertype, in which case we will have to unproxy.
+				U castedDirty = (U) caster.castOrNull( dirty );
+				if ( castedDirty != null ) {
+					node.resolveEntitiesToReindex( collector, runtimeIntrospector, castedDirty, dirtinessState );
+					continue;
+				}
+			}
+			if ( !unproxied ) {
+				castedUnproxied = (U) caster.castOrNull( runtimeIntrospector.unproxy( dirty ) );
+				unproxied = true;
+			}
+			if ( castedUnproxied != null ) {
+				node.resolveEntitiesToReindex( collector, runtimeIntrospector, castedUnproxied, dirtinessState );
 			}
 		}
 	}
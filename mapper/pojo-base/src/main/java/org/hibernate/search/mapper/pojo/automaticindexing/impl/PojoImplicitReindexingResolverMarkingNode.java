@@ -32,4 +32,10 @@ public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
 		collector.markForReindexing( dirty );
 	}
+
+	@Override
+	public boolean requiresUnproxiedInput() {
+		// The collector will unproxy the entity if necessary, but may also load it later, in a batch.
+		return false;
+	}
 }
@@ -42,6 +42,14 @@ public String toString() {
 	public abstract void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState);
 
+	/**
+	 * @return {@code true} if this node must be passed unproxied values,
+	 * {@code false} if it accepts proxies as-is, thereby allowing callers to avoid initializing proxies.
+	 */
+	public boolean requiresUnproxiedInput() {
+		return true;
+	}
+
 	public static <T, D> PojoImplicitReindexingResolverNode<T, D> noOp() {
 		return NoOpPojoImplicitReindexingResolverNode.get();
 	}
@@ -52,9 +52,17 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
-		dirty = (T) runtimeIntrospector.unproxy( dirty );
+		T unproxied = null;
 		for ( PojoImplicitReindexingResolverNode<? super T, S> node : nestedNodes ) {
-			node.resolveEntitiesToReindex( collector, runtimeIntrospector, dirty, dirtinessState );
+			if ( !node.requiresUnproxiedInput() ) {
+				// Avoid initializing proxies when we don't need to
+				node.resolveEntitiesToReindex( collector, runtimeIntrospector, dirty, dirtinessState );
+				continue;
+			}
+			if ( unproxied == null ) {
+				unproxied = (T) runtimeIntrospector.unproxy( dirty );
+			}
+			node.resolveEntitiesToReindex( collector, runtimeIntrospector, unproxied, dirtinessState );
 		}
 	}
 }
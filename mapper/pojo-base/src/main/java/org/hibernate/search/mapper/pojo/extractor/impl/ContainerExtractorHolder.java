@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.extractor.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -32,4 +33,15 @@ public void close() {
 	public ContainerExtractor<? super C, V> get() {
 		return chain;
 	}
+
+	/**
+	 * @return The extractors composing the chain returned by {@link #get()}, in order.
+	 */
+	public List<ContainerExtractor<?, ?>> getChainElements() {
+		List<ContainerExtractor<?, ?>> elements = new ArrayList<>( chainElementBeanHolders.size() );
+		for ( BeanHolder<?> beanHolder : chainElementBeanHolders ) {
+			elements.add( (ContainerExtractor<?, ?>) beanHolder.get() );
+		}
+		return elements;
+	}
 }
@@ -7,9 +7,9 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -27,6 +27,7 @@
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.processing.building.impl.PojoIndexingProcessorTypeNodeBuilder;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
@@ -90,15 +91,19 @@ PojoMappingCollectorTypeNode asCollector() {
 		return processorBuilder;
 	}
 
-	void preBuild(PojoImplicitReindexingResolverBuildingHelper reindexingResolverBuildingHelper) {
+	void preBuild(PojoImplicitReindexingResolverBuildingHelper reindexingResolverBuildingHelper,
+			boolean compileIndexingProcessor) {
 		if ( preBuiltIndexingProcessor != null ) {
 			throw new AssertionFailure( "Internal error - preBuild should be called only once" );
 		}
 
 		PojoIndexingDependencyCollectorTypeNode<E> dependencyCollector =
 				reindexingResolverBuildingHelper.createDependencyCollector( typeModel );
-		preBuiltIndexingProcessor = processorBuilder.build( dependencyCollector )
-				.orElseGet( PojoIndexingProcessor::noOp );
+		Optional<PojoIndexingProcessor<E>> processorOptional = processorBuilder.build( dependencyCollector );
+		if ( compileIndexingProcessor ) {
+			processorOptional = processorOptional.map( PojoIndexingProcessor::compiled );
+		}
+		preBuiltIndexingProcessor = processorOptional.orElseGet( PojoIndexingProcessor::noOp );
 	}
 
 	void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
@@ -122,10 +127,12 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 		 * TODO offer more flexibility to mapper implementations, allowing them to define their own dirtiness state?
 		 * Note this will require to allow them to define their own indexing plan APIs.
 		 */
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = typeAdditionalMetadata
-				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) )
-				.getPathFilterFactory();
-		Optional<PojoImplicitReindexingResolver<E, Set<String>>> reindexingResolverOptional =
+		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadata
+				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) );
+		PojoPathOrdinals pathOrdinals = entityTypeMetadata.getPathOrdinals();
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		extendedMappingCollector.dirtyPathOrdinals( pathOrdinals );
+		Optional<PojoImplicitReindexingResolver<E, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( typeModel, pathFilterFactory );
 
 		PojoIndexedTypeManager<?, E> typeManager = new PojoIndexedTypeManager<>(
@@ -134,6 +141,7 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 				identityMappingCollector.routingKeyProvider,
 				preBuiltIndexingProcessor,
 				indexManagerBuilder.build(),
+				pathOrdinals,
 				reindexingResolverOptional.orElseGet( PojoImplicitReindexingResolver::noOp )
 		);
 		log.createdPojoIndexedTypeManager( typeManager );
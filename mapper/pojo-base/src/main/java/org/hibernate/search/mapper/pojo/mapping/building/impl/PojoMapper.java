@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -39,6 +40,7 @@
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorBinder;
 import org.hibernate.search.mapper.pojo.extractor.spi.ContainerExtractorRegistry;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMapperDelegate;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
@@ -72,6 +74,7 @@
 	private final BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge;
 	private final BeanResolver beanResolver;
 	private final boolean multiTenancyEnabled;
+	private final boolean indexingProcessorCompilationEnabled;
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
@@ -98,10 +101,12 @@ public PojoMapper(MappingBuildContext buildContext,
 			ContainerExtractorRegistry containerExtractorRegistry,
 			BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge,
 			boolean multiTenancyEnabled,
+			boolean indexingProcessorCompilationEnabled,
 			PojoMapperDelegate<MPBS> delegate) {
 		this.failureCollector = buildContext.getFailureCollector();
 		this.contributorProvider = contributorProvider;
 		this.multiTenancyEnabled = multiTenancyEnabled;
+		this.indexingProcessorCompilationEnabled = indexingProcessorCompilationEnabled;
 
 		this.failureHandler = buildContext.getFailureHandler();
 		this.threadPoolProvider = buildContext.getThreadPoolProvider();
@@ -248,7 +253,8 @@ public MPBS prepareBuild() throws MappingAbortedException {
 		try {
 			// First step: build the processors and contribute to the reindexing resolvers
 			for ( PojoIndexedTypeManagerBuilder<?> pojoIndexedTypeManagerBuilder : indexedTypeManagerBuilders.values() ) {
-				pojoIndexedTypeManagerBuilder.preBuild( reindexingResolverBuildingHelper );
+				pojoIndexedTypeManagerBuilder.preBuild( reindexingResolverBuildingHelper,
+						indexingProcessorCompilationEnabled );
 			}
 			if ( failureCollector.hasFailure() ) {
 				throw new MappingAbortedException();
@@ -354,16 +360,17 @@ private <T> void buildAndAddContainedTypeManagerTo(
 		 */
 		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadataProvider.get( entityType )
 				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( entityType ) );
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
-		Optional<? extends PojoImplicitReindexingResolver<T, Set<String>>> reindexingResolverOptional =
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		Optional<? extends PojoImplicitReindexingResolver<T, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( entityType, pathFilterFactory );
 		if ( reindexingResolverOptional.isPresent() ) {
-			// Nothing to contribute to contained types at the moment,
-			// but create the collector just so the mapper knows the type is contained
-			delegate.createContainedTypeExtendedMappingCollector( entityType, entityTypeMetadata.getEntityName() );
+			PojoContainedTypeExtendedMappingCollector extendedMappingCollector =
+					delegate.createContainedTypeExtendedMappingCollector( entityType, entityTypeMetadata.getEntityName() );
+			extendedMappingCollector.dirtyPathOrdinals( entityTypeMetadata.getPathOrdinals() );
 
 			PojoContainedTypeManager<T> typeManager = new PojoContainedTypeManager<>(
 					entityType.getTypeIdentifier(), entityType.getCaster(),
+					entityTypeMetadata.getPathOrdinals(),
 					reindexingResolverOptional.get()
 			);
 			log.createdPojoContainedTypeManager( typeManager );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+
 /**
  * A collector of extended mapping information.
  * <p>
@@ -14,4 +16,10 @@
  */
 public interface PojoContainedTypeExtendedMappingCollector {
 
+	/**
+	 * @param dirtyPathOrdinals The ordinals assigned to dirty paths of this entity type,
+	 * to use when passing dirty paths as a {@link java.util.BitSet} to indexing plans.
+	 */
+	void dirtyPathOrdinals(PojoPathOrdinals dirtyPathOrdinals);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 /**
@@ -21,4 +22,10 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void identifierMapping(IdentifierMapping identifierMapping);
 
+	/**
+	 * @param dirtyPathOrdinals The ordinals assigned to dirty paths of this entity type,
+	 * to use when passing dirty paths as a {@link java.util.BitSet} to indexing plans.
+	 */
+	void dirtyPathOrdinals(PojoPathOrdinals dirtyPathOrdinals);
+
 }
@@ -6,7 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
@@ -22,6 +22,7 @@
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.RoutingKeyProvider;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -52,20 +53,23 @@
 	private final RoutingKeyProvider<E> routingKeyProvider;
 	private final PojoIndexingProcessor<E> processor;
 	private final MappedIndexManager indexManager;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
 
 	public PojoIndexedTypeManager(PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
 			IdentifierMappingImplementor<I, E> identifierMapping,
 			RoutingKeyProvider<E> routingKeyProvider,
 			PojoIndexingProcessor<E> processor, MappedIndexManager indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoPathOrdinals pathOrdinals,
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver) {
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
 		this.identifierMapping = identifierMapping;
 		this.routingKeyProvider = routingKeyProvider;
 		this.processor = processor;
 		this.indexManager = indexManager;
+		this.pathOrdinals = pathOrdinals;
 		this.reindexingResolver = reindexingResolver;
 	}
 
@@ -99,6 +103,11 @@ public PojoRawTypeIdentifier<E> getTypeIdentifier() {
 		return typeIdentifier;
 	}
 
+	@Override
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	@Override
 	public IdentifierMappingImplementor<I, E> getIdentifierMapping() {
 		return identifierMapping;
@@ -143,13 +152,13 @@ public PojoDocumentContributor<E> toDocumentContributor(Supplier<E> entitySuppli
 	}
 
 	@Override
-	public boolean requiresSelfReindexing(Set<String> dirtyPaths) {
+	public boolean requiresSelfReindexing(BitSet dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
 	}
 
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, runtimeIntrospector, entitySupplier.get(), dirtyPaths
 		);
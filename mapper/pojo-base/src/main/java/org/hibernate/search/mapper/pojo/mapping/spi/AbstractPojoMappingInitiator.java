@@ -35,6 +35,7 @@
 
 	private BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge;
 	private boolean multiTenancyEnabled;
+	private boolean indexingProcessorCompilationEnabled;
 
 	private final AnnotationMappingConfigurationContextImpl annotationMappingConfiguration;
 
@@ -80,6 +81,14 @@ public void setMultiTenancyEnabled(boolean multiTenancyEnabled) {
 		this.multiTenancyEnabled = multiTenancyEnabled;
 	}
 
+	/**
+	 * @param indexingProcessorCompilationEnabled Whether indexing processors,
+	 * which transfer data from entities to documents, should be specialized at bootstrap for faster execution.
+	 */
+	public void setIndexingProcessorCompilationEnabled(boolean indexingProcessorCompilationEnabled) {
+		this.indexingProcessorCompilationEnabled = indexingProcessorCompilationEnabled;
+	}
+
 	public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabled) {
 		annotationMappingConfiguration.setAnnotatedTypeDiscoveryEnabled( annotatedTypeDiscoveryEnabled );
 	}
@@ -101,6 +110,7 @@ public Mapper<MPBS> createMapper(MappingBuildContext buildContext,
 				containerExtractorRegistryBuilder.build(),
 				providedIdentifierBridge,
 				multiTenancyEnabled,
+				indexingProcessorCompilationEnabled,
 				createMapperDelegate()
 		);
 	}
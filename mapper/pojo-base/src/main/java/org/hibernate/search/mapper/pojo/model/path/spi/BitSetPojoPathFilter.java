@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet} of path ordinals,
+ * see {@link PojoPathOrdinals}.
+ * <p>
+ * The accepted paths are precomputed as a mask,
+ * so that testing a set of dirty paths is a simple bitwise intersection.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	/**
+	 * @param ordinals The path ordinals of the entity type, where new ordinals will be assigned if necessary.
+	 * @param acceptedPaths The string representation of accepted paths.
+	 * @return A filter accepting the given paths.
+	 */
+	public static BitSetPojoPathFilter create(PojoPathOrdinals ordinals, Collection<String> acceptedPaths) {
+		BitSet acceptedPathsMask = new BitSet();
+		for ( String path : acceptedPaths ) {
+			acceptedPathsMask.set( ordinals.toOrdinal( path ) );
+		}
+		return new BitSetPojoPathFilter( ordinals, acceptedPathsMask );
+	}
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	private BitSetPojoPathFilter(PojoPathOrdinals ordinals, BitSet acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = acceptedPaths;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ordinals.toPaths( acceptedPaths ) + "]";
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A mapping between the string representation of dirty paths of an entity type and ordinals,
+ * allowing to represent sets of dirty paths as {@link BitSet}s.
+ * <p>
+ * Ordinals are assigned at bootstrap, when creating {@link PojoPathFilter path filters}:
+ * only paths that are relevant to at least one filter get an ordinal.
+ * After bootstrap, instances are effectively immutable and can be safely used concurrently.
+ */
+public final class PojoPathOrdinals {
+
+	private final List<String> ordinalToPath = new ArrayList<>();
+	private final Map<String, Integer> pathToOrdinal = new HashMap<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of the given path, assigning a new ordinal if necessary.
+	 * Must only be called at bootstrap.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = pathToOrdinal.get( path );
+		if ( ordinal == null ) {
+			ordinal = ordinalToPath.size();
+			ordinalToPath.add( path );
+			pathToOrdinal.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of the given path, or {@code null} if this path was never assigned an ordinal,
+	 * meaning no filter will ever accept it.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return pathToOrdinal.get( path );
+	}
+
+	/**
+	 * @param ordinal The ordinal of a path.
+	 * @return The string representation of the path with the given ordinal.
+	 */
+	public String toPath(int ordinal) {
+		return ordinalToPath.get( ordinal );
+	}
+
+	/**
+	 * @param paths The string representation of multiple paths.
+	 * @return A {@link BitSet} with the bits of the ordinals of the given paths set.
+	 * Paths that were never assigned an ordinal are ignored.
+	 */
+	public BitSet toOrdinals(String... paths) {
+		BitSet result = new BitSet( ordinalToPath.size() );
+		for ( String path : paths ) {
+			Integer ordinal = pathToOrdinal.get( path );
+			if ( ordinal != null ) {
+				result.set( ordinal );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param ordinals A {@link BitSet} of path ordinals.
+	 * @return The string representation of the paths whose ordinals are set, in ordinal order.
+	 */
+	public List<String> toPaths(BitSet ordinals) {
+		List<String> result = new ArrayList<>( ordinals.cardinality() );
+		for ( int i = ordinals.nextSetBit( 0 ); i >= 0; i = ordinals.nextSetBit( i + 1 ) ) {
+			result.add( ordinalToPath.get( i ) );
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ordinalToPath + "]";
+	}
+}
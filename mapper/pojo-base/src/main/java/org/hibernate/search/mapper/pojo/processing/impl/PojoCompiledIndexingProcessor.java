@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * The root of a compiled {@link PojoIndexingProcessor}.
+ * <p>
+ * Compiled processors are specialized at bootstrap:
+ * bridges are retrieved from their bean holders once and for all,
+ * nested processors are stored in arrays,
+ * properties with a single value bridge are handled in a single node,
+ * and built-in container extractors are replaced with plain loops.
+ * <p>
+ * Compiled nodes do not own any resource:
+ * this processor keeps a reference to the interpreted processor, which does,
+ * so as to close it when necessary.
+ *
+ * @param <T> The processed type
+ */
+final class PojoCompiledIndexingProcessor<T> extends PojoIndexingProcessor<T> {
+
+	private final PojoIndexingProcessor<T> interpreted;
+	private final PojoIndexingProcessor<T> compiled;
+
+	PojoCompiledIndexingProcessor(PojoIndexingProcessor<T> interpreted, PojoIndexingProcessor<T> compiled) {
+		this.interpreted = interpreted;
+		this.compiled = compiled;
+	}
+
+	@Override
+	public void close() {
+		interpreted.close();
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "compiled", compiled );
+	}
+
+	@Override
+	public void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+		compiled.process( target, source, sessionContext );
+	}
+
+	@Override
+	PojoIndexingProcessor<T> compile() {
+		return compiled;
+	}
+}
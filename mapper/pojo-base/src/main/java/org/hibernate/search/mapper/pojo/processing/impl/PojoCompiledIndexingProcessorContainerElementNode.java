@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.ArrayElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.CollectionElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.IterableElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.MapKeyExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.MapValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalValueExtractor;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * The compiled counterpart of {@link PojoIndexingProcessorContainerElementNode}.
+ * <p>
+ * Each node handles a single extractor: chains of extractors are compiled to nested nodes.
+ * Built-in extractors are replaced with plain loops over the container,
+ * while other extractors are still called through their {@link ContainerExtractor#extract(Object)} method.
+ *
+ * @param <C> The container type
+ */
+final class PojoCompiledIndexingProcessorContainerElementNode<C> extends PojoIndexingProcessor<C> {
+
+	/**
+	 * @param extractorChain The extractors to apply, in order.
+	 * @param nestedNodes The nodes to apply to values extracted by the last extractor.
+	 * @param <C> The container type
+	 * @return A node applying the given extractors, then the given nested nodes.
+	 */
+	@SuppressWarnings("unchecked") // Extractor chains are type-checked when building the interpreted node
+	static <C> PojoIndexingProcessor<C> create(List<ContainerExtractor<?, ?>> extractorChain,
+			PojoIndexingProcessor<?>[] nestedNodes) {
+		PojoIndexingProcessor<?>[] currentNestedNodes = nestedNodes;
+		for ( int i = extractorChain.size() - 1; i > 0; i-- ) {
+			currentNestedNodes = new PojoIndexingProcessor<?>[] {
+					new PojoCompiledIndexingProcessorContainerElementNode<>(
+							(ContainerExtractor<Object, ?>) extractorChain.get( i ),
+							(PojoIndexingProcessor<Object>[]) currentNestedNodes
+					)
+			};
+		}
+		return new PojoCompiledIndexingProcessorContainerElementNode<>(
+				(ContainerExtractor<? super C, ?>) extractorChain.get( 0 ),
+				(PojoIndexingProcessor<Object>[]) currentNestedNodes
+		);
+	}
+
+	private final ContainerExtractor<? super C, ?> extractor;
+	private final ContainerKind kind;
+	private final PojoIndexingProcessor<Object>[] nestedNodes;
+
+	private PojoCompiledIndexingProcessorContainerElementNode(ContainerExtractor<? super C, ?> extractor,
+			PojoIndexingProcessor<Object>[] nestedNodes) {
+		this.extractor = extractor;
+		this.kind = ContainerKind.of( extractor );
+		this.nestedNodes = nestedNodes;
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "extractor", extractor );
+		builder.attribute( "kind", kind );
+		builder.startList( "nestedNodes" );
+		for ( PojoIndexingProcessor<?> nestedNode : nestedNodes ) {
+			builder.value( nestedNode );
+		}
+		builder.endList();
+	}
+
+	@Override
+	public void process(DocumentElement target, C source, PojoIndexingProcessorSessionContext sessionContext) {
+		if ( kind != ContainerKind.OTHER && source == null ) {
+			// Built-in extractors return an empty stream for null containers
+			return;
+		}
+		switch ( kind ) {
+			case ITERABLE:
+				for ( Object sourceItem : (Iterable<?>) source ) {
+					processItem( target, sourceItem, sessionContext );
+				}
+				break;
+			case MAP_KEYS:
+				for ( Object sourceItem : ( (Map<?, ?>) source ).keySet() ) {
+					processItem( target, sourceItem, sessionContext );
+				}
+				break;
+			case MAP_VALUES:
+				for ( Object sourceItem : ( (Map<?, ?>) source ).values() ) {
+					processItem( target, sourceItem, sessionContext );
+				}
+				break;
+			case ARRAY:
+				for ( Object sourceItem : (Object[]) source ) {
+					processItem( target, sourceItem, sessionContext );
+				}
+				break;
+			case OPTIONAL:
+				Optional<?> optional = (Optional<?>) source;
+				if ( optional.isPresent() ) {
+					processItem( target, optional.get(), sessionContext );
+				}
+				break;
+			case OTHER:
+			default:
+				try ( Stream<?> stream = extractor.extract( source ) ) {
+					stream.forEach( sourceItem -> processItem( target, sourceItem, sessionContext ) );
+				}
+				break;
+		}
+	}
+
+	private void processItem(DocumentElement target, Object sourceItem,
+			PojoIndexingProcessorSessionContext sessionContext) {
+		for ( PojoIndexingProcessor<Object> nestedNode : nestedNodes ) {
+			nestedNode.process( target, sourceItem, sessionContext );
+		}
+	}
+
+	private enum ContainerKind {
+		ITERABLE,
+		MAP_KEYS,
+		MAP_VALUES,
+		ARRAY,
+		OPTIONAL,
+		OTHER;
+
+		static ContainerKind of(ContainerExtractor<?, ?> extractor) {
+			// Only exact classes: subclasses may override extract()
+			Class<?> extractorClass = extractor.getClass();
+			if ( CollectionElementExtractor.class.equals( extractorClass )
+					|| IterableElementExtractor.class.equals( extractorClass ) ) {
+				return ITERABLE;
+			}
+			else if ( MapKeyExtractor.class.equals( extractorClass ) ) {
+				return MAP_KEYS;
+			}
+			else if ( MapValueExtractor.class.equals( extractorClass ) ) {
+				return MAP_VALUES;
+			}
+			else if ( ArrayElementExtractor.class.equals( extractorClass ) ) {
+				return ARRAY;
+			}
+			else if ( OptionalValueExtractor.class.equals( extractorClass ) ) {
+				return OPTIONAL;
+			}
+			else {
+				return OTHER;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.bridge.PropertyBridge;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * The compiled counterpart of {@link PojoIndexingProcessorPropertyNode}.
+ *
+ * @param <T> The property holder type
+ * @param <P> The property type
+ */
+final class PojoCompiledIndexingProcessorPropertyNode<T, P> extends PojoIndexingProcessor<T> {
+
+	private final ValueReadHandle<P> handle;
+	private final PropertyBridge[] propertyBridges;
+	private final PojoIndexingProcessor<? super P>[] nestedNodes;
+
+	PojoCompiledIndexingProcessorPropertyNode(ValueReadHandle<P> handle,
+			PropertyBridge[] propertyBridges, PojoIndexingProcessor<? super P>[] nestedNodes) {
+		this.handle = handle;
+		this.propertyBridges = propertyBridges;
+		this.nestedNodes = nestedNodes;
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "handle", handle );
+		builder.startList( "bridges" );
+		for ( PropertyBridge bridge : propertyBridges ) {
+			builder.value( bridge );
+		}
+		builder.endList();
+		builder.startList( "nestedNodes" );
+		for ( PojoIndexingProcessor<?> nestedNode : nestedNodes ) {
+			builder.value( nestedNode );
+		}
+		builder.endList();
+	}
+
+	@Override
+	public void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+		P propertyValue = handle.get( source );
+		for ( PropertyBridge bridge : propertyBridges ) {
+			bridge.write( target, propertyValue, sessionContext.getPropertyBridgeWriteContext() );
+		}
+		for ( PojoIndexingProcessor<? super P> nestedNode : nestedNodes ) {
+			nestedNode.process( target, propertyValue, sessionContext );
+		}
+	}
+}
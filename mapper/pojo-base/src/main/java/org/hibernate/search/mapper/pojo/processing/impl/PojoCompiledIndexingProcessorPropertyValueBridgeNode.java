@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A compiled node merging a {@link PojoIndexingProcessorPropertyNode}
+ * with a single nested {@link PojoIndexingProcessorValueBridgeNode},
+ * i.e. the most common case: a property mapped to a single index field.
+ *
+ * @param <T> The property holder type
+ * @param <P> The property type
+ * @param <F> The index field type
+ */
+final class PojoCompiledIndexingProcessorPropertyValueBridgeNode<T, P, F> extends PojoIndexingProcessor<T> {
+
+	private final ValueReadHandle<P> handle;
+	private final ValueBridge<? super P, F> bridge;
+	private final IndexFieldReference<F> indexFieldReference;
+
+	PojoCompiledIndexingProcessorPropertyValueBridgeNode(ValueReadHandle<P> handle,
+			ValueBridge<? super P, F> bridge, IndexFieldReference<F> indexFieldReference) {
+		this.handle = handle;
+		this.bridge = bridge;
+		this.indexFieldReference = indexFieldReference;
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "handle", handle );
+		builder.attribute( "bridge", bridge );
+		builder.attribute( "indexFieldReference", indexFieldReference );
+	}
+
+	@Override
+	public void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+		P propertyValue = handle.get( source );
+		F indexFieldValue = bridge.toIndexedValue( propertyValue,
+				sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
+		target.addValue( indexFieldReference, indexFieldValue );
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.mapper.pojo.bridge.TypeBridge;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * The compiled counterpart of {@link PojoIndexingProcessorTypeNode}.
+ *
+ * @param <T> The processed type
+ */
+final class PojoCompiledIndexingProcessorTypeNode<T> extends PojoIndexingProcessor<T> {
+
+	private final IndexObjectFieldReference[] parentIndexObjectReferences;
+	private final TypeBridge[] bridges;
+	private final PojoIndexingProcessor<? super T>[] propertyNodes;
+
+	PojoCompiledIndexingProcessorTypeNode(IndexObjectFieldReference[] parentIndexObjectReferences,
+			TypeBridge[] bridges, PojoIndexingProcessor<? super T>[] propertyNodes) {
+		this.parentIndexObjectReferences = parentIndexObjectReferences;
+		this.bridges = bridges;
+		this.propertyNodes = propertyNodes;
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.startList( "parentIndexObjectReferences" );
+		for ( IndexObjectFieldReference reference : parentIndexObjectReferences ) {
+			builder.value( reference );
+		}
+		builder.endList();
+		builder.startList( "bridges" );
+		for ( TypeBridge bridge : bridges ) {
+			builder.value( bridge );
+		}
+		builder.endList();
+		builder.startList( "propertyNodes" );
+		for ( PojoIndexingProcessor<?> propertyNode : propertyNodes ) {
+			builder.value( propertyNode );
+		}
+		builder.endList();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
+	public void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+		if ( source == null ) {
+			return;
+		}
+		source = (T) sessionContext.getRuntimeIntrospector().unproxy( source );
+		DocumentElement parentObject = target;
+		for ( IndexObjectFieldReference objectFieldReference : parentIndexObjectReferences ) {
+			parentObject = parentObject.addObject( objectFieldReference );
+		}
+		for ( TypeBridge bridge : bridges ) {
+			bridge.write( parentObject, source, sessionContext.getTypeBridgeWriteContext() );
+		}
+		for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
+			propertyNode.process( parentObject, source, sessionContext );
+		}
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * The compiled counterpart of {@link PojoIndexingProcessorValueBridgeNode}.
+ *
+ * @param <V> The processed type
+ * @param <F> The index field type
+ */
+final class PojoCompiledIndexingProcessorValueBridgeNode<V, F> extends PojoIndexingProcessor<V> {
+
+	private final ValueBridge<? super V, F> bridge;
+	private final IndexFieldReference<F> indexFieldReference;
+
+	PojoCompiledIndexingProcessorValueBridgeNode(ValueBridge<? super V, F> bridge,
+			IndexFieldReference<F> indexFieldReference) {
+		this.bridge = bridge;
+		this.indexFieldReference = indexFieldReference;
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "bridge", bridge );
+		builder.attribute( "indexFieldReference", indexFieldReference );
+	}
+
+	@Override
+	public void process(DocumentElement target, V source, PojoIndexingProcessorSessionContext sessionContext) {
+		F indexFieldValue = bridge.toIndexedValue( source,
+				sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
+		target.addValue( indexFieldReference, indexFieldValue );
+	}
+
+}
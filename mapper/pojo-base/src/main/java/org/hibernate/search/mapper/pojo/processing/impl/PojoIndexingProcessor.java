@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.ToStringTreeAppendable;
@@ -29,8 +31,39 @@ public void close() {
 
 	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext);
 
+	/**
+	 * @return A processor equivalent to this one, specialized for faster execution,
+	 * or this processor if it cannot be specialized.
+	 * The returned processor does not own any resource: closing it is unnecessary,
+	 * but this processor must not be closed while the returned processor is in use.
+	 */
+	PojoIndexingProcessor<T> compile() {
+		return this;
+	}
+
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
 	}
 
+	/**
+	 * @param interpreted A processor, as built from the mapping.
+	 * @param <T> The processed type
+	 * @return A processor equivalent to {@code interpreted}, specialized for faster execution,
+	 * which takes ownership of {@code interpreted}.
+	 */
+	public static <T> PojoIndexingProcessor<T> compiled(PojoIndexingProcessor<T> interpreted) {
+		return new PojoCompiledIndexingProcessor<>( interpreted, interpreted.compile() );
+	}
+
+	@SuppressWarnings("unchecked") // Arrays of generic types are fine as long as they are not exposed
+	static <T> PojoIndexingProcessor<? super T>[] compileAll(
+			Collection<? extends PojoIndexingProcessor<? super T>> processors) {
+		PojoIndexingProcessor<? super T>[] result = new PojoIndexingProcessor[processors.size()];
+		int i = 0;
+		for ( PojoIndexingProcessor<? super T> processor : processors ) {
+			result[i++] = processor.compile();
+		}
+		return result;
+	}
+
 }
@@ -52,6 +52,12 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.endList();
 	}
 
+	@Override
+	PojoIndexingProcessor<C> compile() {
+		return PojoCompiledIndexingProcessorContainerElementNode.create( extractorHolder.getChainElements(),
+				compileAll( nestedNodes ) );
+	}
+
 	@Override
 	public final void process(DocumentElement target, C source, PojoIndexingProcessorSessionContext sessionContext) {
 		try ( Stream<V> stream = extractorHolder.get().extract( source ) ) {
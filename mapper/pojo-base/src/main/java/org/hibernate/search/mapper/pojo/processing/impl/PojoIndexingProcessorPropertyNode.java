@@ -62,6 +62,22 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.endList();
 	}
 
+	@Override
+	PojoIndexingProcessor<T> compile() {
+		if ( propertyBridgeHolders.isEmpty() && nestedNodes.size() == 1 ) {
+			PojoIndexingProcessor<? super P> nestedNode = nestedNodes.iterator().next();
+			if ( nestedNode instanceof PojoIndexingProcessorValueBridgeNode ) {
+				return ( (PojoIndexingProcessorValueBridgeNode<? super P, ?>) nestedNode ).compileWithProperty( handle );
+			}
+		}
+		PropertyBridge[] propertyBridges = new PropertyBridge[propertyBridgeHolders.size()];
+		int i = 0;
+		for ( BeanHolder<? extends PropertyBridge> bridgeHolder : propertyBridgeHolders ) {
+			propertyBridges[i++] = bridgeHolder.get();
+		}
+		return new PojoCompiledIndexingProcessorPropertyNode<>( handle, propertyBridges, compileAll( nestedNodes ) );
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		P propertyValue = handle.get( source );
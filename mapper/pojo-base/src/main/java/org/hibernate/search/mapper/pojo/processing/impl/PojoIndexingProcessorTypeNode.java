@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
@@ -61,6 +63,21 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.endList();
 	}
 
+	@Override
+	PojoIndexingProcessor<T> compile() {
+		List<IndexObjectFieldReference> references = new ArrayList<>();
+		parentIndexObjectReferences.forEach( references::add );
+		TypeBridge[] bridges = new TypeBridge[bridgeHolders.size()];
+		int i = 0;
+		for ( BeanHolder<? extends TypeBridge> bridgeHolder : bridgeHolders ) {
+			bridges[i++] = bridgeHolder.get();
+		}
+		return new PojoCompiledIndexingProcessorTypeNode<>(
+				references.toArray( new IndexObjectFieldReference[0] ),
+				bridges, compileAll( propertyNodes )
+		);
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
@@ -13,6 +13,7 @@
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 
 /**
  * A node inside a {@link PojoIndexingProcessor} responsible for applying a {@link ValueBridge} to a value.
@@ -46,6 +47,22 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "indexFieldReference", indexFieldReference );
 	}
 
+	@Override
+	PojoIndexingProcessor<V> compile() {
+		return new PojoCompiledIndexingProcessorValueBridgeNode<>( bridgeHolder.get(), indexFieldReference );
+	}
+
+	/**
+	 * @param handle The handle to the property this node is applied to.
+	 * @param <T> The property holder type
+	 * @param <P> The property type
+	 * @return A compiled node reading the property value, then applying this node's bridge.
+	 */
+	<T, P extends V> PojoIndexingProcessor<T> compileWithProperty(ValueReadHandle<P> handle) {
+		return new PojoCompiledIndexingProcessorPropertyValueBridgeNode<>( handle, bridgeHolder.get(),
+				indexFieldReference );
+	}
+
 	@Override
 	public void process(DocumentElement target, V source, PojoIndexingProcessorSessionContext sessionContext) {
 		F indexFieldValue = bridgeHolder.get().toIndexedValue( source, sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
@@ -7,10 +7,9 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
@@ -50,6 +49,11 @@ void update(Object providedId, Object entity) {
 
 	@Override
 	void update(Object providedId, Object entity, String... dirtyPaths) {
+		update( providedId, entity, typeContext.getPathOrdinals().toOrdinals( dirtyPaths ) );
+	}
+
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
 		getPlan( providedId ).update( entitySupplier, dirtyPaths );
 	}
@@ -87,7 +91,7 @@ private class ContainedEntityIndexingPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -105,13 +109,11 @@ void update(Supplier<E> entitySupplier) {
 			dirtyPaths = null;
 		}
 
-		void update(Supplier<E> entitySupplier, String... dirtyPaths) {
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
-				for ( String dirtyPath : dirtyPaths ) {
-					addDirtyPath( dirtyPath );
-				}
+				addDirtyPaths( dirtyPaths );
 			}
 		}
 
@@ -152,11 +154,11 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private void addDirtyPaths(BitSet newDirtyPaths) {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			dirtyPaths.or( newDirtyPaths );
 		}
 	}
 
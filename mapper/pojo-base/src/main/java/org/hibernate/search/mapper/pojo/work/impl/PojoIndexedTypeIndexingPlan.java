@@ -7,11 +7,10 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -19,6 +18,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.work.spi.PojoReindexingEntityBatchLoader;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
 /**
@@ -33,6 +33,8 @@
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<I, IndexedEntityIndexingPlan> indexingPlansPerId = new LinkedHashMap<>();
+	// Provided IDs of entities to reindex because of contained entities, and that were not loaded yet
+	private List<Object> providedIdsToBatchLoad;
 
 	public PojoIndexedTypeIndexingPlan(PojoWorkIndexedTypeContext<I, E> typeContext,
 			PojoWorkSessionContext<?> sessionContext,
@@ -58,6 +60,11 @@ void update(Object providedId, Object entity) {
 
 	@Override
 	void update(Object providedId, Object entity, String... dirtyPaths) {
+		update( providedId, entity, typeContext.getPathOrdinals().toOrdinals( dirtyPaths ) );
+	}
+
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
 		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
 		getPlan( identifier ).update( entitySupplier, dirtyPaths );
@@ -76,11 +83,22 @@ void purge(Object providedId, String providedRoutingKey) {
 		getPlan( identifier ).purge( providedRoutingKey );
 	}
 
-	void updateBecauseOfContained(Object entity) {
+	/**
+	 * @param providedId The identifier of the entity, if it is a proxy that was not loaded yet
+	 * and must be loaded through the {@link PojoReindexingEntityBatchLoader}; {@code null} otherwise.
+	 * @param entity The entity, or a proxy to the entity.
+	 */
+	void updateBecauseOfContained(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
-		I identifier = typeContext.getIdentifierMapping().getIdentifier( null, entitySupplier );
+		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
 		if ( !indexingPlansPerId.containsKey( identifier ) ) {
 			getPlan( identifier ).updateBecauseOfContained( entitySupplier );
+			if ( providedId != null ) {
+				if ( providedIdsToBatchLoad == null ) {
+					providedIdsToBatchLoad = new ArrayList<>();
+				}
+				providedIdsToBatchLoad.add( providedId );
+			}
 		}
 		// If the entry is already there, no need for an additional update
 	}
@@ -114,6 +132,7 @@ void discard() {
 
 	void discardNotProcessed() {
 		this.indexingPlansPerId.clear();
+		this.providedIdsToBatchLoad = null;
 	}
 
 	private IndexedEntityIndexingPlan getPlan(I identifier) {
@@ -131,6 +150,7 @@ private IndexIndexingPlan<?> getDelegate() {
 
 	private void sendCommandsToDelegate() {
 		try {
+			batchLoadEntities();
 			indexingPlansPerId.values().forEach( IndexedEntityIndexingPlan::sendCommandsToDelegate );
 		}
 		finally {
@@ -138,6 +158,19 @@ private void sendCommandsToDelegate() {
 		}
 	}
 
+	private void batchLoadEntities() {
+		if ( providedIdsToBatchLoad == null ) {
+			return;
+		}
+		try {
+			sessionContext.getReindexingEntityBatchLoader()
+					.load( typeContext.getTypeIdentifier(), providedIdsToBatchLoad );
+		}
+		finally {
+			providedIdsToBatchLoad = null;
+		}
+	}
+
 	private class IndexedEntityIndexingPlan {
 		private final I identifier;
 		private String providedRoutingKey;
@@ -149,7 +182,7 @@ private class IndexedEntityIndexingPlan {
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
 		private boolean updatedBecauseOfContained;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityIndexingPlan(I identifier) {
 			this.identifier = identifier;
@@ -169,13 +202,11 @@ void update(Supplier<E> entitySupplier) {
 			dirtyPaths = null;
 		}
 
-		void update(Supplier<E> entitySupplier, String... dirtyPaths) {
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
-				for ( String dirtyPropertyName : dirtyPaths ) {
-					addDirtyPath( dirtyPropertyName );
-				}
+				addDirtyPaths( dirtyPaths );
 			}
 		}
 
@@ -273,11 +304,11 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private void addDirtyPaths(BitSet newDirtyPaths) {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			dirtyPaths.or( newDirtyPaths );
 		}
 	}
 
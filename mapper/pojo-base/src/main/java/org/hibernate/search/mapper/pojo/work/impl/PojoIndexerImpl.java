@@ -35,13 +35,21 @@ public PojoIndexerImpl(PojoWorkIndexedTypeContextProvider indexedTypeContextProv
 
 	@Override
 	public CompletableFuture<?> add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		return getTypeIndexer( typeIdentifier ).add( providedId, entity );
+	}
+
+	@Override
+	public CompletableFuture<?> addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		return getTypeIndexer( typeIdentifier ).addOrUpdate( providedId, entity );
+	}
+
+	private PojoTypeIndexer<?, ?> getTypeIndexer(PojoRawTypeIdentifier<?> typeIdentifier) {
 		PojoTypeIndexer<?, ?> typeExecutor = this.typeExecutors.get( typeIdentifier );
 		if ( typeExecutor == null ) {
 			typeExecutor = createTypeIndexer( typeIdentifier );
 			typeExecutors.put( typeIdentifier, typeExecutor );
 		}
-
-		return typeExecutor.add( providedId, entity );
+		return typeExecutor;
 	}
 
 	private PojoTypeIndexer<?, ?> createTypeIndexer(PojoRawTypeIdentifier<?> typeIdentifier) {
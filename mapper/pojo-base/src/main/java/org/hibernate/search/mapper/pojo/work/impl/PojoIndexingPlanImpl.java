@@ -8,11 +8,13 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -21,6 +23,7 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoReindexingEntityBatchLoader;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -73,6 +76,12 @@ public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object provided
 		delegate.update( providedId, entity, dirtyPaths );
 	}
 
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, BitSet dirtyPaths) {
+		AbstractPojoTypeIndexingPlan delegate = getDelegate( typeIdentifier );
+		delegate.update( providedId, entity, dirtyPaths );
+	}
+
 	@Override
 	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
 		AbstractPojoTypeIndexingPlan delegate = getDelegate( typeIdentifier );
@@ -85,6 +94,24 @@ public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, St
 		delegate.purge( providedId, providedRoutingKey );
 	}
 
+	@Override
+	public void resolveEntitiesToReindexOnDelete(PojoRawTypeIdentifier<?> typeIdentifier, Object entity,
+			Consumer<Object> containingEntityCollector) {
+		Optional<? extends PojoWorkIndexedTypeContext<?, ?>> indexedTypeContextOptional =
+				indexedTypeContextProvider.getByExactType( typeIdentifier );
+		if ( indexedTypeContextOptional.isPresent() ) {
+			resolveEntitiesToReindexOnDelete( indexedTypeContextOptional.get(), entity, containingEntityCollector );
+			return;
+		}
+		Optional<? extends PojoWorkContainedTypeContext<?>> containedTypeContextOptional =
+				containedTypeContextProvider.getByExactType( typeIdentifier );
+		if ( containedTypeContextOptional.isPresent() ) {
+			resolveEntitiesToReindexOnDelete( containedTypeContextOptional.get(), entity, containingEntityCollector );
+			return;
+		}
+		throw log.notIndexedTypeNorAsDelegate( typeIdentifier );
+	}
+
 	@Override
 	public void process() {
 		if ( isProcessing ) {
@@ -144,6 +171,20 @@ public void discardNotProcessed() {
 		}
 	}
 
+	private <E> void resolveEntitiesToReindexOnDelete(PojoWorkIndexedTypeContext<?, E> typeContext,
+			Object entity, Consumer<Object> containingEntityCollector) {
+		// A deleted entity is considered entirely dirty
+		typeContext.resolveEntitiesToReindex( containingEntityCollector::accept, introspector,
+				typeContext.toEntitySupplier( sessionContext, entity ), null );
+	}
+
+	private <E> void resolveEntitiesToReindexOnDelete(PojoWorkContainedTypeContext<E> typeContext,
+			Object entity, Consumer<Object> containingEntityCollector) {
+		// A deleted entity is considered entirely dirty
+		typeContext.resolveEntitiesToReindex( containingEntityCollector::accept, sessionContext,
+				typeContext.toEntitySupplier( sessionContext, entity ), null );
+	}
+
 	private PojoRuntimeIntrospector getIntrospector() {
 		return introspector;
 	}
@@ -204,6 +245,24 @@ private AbstractPojoTypeIndexingPlan createDelegate(PojoRawTypeIdentifier<?> typ
 	}
 
 	private void updateBecauseOfContained(Object containingEntity) {
+		PojoReindexingEntityBatchLoader batchLoader = sessionContext.getReindexingEntityBatchLoader();
+		if ( batchLoader != null ) {
+			/*
+			 * If the entity is a proxy that was not loaded yet, retrieve its identifier without loading it:
+			 * the indexing plan will load all such entities in batches, right before it needs them.
+			 */
+			PojoRawTypeIdentifier<?> proxyTypeIdentifier = getIntrospector().getEntityTypeIdentifier( containingEntity );
+			Object providedId = proxyTypeIdentifier == null ? null
+					: batchLoader.toProvidedIdIfUninitialized( proxyTypeIdentifier, containingEntity );
+			if ( providedId != null ) {
+				getOrCreateIndexedDelegateForContainedUpdate( proxyTypeIdentifier )
+						.updateBecauseOfContained( providedId, containingEntity );
+				return;
+			}
+		}
+
+		// Reindexing resolvers pass proxies as-is: unproxy them so that we get the exact entity type.
+		containingEntity = getIntrospector().unproxy( containingEntity );
 		// TODO ignore the event when containingEntity has provided IDs
 		PojoRawTypeIdentifier<?> typeIdentifier = getIntrospector().getEntityTypeIdentifier( containingEntity );
 		if ( typeIdentifier == null ) {
@@ -214,7 +273,7 @@ private void updateBecauseOfContained(Object containingEntity) {
 			);
 		}
 		PojoIndexedTypeIndexingPlan<?, ?, ?> delegate = getOrCreateIndexedDelegateForContainedUpdate( typeIdentifier );
-		delegate.updateBecauseOfContained( containingEntity );
+		delegate.updateBecauseOfContained( null, containingEntity );
 	}
 
 }
@@ -29,11 +29,21 @@ public PojoTypeIndexer(PojoWorkIndexedTypeContext<I, E> typeContext,
 
 	CompletableFuture<?> add(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		DocumentReferenceProvider referenceProvider = toReferenceProvider( providedId, entitySupplier );
+		return delegate.add( referenceProvider, typeContext.toDocumentContributor( entitySupplier, sessionContext ) );
+	}
+
+	CompletableFuture<?> addOrUpdate(Object providedId, Object entity) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		DocumentReferenceProvider referenceProvider = toReferenceProvider( providedId, entitySupplier );
+		return delegate.addOrUpdate( referenceProvider, typeContext.toDocumentContributor( entitySupplier, sessionContext ) );
+	}
+
+	private DocumentReferenceProvider toReferenceProvider(Object providedId, Supplier<E> entitySupplier) {
 		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
-		DocumentReferenceProvider referenceProvider = typeContext.toDocumentReferenceProvider(
+		return typeContext.toDocumentReferenceProvider(
 				sessionContext,
 				identifier, entitySupplier
 		);
-		return delegate.add( referenceProvider, typeContext.toDocumentContributor( entitySupplier, sessionContext ) );
 	}
 }
@@ -6,7 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
@@ -16,6 +16,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.IdentifierMappingImplementor;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -28,6 +29,8 @@
 
 	PojoRawTypeIdentifier<E> getTypeIdentifier();
 
+	PojoPathOrdinals getPathOrdinals();
+
 	IdentifierMappingImplementor<I, E> getIdentifierMapping();
 
 	Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Object entity);
@@ -41,10 +44,10 @@ DocumentReferenceProvider toDocumentReferenceProvider(PojoWorkSessionContext<?>
 	PojoDocumentContributor<E> toDocumentContributor(Supplier<E> entitySupplier,
 			PojoWorkSessionContext<?> sessionContext);
 
-	boolean requiresSelfReindexing(Set<String> dirtyPaths);
+	boolean requiresSelfReindexing(BitSet dirtyPaths);
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths);
+			Supplier<E> entitySupplier, BitSet dirtyPaths);
 
 	<R> PojoIndexedTypeIndexingPlan<I, E, R> createIndexingPlan(PojoWorkSessionContext<R> sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
@@ -31,4 +31,18 @@ public interface PojoIndexer {
 	 */
 	CompletableFuture<?> add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity);
 
+	/**
+	 * Add an entity to the index, or replace it if it is already present in the index.
+	 * <p>
+	 * Depending on the backend, this may be slower than {@link #add(PojoRawTypeIdentifier, Object, Object)}.
+	 *
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to add to the index.
+	 * @return A {@link CompletableFuture} reflecting the completion state of the operation.
+	 */
+	CompletableFuture<?> addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity);
+
 }
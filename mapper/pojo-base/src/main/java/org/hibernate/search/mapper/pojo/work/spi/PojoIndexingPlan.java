@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
@@ -71,6 +73,25 @@
 	 */
 	void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, String... dirtyPaths);
 
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * but try to avoid reindexing if the given dirty paths
+	 * are known not to impact the indexed form of that entity.
+	 * <p>
+	 * This is equivalent to {@link #addOrUpdate(PojoRawTypeIdentifier, Object, Object, String...)},
+	 * but avoids any string manipulation by representing dirty paths with ordinals.
+	 *
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 * @param dirtyPaths The paths to consider dirty, as a {@link BitSet} of ordinals
+	 * assigned by the {@link org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals} of the entity type.
+	 * The bitset will not be modified.
+	 */
+	void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, BitSet dirtyPaths);
+
 	/**
 	 * Delete an entity from the index.
 	 * <p>
@@ -97,6 +118,22 @@
 	 */
 	void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey);
 
+	/**
+	 * Resolve the entities to reindex because an entity is deleted,
+	 * i.e. the entities whose indexed form includes data from the deleted entity,
+	 * without adding any work to this plan.
+	 * <p>
+	 * Useful to record changes so that they can be indexed later, outside of the current session:
+	 * by then, the deleted entity can no longer be loaded, and thus its containing entities can no longer be resolved.
+	 *
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param entity The deleted entity.
+	 * @param containingEntityCollector A collector for the entities to reindex.
+	 * Entities may be passed to the collector as uninitialized proxies.
+	 */
+	void resolveEntitiesToReindexOnDelete(PojoRawTypeIdentifier<?> typeIdentifier, Object entity,
+			Consumer<Object> containingEntityCollector);
+
 	/**
 	 * Extract all data from objects passed to the indexing plan so far,
 	 * create documents to be indexed and put them into an internal buffer,
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.spi;
+
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
+/**
+ * A loader for entities that must be reindexed because an entity they contain was modified.
+ * <p>
+ * When a contained entity is modified, the containing entities that must be reindexed
+ * are often proxies that have not been initialized yet.
+ * Initializing them one by one would trigger one load per containing entity;
+ * this loader allows indexing plans to collect the identifiers of such entities instead,
+ * and to load them in batches right before they are actually needed.
+ */
+public interface PojoReindexingEntityBatchLoader {
+
+	/**
+	 * @param typeIdentifier The type of the given entity, as detected without initializing it.
+	 * If the entity is a proxy, this may be a supertype of the actual type of the entity.
+	 * @param entity An entity, or a proxy to an entity.
+	 * @return The identifier to pass to indexing plans as "provided ID" for this entity,
+	 * if the given entity is a proxy that has not been initialized yet,
+	 * whose actual type is guaranteed to be {@code typeIdentifier},
+	 * and that can be loaded later through {@link #load(PojoRawTypeIdentifier, List)}.
+	 * {@code null} otherwise, meaning the entity must be unproxied and handled as usual.
+	 */
+	Object toProvidedIdIfUninitialized(PojoRawTypeIdentifier<?> typeIdentifier, Object entity);
+
+	/**
+	 * Load the entities with the given identifiers, in as few round-trips as possible,
+	 * so that accessing the corresponding proxies will not trigger any additional load.
+	 *
+	 * @param typeIdentifier The exact type of the entities to load.
+	 * @param providedIds The identifiers of the entities to load,
+	 * as returned by {@link #toProvidedIdIfUninitialized(PojoRawTypeIdentifier, Object)}.
+	 */
+	void load(PojoRawTypeIdentifier<?> typeIdentifier, List<Object> providedIds);
+
+}
@@ -24,4 +24,10 @@
 
 	EntityReferenceFactory<R> getEntityReferenceFactory();
 
+	/**
+	 * @return A loader for entities that must be reindexed because an entity they contain was modified,
+	 * or {@code null} if such entities should simply be loaded one by one, as they are accessed.
+	 */
+	PojoReindexingEntityBatchLoader getReindexingEntityBatchLoader();
+
 }
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class BitSetPojoPathFilterTest {
+
+	@Test
+	public void ordinals() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		assertThat( ordinals.toOrdinal( "foo" ) ).isEqualTo( 0 );
+		assertThat( ordinals.toOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( ordinals.toOrdinal( "foo" ) ).isEqualTo( 0 );
+
+		assertThat( ordinals.toExistingOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( ordinals.toExistingOrdinal( "unknown" ) ).isNull();
+		assertThat( ordinals.toPath( 1 ) ).isEqualTo( "bar" );
+
+		BitSet bitSet = ordinals.toOrdinals( "bar", "unknown" );
+		assertThat( bitSet.cardinality() ).isEqualTo( 1 );
+		assertThat( bitSet.get( 1 ) ).isTrue();
+		assertThat( ordinals.toPaths( ordinals.toOrdinals( "bar", "foo" ) ) )
+				.containsExactly( "foo", "bar" );
+	}
+
+	@Test
+	public void test() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		BitSetPojoPathFilter fooBarFilter = BitSetPojoPathFilter.create( ordinals, Arrays.asList( "foo", "bar" ) );
+		BitSetPojoPathFilter bazFilter = BitSetPojoPathFilter.create( ordinals, Arrays.asList( "baz" ) );
+
+		assertThat( fooBarFilter.test( ordinals.toOrdinals( "foo" ) ) ).isTrue();
+		assertThat( fooBarFilter.test( ordinals.toOrdinals( "baz", "bar" ) ) ).isTrue();
+		assertThat( fooBarFilter.test( ordinals.toOrdinals( "baz" ) ) ).isFalse();
+		assertThat( fooBarFilter.test( ordinals.toOrdinals( "unknown" ) ) ).isFalse();
+		assertThat( fooBarFilter.test( new BitSet() ) ).isFalse();
+
+		assertThat( bazFilter.test( ordinals.toOrdinals( "baz" ) ) ).isTrue();
+		assertThat( bazFilter.test( ordinals.toOrdinals( "foo", "bar" ) ) ).isFalse();
+	}
+
+}
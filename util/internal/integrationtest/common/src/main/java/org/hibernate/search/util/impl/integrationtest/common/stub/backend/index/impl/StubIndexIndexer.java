@@ -34,10 +34,21 @@ public class StubIndexIndexer implements IndexIndexer {
 	@Override
 	public CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider,
 			DocumentContributor documentContributor) {
+		return processAndExecute( StubDocumentWork.Type.ADD, documentReferenceProvider, documentContributor );
+	}
+
+	@Override
+	public CompletableFuture<?> addOrUpdate(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor documentContributor) {
+		return processAndExecute( StubDocumentWork.Type.UPDATE, documentReferenceProvider, documentContributor );
+	}
+
+	private CompletableFuture<?> processAndExecute(StubDocumentWork.Type type,
+			DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor) {
 		StubDocumentNode.Builder documentBuilder = StubDocumentNode.document();
 		documentContributor.contribute( new StubDocumentElement( documentBuilder ) );
 
-		StubDocumentWork work = StubDocumentWork.builder( StubDocumentWork.Type.ADD )
+		StubDocumentWork work = StubDocumentWork.builder( type )
 				.tenantIdentifier( sessionContext.getTenantIdentifier() )
 				.identifier( documentReferenceProvider.getIdentifier() )
 				.routingKey( documentReferenceProvider.getRoutingKey() )
@@ -7,6 +7,8 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
@@ -15,6 +17,10 @@
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -60,13 +66,59 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		);
 	}
 
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return new StubSearchScroll( chunkSize );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	/*
+	 * Stub backend behaviors are synchronous:
+	 * we simply execute the work in the calling thread and wrap the result.
+	 */
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
 	}
+
+	/**
+	 * A naive scroll relying on offset-based search works,
+	 * so that stub backend behaviors don't need to know about scrolling.
+	 */
+	private class StubSearchScroll implements SearchScroll<H> {
+		private final int chunkSize;
+		private int offset = 0;
+
+		private StubSearchScroll(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+		@Override
+		public SearchScrollResult<H> next() {
+			SearchResult<H> result = fetch( offset, chunkSize );
+			offset += chunkSize;
+			return new SimpleSearchScrollResult<>( result.getTotal(), result.getHits(),
+					result.getTook(), result.isTimedOut() );
+		}
+	}
 }
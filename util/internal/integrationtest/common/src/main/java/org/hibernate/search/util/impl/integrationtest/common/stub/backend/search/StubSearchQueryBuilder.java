@@ -58,6 +58,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		workBuilder.totalHitCountThreshold( totalHitCountThreshold );
+	}
+
 	@Override
 	public SearchQuery<H> build() {
 		return new StubSearchQuery<>(